@@ -30,19 +30,36 @@ abstract class AbstractReadStrategy implements ReadStrategy {
   protected final GcsReadOptions options;
   protected final Storage storage;
   protected final GcsItemInfo itemInfo;
+  protected final SeekCostEstimator seekCostEstimator;
 
   private static final int SKIP_BUFFER_SIZE = 128 * 1024; // 128 KiB
   private ByteBuffer skipBuffer;
+  private LookBehindBuffer lookBehindBuffer;
 
   protected ReadChannel channel;
   protected long position = 0;
 
   AbstractReadStrategy(
       Storage storage, GcsItemId itemId, GcsReadOptions options, GcsItemInfo itemInfo) {
+    this(storage, itemId, options, itemInfo, new SeekCostEstimator());
+  }
+
+  AbstractReadStrategy(
+      Storage storage,
+      GcsItemId itemId,
+      GcsReadOptions options,
+      GcsItemInfo itemInfo,
+      SeekCostEstimator seekCostEstimator) {
     this.storage = storage;
     this.itemId = itemId;
     this.options = options;
     this.itemInfo = itemInfo;
+    this.seekCostEstimator = seekCostEstimator;
+  }
+
+  @Override
+  public void setLookBehindBuffer(LookBehindBuffer lookBehindBuffer) {
+    this.lookBehindBuffer = lookBehindBuffer;
   }
 
   @Override
@@ -86,14 +103,19 @@ abstract class AbstractReadStrategy implements ReadStrategy {
     ReadChannel sdkReadChannel =
         storage.reader(blobId, sourceOptions.toArray(new Storage.BlobSourceOption[0]));
     options.getChunkSize().ifPresent(sdkReadChannel::setChunkSize);
+    if (options.isSeekCostModelEnabled()
+        || options.getGcsVectoredReadOptions().isAdaptiveMergeEnabled()) {
+      return new MeasuredReadChannel(sdkReadChannel, seekCostEstimator);
+    }
 
     return sdkReadChannel;
   }
 
   boolean skipInPlace(long seekDistance) throws IOException {
     if (skipBuffer == null) {
-      skipBuffer = ByteBuffer.allocate(SKIP_BUFFER_SIZE);
+      skipBuffer = options.allocateBuffer(SKIP_BUFFER_SIZE);
     }
+    long drainPosition = position;
     while (seekDistance > 0) {
       int bufferSize = (int) Math.min((long) skipBuffer.capacity(), seekDistance);
       skipBuffer.clear();
@@ -103,6 +125,11 @@ abstract class AbstractReadStrategy implements ReadStrategy {
         channel.close();
         return false;
       }
+      if (lookBehindBuffer != null) {
+        skipBuffer.flip();
+        lookBehindBuffer.append(drainPosition, skipBuffer);
+      }
+      drainPosition += bytesRead;
       seekDistance -= bytesRead;
     }
     return true;
@@ -118,6 +145,7 @@ abstract class AbstractReadStrategy implements ReadStrategy {
       success = skipInPlace(seekDistance);
     } else {
       channel.seek(requestedPosition);
+      onChannelSeek(seekDistance);
     }
     if (success) {
       position = requestedPosition;
@@ -126,7 +154,20 @@ abstract class AbstractReadStrategy implements ReadStrategy {
     return success;
   }
 
+  /**
+   * Called after the open channel was repositioned by {@code seekDistance} bytes without draining
+   * it in place.
+   */
+  void onChannelSeek(long seekDistance) {}
+
   private boolean shouldSkipInPlace(long seekDistance) {
-    return seekDistance > 0 && seekDistance <= options.getInplaceSeekLimit();
+    if (seekDistance <= 0) {
+      return false;
+    }
+    if (options.isSeekCostModelEnabled()) {
+      return seekCostEstimator.shouldSkipInPlace(seekDistance, options.getInplaceSeekLimit());
+    }
+
+    return seekDistance <= options.getInplaceSeekLimit();
   }
 }
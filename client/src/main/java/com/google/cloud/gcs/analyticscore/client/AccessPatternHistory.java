@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.Optional;
+
+/**
+ * A bounded, process-wide record of the read mode that streams over an object converged to.
+ *
+ * <p>Entries are keyed by object and, optionally, by the object's parent directory so that files
+ * of the same table share what was learned from their siblings.
+ */
+class AccessPatternHistory {
+  private static final long MAX_ENTRIES = 10_000;
+  private static final AccessPatternHistory INSTANCE = new AccessPatternHistory(MAX_ENTRIES);
+
+  private final Cache<String, FileAccessPattern> objectPatterns;
+  private final Cache<String, FileAccessPattern> prefixPatterns;
+
+  AccessPatternHistory(long maxEntries) {
+    this.objectPatterns = CacheBuilder.newBuilder().maximumSize(maxEntries).build();
+    this.prefixPatterns = CacheBuilder.newBuilder().maximumSize(maxEntries).build();
+  }
+
+  static AccessPatternHistory getInstance() {
+    return INSTANCE;
+  }
+
+  /**
+   * Returns the mode last recorded for the object or, if {@code includePrefix} is set and the
+   * object has no history, for its parent directory.
+   */
+  Optional<FileAccessPattern> lookup(GcsItemId itemId, boolean includePrefix) {
+    FileAccessPattern pattern = objectPatterns.getIfPresent(getObjectKey(itemId));
+    if (pattern == null && includePrefix) {
+      pattern = prefixPatterns.getIfPresent(getPrefixKey(itemId));
+    }
+
+    return Optional.ofNullable(pattern);
+  }
+
+  /** Records the mode a stream converged to, which must be either RANDOM or SEQUENTIAL. */
+  void record(GcsItemId itemId, FileAccessPattern pattern, boolean includePrefix) {
+    checkArgument(
+        pattern == FileAccessPattern.RANDOM || pattern == FileAccessPattern.SEQUENTIAL,
+        "Expected a converged access pattern but got %s",
+        pattern);
+    objectPatterns.put(getObjectKey(itemId), pattern);
+    if (includePrefix) {
+      prefixPatterns.put(getPrefixKey(itemId), pattern);
+    }
+  }
+
+  private static String getObjectKey(GcsItemId itemId) {
+    return itemId.getBucketName() + "/" + itemId.getObjectName().orElse("");
+  }
+
+  private static String getPrefixKey(GcsItemId itemId) {
+    String objectName = itemId.getObjectName().orElse("");
+    return itemId.getBucketName() + "/" + objectName.substring(0, objectName.lastIndexOf('/') + 1);
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * Tracks the chunk size of a sequential stream in the manner of TCP slow start.
+ *
+ * <p>The stream starts with a small chunk, and the chunk size doubles every time a full chunk has
+ * been consumed, up to a maximum. A backward seek resets it to the initial size, so that short
+ * reads transfer few unused bytes while long scans end up with large transfers.
+ */
+class AdaptiveChunkSize {
+  private final int initialChunkSize;
+  private final int maxChunkSize;
+  private int chunkSize;
+  private long bytesAtChunkSize = 0;
+
+  AdaptiveChunkSize(int initialChunkSize, int maxChunkSize) {
+    checkArgument(
+        initialChunkSize > 0, "initialChunkSize must be positive but was %s", initialChunkSize);
+    checkArgument(
+        maxChunkSize >= initialChunkSize,
+        "maxChunkSize %s must not be less than initialChunkSize %s",
+        maxChunkSize,
+        initialChunkSize);
+    this.initialChunkSize = initialChunkSize;
+    this.maxChunkSize = maxChunkSize;
+    this.chunkSize = initialChunkSize;
+  }
+
+  int getChunkSize() {
+    return chunkSize;
+  }
+
+  /**
+   * Records bytes consumed sequentially from the stream.
+   *
+   * @return {@code true} if the chunk size grew
+   */
+  boolean recordSequentialRead(long bytes) {
+    if (chunkSize >= maxChunkSize) {
+      return false;
+    }
+    bytesAtChunkSize += bytes;
+    if (bytesAtChunkSize < chunkSize) {
+      return false;
+    }
+    chunkSize = (int) Math.min(maxChunkSize, 2L * chunkSize);
+    bytesAtChunkSize = 0;
+
+    return true;
+  }
+
+  /**
+   * Returns the chunk size to the initial size after a backward seek.
+   *
+   * @return {@code true} if the chunk size shrank
+   */
+  boolean reset() {
+    bytesAtChunkSize = 0;
+    if (chunkSize == initialChunkSize) {
+      return false;
+    }
+    chunkSize = initialChunkSize;
+
+    return true;
+  }
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import com.google.cloud.gcs.analyticscore.common.GcsAnalyticsCoreTelemetryConstants.Attribute;
+import com.google.cloud.gcs.analyticscore.common.GcsAnalyticsCoreTelemetryConstants.Metric;
+import com.google.cloud.gcs.analyticscore.common.telemetry.Telemetry;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.OptionalLong;
+
+/**
+ * Picks the merge gap and merged size of a vectored read from the time to first byte and the
+ * throughput observed by earlier reads of the same client.
+ *
+ * <p>Reading a gap costs less than a new request as long as the gap is smaller than the
+ * bandwidth-delay product of the link, that is the number of bytes transferred during one time to
+ * first byte. The merged size is chosen so that the requested bytes are spread over at most {@code
+ * parallelism} requests, but no request is smaller than the bandwidth-delay product. The static
+ * {@code maxMergeSize} of {@link GcsVectoredReadOptions} is kept as an upper bound, and the static
+ * limits are used until enough reads have been observed.
+ */
+class AdaptiveMergePolicy {
+  private static final ImmutableMap<String, String> COMMON_ATTRIBUTES =
+      ImmutableMap.of(Attribute.CLASS_NAME.name(), AdaptiveMergePolicy.class.getName());
+
+  private final SeekCostEstimator seekCostEstimator;
+  private final Telemetry telemetry;
+
+  AdaptiveMergePolicy(SeekCostEstimator seekCostEstimator, Telemetry telemetry) {
+    this.seekCostEstimator = seekCostEstimator;
+    this.telemetry = telemetry;
+  }
+
+  /**
+   * Merges {@code ranges}, expecting at most {@code parallelism} requests to run at a time. A
+   * non-positive {@code parallelism} leaves the merged size at its static limit.
+   */
+  ImmutableList<GcsObjectCombinedRange> mergeRanges(
+      ImmutableList<GcsObjectRange> ranges, GcsVectoredReadOptions options, int parallelism) {
+    int maxMergeGap = options.getMaxMergeGap();
+    int maxMergeSize = options.getMaxMergeSize();
+    OptionalLong bandwidthDelayProduct = getBandwidthDelayProduct();
+    if (bandwidthDelayProduct.isPresent()) {
+      long bdp = Math.min(bandwidthDelayProduct.getAsLong(), maxMergeSize);
+      maxMergeGap = (int) Math.max(bdp, 1);
+      if (parallelism > 0) {
+        long requestedBytes = 0;
+        for (GcsObjectRange range : ranges) {
+          requestedBytes += range.getLength();
+        }
+        long bytesPerRequest = (requestedBytes + parallelism - 1) / parallelism;
+        maxMergeSize = (int) Math.min(Math.max(bytesPerRequest, bdp), maxMergeSize);
+      }
+      telemetry.recordMetric(Metric.VECTORED_READ_MERGE_GAP, maxMergeGap, COMMON_ATTRIBUTES);
+      telemetry.recordMetric(Metric.VECTORED_READ_MERGE_SIZE, maxMergeSize, COMMON_ATTRIBUTES);
+    }
+
+    return VectoredIoUtil.mergeGcsObjectRanges(ranges, maxMergeGap, maxMergeSize);
+  }
+
+  private OptionalLong getBandwidthDelayProduct() {
+    OptionalLong firstByteLatencyNanos = seekCostEstimator.getFirstByteLatencyNanos();
+    if (firstByteLatencyNanos.isEmpty()) {
+      return OptionalLong.empty();
+    }
+
+    return seekCostEstimator.getTransferredBytes(firstByteLatencyNanos.getAsLong());
+  }
+}
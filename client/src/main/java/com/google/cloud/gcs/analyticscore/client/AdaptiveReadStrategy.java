@@ -17,30 +17,102 @@ package com.google.cloud.gcs.analyticscore.client;
 
 import com.google.cloud.ReadChannel;
 import com.google.cloud.storage.Storage;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.IOException;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
 
 class AdaptiveReadStrategy extends AbstractReadStrategy {
+  private final Supplier<ExecutorService> executorServiceSupplier;
+  private final AccessPatternHistory accessPatternHistory;
   private ReadStrategy currentStrategy;
+  private LookBehindBuffer lookBehindBuffer;
   private boolean isRandomMode = false;
+  private boolean isSeededFromHistory = false;
+  private boolean hasReadData = false;
   private int sequentialReadCount = 0;
   private long lastReadEndPosition = 0;
 
   AdaptiveReadStrategy(
       Storage storage, GcsItemId itemId, GcsReadOptions options, GcsItemInfo itemInfo)
       throws IOException {
-    super(storage, itemId, options, itemInfo);
+    this(
+        storage,
+        itemId,
+        options,
+        itemInfo,
+        Suppliers.ofInstance(MoreExecutors.newDirectExecutorService()));
+  }
+
+  AdaptiveReadStrategy(
+      Storage storage,
+      GcsItemId itemId,
+      GcsReadOptions options,
+      GcsItemInfo itemInfo,
+      Supplier<ExecutorService> executorServiceSupplier)
+      throws IOException {
+    this(
+        storage,
+        itemId,
+        options,
+        itemInfo,
+        executorServiceSupplier,
+        AccessPatternHistory.getInstance());
+  }
+
+  AdaptiveReadStrategy(
+      Storage storage,
+      GcsItemId itemId,
+      GcsReadOptions options,
+      GcsItemInfo itemInfo,
+      Supplier<ExecutorService> executorServiceSupplier,
+      AccessPatternHistory accessPatternHistory)
+      throws IOException {
+    this(
+        storage,
+        itemId,
+        options,
+        itemInfo,
+        executorServiceSupplier,
+        accessPatternHistory,
+        new SeekCostEstimator());
+  }
+
+  AdaptiveReadStrategy(
+      Storage storage,
+      GcsItemId itemId,
+      GcsReadOptions options,
+      GcsItemInfo itemInfo,
+      Supplier<ExecutorService> executorServiceSupplier,
+      AccessPatternHistory accessPatternHistory,
+      SeekCostEstimator seekCostEstimator)
+      throws IOException {
+    super(storage, itemId, options, itemInfo, seekCostEstimator);
+    this.executorServiceSupplier = executorServiceSupplier;
+    this.accessPatternHistory = accessPatternHistory;
     this.isRandomMode =
         options.getFileAccessPattern() == FileAccessPattern.RANDOM
             || options.getFileAccessPattern() == FileAccessPattern.AUTO_RANDOM;
+    if (isHistoryEnabled()) {
+      Optional<FileAccessPattern> learnedPattern =
+          accessPatternHistory.lookup(itemId, options.isAccessPatternHistoryPrefixEnabled());
+      if (learnedPattern.isPresent()) {
+        this.isRandomMode = learnedPattern.get() == FileAccessPattern.RANDOM;
+        this.isSeededFromHistory = true;
+      }
+    }
     this.currentStrategy =
         isRandomMode
-            ? new RandomReadStrategy(storage, itemId, options, itemInfo)
-            : new SequentialReadStrategy(storage, itemId, options, itemInfo);
+            ? new RandomReadStrategy(storage, itemId, options, itemInfo, seekCostEstimator)
+            : createSequentialStrategy();
   }
 
   @Override
   public ReadChannel getReadChannel(long requestedPosition, int bytesToRead) throws IOException {
     updateStrategy(requestedPosition);
+    hasReadData = true;
     ReadChannel channel = currentStrategy.getReadChannel(requestedPosition, bytesToRead);
     this.position = requestedPosition;
 
@@ -49,10 +121,22 @@ class AdaptiveReadStrategy extends AbstractReadStrategy {
 
   @Override
   public void close() throws IOException {
+    if (isHistoryEnabled() && hasReadData) {
+      accessPatternHistory.record(
+          itemId,
+          isRandomMode ? FileAccessPattern.RANDOM : FileAccessPattern.SEQUENTIAL,
+          options.isAccessPatternHistoryPrefixEnabled());
+    }
     currentStrategy.close();
     super.close();
   }
 
+  @Override
+  public void setLookBehindBuffer(LookBehindBuffer lookBehindBuffer) {
+    this.lookBehindBuffer = lookBehindBuffer;
+    currentStrategy.setLookBehindBuffer(lookBehindBuffer);
+  }
+
   @Override
   public void position(long newPosition) {
     super.position(newPosition);
@@ -74,7 +158,7 @@ class AdaptiveReadStrategy extends AbstractReadStrategy {
       switchToRandom();
       return;
     }
-    if (!isRandomMode || options.getFileAccessPattern() != FileAccessPattern.AUTO_RANDOM) {
+    if (!isRandomMode || !canSwitchToSequential()) {
       return;
     }
     if (!isSequentialRead(requestedPosition)) {
@@ -88,17 +172,34 @@ class AdaptiveReadStrategy extends AbstractReadStrategy {
   }
 
   private boolean shouldSwitchToRandom(long requestedPosition) {
-    if (isRandomMode || options.getFileAccessPattern() != FileAccessPattern.AUTO_SEQUENTIAL) {
+    if (isRandomMode || !canSwitchToRandom()) {
       return false;
     }
 
     return !isSequentialRead(requestedPosition);
   }
 
+  private boolean isHistoryEnabled() {
+    return options.isAccessPatternHistoryEnabled()
+        && (options.getFileAccessPattern() == FileAccessPattern.AUTO_SEQUENTIAL
+            || options.getFileAccessPattern() == FileAccessPattern.AUTO_RANDOM);
+  }
+
+  // A stream seeded from history may switch either way, so that a stale entry corrects itself.
+  private boolean canSwitchToRandom() {
+    return options.getFileAccessPattern() == FileAccessPattern.AUTO_SEQUENTIAL
+        || isSeededFromHistory;
+  }
+
+  private boolean canSwitchToSequential() {
+    return options.getFileAccessPattern() == FileAccessPattern.AUTO_RANDOM || isSeededFromHistory;
+  }
+
   private void switchToRandom() throws IOException {
     isRandomMode = true;
     currentStrategy.close();
-    currentStrategy = new RandomReadStrategy(storage, itemId, options, itemInfo);
+    currentStrategy = new RandomReadStrategy(storage, itemId, options, itemInfo, seekCostEstimator);
+    currentStrategy.setLookBehindBuffer(lookBehindBuffer);
   }
 
   private boolean isSequentialRead(long requestedPosition) {
@@ -110,6 +211,16 @@ class AdaptiveReadStrategy extends AbstractReadStrategy {
     isRandomMode = false;
     sequentialReadCount = 0;
     currentStrategy.close();
-    currentStrategy = new SequentialReadStrategy(storage, itemId, options, itemInfo);
+    currentStrategy = createSequentialStrategy();
+    currentStrategy.setLookBehindBuffer(lookBehindBuffer);
+  }
+
+  private ReadStrategy createSequentialStrategy() throws IOException {
+    if (StripedReadStrategy.isApplicable(options, itemInfo)) {
+      return new StripedReadStrategy(storage, itemId, options, itemInfo, executorServiceSupplier);
+    }
+
+    return new SequentialReadStrategy(
+        storage, itemId, options, itemInfo, executorServiceSupplier, seekCostEstimator);
   }
 }
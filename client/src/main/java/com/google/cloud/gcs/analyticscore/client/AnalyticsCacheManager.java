@@ -18,21 +18,56 @@ package com.google.cloud.gcs.analyticscore.client;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.github.benmanes.caffeine.cache.RemovalListener;
 import com.github.benmanes.caffeine.cache.Weigher;
+import com.google.cloud.gcs.analyticscore.common.GcsAnalyticsCoreTelemetryConstants.Metric;
 import com.google.cloud.gcs.analyticscore.common.cache.AnalyticsCache;
 import com.google.cloud.gcs.analyticscore.common.cache.AnalyticsCacheCaffeineImpl;
 import com.google.cloud.gcs.analyticscore.common.cache.AnalyticsCacheNoOpImpl;
+import com.google.cloud.gcs.analyticscore.common.cache.AnalyticsCacheOffHeapImpl;
+import com.google.cloud.gcs.analyticscore.common.cache.AnalyticsCacheTieredImpl;
+import com.google.cloud.gcs.analyticscore.common.telemetry.Telemetry;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Manages the caching layer for GCS objects. This class is thread-safe and acts as a registry for
  * various specialized caches (e.g., Parquet footer cache).
+ *
+ * <p>When {@link GcsCacheOptions#isOffHeapCacheEnabled()} is set, every cache keeps its data in
+ * off-heap memory, and the buffers returned by this class are read-only views of that memory. When
+ * {@link GcsCacheOptions#isDiskCacheEnabled()} is set, entries evicted from every cache are kept in
+ * memory-mapped files on a local disk and served from there as heap copies, as the files are
+ * reused. The caches share the configured disk space in proportion to their in-memory sizes.
+ *
+ * <p>When {@link GcsCacheOptions#getFooterCacheSnapshotPath()} is set, the footer cache is loaded
+ * from that file on creation and saved to it on {@link #close()}, and optionally at a fixed
+ * interval in between.
  */
 public class AnalyticsCacheManager {
 
+  private static final Logger LOG = LoggerFactory.getLogger(AnalyticsCacheManager.class);
+
   private final AnalyticsCache<GcsItemId, ByteBuffer> footerCache;
   private final AnalyticsCache<GcsItemId, ByteBuffer> smallObjectCache;
+  private final AnalyticsCache<BlockKey, ByteBuffer> blockCache;
+  private final boolean blockCacheEnabled;
+  private final int blockSizeBytes;
+  private final Optional<Path> footerSnapshotPath;
+  private final ScheduledExecutorService footerSnapshotExecutor;
 
   /**
    * Creates a new {@link AnalyticsCacheManager} with the specified options.
@@ -40,16 +75,107 @@ public class AnalyticsCacheManager {
    * @param options The configuration options for the caching layer.
    */
   public AnalyticsCacheManager(GcsCacheOptions options) {
+    this(options, new Telemetry(Collections.emptyList()));
+  }
+
+  /**
+   * Creates a new {@link AnalyticsCacheManager} with the specified options, recording block cache
+   * evictions to {@code telemetry}.
+   *
+   * @param options The configuration options for the caching layer.
+   * @param telemetry The telemetry that cache evictions are recorded to.
+   */
+  public AnalyticsCacheManager(GcsCacheOptions options, Telemetry telemetry) {
     checkNotNull(options, "options cannot be null");
-    Weigher<GcsItemId, ByteBuffer> weigher = (key, value) -> value.remaining();
+    checkNotNull(telemetry, "telemetry cannot be null");
     this.footerCache =
         options.isFooterCacheEnabled()
-            ? AnalyticsCacheCaffeineImpl.create(options.getFooterCacheMaxSizeBytes(), weigher)
+            ? createCache(options, options.getFooterCacheMaxSizeBytes(), null)
             : AnalyticsCacheNoOpImpl.getInstance();
     this.smallObjectCache =
         options.isSmallObjectCacheEnabled()
-            ? AnalyticsCacheCaffeineImpl.create(options.getSmallObjectCacheMaxSizeBytes(), weigher)
+            ? createCache(options, options.getSmallObjectCacheMaxSizeBytes(), null)
             : AnalyticsCacheNoOpImpl.getInstance();
+    this.blockCacheEnabled = options.isBlockCacheEnabled();
+    this.blockSizeBytes = options.getBlockCacheBlockSizeBytes();
+    RemovalListener<BlockKey, ByteBuffer> blockRemovalListener =
+        (key, value, cause) -> {
+          if (cause.wasEvicted()) {
+            telemetry.recordMetric(Metric.BLOCK_CACHE_EVICTION, 1L, Collections.emptyMap());
+          }
+        };
+    this.blockCache =
+        blockCacheEnabled
+            ? createCache(options, options.getBlockCacheMaxSizeBytes(), blockRemovalListener)
+            : AnalyticsCacheNoOpImpl.getInstance();
+    this.footerSnapshotPath =
+        options.isFooterCacheEnabled()
+            ? options.getFooterCacheSnapshotPath().map(Paths::get)
+            : Optional.empty();
+    footerSnapshotPath.ifPresent(this::loadFooterSnapshot);
+    int snapshotIntervalSeconds = options.getFooterCacheSnapshotIntervalSeconds();
+    if (footerSnapshotPath.isPresent() && snapshotIntervalSeconds > 0) {
+      this.footerSnapshotExecutor =
+          Executors.newSingleThreadScheduledExecutor(
+              new ThreadFactoryBuilder()
+                  .setNameFormat("footer-cache-snapshot-%d")
+                  .setDaemon(true)
+                  .build());
+      var unused =
+          footerSnapshotExecutor.scheduleWithFixedDelay(
+              this::saveFooterSnapshot,
+              snapshotIntervalSeconds,
+              snapshotIntervalSeconds,
+              TimeUnit.SECONDS);
+    } else {
+      this.footerSnapshotExecutor = null;
+    }
+  }
+
+  // Backs the in-memory cache with a disk tier when enabled; removalListener may be null. It is
+  // registered with the last tier, as values evicted from memory move to the disk tier.
+  private static <K> AnalyticsCache<K, ByteBuffer> createCache(
+      GcsCacheOptions options, long maxSizeBytes, RemovalListener<K, ByteBuffer> removalListener) {
+    long diskSizeBytes = options.isDiskCacheEnabled() ? getDiskSizeBytes(options, maxSizeBytes) : 0;
+    if (diskSizeBytes == 0) {
+      return createMemoryCache(options, maxSizeBytes, removalListener);
+    }
+    AnalyticsCache<K, ByteBuffer> diskCache =
+        AnalyticsCacheOffHeapImpl.createMappedFile(
+            Paths.get(options.getDiskCachePath().get()),
+            diskSizeBytes,
+            options.getDiskCacheSegmentSizeBytes(),
+            removalListener);
+    return new AnalyticsCacheTieredImpl<>(
+        tierListener -> createMemoryCache(options, maxSizeBytes, tierListener), diskCache);
+  }
+
+  // The disk space is shared by the enabled caches in proportion to their in-memory sizes, in whole
+  // segments, so that together they stay within the configured maximum.
+  private static long getDiskSizeBytes(GcsCacheOptions options, long maxSizeBytes) {
+    long totalSizeBytes =
+        (options.isFooterCacheEnabled() ? options.getFooterCacheMaxSizeBytes() : 0)
+            + (options.isSmallObjectCacheEnabled() ? options.getSmallObjectCacheMaxSizeBytes() : 0)
+            + (options.isBlockCacheEnabled() ? options.getBlockCacheMaxSizeBytes() : 0);
+    long segmentSizeBytes = options.getDiskCacheSegmentSizeBytes();
+    long totalSegments = options.getDiskCacheMaxSizeBytes() / segmentSizeBytes;
+    long segments = totalSegments * maxSizeBytes / totalSizeBytes;
+    return segments * segmentSizeBytes;
+  }
+
+  // Keeps the cached bytes off-heap when enabled; removalListener may be null.
+  private static <K> AnalyticsCache<K, ByteBuffer> createMemoryCache(
+      GcsCacheOptions options, long maxSizeBytes, RemovalListener<K, ByteBuffer> removalListener) {
+    if (options.isOffHeapCacheEnabled()) {
+      int slabSizeBytes = options.getOffHeapCacheSlabSizeBytes();
+      return removalListener == null
+          ? AnalyticsCacheOffHeapImpl.create(maxSizeBytes, slabSizeBytes)
+          : AnalyticsCacheOffHeapImpl.create(maxSizeBytes, slabSizeBytes, removalListener);
+    }
+    Weigher<K, ByteBuffer> weigher = (key, value) -> value.remaining();
+    return removalListener == null
+        ? AnalyticsCacheCaffeineImpl.create(maxSizeBytes, weigher)
+        : AnalyticsCacheCaffeineImpl.create(maxSizeBytes, weigher, removalListener);
   }
 
   /**
@@ -71,6 +197,15 @@ public class AnalyticsCacheManager {
         .asReadOnlyBuffer();
   }
 
+  /**
+   * Returns the cached footer for the given {@code itemId}, or {@code Optional.empty()} if it is
+   * not cached.
+   */
+  public Optional<ByteBuffer> getFooter(GcsItemId itemId) {
+    checkNotNull(itemId, "itemId cannot be null");
+    return footerCache.get(itemId).map(ByteBuffer::asReadOnlyBuffer);
+  }
+
   /**
    * Returns the cached small object for the given {@code itemId}, obtaining it from the {@code
    * smallObjectLoader} if necessary. This method is atomic.
@@ -87,6 +222,48 @@ public class AnalyticsCacheManager {
         .asReadOnlyBuffer();
   }
 
+  /**
+   * Returns the cached small object for the given {@code itemId}, or {@code Optional.empty()} if it
+   * is not cached.
+   */
+  public Optional<ByteBuffer> getSmallObject(GcsItemId itemId) {
+    checkNotNull(itemId, "itemId cannot be null");
+    return smallObjectCache.get(itemId).map(ByteBuffer::asReadOnlyBuffer);
+  }
+
+  /** Returns whether the block cache is enabled. */
+  public boolean isBlockCacheEnabled() {
+    return blockCacheEnabled;
+  }
+
+  /** Returns the size (in bytes) of the blocks held in the block cache. */
+  public int getBlockSizeBytes() {
+    return blockSizeBytes;
+  }
+
+  /**
+   * Returns the cached block at {@code blockIndex} of the given generation of {@code itemId}, or
+   * {@code Optional.empty()} if it is not cached. The block at index {@code i} holds the object
+   * bytes starting at {@code i * getBlockSizeBytes()}, and only the last block of an object is
+   * shorter than the block size.
+   */
+  public Optional<ByteBuffer> getBlock(GcsItemId itemId, long generation, long blockIndex) {
+    checkNotNull(itemId, "itemId cannot be null");
+    return blockCache
+        .get(new BlockKey(itemId, generation, blockIndex))
+        .map(ByteBuffer::asReadOnlyBuffer);
+  }
+
+  /**
+   * Caches the remaining bytes of {@code block} as the block at {@code blockIndex} of the given
+   * generation of {@code itemId}. The buffer must not be modified afterwards.
+   */
+  public void putBlock(GcsItemId itemId, long generation, long blockIndex, ByteBuffer block) {
+    checkNotNull(itemId, "itemId cannot be null");
+    checkNotNull(block, "block cannot be null");
+    blockCache.put(new BlockKey(itemId, generation, blockIndex), block.slice());
+  }
+
   /** Invalidates the cached footer for the given {@code itemId}. */
   public void invalidateFooter(GcsItemId itemId) {
     checkNotNull(itemId, "itemId cannot be null");
@@ -103,6 +280,79 @@ public class AnalyticsCacheManager {
   public void invalidateAll() {
     footerCache.invalidateAll();
     smallObjectCache.invalidateAll();
+    blockCache.invalidateAll();
+  }
+
+  /**
+   * Saves the footer cache to the configured snapshot file, if any, and stops saving it
+   * periodically. The cached entries remain available.
+   */
+  public void close() {
+    if (footerSnapshotExecutor != null) {
+      footerSnapshotExecutor.shutdownNow();
+    }
+    saveFooterSnapshot();
+  }
+
+  // Failures are logged, as a missing snapshot only costs a cold start.
+  private synchronized void saveFooterSnapshot() {
+    if (!footerSnapshotPath.isPresent()) {
+      return;
+    }
+    try {
+      int footerCount = FooterCacheSnapshot.write(footerSnapshotPath.get(), footerCache.snapshot());
+      LOG.debug("Saved {} footers to {}", footerCount, footerSnapshotPath.get());
+    } catch (IOException | RuntimeException e) {
+      LOG.warn("Failed to save the footer cache snapshot to {}", footerSnapshotPath.get(), e);
+    }
+  }
+
+  private void loadFooterSnapshot(Path path) {
+    if (!Files.exists(path)) {
+      return;
+    }
+    try {
+      Map<GcsItemId, ByteBuffer> footers = FooterCacheSnapshot.read(path);
+      footers.forEach(footerCache::put);
+      LOG.debug("Loaded {} footers from {}", footers.size(), path);
+    } catch (IOException | RuntimeException e) {
+      LOG.warn("Failed to load the footer cache snapshot from {}", path, e);
+    }
+  }
+
+  /** Identifies a block of a specific generation of an object. */
+  private static final class BlockKey {
+    private final String bucketName;
+    private final String objectName;
+    private final long generation;
+    private final long blockIndex;
+
+    BlockKey(GcsItemId itemId, long generation, long blockIndex) {
+      this.bucketName = itemId.getBucketName();
+      this.objectName = itemId.getObjectName().orElse("");
+      this.generation = generation;
+      this.blockIndex = blockIndex;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) {
+        return true;
+      }
+      if (!(o instanceof BlockKey)) {
+        return false;
+      }
+      BlockKey that = (BlockKey) o;
+      return generation == that.generation
+          && blockIndex == that.blockIndex
+          && bucketName.equals(that.bucketName)
+          && objectName.equals(that.objectName);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(bucketName, objectName, generation, blockIndex);
+    }
   }
 
   /** A loader for GCS object footers. */
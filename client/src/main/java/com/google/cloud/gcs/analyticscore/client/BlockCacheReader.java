@@ -0,0 +1,245 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.cloud.gcs.analyticscore.common.GcsAnalyticsCoreTelemetryConstants.Metric;
+import com.google.cloud.gcs.analyticscore.common.telemetry.Telemetry;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.IntFunction;
+
+/**
+ * Serves reads of a single object generation through the block cache of an {@link
+ * AnalyticsCacheManager}.
+ *
+ * <p>The object is divided into blocks of {@link AnalyticsCacheManager#getBlockSizeBytes()} bytes.
+ * Reads are served from cached blocks where possible, and blocks that are not cached are fetched
+ * whole and added to the cache, so that later reads of the same bytes, by this or any other
+ * channel, are served from memory.
+ */
+class BlockCacheReader {
+
+  /** Loads the bytes of a block that is not cached. */
+  @FunctionalInterface
+  interface BlockLoader {
+    /** Returns a buffer holding the {@code blockLength} object bytes at {@code blockStart}. */
+    ByteBuffer load(long blockStart, int blockLength) throws IOException;
+  }
+
+  private final AnalyticsCacheManager cacheManager;
+  private final GcsItemId itemId;
+  private final long generation;
+  private final long objectSize;
+  private final int blockSize;
+  private final Telemetry telemetry;
+  private final ImmutableMap<String, String> attributes;
+
+  BlockCacheReader(
+      AnalyticsCacheManager cacheManager,
+      GcsItemId itemId,
+      long generation,
+      long objectSize,
+      Telemetry telemetry,
+      ImmutableMap<String, String> attributes) {
+    checkArgument(cacheManager.isBlockCacheEnabled(), "Block cache is not enabled");
+    this.cacheManager = cacheManager;
+    this.itemId = checkNotNull(itemId, "itemId cannot be null");
+    this.generation = generation;
+    this.objectSize = objectSize;
+    this.blockSize = cacheManager.getBlockSizeBytes();
+    this.telemetry = checkNotNull(telemetry, "telemetry cannot be null");
+    this.attributes = attributes;
+  }
+
+  /**
+   * Copies the bytes starting at {@code position} from the block that holds it into {@code dst},
+   * loading the block with {@code blockLoader} if it is not cached.
+   *
+   * @return the number of bytes copied, or 0 if {@code position} is at or past the end of the
+   *     object
+   */
+  int read(long position, ByteBuffer dst, BlockLoader blockLoader) throws IOException {
+    if (position >= objectSize || !dst.hasRemaining()) {
+      return 0;
+    }
+    long blockIndex = position / blockSize;
+    ByteBuffer block = getCachedBlock(blockIndex).orElse(null);
+    if (block == null) {
+      block = blockLoader.load(getBlockStart(blockIndex), getBlockLength(blockIndex));
+      cacheManager.putBlock(itemId, generation, blockIndex, block);
+    }
+    ByteBuffer blockView = block.duplicate();
+    blockView.position(blockView.position() + (int) (position - getBlockStart(blockIndex)));
+    int bytesRead = Math.min(dst.remaining(), blockView.remaining());
+    blockView.limit(blockView.position() + bytesRead);
+    dst.put(blockView);
+
+    return bytesRead;
+  }
+
+  /** Returns whether {@code range} can be served through the block cache. */
+  boolean isCacheable(GcsObjectRange range) {
+    return range.getLength() > 0
+        && range.getOffset() >= 0
+        && range.getOffset() + range.getLength() <= objectSize;
+  }
+
+  /**
+   * Completes the ranges whose blocks are all cached, and returns a range for each block that is
+   * missing. The missing blocks are added to the cache as they are read, and every other range is
+   * completed, with a buffer from {@code allocate}, once all of its blocks are available.
+   *
+   * @param ranges ranges for which {@link #isCacheable} holds
+   * @return the block ranges to read, in offset order
+   */
+  List<GcsObjectRange> readVectored(List<GcsObjectRange> ranges, IntFunction<ByteBuffer> allocate) {
+    Map<Long, GcsObjectRange> missingBlocks = new TreeMap<>();
+    // Completes once the missing block has been read and added to the cache.
+    Map<Long, CompletableFuture<ByteBuffer>> cachedMissingBlocks = new HashMap<>();
+    for (GcsObjectRange range : ranges) {
+      long firstBlock = range.getOffset() / blockSize;
+      long lastBlock = (range.getOffset() + range.getLength() - 1) / blockSize;
+      ImmutableList.Builder<CompletableFuture<ByteBuffer>> blockFutures = ImmutableList.builder();
+      for (long blockIndex = firstBlock; blockIndex <= lastBlock; blockIndex++) {
+        CompletableFuture<ByteBuffer> missingBlock = cachedMissingBlocks.get(blockIndex);
+        Optional<ByteBuffer> cachedBlock =
+            missingBlock == null ? getCachedBlock(blockIndex) : Optional.empty();
+        if (cachedBlock.isPresent()) {
+          blockFutures.add(CompletableFuture.completedFuture(cachedBlock.get()));
+          continue;
+        }
+        if (missingBlock == null) {
+          GcsObjectRange blockRange = createBlockRange(blockIndex);
+          missingBlocks.put(blockIndex, blockRange);
+          long index = blockIndex;
+          missingBlock =
+              blockRange
+                  .getByteBufferFuture()
+                  .thenApply(
+                      block -> {
+                        cacheManager.putBlock(itemId, generation, index, block);
+                        return block;
+                      });
+          cachedMissingBlocks.put(blockIndex, missingBlock);
+        }
+        blockFutures.add(missingBlock);
+      }
+      completeFromBlocks(range, firstBlock, blockFutures.build(), allocate);
+    }
+
+    return ImmutableList.copyOf(missingBlocks.values());
+  }
+
+  private Optional<ByteBuffer> getCachedBlock(long blockIndex) {
+    Optional<ByteBuffer> block = cacheManager.getBlock(itemId, generation, blockIndex);
+    telemetry.recordMetric(
+        block.isPresent() ? Metric.BLOCK_CACHE_HIT : Metric.BLOCK_CACHE_MISS, 1, attributes);
+
+    return block;
+  }
+
+  private GcsObjectRange createBlockRange(long blockIndex) {
+    return GcsObjectRange.builder()
+        .setOffset(getBlockStart(blockIndex))
+        .setLength(getBlockLength(blockIndex))
+        .setByteBufferFuture(new CompletableFuture<>())
+        .build();
+  }
+
+  // Fails the range as soon as any of its blocks fails, and completes it once all are read.
+  private void completeFromBlocks(
+      GcsObjectRange range,
+      long firstBlock,
+      List<CompletableFuture<ByteBuffer>> blockFutures,
+      IntFunction<ByteBuffer> allocate) {
+    for (CompletableFuture<ByteBuffer> blockFuture : blockFutures) {
+      var unused =
+          blockFuture.whenComplete(
+              (block, throwable) -> {
+                if (throwable != null) {
+                  range
+                      .getByteBufferFuture()
+                      .completeExceptionally(
+                          throwable instanceof CompletionException
+                              ? throwable.getCause()
+                              : throwable);
+                }
+              });
+    }
+    var unusedCompletion =
+        CompletableFuture.allOf(blockFutures.toArray(new CompletableFuture<?>[0]))
+            .thenRun(
+                () -> {
+                  try {
+                    range
+                        .getByteBufferFuture()
+                        .complete(copyFromBlocks(range, firstBlock, blockFutures, allocate));
+                  } catch (RuntimeException e) {
+                    range
+                        .getByteBufferFuture()
+                        .completeExceptionally(
+                            new IOException(
+                                String.format("Error while populating range: %s", range), e));
+                  }
+                });
+  }
+
+  private ByteBuffer copyFromBlocks(
+      GcsObjectRange range,
+      long firstBlock,
+      List<CompletableFuture<ByteBuffer>> blockFutures,
+      IntFunction<ByteBuffer> allocate) {
+    ByteBuffer dst = allocate.apply(range.getLength());
+    if (dst == null) {
+      throw new IllegalArgumentException(
+          String.format("Buffer allocation returned null for range: %s", range));
+    }
+    long position = range.getOffset();
+    long rangeEnd = range.getOffset() + range.getLength();
+    for (int i = 0; i < blockFutures.size(); i++) {
+      long blockIndex = firstBlock + i;
+      ByteBuffer blockView = blockFutures.get(i).join().duplicate();
+      blockView.position(blockView.position() + (int) (position - getBlockStart(blockIndex)));
+      blockView.limit(
+          blockView.position() + (int) Math.min(blockView.remaining(), rangeEnd - position));
+      position += blockView.remaining();
+      dst.put(blockView);
+    }
+    dst.flip();
+
+    return dst;
+  }
+
+  private long getBlockStart(long blockIndex) {
+    return blockIndex * blockSize;
+  }
+
+  private int getBlockLength(long blockIndex) {
+    return (int) Math.min(blockSize, objectSize - getBlockStart(blockIndex));
+  }
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.gcs.analyticscore.client;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.CRC32C;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Reads and writes snapshots of the Parquet footer cache, so that a new process can start with the
+ * footers cached by an earlier one.
+ *
+ * <p>A snapshot holds the footers of specific object generations only, so a footer is never served
+ * for an object that was overwritten since the snapshot was written. Each footer is stored with a
+ * checksum; reading stops at the first footer that fails verification, keeping those before it.
+ */
+final class FooterCacheSnapshot {
+
+  private static final Logger LOG = LoggerFactory.getLogger(FooterCacheSnapshot.class);
+
+  private static final int MAGIC = 0x47434653;
+  private static final int VERSION = 1;
+
+  private FooterCacheSnapshot() {}
+
+  /**
+   * Writes the footers in {@code footers} whose item ids carry a content generation to {@code
+   * path}. The snapshot is written to a temporary file first and then moved into place, so that
+   * readers never see a partially written snapshot.
+   *
+   * @return the number of footers written
+   */
+  static int write(Path path, Map<GcsItemId, ByteBuffer> footers) throws IOException {
+    Path directory = path.toAbsolutePath().getParent();
+    Files.createDirectories(directory);
+    Path tempFile = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+    int footerCount = 0;
+    try {
+      try (DataOutputStream out =
+          new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tempFile)))) {
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        for (Map.Entry<GcsItemId, ByteBuffer> footer : footers.entrySet()) {
+          GcsItemId itemId = footer.getKey();
+          if (!itemId.getObjectName().isPresent()
+              || !itemId.getContentGeneration().isPresent()) {
+            continue;
+          }
+          byte[] data = new byte[footer.getValue().remaining()];
+          footer.getValue().duplicate().get(data);
+          out.writeBoolean(true);
+          out.writeUTF(itemId.getBucketName());
+          out.writeUTF(itemId.getObjectName().get());
+          out.writeLong(itemId.getContentGeneration().get());
+          out.writeInt(data.length);
+          out.write(data);
+          out.writeInt(checksum(data));
+          footerCount++;
+        }
+        out.writeBoolean(false);
+      }
+      Files.move(
+          tempFile, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    } finally {
+      Files.deleteIfExists(tempFile);
+    }
+
+    return footerCount;
+  }
+
+  /**
+   * Reads the footers from the snapshot at {@code path}, keyed by item ids that carry their content
+   * generation.
+   *
+   * @throws IOException if {@code path} cannot be read or is not a footer cache snapshot
+   */
+  static Map<GcsItemId, ByteBuffer> read(Path path) throws IOException {
+    Map<GcsItemId, ByteBuffer> footers = new LinkedHashMap<>();
+    long snapshotSize = Files.size(path);
+    try (DataInputStream in =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+      if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+        throw new IOException("Not a footer cache snapshot: " + path);
+      }
+      while (in.readBoolean()) {
+        GcsItemId itemId =
+            GcsItemId.builder()
+                .setBucketName(in.readUTF())
+                .setObjectName(in.readUTF())
+                .setContentGeneration(in.readLong())
+                .build();
+        int length = in.readInt();
+        if (length < 0 || length > snapshotSize) {
+          LOG.warn("Footer cache snapshot {} is corrupt after {} footers", path, footers.size());
+          break;
+        }
+        byte[] data = new byte[length];
+        in.readFully(data);
+        if (in.readInt() != checksum(data)) {
+          LOG.warn("Footer cache snapshot {} is corrupt after {} footers", path, footers.size());
+          break;
+        }
+        footers.put(itemId, ByteBuffer.wrap(data));
+      }
+    } catch (EOFException e) {
+      LOG.warn("Footer cache snapshot {} is truncated after {} footers", path, footers.size());
+    }
+
+    return ImmutableMap.copyOf(footers);
+  }
+
+  private static int checksum(byte[] data) {
+    CRC32C crc = new CRC32C();
+    crc.update(data, 0, data.length);
+    return (int) crc.getValue();
+  }
+}
@@ -20,6 +20,7 @@ import static com.google.common.base.Preconditions.checkArgument;
 
 import com.google.auto.value.AutoValue;
 import java.util.Map;
+import java.util.Optional;
 
 /** Configuration options for the GCS caching layer. */
 @AutoValue
@@ -28,18 +29,46 @@ public abstract class GcsCacheOptions {
   private static final String FOOTER_CACHE_ENABLED_KEY = "analytics-core.footer.cache.enabled";
   private static final String FOOTER_CACHE_MAX_SIZE_BYTES_KEY =
       "analytics-core.footer.cache.max-size-bytes";
+  private static final String FOOTER_CACHE_SNAPSHOT_PATH_KEY =
+      "analytics-core.footer.cache.snapshot.path";
+  private static final String FOOTER_CACHE_SNAPSHOT_INTERVAL_SECONDS_KEY =
+      "analytics-core.footer.cache.snapshot.interval-seconds";
   private static final String SMALL_FILE_CACHE_ENABLED_KEY =
       "analytics-core.small-file.cache.enabled";
   private static final String SMALL_FILE_CACHE_MAX_SIZE_BYTES_KEY =
       "analytics-core.small-file.cache.max-size-bytes";
+  private static final String BLOCK_CACHE_ENABLED_KEY = "analytics-core.block.cache.enabled";
+  private static final String BLOCK_CACHE_MAX_SIZE_BYTES_KEY =
+      "analytics-core.block.cache.max-size-bytes";
+  private static final String BLOCK_CACHE_BLOCK_SIZE_BYTES_KEY =
+      "analytics-core.block.cache.block-size-bytes";
+  private static final String OFF_HEAP_CACHE_ENABLED_KEY = "analytics-core.cache.off-heap.enabled";
+  private static final String OFF_HEAP_CACHE_SLAB_SIZE_BYTES_KEY =
+      "analytics-core.cache.off-heap.slab-size-bytes";
+  private static final String DISK_CACHE_ENABLED_KEY = "analytics-core.cache.disk.enabled";
+  private static final String DISK_CACHE_PATH_KEY = "analytics-core.cache.disk.path";
+  private static final String DISK_CACHE_MAX_SIZE_BYTES_KEY =
+      "analytics-core.cache.disk.max-size-bytes";
+  private static final String DISK_CACHE_SEGMENT_SIZE_BYTES_KEY =
+      "analytics-core.cache.disk.segment-size-bytes";
 
   private static final long KB = 1024L;
   private static final long MB = 1024L * KB;
+  private static final long GB = 1024L * MB;
 
   private static final boolean DEFAULT_FOOTER_CACHE_ENABLED = false;
   private static final long DEFAULT_FOOTER_CACHE_MAX_SIZE_BYTES = 100 * MB;
+  private static final int DEFAULT_FOOTER_CACHE_SNAPSHOT_INTERVAL_SECONDS = 0;
   private static final boolean DEFAULT_SMALL_OBJECT_CACHE_ENABLED = false;
   private static final long DEFAULT_SMALL_OBJECT_CACHE_MAX_SIZE_BYTES = 200 * MB;
+  private static final boolean DEFAULT_BLOCK_CACHE_ENABLED = false;
+  private static final long DEFAULT_BLOCK_CACHE_MAX_SIZE_BYTES = 256 * MB;
+  private static final int DEFAULT_BLOCK_CACHE_BLOCK_SIZE_BYTES = (int) MB;
+  private static final boolean DEFAULT_OFF_HEAP_CACHE_ENABLED = false;
+  private static final int DEFAULT_OFF_HEAP_CACHE_SLAB_SIZE_BYTES = (int) (4 * MB);
+  private static final boolean DEFAULT_DISK_CACHE_ENABLED = false;
+  private static final long DEFAULT_DISK_CACHE_MAX_SIZE_BYTES = 10 * GB;
+  private static final int DEFAULT_DISK_CACHE_SEGMENT_SIZE_BYTES = (int) (64 * MB);
 
   /** Returns whether the Parquet footer cache is enabled. */
   public abstract boolean isFooterCacheEnabled();
@@ -47,6 +76,18 @@ public abstract class GcsCacheOptions {
   /** Returns the maximum capacity (in bytes) to hold in the Parquet footer cache. */
   public abstract long getFooterCacheMaxSizeBytes();
 
+  /**
+   * Returns the local file that the Parquet footer cache is saved to when the file system is
+   * closed, and loaded from when it is created.
+   */
+  public abstract Optional<String> getFooterCacheSnapshotPath();
+
+  /**
+   * Returns how often (in seconds) the Parquet footer cache is also saved while the file system is
+   * open, or 0 to save it only when the file system is closed.
+   */
+  public abstract int getFooterCacheSnapshotIntervalSeconds();
+
   /** Returns the maximum capacity (in bytes) to hold in the small object cache. */
   /** Returns whether the small object cache is enabled. */
   public abstract boolean isSmallObjectCacheEnabled();
@@ -54,6 +95,46 @@ public abstract class GcsCacheOptions {
   /** Returns the maximum capacity (in bytes) to hold in the small object cache. */
   public abstract long getSmallObjectCacheMaxSizeBytes();
 
+  /** Returns whether the cache of fixed-size blocks of object data is enabled. */
+  public abstract boolean isBlockCacheEnabled();
+
+  /** Returns the maximum capacity (in bytes) to hold in the block cache. */
+  public abstract long getBlockCacheMaxSizeBytes();
+
+  /**
+   * Returns the size (in bytes) of the blocks that the block cache holds. Reads served through the
+   * block cache fetch whole blocks.
+   */
+  public abstract int getBlockCacheBlockSizeBytes();
+
+  /** Returns whether cached object data is kept in off-heap memory instead of on the heap. */
+  public abstract boolean isOffHeapCacheEnabled();
+
+  /**
+   * Returns the size (in bytes) of the slabs of off-heap memory that cached object data is copied
+   * into when the off-heap cache is enabled.
+   */
+  public abstract int getOffHeapCacheSlabSizeBytes();
+
+  /**
+   * Returns whether values evicted from the footer, small object and block caches are kept in
+   * memory-mapped files on a local disk. Values read from disk are returned as heap copies verified
+   * against a checksum, not as views of the mapped files, as the files are reused.
+   */
+  public abstract boolean isDiskCacheEnabled();
+
+  /** Returns the local directory that the disk cache creates its segment files in. */
+  public abstract Optional<String> getDiskCachePath();
+
+  /**
+   * Returns the maximum capacity (in bytes) of the disk cache, which the enabled caches share in
+   * proportion to their in-memory sizes.
+   */
+  public abstract long getDiskCacheMaxSizeBytes();
+
+  /** Returns the size (in bytes) of the segment files that the disk cache allocates. */
+  public abstract int getDiskCacheSegmentSizeBytes();
+
   /**
    * Returns a builder for {@link GcsCacheOptions} with the same property values as this instance.
    */
@@ -64,8 +145,17 @@ public abstract class GcsCacheOptions {
     return new AutoValue_GcsCacheOptions.Builder()
         .setFooterCacheEnabled(DEFAULT_FOOTER_CACHE_ENABLED)
         .setFooterCacheMaxSizeBytes(DEFAULT_FOOTER_CACHE_MAX_SIZE_BYTES)
+        .setFooterCacheSnapshotIntervalSeconds(DEFAULT_FOOTER_CACHE_SNAPSHOT_INTERVAL_SECONDS)
         .setSmallObjectCacheEnabled(DEFAULT_SMALL_OBJECT_CACHE_ENABLED)
-        .setSmallObjectCacheMaxSizeBytes(DEFAULT_SMALL_OBJECT_CACHE_MAX_SIZE_BYTES);
+        .setSmallObjectCacheMaxSizeBytes(DEFAULT_SMALL_OBJECT_CACHE_MAX_SIZE_BYTES)
+        .setBlockCacheEnabled(DEFAULT_BLOCK_CACHE_ENABLED)
+        .setBlockCacheMaxSizeBytes(DEFAULT_BLOCK_CACHE_MAX_SIZE_BYTES)
+        .setBlockCacheBlockSizeBytes(DEFAULT_BLOCK_CACHE_BLOCK_SIZE_BYTES)
+        .setOffHeapCacheEnabled(DEFAULT_OFF_HEAP_CACHE_ENABLED)
+        .setOffHeapCacheSlabSizeBytes(DEFAULT_OFF_HEAP_CACHE_SLAB_SIZE_BYTES)
+        .setDiskCacheEnabled(DEFAULT_DISK_CACHE_ENABLED)
+        .setDiskCacheMaxSizeBytes(DEFAULT_DISK_CACHE_MAX_SIZE_BYTES)
+        .setDiskCacheSegmentSizeBytes(DEFAULT_DISK_CACHE_SEGMENT_SIZE_BYTES);
   }
 
   /** Creates a {@link GcsCacheOptions} instance from a map of configuration options. */
@@ -80,6 +170,15 @@ public abstract class GcsCacheOptions {
       optionsBuilder.setFooterCacheMaxSizeBytes(
           Long.parseLong(analyticsCoreOptions.get(prefix + FOOTER_CACHE_MAX_SIZE_BYTES_KEY)));
     }
+    if (analyticsCoreOptions.containsKey(prefix + FOOTER_CACHE_SNAPSHOT_PATH_KEY)) {
+      optionsBuilder.setFooterCacheSnapshotPath(
+          analyticsCoreOptions.get(prefix + FOOTER_CACHE_SNAPSHOT_PATH_KEY));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + FOOTER_CACHE_SNAPSHOT_INTERVAL_SECONDS_KEY)) {
+      optionsBuilder.setFooterCacheSnapshotIntervalSeconds(
+          Integer.parseInt(
+              analyticsCoreOptions.get(prefix + FOOTER_CACHE_SNAPSHOT_INTERVAL_SECONDS_KEY)));
+    }
     if (analyticsCoreOptions.containsKey(prefix + SMALL_FILE_CACHE_ENABLED_KEY)) {
       optionsBuilder.setSmallObjectCacheEnabled(
           Boolean.parseBoolean(analyticsCoreOptions.get(prefix + SMALL_FILE_CACHE_ENABLED_KEY)));
@@ -88,6 +187,41 @@ public abstract class GcsCacheOptions {
       optionsBuilder.setSmallObjectCacheMaxSizeBytes(
           Long.parseLong(analyticsCoreOptions.get(prefix + SMALL_FILE_CACHE_MAX_SIZE_BYTES_KEY)));
     }
+    if (analyticsCoreOptions.containsKey(prefix + BLOCK_CACHE_ENABLED_KEY)) {
+      optionsBuilder.setBlockCacheEnabled(
+          Boolean.parseBoolean(analyticsCoreOptions.get(prefix + BLOCK_CACHE_ENABLED_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + BLOCK_CACHE_MAX_SIZE_BYTES_KEY)) {
+      optionsBuilder.setBlockCacheMaxSizeBytes(
+          Long.parseLong(analyticsCoreOptions.get(prefix + BLOCK_CACHE_MAX_SIZE_BYTES_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + BLOCK_CACHE_BLOCK_SIZE_BYTES_KEY)) {
+      optionsBuilder.setBlockCacheBlockSizeBytes(
+          Integer.parseInt(analyticsCoreOptions.get(prefix + BLOCK_CACHE_BLOCK_SIZE_BYTES_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + OFF_HEAP_CACHE_ENABLED_KEY)) {
+      optionsBuilder.setOffHeapCacheEnabled(
+          Boolean.parseBoolean(analyticsCoreOptions.get(prefix + OFF_HEAP_CACHE_ENABLED_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + OFF_HEAP_CACHE_SLAB_SIZE_BYTES_KEY)) {
+      optionsBuilder.setOffHeapCacheSlabSizeBytes(
+          Integer.parseInt(analyticsCoreOptions.get(prefix + OFF_HEAP_CACHE_SLAB_SIZE_BYTES_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + DISK_CACHE_ENABLED_KEY)) {
+      optionsBuilder.setDiskCacheEnabled(
+          Boolean.parseBoolean(analyticsCoreOptions.get(prefix + DISK_CACHE_ENABLED_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + DISK_CACHE_PATH_KEY)) {
+      optionsBuilder.setDiskCachePath(analyticsCoreOptions.get(prefix + DISK_CACHE_PATH_KEY));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + DISK_CACHE_MAX_SIZE_BYTES_KEY)) {
+      optionsBuilder.setDiskCacheMaxSizeBytes(
+          Long.parseLong(analyticsCoreOptions.get(prefix + DISK_CACHE_MAX_SIZE_BYTES_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + DISK_CACHE_SEGMENT_SIZE_BYTES_KEY)) {
+      optionsBuilder.setDiskCacheSegmentSizeBytes(
+          Integer.parseInt(analyticsCoreOptions.get(prefix + DISK_CACHE_SEGMENT_SIZE_BYTES_KEY)));
+    }
     return optionsBuilder.build();
   }
 
@@ -100,6 +234,16 @@ public abstract class GcsCacheOptions {
     /** Sets the maximum capacity (in bytes) to hold in the Parquet footer cache. */
     public abstract Builder setFooterCacheMaxSizeBytes(long footerCacheMaxSizeBytes);
 
+    /** Sets the local file that the Parquet footer cache is saved to and loaded from. */
+    public abstract Builder setFooterCacheSnapshotPath(String footerCacheSnapshotPath);
+
+    /**
+     * Sets how often (in seconds) the Parquet footer cache is saved while the file system is open,
+     * or 0 to save it only when the file system is closed.
+     */
+    public abstract Builder setFooterCacheSnapshotIntervalSeconds(
+        int footerCacheSnapshotIntervalSeconds);
+
     /** Sets the maximum capacity (in bytes) to hold in the small object cache. */
     /** Sets whether the small object cache is enabled. */
     public abstract Builder setSmallObjectCacheEnabled(boolean smallObjectCacheEnabled);
@@ -107,13 +251,44 @@ public abstract class GcsCacheOptions {
     /** Sets the maximum capacity (in bytes) to hold in the small object cache. */
     public abstract Builder setSmallObjectCacheMaxSizeBytes(long smallObjectCacheMaxSizeBytes);
 
+    /** Sets whether the cache of fixed-size blocks of object data is enabled. */
+    public abstract Builder setBlockCacheEnabled(boolean blockCacheEnabled);
+
+    /** Sets the maximum capacity (in bytes) to hold in the block cache. */
+    public abstract Builder setBlockCacheMaxSizeBytes(long blockCacheMaxSizeBytes);
+
+    /** Sets the size (in bytes) of the blocks that the block cache holds. */
+    public abstract Builder setBlockCacheBlockSizeBytes(int blockCacheBlockSizeBytes);
+
+    /** Sets whether cached object data is kept in off-heap memory instead of on the heap. */
+    public abstract Builder setOffHeapCacheEnabled(boolean offHeapCacheEnabled);
+
+    /** Sets the size (in bytes) of the slabs of off-heap memory used by the off-heap cache. */
+    public abstract Builder setOffHeapCacheSlabSizeBytes(int offHeapCacheSlabSizeBytes);
+
+    /** Sets whether values evicted from the in-memory caches are kept on a local disk. */
+    public abstract Builder setDiskCacheEnabled(boolean diskCacheEnabled);
+
+    /** Sets the local directory that the disk cache creates its segment files in. */
+    public abstract Builder setDiskCachePath(String diskCachePath);
+
+    /** Sets the maximum capacity (in bytes) of the disk cache, shared by the enabled caches. */
+    public abstract Builder setDiskCacheMaxSizeBytes(long diskCacheMaxSizeBytes);
+
+    /** Sets the size (in bytes) of the segment files that the disk cache allocates. */
+    public abstract Builder setDiskCacheSegmentSizeBytes(int diskCacheSegmentSizeBytes);
+
     abstract GcsCacheOptions autoBuild();
 
     /**
      * Builds the {@link GcsCacheOptions} instance.
      *
-     * @throws IllegalArgumentException if {@code footerCacheMaxSizeBytes} is non-positive when
-     *     {@code footerCacheEnabled} is {@code true}.
+     * @throws IllegalArgumentException if {@code footerCacheMaxSizeBytes} is non-positive or
+     *     {@code footerCacheSnapshotIntervalSeconds} is negative when {@code footerCacheEnabled} is
+     *     {@code true}, if the block cache sizes are invalid when
+     *     {@code blockCacheEnabled} is {@code true}, if {@code offHeapCacheSlabSizeBytes} is
+     *     non-positive when {@code offHeapCacheEnabled} is {@code true}, or if the disk cache path
+     *     or sizes are invalid when {@code diskCacheEnabled} is {@code true}.
      */
     public GcsCacheOptions build() {
       GcsCacheOptions options = autoBuild();
@@ -121,12 +296,37 @@ public abstract class GcsCacheOptions {
         checkArgument(
             options.getFooterCacheMaxSizeBytes() > 0,
             "footerCacheMaxSizeBytes must be positive when footerCacheEnabled is true");
+        checkArgument(
+            options.getFooterCacheSnapshotIntervalSeconds() >= 0,
+            "footerCacheSnapshotIntervalSeconds must not be negative");
       }
       if (options.isSmallObjectCacheEnabled()) {
         checkArgument(
             options.getSmallObjectCacheMaxSizeBytes() > 0,
             "smallObjectCacheMaxSizeBytes must be positive when smallObjectCacheEnabled is true");
       }
+      if (options.isBlockCacheEnabled()) {
+        checkArgument(
+            options.getBlockCacheBlockSizeBytes() > 0
+                && options.getBlockCacheMaxSizeBytes() >= options.getBlockCacheBlockSizeBytes(),
+            "blockCacheBlockSizeBytes must be positive and at most blockCacheMaxSizeBytes when"
+                + " blockCacheEnabled is true");
+      }
+      if (options.isOffHeapCacheEnabled()) {
+        checkArgument(
+            options.getOffHeapCacheSlabSizeBytes() > 0,
+            "offHeapCacheSlabSizeBytes must be positive when offHeapCacheEnabled is true");
+      }
+      if (options.isDiskCacheEnabled()) {
+        checkArgument(
+            options.getDiskCachePath().filter(path -> !path.isEmpty()).isPresent(),
+            "diskCachePath must be set when diskCacheEnabled is true");
+        checkArgument(
+            options.getDiskCacheSegmentSizeBytes() > 0
+                && options.getDiskCacheMaxSizeBytes() >= options.getDiskCacheSegmentSizeBytes(),
+            "diskCacheSegmentSizeBytes must be positive and at most diskCacheMaxSizeBytes when"
+                + " diskCacheEnabled is true");
+      }
       return options;
     }
   }
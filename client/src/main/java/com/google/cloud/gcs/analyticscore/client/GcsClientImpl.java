@@ -47,30 +47,69 @@ class GcsClientImpl implements GcsClient {
   private final GcsClientOptions clientOptions;
   private Supplier<ExecutorService> executorServiceSupplier;
   private final Telemetry telemetry;
+  private final RangeLatencyTracker rangeLatencyTracker = new RangeLatencyTracker();
+  private final SeekCostEstimator seekCostEstimator;
+  private final VectoredReadScheduler vectoredReadScheduler;
+  private final AnalyticsCacheManager cacheManager;
 
   GcsClientImpl(
       Credentials credentials,
       GcsClientOptions clientOptions,
       Supplier<ExecutorService> executorServiceSupplier,
       Telemetry telemetry) {
-    this(Optional.of(credentials), clientOptions, executorServiceSupplier, telemetry);
+    this(
+        Optional.of(credentials),
+        clientOptions,
+        executorServiceSupplier,
+        telemetry,
+        new AnalyticsCacheManager(GcsCacheOptions.builder().build()));
   }
 
   GcsClientImpl(
       GcsClientOptions clientOptions,
       Supplier<ExecutorService> executorServiceSupplier,
       Telemetry telemetry) {
-    this(Optional.empty(), clientOptions, executorServiceSupplier, telemetry);
+    this(
+        Optional.empty(),
+        clientOptions,
+        executorServiceSupplier,
+        telemetry,
+        new AnalyticsCacheManager(GcsCacheOptions.builder().build()));
+  }
+
+  GcsClientImpl(
+      Credentials credentials,
+      GcsClientOptions clientOptions,
+      Supplier<ExecutorService> executorServiceSupplier,
+      Telemetry telemetry,
+      AnalyticsCacheManager cacheManager) {
+    this(Optional.of(credentials), clientOptions, executorServiceSupplier, telemetry, cacheManager);
+  }
+
+  GcsClientImpl(
+      GcsClientOptions clientOptions,
+      Supplier<ExecutorService> executorServiceSupplier,
+      Telemetry telemetry,
+      AnalyticsCacheManager cacheManager) {
+    this(Optional.empty(), clientOptions, executorServiceSupplier, telemetry, cacheManager);
   }
 
   private GcsClientImpl(
       Optional<Credentials> credentials,
       GcsClientOptions clientOptions,
       Supplier<ExecutorService> executorServiceSupplier,
-      Telemetry telemetry) {
+      Telemetry telemetry,
+      AnalyticsCacheManager cacheManager) {
     this.clientOptions = clientOptions;
     this.executorServiceSupplier = executorServiceSupplier;
     this.telemetry = telemetry;
+    this.cacheManager = checkNotNull(cacheManager, "cacheManager cannot be null");
+    this.seekCostEstimator = new SeekCostEstimator(telemetry);
+    this.vectoredReadScheduler =
+        new VectoredReadScheduler(
+            executorServiceSupplier,
+            clientOptions.getGcsReadOptions().getGcsVectoredReadOptions(),
+            telemetry);
     this.storage = createStorage(credentials);
   }
 
@@ -84,7 +123,15 @@ class GcsClientImpl implements GcsClient {
         "Expected GCS object to be provided. But got: " + gcsItemInfo.getItemId());
 
     return new GcsReadChannel(
-        storage, gcsItemInfo, readOptions, executorServiceSupplier, telemetry);
+        storage,
+        gcsItemInfo,
+        readOptions,
+        executorServiceSupplier,
+        telemetry,
+        rangeLatencyTracker,
+        seekCostEstimator,
+        vectoredReadScheduler,
+        cacheManager);
   }
 
   @Override
@@ -92,7 +139,16 @@ class GcsClientImpl implements GcsClient {
       GcsItemId gcsItemId, GcsReadOptions readOptions) throws IOException {
     checkNotNull(gcsItemId, "gcsItemId should not be null");
     checkNotNull(readOptions, "readOptions should not be null");
-    return new GcsReadChannel(storage, gcsItemId, readOptions, executorServiceSupplier, telemetry) {
+    return new GcsReadChannel(
+        storage,
+        gcsItemId,
+        readOptions,
+        executorServiceSupplier,
+        telemetry,
+        rangeLatencyTracker,
+        seekCostEstimator,
+        vectoredReadScheduler,
+        cacheManager) {
       @Override
       public long size() throws IOException {
         if (itemInfo == null) {
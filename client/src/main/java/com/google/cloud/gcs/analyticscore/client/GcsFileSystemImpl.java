@@ -36,6 +36,7 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.IOException;
 import java.net.URI;
 import java.util.Collections;
+import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
@@ -54,7 +55,8 @@ public class GcsFileSystemImpl implements GcsFileSystem {
     this.fileSystemOptions = fileSystemOptions;
     this.executorServiceSupplier = initializeExecutionServiceSupplier();
     this.telemetry = createTelemetry(fileSystemOptions.getAnalyticsCoreTelemetryOptions());
-    this.cacheManager = new AnalyticsCacheManager(fileSystemOptions.getGcsCacheOptions());
+    this.cacheManager =
+        new AnalyticsCacheManager(fileSystemOptions.getGcsCacheOptions(), telemetry);
     this.gcsClient =
         telemetry.measure(
             GcsAnalyticsCoreTelemetryConstants.Operation.GCS_CLIENT_CREATE.name(),
@@ -62,14 +64,18 @@ public class GcsFileSystemImpl implements GcsFileSystem {
             Collections.emptyMap(),
             recorder ->
                 new GcsClientImpl(
-                    fileSystemOptions.getGcsClientOptions(), executorServiceSupplier, telemetry));
+                    fileSystemOptions.getGcsClientOptions(),
+                    executorServiceSupplier,
+                    telemetry,
+                    cacheManager));
   }
 
   public GcsFileSystemImpl(Credentials credentials, GcsFileSystemOptions fileSystemOptions) {
     this.fileSystemOptions = fileSystemOptions;
     this.executorServiceSupplier = initializeExecutionServiceSupplier();
     this.telemetry = createTelemetry(fileSystemOptions.getAnalyticsCoreTelemetryOptions());
-    this.cacheManager = new AnalyticsCacheManager(fileSystemOptions.getGcsCacheOptions());
+    this.cacheManager =
+        new AnalyticsCacheManager(fileSystemOptions.getGcsCacheOptions(), telemetry);
     this.gcsClient =
         telemetry.measure(
             GcsAnalyticsCoreTelemetryConstants.Operation.GCS_CLIENT_CREATE.name(),
@@ -80,7 +86,8 @@ public class GcsFileSystemImpl implements GcsFileSystem {
                     credentials,
                     fileSystemOptions.getGcsClientOptions(),
                     executorServiceSupplier,
-                    telemetry));
+                    telemetry,
+                    cacheManager));
   }
 
   @VisibleForTesting
@@ -175,6 +182,7 @@ public class GcsFileSystemImpl implements GcsFileSystem {
       Thread.currentThread().interrupt();
     }
     gcsClient.close();
+    cacheManager.close();
     telemetry.close();
   }
 
@@ -198,16 +206,24 @@ public class GcsFileSystemImpl implements GcsFileSystem {
   @VisibleForTesting
   Supplier<ExecutorService> initializeExecutionServiceSupplier() {
     return Suppliers.memoize(
-        () ->
-            new ThreadPoolExecutor(
-                fileSystemOptions.getReadThreadCount(),
-                fileSystemOptions.getReadThreadCount(),
-                0L,
-                TimeUnit.MILLISECONDS,
-                new LinkedBlockingQueue<Runnable>(),
-                new ThreadFactoryBuilder()
-                    .setNameFormat("gcs-filesystem-range-pool-%d")
-                    .setDaemon(true)
-                    .build()));
+        () -> {
+          if (fileSystemOptions.isVirtualThreadsEnabled()) {
+            Optional<ExecutorService> virtualThreadExecutor =
+                VirtualThreadExecutor.create(fileSystemOptions.getVirtualThreadMaxConcurrency());
+            if (virtualThreadExecutor.isPresent()) {
+              return virtualThreadExecutor.get();
+            }
+          }
+          return new ThreadPoolExecutor(
+              fileSystemOptions.getReadThreadCount(),
+              fileSystemOptions.getReadThreadCount(),
+              0L,
+              TimeUnit.MILLISECONDS,
+              new LinkedBlockingQueue<Runnable>(),
+              new ThreadFactoryBuilder()
+                  .setNameFormat("gcs-filesystem-range-pool-%d")
+                  .setDaemon(true)
+                  .build());
+        });
   }
 }
@@ -24,6 +24,10 @@ import java.util.Map;
 public abstract class GcsFileSystemOptions {
 
   private static final String READ_THREAD_COUNT_KEY = "analytics-core.read.thread.count";
+  private static final String VIRTUAL_THREADS_ENABLED_KEY =
+      "analytics-core.read.thread.virtual.enabled";
+  private static final String VIRTUAL_THREAD_MAX_CONCURRENCY_KEY =
+      "analytics-core.read.thread.virtual.max-concurrency";
   private static final String CLIENT_TYPE_KEY = "client.type";
 
   /** Cloud Storage client to use. */
@@ -34,6 +38,16 @@ public abstract class GcsFileSystemOptions {
 
   public abstract int getReadThreadCount();
 
+  /**
+   * Whether range reads run on virtual threads, falling back to a pool of {@link
+   * #getReadThreadCount()} platform threads on JVMs without virtual threads. Virtual threads need
+   * a JDK 21 or later runtime, even though the library is built for Java 11.
+   */
+  public abstract boolean isVirtualThreadsEnabled();
+
+  /** The max number of range reads running at a time on virtual threads. */
+  public abstract int getVirtualThreadMaxConcurrency();
+
   public abstract ClientType getClientType();
 
   public abstract GcsClientOptions getGcsClientOptions();
@@ -48,6 +62,8 @@ public abstract class GcsFileSystemOptions {
   public static Builder builder() {
     return new AutoValue_GcsFileSystemOptions.Builder()
         .setReadThreadCount(16)
+        .setVirtualThreadsEnabled(false)
+        .setVirtualThreadMaxConcurrency(256)
         .setClientType(ClientType.HTTP_CLIENT)
         .setGcsClientOptions(GcsClientOptions.builder().build())
         .setGcsCacheOptions(GcsCacheOptions.builder().build())
@@ -61,6 +77,14 @@ public abstract class GcsFileSystemOptions {
       optionsBuilder.setReadThreadCount(
           Integer.parseInt(analyticsCoreOptions.get(prefix + READ_THREAD_COUNT_KEY)));
     }
+    if (analyticsCoreOptions.containsKey(prefix + VIRTUAL_THREADS_ENABLED_KEY)) {
+      optionsBuilder.setVirtualThreadsEnabled(
+          Boolean.parseBoolean(analyticsCoreOptions.get(prefix + VIRTUAL_THREADS_ENABLED_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + VIRTUAL_THREAD_MAX_CONCURRENCY_KEY)) {
+      optionsBuilder.setVirtualThreadMaxConcurrency(
+          Integer.parseInt(analyticsCoreOptions.get(prefix + VIRTUAL_THREAD_MAX_CONCURRENCY_KEY)));
+    }
     if (analyticsCoreOptions.containsKey(prefix + CLIENT_TYPE_KEY)) {
       optionsBuilder.setClientType(
           ClientType.valueOf(analyticsCoreOptions.get(prefix + CLIENT_TYPE_KEY)));
@@ -84,6 +108,10 @@ public abstract class GcsFileSystemOptions {
 
     public abstract Builder setReadThreadCount(int readThreadCount);
 
+    public abstract Builder setVirtualThreadsEnabled(boolean virtualThreadsEnabled);
+
+    public abstract Builder setVirtualThreadMaxConcurrency(int virtualThreadMaxConcurrency);
+
     public abstract Builder setGcsClientOptions(GcsClientOptions gcsClientOptions);
 
     /** Sets the configuration options for the GCS caching layer. */
@@ -21,6 +21,7 @@ import com.google.cloud.ReadChannel;
 import com.google.cloud.gcs.analyticscore.common.GcsAnalyticsCoreTelemetryConstants;
 import com.google.cloud.gcs.analyticscore.common.GcsAnalyticsCoreTelemetryConstants.Attribute;
 import com.google.cloud.gcs.analyticscore.common.GcsAnalyticsCoreTelemetryConstants.Metric;
+import com.google.cloud.gcs.analyticscore.common.telemetry.MetricsRecorder;
 import com.google.cloud.gcs.analyticscore.common.telemetry.Operation;
 import com.google.cloud.gcs.analyticscore.common.telemetry.Telemetry;
 import com.google.cloud.storage.Storage;
@@ -29,12 +30,24 @@ import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import java.io.EOFException;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
 import java.nio.channels.SeekableByteChannel;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.IntFunction;
 
 class GcsReadChannel implements VectoredSeekableByteChannel {
@@ -44,10 +57,20 @@ class GcsReadChannel implements VectoredSeekableByteChannel {
   protected GcsItemId itemId;
   private long gcsReadChannelPosition = 0;
   private Supplier<ExecutorService> executorServiceSupplier;
+  // Gap bytes between scattered child ranges are read into a buffer of at most this size.
+  private static final int DISCARD_BUFFER_SIZE = 64 * 1024;
   private static final ImmutableMap<String, String> COMMON_ATTRIBUTES =
       ImmutableMap.of(Attribute.CLASS_NAME.name(), GcsReadChannel.class.getName());
   private final Telemetry telemetry;
+  private final RangeLatencyTracker rangeLatencyTracker;
+  private final SeekCostEstimator seekCostEstimator;
+  private final VectoredReadScheduler vectoredReadScheduler;
+  private final AdaptiveMergePolicy adaptiveMergePolicy;
   private final ReadStrategy strategy;
+  private final LookBehindBuffer lookBehindBuffer;
+  private final AnalyticsCacheManager cacheManager;
+  private BlockCacheReader blockCacheReader;
+  private final Set<CombinedRangeRead> activeCombinedRangeReads = ConcurrentHashMap.newKeySet();
   private boolean isGcsReadChannelOpen = true;
 
   GcsReadChannel(
@@ -57,13 +80,41 @@ class GcsReadChannel implements VectoredSeekableByteChannel {
       Supplier<ExecutorService> executorServiceSupplier,
       Telemetry telemetry)
       throws IOException {
+    this(
+        storage,
+        itemInfo,
+        readOptions,
+        executorServiceSupplier,
+        telemetry,
+        new RangeLatencyTracker(),
+        new SeekCostEstimator(telemetry),
+        new VectoredReadScheduler(
+            executorServiceSupplier, readOptions.getGcsVectoredReadOptions(), telemetry),
+        new AnalyticsCacheManager(GcsCacheOptions.builder().build()));
+  }
+
+  GcsReadChannel(
+      Storage storage,
+      GcsItemInfo itemInfo,
+      GcsReadOptions readOptions,
+      Supplier<ExecutorService> executorServiceSupplier,
+      Telemetry telemetry,
+      RangeLatencyTracker rangeLatencyTracker,
+      SeekCostEstimator seekCostEstimator,
+      VectoredReadScheduler vectoredReadScheduler,
+      AnalyticsCacheManager cacheManager)
+      throws IOException {
     this(
         storage,
         itemInfo,
         checkNotNull(itemInfo, "Item info cannot be null").getItemId(),
         readOptions,
         executorServiceSupplier,
-        telemetry);
+        telemetry,
+        rangeLatencyTracker,
+        seekCostEstimator,
+        vectoredReadScheduler,
+        cacheManager);
   }
 
   GcsReadChannel(
@@ -73,7 +124,41 @@ class GcsReadChannel implements VectoredSeekableByteChannel {
       Supplier<ExecutorService> executorServiceSupplier,
       Telemetry telemetry)
       throws IOException {
-    this(storage, null, itemId, readOptions, executorServiceSupplier, telemetry);
+    this(
+        storage,
+        itemId,
+        readOptions,
+        executorServiceSupplier,
+        telemetry,
+        new RangeLatencyTracker(),
+        new SeekCostEstimator(telemetry),
+        new VectoredReadScheduler(
+            executorServiceSupplier, readOptions.getGcsVectoredReadOptions(), telemetry),
+        new AnalyticsCacheManager(GcsCacheOptions.builder().build()));
+  }
+
+  GcsReadChannel(
+      Storage storage,
+      GcsItemId itemId,
+      GcsReadOptions readOptions,
+      Supplier<ExecutorService> executorServiceSupplier,
+      Telemetry telemetry,
+      RangeLatencyTracker rangeLatencyTracker,
+      SeekCostEstimator seekCostEstimator,
+      VectoredReadScheduler vectoredReadScheduler,
+      AnalyticsCacheManager cacheManager)
+      throws IOException {
+    this(
+        storage,
+        null,
+        itemId,
+        readOptions,
+        executorServiceSupplier,
+        telemetry,
+        rangeLatencyTracker,
+        seekCostEstimator,
+        vectoredReadScheduler,
+        cacheManager);
   }
 
   private GcsReadChannel(
@@ -82,25 +167,50 @@ class GcsReadChannel implements VectoredSeekableByteChannel {
       GcsItemId itemId,
       GcsReadOptions readOptions,
       Supplier<ExecutorService> executorServiceSupplier,
-      Telemetry telemetry)
+      Telemetry telemetry,
+      RangeLatencyTracker rangeLatencyTracker,
+      SeekCostEstimator seekCostEstimator,
+      VectoredReadScheduler vectoredReadScheduler,
+      AnalyticsCacheManager cacheManager)
       throws IOException {
     checkNotNull(storage, "Storage instance cannot be null");
     checkNotNull(itemId, "Item id cannot be null");
     checkNotNull(executorServiceSupplier, "Thread pool supplier must not be null");
     checkNotNull(telemetry, "Telemetry instance cannot be null");
+    checkNotNull(rangeLatencyTracker, "Range latency tracker cannot be null");
+    checkNotNull(seekCostEstimator, "Seek cost estimator cannot be null");
+    checkNotNull(vectoredReadScheduler, "Vectored read scheduler cannot be null");
+    checkNotNull(cacheManager, "Cache manager cannot be null");
     this.storage = storage;
     this.readOptions = readOptions;
     this.itemInfo = itemInfo;
     this.itemId = itemId;
     this.executorServiceSupplier = executorServiceSupplier;
     this.telemetry = telemetry;
+    this.rangeLatencyTracker = rangeLatencyTracker;
+    this.seekCostEstimator = seekCostEstimator;
+    this.vectoredReadScheduler = vectoredReadScheduler;
+    this.cacheManager = cacheManager;
+    this.adaptiveMergePolicy = new AdaptiveMergePolicy(seekCostEstimator, telemetry);
     this.strategy = createReadStrategy(storage, itemId, readOptions, itemInfo);
+    this.lookBehindBuffer =
+        readOptions.getLookBehindSize() > 0
+            ? new LookBehindBuffer(readOptions.getLookBehindSize())
+            : null;
+    strategy.setLookBehindBuffer(lookBehindBuffer);
   }
 
   protected ReadStrategy createReadStrategy(
       Storage storage, GcsItemId itemId, GcsReadOptions readOptions, GcsItemInfo itemInfo)
       throws IOException {
-    return new AdaptiveReadStrategy(storage, itemId, readOptions, itemInfo);
+    return new AdaptiveReadStrategy(
+        storage,
+        itemId,
+        readOptions,
+        itemInfo,
+        executorServiceSupplier,
+        AccessPatternHistory.getInstance(),
+        seekCostEstimator);
   }
 
   @Override
@@ -122,8 +232,27 @@ class GcsReadChannel implements VectoredSeekableByteChannel {
   }
 
   private int readNextChunk(ByteBuffer dst) throws IOException {
+    int bytesFromLookBehind = readFromLookBehindBuffer(dst);
+    if (bytesFromLookBehind > 0) {
+      return bytesFromLookBehind;
+    }
+    BlockCacheReader reader = getBlockCacheReader();
+    if (reader != null) {
+      int bytesFromBlockCache = reader.read(gcsReadChannelPosition, dst, this::loadBlock);
+      if (bytesFromBlockCache > 0) {
+        gcsReadChannelPosition += bytesFromBlockCache;
+        return bytesFromBlockCache;
+      }
+    }
     ReadChannel sdkChannel = strategy.getReadChannel(gcsReadChannelPosition, dst.remaining());
+    int startPosition = dst.position();
     int bytesRead = sdkChannel.read(dst);
+    if (bytesRead > 0 && lookBehindBuffer != null) {
+      ByteBuffer consumed = dst.duplicate();
+      consumed.position(startPosition);
+      consumed.limit(startPosition + bytesRead);
+      lookBehindBuffer.append(gcsReadChannelPosition, consumed);
+    }
     if (bytesRead >= 0) {
       gcsReadChannelPosition += bytesRead;
       strategy.position(gcsReadChannelPosition);
@@ -135,6 +264,62 @@ class GcsReadChannel implements VectoredSeekableByteChannel {
     throw createUnexpectedEofException();
   }
 
+  private int readFromLookBehindBuffer(ByteBuffer dst) {
+    if (lookBehindBuffer == null || gcsReadChannelPosition >= lookBehindBuffer.getEndPosition()) {
+      return 0;
+    }
+    // Reads behind the strategy's position are served from memory without moving it.
+    int bytesRead = lookBehindBuffer.read(gcsReadChannelPosition, dst);
+    telemetry.recordMetric(
+        bytesRead > 0 ? Metric.LOOK_BEHIND_HIT : Metric.LOOK_BEHIND_MISS, 1, COMMON_ATTRIBUTES);
+    gcsReadChannelPosition += bytesRead;
+
+    return bytesRead;
+  }
+
+  /**
+   * Returns the reader of the block cache for this object, or {@code null} if the block cache is
+   * disabled or the size and generation of the object are not known yet.
+   */
+  private BlockCacheReader getBlockCacheReader() {
+    if (blockCacheReader == null
+        && cacheManager.isBlockCacheEnabled()
+        && itemInfo != null
+        && itemInfo.getContentGeneration().isPresent()) {
+      blockCacheReader =
+          new BlockCacheReader(
+              cacheManager,
+              itemId,
+              itemInfo.getContentGeneration().get(),
+              itemInfo.getSize(),
+              telemetry,
+              COMMON_ATTRIBUTES);
+    }
+
+    return blockCacheReader;
+  }
+
+  // Blocks are read through the strategy, so that sequential blocks share one request.
+  private ByteBuffer loadBlock(long blockStart, int blockLength) throws IOException {
+    ByteBuffer block = readOptions.allocateBuffer(blockLength);
+    long position = blockStart;
+    while (block.hasRemaining()) {
+      ReadChannel sdkChannel = strategy.getReadChannel(position, block.remaining());
+      int bytesRead = sdkChannel.read(block);
+      if (bytesRead < 0) {
+        throw new EOFException(
+            String.format(
+                "Reached end of stream at offset %d while reading block at offset %d of %s",
+                position, blockStart, itemId));
+      }
+      position += bytesRead;
+      strategy.position(position);
+    }
+    block.flip();
+
+    return block;
+  }
+
   private void checkChannelOpen() throws ClosedChannelException {
     if (!isOpen()) {
       throw new ClosedChannelException();
@@ -171,6 +356,11 @@ class GcsReadChannel implements VectoredSeekableByteChannel {
     return this;
   }
 
+  @Override
+  public Optional<GcsItemId> getItemId() {
+    return Optional.of(itemId);
+  }
+
   @Override
   public long size() throws IOException {
     if (null != itemInfo) {
@@ -193,6 +383,10 @@ class GcsReadChannel implements VectoredSeekableByteChannel {
   public void close() throws IOException {
     if (isGcsReadChannelOpen) {
       isGcsReadChannelOpen = false;
+      for (CombinedRangeRead combinedRangeRead : activeCombinedRangeReads) {
+        combinedRangeRead.cancel(new ClosedChannelException());
+      }
+      vectoredReadScheduler.cancel(this);
       strategy.close();
     }
   }
@@ -200,6 +394,21 @@ class GcsReadChannel implements VectoredSeekableByteChannel {
   @Override
   public void readVectored(List<GcsObjectRange> ranges, IntFunction<ByteBuffer> allocate)
       throws IOException {
+    readVectored(ranges, allocate, /* waitForQueue= */ true);
+  }
+
+  /**
+   * Starts the vectored read without waiting for space in the vectored read queue. Reads that do
+   * not fit in the queue fail their ranges.
+   */
+  @Override
+  public void readVectoredNonBlocking(
+      List<GcsObjectRange> ranges, IntFunction<ByteBuffer> allocate) throws IOException {
+    readVectored(ranges, allocate, /* waitForQueue= */ false);
+  }
+
+  private void readVectored(
+      List<GcsObjectRange> ranges, IntFunction<ByteBuffer> allocate, boolean waitForQueue) {
     Operation operation =
         Operation.builder()
             .setName(GcsAnalyticsCoreTelemetryConstants.Operation.VECTORED_READ.name())
@@ -208,75 +417,579 @@ class GcsReadChannel implements VectoredSeekableByteChannel {
             .build();
     ExecutorService executorService = executorServiceSupplier.get();
     checkNotNull(executorService, "Thread pool must not be null");
+    BlockCacheReader reader = getBlockCacheReader();
+    if (reader == null) {
+      readRanges(ranges, allocate, operation, executorService, waitForQueue);
+      return;
+    }
+    // Ranges within the object are served from cached blocks, and only missing blocks are read.
+    List<GcsObjectRange> cacheableRanges = new ArrayList<>();
+    List<GcsObjectRange> uncacheableRanges = new ArrayList<>();
+    for (GcsObjectRange range : ranges) {
+      (reader.isCacheable(range) ? cacheableRanges : uncacheableRanges).add(range);
+    }
+    readRanges(uncacheableRanges, allocate, operation, executorService, waitForQueue);
+    readRanges(
+        reader.readVectored(cacheableRanges, allocate),
+        readOptions::allocateBuffer,
+        operation,
+        executorService,
+        waitForQueue);
+  }
+
+  private void readRanges(
+      List<GcsObjectRange> ranges,
+      IntFunction<ByteBuffer> allocate,
+      Operation operation,
+      ExecutorService executorService,
+      boolean waitForQueue) {
     GcsVectoredReadOptions vectoredReadOptions = readOptions.getGcsVectoredReadOptions();
+    ImmutableList.Builder<GcsObjectRange> rangesToMerge = ImmutableList.builder();
+    List<GcsObjectRange> rangesToSplit = new ArrayList<>();
+    for (GcsObjectRange range :
+        VectoredIoUtil.deduplicateGcsObjectRanges(ImmutableList.copyOf(ranges))) {
+      if (vectoredReadOptions.isSplitEnabled()
+          && range.getLength() > vectoredReadOptions.getSplitThreshold()) {
+        rangesToSplit.add(range);
+      } else {
+        rangesToMerge.add(range);
+      }
+    }
     ImmutableList<GcsObjectCombinedRange> combinedRanges =
-        VectoredIoUtil.mergeGcsObjectRanges(
-            ImmutableList.copyOf(ranges),
-            vectoredReadOptions.getMaxMergeGap(),
-            vectoredReadOptions.getMaxMergeSize());
+        vectoredReadOptions.isAdaptiveMergeEnabled()
+            ? adaptiveMergePolicy.mergeRanges(
+                rangesToMerge.build(),
+                vectoredReadOptions,
+                getRangeReadParallelism(executorService, vectoredReadOptions))
+            : VectoredIoUtil.mergeGcsObjectRanges(
+                rangesToMerge.build(),
+                vectoredReadOptions.getMaxMergeGap(),
+                vectoredReadOptions.getMaxMergeSize());
 
     for (GcsObjectCombinedRange combinedRange : combinedRanges) {
+      submitCombinedRangeRead(combinedRange, allocate, operation, executorService, waitForQueue);
+    }
+    for (GcsObjectRange range : rangesToSplit) {
+      splitRange(
+          range,
+          allocate,
+          vectoredReadOptions.getSplitPartSize(),
+          operation,
+          executorService,
+          waitForQueue);
+    }
+  }
+
+  private void submitCombinedRangeRead(
+      GcsObjectCombinedRange combinedRange,
+      IntFunction<ByteBuffer> allocate,
+      Operation operation,
+      ExecutorService executorService,
+      boolean waitForQueue) {
+    CombinedRangeRead combinedRangeRead = new CombinedRangeRead(combinedRange);
+    activeCombinedRangeReads.add(combinedRangeRead);
+    combinedRangeRead.cancelWhenAllChildrenCancelled();
+    if (readOptions.getGcsVectoredReadOptions().isSchedulerEnabled()) {
+      Runnable read = () -> readCombinedRange(combinedRangeRead, allocate, operation);
+      try {
+        if (waitForQueue) {
+          vectoredReadScheduler.submit(this, read, combinedRangeRead::fail);
+        } else if (!vectoredReadScheduler.trySubmit(this, read, combinedRangeRead::fail)) {
+          combinedRangeRead.fail(new RejectedExecutionException("The vectored read queue is full"));
+        }
+      } catch (InterruptedIOException e) {
+        Thread.currentThread().interrupt();
+        combinedRangeRead.fail(e);
+      }
+      return;
+    }
+    combinedRangeRead.setTask(
+        executorService.submit(
+            () -> {
+              readCombinedRange(combinedRangeRead, allocate, operation);
+            }));
+  }
+
+  /**
+   * Reads a large range as parts of at most {@code partSize} bytes that are fetched in parallel,
+   * each into its own region of a single buffer allocated for the whole range. The range completes
+   * once every part has been read, and fails as soon as any part fails.
+   */
+  private void splitRange(
+      GcsObjectRange range,
+      IntFunction<ByteBuffer> allocate,
+      int partSize,
+      Operation operation,
+      ExecutorService executorService,
+      boolean waitForQueue) {
+    CompletableFuture<ByteBuffer> rangeFuture = range.getByteBufferFuture();
+    ByteBuffer allocatedBuffer;
+    try {
+      allocatedBuffer = allocate.apply(range.getLength());
+      if (allocatedBuffer == null) {
+        throw new IllegalArgumentException(
+            String.format("Buffer allocation returned null for range: %s", range));
+      }
+    } catch (RuntimeException e) {
+      rangeFuture.completeExceptionally(
+          new IOException(String.format("Error while populating range: %s", range), e));
+      return;
+    }
+    ByteBuffer dataBuffer = allocatedBuffer.slice();
+    dataBuffer.limit(range.getLength());
+    int numOfParts = (int) ((range.getLength() + (long) partSize - 1) / partSize);
+    AtomicInteger pendingParts = new AtomicInteger(numOfParts);
+    List<GcsObjectRange> parts = new ArrayList<>(numOfParts);
+    for (int partOffset = 0; partOffset < range.getLength(); partOffset += partSize) {
+      int partLength = Math.min(partSize, range.getLength() - partOffset);
+      ByteBuffer partBuffer = dataBuffer.duplicate();
+      partBuffer.position(partOffset);
+      partBuffer.limit(partOffset + partLength);
+      ByteBuffer partRegion = partBuffer.slice();
+      GcsObjectRange part =
+          GcsObjectRange.builder()
+              .setOffset(range.getOffset() + partOffset)
+              .setLength(partLength)
+              .setByteBufferFuture(new CompletableFuture<>())
+              .build();
       var unused =
-          executorService.submit(
-              () -> {
-                readCombinedRange(combinedRange, allocate, operation);
-              });
+          part.getByteBufferFuture()
+              .whenComplete(
+                  (buffer, e) -> {
+                    if (e != null) {
+                      rangeFuture.completeExceptionally(e);
+                    } else if (pendingParts.decrementAndGet() == 0) {
+                      rangeFuture.complete(dataBuffer.duplicate());
+                    }
+                  });
+      parts.add(part);
+      GcsObjectCombinedRange partRange =
+          GcsObjectCombinedRange.builder()
+              .setOffset(part.getOffset())
+              .setLength(partLength)
+              .setUnderlyingRanges(ImmutableList.of(part))
+              .build();
+      // Only the primary attempt at the part writes into its region. A hedge reads into its own
+      // buffer, which is copied into the region only if it wins, once the primary has stopped.
+      submitCombinedRangeRead(
+          partRange, size -> partRegion.duplicate(), operation, executorService, waitForQueue);
     }
+    // Remaining parts are not needed once the range is cancelled or has failed.
+    var unused =
+        rangeFuture.whenComplete(
+            (buffer, e) -> {
+              if (e != null) {
+                for (GcsObjectRange part : parts) {
+                  part.getByteBufferFuture().cancel(false);
+                }
+              }
+            });
+  }
+
+  // The number of combined range reads of this channel that can run at a time, or 0 if unknown.
+  private static int getRangeReadParallelism(
+      ExecutorService executorService, GcsVectoredReadOptions vectoredReadOptions) {
+    int parallelism = 0;
+    if (executorService instanceof ThreadPoolExecutor) {
+      parallelism = ((ThreadPoolExecutor) executorService).getMaximumPoolSize();
+    } else if (executorService instanceof VirtualThreadExecutor) {
+      parallelism = ((VirtualThreadExecutor) executorService).getMaxConcurrency();
+    }
+    if (vectoredReadOptions.isSchedulerEnabled()) {
+      int maxInFlight = vectoredReadOptions.getSchedulerMaxInFlightPerStream();
+      parallelism = parallelism > 0 ? Math.min(parallelism, maxInFlight) : maxInFlight;
+    }
+
+    return parallelism;
   }
 
   void readCombinedRange(
-      GcsObjectCombinedRange combinedObjectRange,
+      CombinedRangeRead combinedRangeRead,
       IntFunction<ByteBuffer> allocate,
       Operation operation) {
+    if (combinedRangeRead.isCancelled()) {
+      return;
+    }
+    GcsObjectCombinedRange combinedObjectRange = combinedRangeRead.combinedRange;
     telemetry.measure(
         operation,
         recorder -> {
-          ReadStrategy readStrategy =
-              new RandomReadStrategy(storage, itemId, readOptions, itemInfo);
-          try (ReadChannel channel =
-              readStrategy.getReadChannel(
-                  combinedObjectRange.getOffset(), combinedObjectRange.getLength())) {
+          try {
             validatePosition(combinedObjectRange.getOffset());
-            ByteBuffer dataBuffer = allocate.apply(combinedObjectRange.getLength());
-            if (dataBuffer == null) {
-              throw new IllegalArgumentException(
-                  String.format(
-                      "Buffer allocation returned null for combinedObjectRange: %s",
-                      combinedObjectRange));
-            }
-            int numOfBytesRead = 0;
-            while (dataBuffer.hasRemaining()) {
-              int bytesRead = channel.read(dataBuffer);
-              if (bytesRead < 0) {
-                // EOF reached.
-                break;
+            boolean isScatterRead = readOptions.getGcsVectoredReadOptions().isScatterReadEnabled();
+            // Only the primary attempt writes into buffers of the caller, in allocation order.
+            List<ByteBuffer> primaryBuffers = new ArrayList<>();
+            IntFunction<ByteBuffer> primaryAllocate =
+                size -> {
+                  ByteBuffer buffer = allocate.apply(size);
+                  if (buffer != null) {
+                    primaryBuffers.add(buffer);
+                  }
+                  return buffer;
+                };
+            HedgedRangeRead rangeRead =
+                new HedgedRangeRead(
+                    attempt -> {
+                      if (attempt.isHedge()) {
+                        return fetchCombinedRange(
+                            combinedObjectRange, readOptions::allocateBuffer, recorder, attempt);
+                      }
+                      return isScatterRead
+                          ? scatterCombinedRange(
+                              combinedObjectRange, primaryAllocate, recorder, attempt)
+                          : fetchCombinedRange(
+                              combinedObjectRange, primaryAllocate, recorder, attempt);
+                    },
+                    rangeLatencyTracker,
+                    readOptions.getGcsVectoredReadOptions(),
+                    getHedgeLauncher(),
+                    recorder);
+            combinedRangeRead.setRangeRead(rangeRead);
+            ByteBuffer dataBuffer = rangeRead.read();
+            if (rangeRead.isWonByHedge()) {
+              completeFromHedge(
+                  combinedObjectRange, dataBuffer, primaryBuffers, isScatterRead, allocate);
+            } else if (!isScatterRead) {
+              for (GcsObjectRange underlyingRange : combinedObjectRange.getUnderlyingRanges()) {
+                populateGcsObjectRangeFromCombinedObjectRange(
+                    combinedObjectRange, underlyingRange, dataBuffer.limit(), dataBuffer);
               }
-              recorder.record(Metric.READ_BYTES, bytesRead, Collections.emptyMap());
-              numOfBytesRead += bytesRead;
-            }
-            if (numOfBytesRead < combinedObjectRange.getLength()) {
-              throw new EOFException(
-                  String.format(
-                      "EOF reached while reading combinedObjectRange, range: %s, item: "
-                          + "%s, numRead: %d, expected: %d",
-                      combinedObjectRange,
-                      itemId,
-                      numOfBytesRead,
-                      combinedObjectRange.getLength()));
-            }
-            // making it ready for reading
-            dataBuffer.flip();
-            for (GcsObjectRange underlyingRange : combinedObjectRange.getUnderlyingRanges()) {
-              populateGcsObjectRangeFromCombinedObjectRange(
-                  combinedObjectRange, underlyingRange, numOfBytesRead, dataBuffer);
             }
           } catch (Exception e) {
             completeWithException(combinedObjectRange, e);
+          } finally {
+            activeCombinedRangeReads.remove(combinedRangeRead);
           }
           return null;
         });
   }
 
+  // Hedges count against the scheduler limits when it is enabled, and are dropped when at them.
+  private HedgedRangeRead.HedgeLauncher getHedgeLauncher() {
+    if (readOptions.getGcsVectoredReadOptions().isSchedulerEnabled()) {
+      return (hedge, onRejected) -> vectoredReadScheduler.tryStart(this, hedge, onRejected);
+    }
+
+    return HedgedRangeRead.launchOn(executorServiceSupplier.get());
+  }
+
+  private ByteBuffer fetchCombinedRange(
+      GcsObjectCombinedRange combinedObjectRange,
+      IntFunction<ByteBuffer> allocate,
+      MetricsRecorder recorder,
+      HedgedRangeRead.Attempt attempt)
+      throws IOException {
+    ReadStrategy readStrategy =
+        new RandomReadStrategy(storage, itemId, readOptions, itemInfo, seekCostEstimator);
+    try (ReadChannel channel =
+        readStrategy.getReadChannel(
+            combinedObjectRange.getOffset(), combinedObjectRange.getLength())) {
+      attempt.onChannelOpened(channel);
+      ByteBuffer dataBuffer = allocate.apply(combinedObjectRange.getLength());
+      if (dataBuffer == null) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Buffer allocation returned null for combinedObjectRange: %s",
+                combinedObjectRange));
+      }
+      int readableLength = getReadableLength(combinedObjectRange);
+      if (readableLength < combinedObjectRange.getLength()) {
+        dataBuffer.limit(dataBuffer.position() + readableLength);
+      }
+      List<GcsObjectRange> pendingRanges = sortByEndOffset(combinedObjectRange);
+      int numOfBytesRead = 0;
+      while (dataBuffer.hasRemaining()) {
+        int bytesRead = channel.read(dataBuffer);
+        if (bytesRead < 0) {
+          // EOF reached.
+          break;
+        }
+        attempt.onBytesRead();
+        recorder.record(Metric.READ_BYTES, bytesRead, Collections.emptyMap());
+        numOfBytesRead += bytesRead;
+        // A hedge reads into a scratch buffer that is only handed out if it wins.
+        if (!attempt.isHedge()) {
+          completeReceivedRanges(combinedObjectRange, pendingRanges, dataBuffer, numOfBytesRead);
+        }
+      }
+      if (numOfBytesRead < combinedObjectRange.getLength()) {
+        throw new EOFException(
+            String.format(
+                "EOF reached while reading combinedObjectRange, range: %s, item: "
+                    + "%s, numRead: %d, expected: %d",
+                combinedObjectRange, itemId, numOfBytesRead, combinedObjectRange.getLength()));
+      }
+      // making it ready for reading
+      dataBuffer.flip();
+
+      return dataBuffer;
+    }
+  }
+
+  /**
+   * Completes the child ranges that the primary attempt left pending with the data of the hedge
+   * that won. The data is copied into the buffers that the primary allocated, which it no longer
+   * writes to, or into newly allocated buffers where the primary did not get to allocate them.
+   */
+  private static void completeFromHedge(
+      GcsObjectCombinedRange combinedObjectRange,
+      ByteBuffer hedgeData,
+      List<ByteBuffer> primaryBuffers,
+      boolean isScatterRead,
+      IntFunction<ByteBuffer> allocate) {
+    List<GcsObjectRange> childRanges = combinedObjectRange.getUnderlyingRanges();
+    ByteBuffer combinedData = null;
+    if (!isScatterRead) {
+      combinedData =
+          primaryBuffers.isEmpty()
+              ? allocateChecked(allocate, combinedObjectRange.getLength(), combinedObjectRange)
+              : primaryBuffers.get(0).duplicate();
+      // The bytes the primary read are kept, as the ranges it completed may be using them.
+      ByteBuffer remainingData = hedgeData.duplicate();
+      remainingData.position(combinedData.position());
+      combinedData.put(remainingData);
+      combinedData.flip();
+    }
+    for (int i = 0; i < childRanges.size(); i++) {
+      GcsObjectRange childRange = childRanges.get(i);
+      if (childRange.getByteBufferFuture().isDone()) {
+        continue;
+      }
+      ByteBuffer childBuffer;
+      if (isScatterRead) {
+        childBuffer =
+            i < primaryBuffers.size()
+                ? primaryBuffers.get(i)
+                : allocateChecked(allocate, childRange.getLength(), childRange);
+        childBuffer.clear();
+        childBuffer.put(
+            VectoredIoUtil.fetchUnderlyingRangeData(hedgeData, combinedObjectRange, childRange));
+        childBuffer.flip();
+      } else {
+        childBuffer =
+            VectoredIoUtil.fetchUnderlyingRangeData(combinedData, combinedObjectRange, childRange);
+      }
+      childRange.getByteBufferFuture().complete(childBuffer);
+    }
+  }
+
+  private static ByteBuffer allocateChecked(
+      IntFunction<ByteBuffer> allocate, int length, Object range) {
+    ByteBuffer buffer = allocate.apply(length);
+    if (buffer == null) {
+      throw new IllegalArgumentException(
+          String.format("Buffer allocation returned null for range: %s", range));
+    }
+
+    return buffer;
+  }
+
+  /**
+   * Reads a combined range directly into one buffer per child range, allocated through {@code
+   * allocate}. Bytes between child ranges are read into a small discard buffer that is reused for
+   * every gap, so that memory use follows the requested bytes rather than the combined span. Each
+   * child range is completed as soon as its buffer is full.
+   *
+   * @return {@code null}, as the data is handed out through the child ranges
+   */
+  private ByteBuffer scatterCombinedRange(
+      GcsObjectCombinedRange combinedObjectRange,
+      IntFunction<ByteBuffer> allocate,
+      MetricsRecorder recorder,
+      HedgedRangeRead.Attempt attempt)
+      throws IOException {
+    ReadStrategy readStrategy =
+        new RandomReadStrategy(storage, itemId, readOptions, itemInfo, seekCostEstimator);
+    try (ReadChannel channel =
+        readStrategy.getReadChannel(
+            combinedObjectRange.getOffset(), combinedObjectRange.getLength())) {
+      attempt.onChannelOpened(channel);
+      // Underlying ranges are sorted by offset and may overlap.
+      List<GcsObjectRange> childRanges = combinedObjectRange.getUnderlyingRanges();
+      List<ByteBuffer> childBuffers = new ArrayList<>(childRanges.size());
+      for (GcsObjectRange childRange : childRanges) {
+        ByteBuffer childBuffer = allocate.apply(childRange.getLength());
+        if (childBuffer == null) {
+          throw new IllegalArgumentException(
+              String.format("Buffer allocation returned null for childRange: %s", childRange));
+        }
+        childBuffers.add(childBuffer);
+      }
+      boolean[] isCompleted = new boolean[childRanges.size()];
+      ByteBuffer discardBuffer = null;
+      long position = combinedObjectRange.getOffset();
+      long endPosition = position + combinedObjectRange.getLength();
+      long readEndPosition = position + getReadableLength(combinedObjectRange);
+      if (readEndPosition < endPosition) {
+        for (int i = 0; i < childRanges.size(); i++) {
+          long childReadableLength = readEndPosition - childRanges.get(i).getOffset();
+          ByteBuffer childBuffer = childBuffers.get(i);
+          childBuffer.limit(
+              childBuffer.position()
+                  + (int) Math.min(childBuffer.remaining(), Math.max(0, childReadableLength)));
+        }
+      }
+      int nextChild = 0;
+      while (position < readEndPosition) {
+        while (nextChild < childRanges.size()
+            && getEndOffset(childRanges.get(nextChild)) <= position) {
+          nextChild++;
+        }
+        ByteBuffer target;
+        boolean isGap =
+            nextChild >= childRanges.size() || childRanges.get(nextChild).getOffset() > position;
+        if (!isGap) {
+          target = childBuffers.get(nextChild);
+        } else {
+          if (discardBuffer == null) {
+            discardBuffer = ByteBuffer.allocate(DISCARD_BUFFER_SIZE);
+          }
+          long gapEndPosition =
+              nextChild < childRanges.size()
+                  ? Math.min(childRanges.get(nextChild).getOffset(), readEndPosition)
+                  : readEndPosition;
+          discardBuffer.clear();
+          discardBuffer.limit((int) Math.min(discardBuffer.capacity(), gapEndPosition - position));
+          target = discardBuffer;
+        }
+        int targetStart = target.position();
+        int bytesRead = channel.read(target);
+        if (bytesRead < 0) {
+          break;
+        }
+        attempt.onBytesRead();
+        recorder.record(Metric.READ_BYTES, bytesRead, Collections.emptyMap());
+        if (!isGap) {
+          copyToOverlappingRanges(
+              childRanges, childBuffers, nextChild, position, target, targetStart, bytesRead);
+        }
+        position += bytesRead;
+        completeFilledRanges(childRanges, childBuffers, isCompleted, nextChild, position);
+      }
+      if (position < endPosition) {
+        throw new EOFException(
+            String.format(
+                "EOF reached while reading combinedObjectRange, range: %s, item: "
+                    + "%s, numRead: %d, expected: %d",
+                combinedObjectRange,
+                itemId,
+                position - combinedObjectRange.getOffset(),
+                combinedObjectRange.getLength()));
+      }
+      // Empty child ranges at the end of the span are not reached by the loop above.
+      completeFilledRanges(childRanges, childBuffers, isCompleted, 0, endPosition);
+
+      return null;
+    }
+  }
+
+  /**
+   * Copies bytes just read into the buffer of child range {@code targetIndex} to the buffers of
+   * the later child ranges that overlap them.
+   */
+  private static void copyToOverlappingRanges(
+      List<GcsObjectRange> childRanges,
+      List<ByteBuffer> childBuffers,
+      int targetIndex,
+      long position,
+      ByteBuffer target,
+      int targetStart,
+      int bytesRead) {
+    long readEndPosition = position + bytesRead;
+    for (int i = targetIndex + 1; i < childRanges.size(); i++) {
+      GcsObjectRange childRange = childRanges.get(i);
+      if (childRange.getOffset() >= readEndPosition) {
+        break;
+      }
+      long copyStart = Math.max(position, childRange.getOffset());
+      long copyEnd = Math.min(readEndPosition, getEndOffset(childRange));
+      if (copyStart >= copyEnd) {
+        continue;
+      }
+      ByteBuffer source = target.duplicate();
+      source.position(targetStart + (int) (copyStart - position));
+      source.limit(targetStart + (int) (copyEnd - position));
+      childBuffers.get(i).put(source);
+    }
+  }
+
+  private static void completeFilledRanges(
+      List<GcsObjectRange> childRanges,
+      List<ByteBuffer> childBuffers,
+      boolean[] isCompleted,
+      int fromIndex,
+      long receivedEndPosition) {
+    for (int i = fromIndex; i < childRanges.size(); i++) {
+      GcsObjectRange childRange = childRanges.get(i);
+      if (childRange.getOffset() > receivedEndPosition) {
+        break;
+      }
+      if (!isCompleted[i] && getEndOffset(childRange) <= receivedEndPosition) {
+        isCompleted[i] = true;
+        ByteBuffer childBuffer = childBuffers.get(i);
+        childBuffer.flip();
+        // The range may already have been completed by a competing hedged attempt.
+        childRange.getByteBufferFuture().complete(childBuffer);
+      }
+    }
+  }
+
+  /**
+   * Returns how many bytes of a combined range lie within the object. Bytes past the end of an
+   * object of known size are not requested, so that a range running past it fails as a short read.
+   */
+  private int getReadableLength(GcsObjectCombinedRange combinedObjectRange) {
+    if (itemInfo == null) {
+      return combinedObjectRange.getLength();
+    }
+    long remainingBytes = itemInfo.getSize() - combinedObjectRange.getOffset();
+
+    return (int) Math.max(0, Math.min(combinedObjectRange.getLength(), remainingBytes));
+  }
+
+  private static long getEndOffset(GcsObjectRange range) {
+    return range.getOffset() + range.getLength();
+  }
+
+  private static List<GcsObjectRange> sortByEndOffset(GcsObjectCombinedRange combinedObjectRange) {
+    List<GcsObjectRange> ranges = new ArrayList<>(combinedObjectRange.getUnderlyingRanges());
+    ranges.sort(Comparator.comparingLong(GcsReadChannel::getEndOffset));
+
+    return ranges;
+  }
+
+  /**
+   * Completes the child ranges whose bytes have all been received, so that callers can start
+   * consuming them while the rest of the combined range is still in flight. Completed ranges are
+   * removed from the front of {@code pendingRanges}, which is sorted by end offset.
+   */
+  private static void completeReceivedRanges(
+      GcsObjectCombinedRange combinedObjectRange,
+      List<GcsObjectRange> pendingRanges,
+      ByteBuffer dataBuffer,
+      int numOfBytesRead) {
+    long receivedEndPosition = combinedObjectRange.getOffset() + numOfBytesRead;
+    int completedRanges = 0;
+    ByteBuffer receivedData = null;
+    for (GcsObjectRange range : pendingRanges) {
+      if (range.getOffset() + range.getLength() > receivedEndPosition) {
+        break;
+      }
+      if (receivedData == null) {
+        receivedData = dataBuffer.duplicate();
+        receivedData.position(0);
+        receivedData.limit(combinedObjectRange.getLength());
+      }
+      // The range may already have been completed by a competing hedged attempt.
+      range
+          .getByteBufferFuture()
+          .complete(
+              VectoredIoUtil.fetchUnderlyingRangeData(receivedData, combinedObjectRange, range));
+      completedRanges++;
+    }
+    pendingRanges.subList(0, completedRanges).clear();
+  }
+
   private void populateGcsObjectRangeFromCombinedObjectRange(
       GcsObjectCombinedRange combinedObjectRange,
       GcsObjectRange objectRange,
@@ -314,6 +1027,85 @@ class GcsReadChannel implements VectoredSeekableByteChannel {
     }
   }
 
+  /**
+   * A combined range read that has been handed to the thread pool. Cancelling it drops the read if
+   * it has not started yet and aborts its requests otherwise.
+   */
+  final class CombinedRangeRead {
+    private final GcsObjectCombinedRange combinedRange;
+    private Future<?> task;
+    private HedgedRangeRead rangeRead;
+    private boolean isCancelled = false;
+
+    private CombinedRangeRead(GcsObjectCombinedRange combinedRange) {
+      this.combinedRange = combinedRange;
+    }
+
+    // Reading is pointless once every caller has given up on its range.
+    private void cancelWhenAllChildrenCancelled() {
+      for (GcsObjectRange child : combinedRange.getUnderlyingRanges()) {
+        var unused =
+            child
+                .getByteBufferFuture()
+                .whenComplete(
+                    (buffer, e) -> {
+                      if (areAllChildrenCancelled()) {
+                        cancel(new CancellationException("All child ranges were cancelled"));
+                      }
+                    });
+      }
+    }
+
+    synchronized boolean isCancelled() {
+      return isCancelled;
+    }
+
+    private synchronized void setTask(Future<?> task) {
+      this.task = task;
+      if (isCancelled) {
+        task.cancel(false);
+      }
+    }
+
+    private synchronized void setRangeRead(HedgedRangeRead rangeRead) {
+      this.rangeRead = rangeRead;
+      if (isCancelled) {
+        rangeRead.cancel();
+      }
+    }
+
+    private void cancel(Throwable cause) {
+      synchronized (this) {
+        if (isCancelled) {
+          return;
+        }
+        isCancelled = true;
+        if (task != null) {
+          task.cancel(false);
+        }
+        if (rangeRead != null) {
+          rangeRead.cancel();
+        }
+      }
+      fail(cause);
+    }
+
+    private void fail(Throwable cause) {
+      activeCombinedRangeReads.remove(this);
+      completeWithException(combinedRange, cause);
+    }
+
+    private boolean areAllChildrenCancelled() {
+      for (GcsObjectRange child : combinedRange.getUnderlyingRanges()) {
+        if (!child.getByteBufferFuture().isCancelled()) {
+          return false;
+        }
+      }
+
+      return true;
+    }
+  }
+
   private void validatePosition(long position) throws IOException {
     if (position < 0) {
       throw new EOFException(
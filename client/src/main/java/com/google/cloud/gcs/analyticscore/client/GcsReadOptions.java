@@ -16,6 +16,7 @@
 package com.google.cloud.gcs.analyticscore.client;
 
 import com.google.auto.value.AutoValue;
+import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.Optional;
 
@@ -40,6 +41,36 @@ public abstract class GcsReadOptions {
       "analytics-core.adaptive-read.sequential-read-threshold";
   private static final String RANDOM_READ_MIN_REQUEST_SIZE_KEY =
       "analytics-core.random-read.min-request-size";
+  private static final String RANDOM_READ_MAX_OPEN_CHANNELS_KEY =
+      "analytics-core.random-read.max-open-channels";
+  private static final String ADAPTIVE_CHUNK_SIZE_ENABLED_KEY =
+      "analytics-core.read.adaptive-chunk-size.enabled";
+  private static final String ADAPTIVE_CHUNK_SIZE_INITIAL_KEY =
+      "analytics-core.read.adaptive-chunk-size.initial-bytes";
+  private static final String ADAPTIVE_CHUNK_SIZE_MAX_KEY =
+      "analytics-core.read.adaptive-chunk-size.max-bytes";
+  private static final String DIRECT_BUFFERS_ENABLED_KEY =
+      "analytics-core.read.direct-buffers.enabled";
+  private static final String LOOK_BEHIND_SIZE_KEY = "analytics-core.read.look-behind.size-bytes";
+  private static final String SEEK_COST_MODEL_ENABLED_KEY =
+      "analytics-core.read.seek-cost-model.enabled";
+  private static final String ACCESS_PATTERN_HISTORY_ENABLED_KEY =
+      "analytics-core.adaptive-read.pattern-history.enabled";
+  private static final String ACCESS_PATTERN_HISTORY_PREFIX_ENABLED_KEY =
+      "analytics-core.adaptive-read.pattern-history.prefix.enabled";
+  private static final String POSITIONAL_READ_MAX_CHANNELS_KEY =
+      "analytics-core.positional-read.max-channels";
+  private static final String READ_AHEAD_ENABLED_KEY = "analytics-core.read-ahead.enabled";
+  private static final String READ_AHEAD_CHUNK_SIZE_KEY =
+      "analytics-core.read-ahead.chunk-size-bytes";
+  private static final String READ_AHEAD_CHUNK_COUNT_KEY = "analytics-core.read-ahead.chunk-count";
+  private static final String STRIPED_READ_ENABLED_KEY = "analytics-core.striped-read.enabled";
+  private static final String STRIPED_READ_STRIPE_SIZE_KEY =
+      "analytics-core.striped-read.stripe-size-bytes";
+  private static final String STRIPED_READ_CONCURRENCY_KEY =
+      "analytics-core.striped-read.concurrency";
+  private static final String STRIPED_READ_THRESHOLD_KEY =
+      "analytics-core.striped-read.threshold-bytes";
 
   private static final int KB = 1024;
   private static final int MB = 1024 * KB;
@@ -53,6 +84,23 @@ public abstract class GcsReadOptions {
       FileAccessPattern.AUTO_SEQUENTIAL;
   private static final int DEFAULT_ADAPTIVE_READ_SEQUENTIAL_READ_THRESHOLD = 3;
   private static final int DEFAULT_RANDOM_READ_MIN_REQUEST_SIZE = 128 * KB;
+  private static final int DEFAULT_RANDOM_READ_MAX_OPEN_CHANNELS = 1;
+  private static final int DEFAULT_LOOK_BEHIND_SIZE = 0;
+  private static final boolean DEFAULT_DIRECT_BUFFERS_ENABLED = false;
+  private static final boolean DEFAULT_ADAPTIVE_CHUNK_SIZE_ENABLED = false;
+  private static final int DEFAULT_ADAPTIVE_CHUNK_SIZE_INITIAL = 256 * KB;
+  private static final int DEFAULT_ADAPTIVE_CHUNK_SIZE_MAX = 16 * MB;
+  private static final boolean DEFAULT_SEEK_COST_MODEL_ENABLED = false;
+  private static final boolean DEFAULT_ACCESS_PATTERN_HISTORY_ENABLED = false;
+  private static final boolean DEFAULT_ACCESS_PATTERN_HISTORY_PREFIX_ENABLED = false;
+  private static final int DEFAULT_POSITIONAL_READ_MAX_CHANNELS = 2;
+  private static final boolean DEFAULT_READ_AHEAD_ENABLED = false;
+  private static final int DEFAULT_READ_AHEAD_CHUNK_SIZE = MB;
+  private static final int DEFAULT_READ_AHEAD_CHUNK_COUNT = 4;
+  private static final boolean DEFAULT_STRIPED_READ_ENABLED = false;
+  private static final int DEFAULT_STRIPED_READ_STRIPE_SIZE = 16 * MB;
+  private static final int DEFAULT_STRIPED_READ_CONCURRENCY = 4;
+  private static final long DEFAULT_STRIPED_READ_THRESHOLD = 256L * MB;
 
   public abstract Optional<Integer> getChunkSize();
 
@@ -74,12 +122,62 @@ public abstract class GcsReadOptions {
 
   public abstract int getInplaceSeekLimit();
 
+  public abstract boolean isSeekCostModelEnabled();
+
+  public abstract int getLookBehindSize();
+
+  public abstract boolean isDirectBuffersEnabled();
+
+  public abstract boolean isAdaptiveChunkSizeEnabled();
+
+  public abstract int getAdaptiveChunkSizeInitial();
+
+  public abstract int getAdaptiveChunkSizeMax();
+
   public abstract FileAccessPattern getFileAccessPattern();
 
   public abstract int getAdaptiveReadSequentialReadThreshold();
 
   public abstract int getRandomReadMinRequestSize();
 
+  public abstract int getRandomReadMaxOpenChannels();
+
+  public abstract boolean isAccessPatternHistoryEnabled();
+
+  public abstract boolean isAccessPatternHistoryPrefixEnabled();
+
+  public abstract int getPositionalReadMaxChannels();
+
+  public abstract boolean isReadAheadEnabled();
+
+  public abstract int getReadAheadChunkSize();
+
+  /**
+   * Returns the number of read-ahead chunks buffered ahead of the reader. Chunks are fetched one
+   * at a time over a single source stream, so this bounds the prefetch window rather than the
+   * number of concurrent requests.
+   */
+  public abstract int getReadAheadChunkCount();
+
+  public abstract boolean isStripedReadEnabled();
+
+  public abstract int getStripedReadStripeSize();
+
+  public abstract int getStripedReadConcurrency();
+
+  public abstract long getStripedReadThreshold();
+
+  /**
+   * Allocates a buffer that holds object data inside the library. The buffer is off-heap when
+   * direct buffers are enabled, so that data read into it can be handed to callers that use direct
+   * buffers without an intermediate heap copy.
+   */
+  public ByteBuffer allocateBuffer(int capacity) {
+    return isDirectBuffersEnabled()
+        ? ByteBuffer.allocateDirect(capacity)
+        : ByteBuffer.allocate(capacity);
+  }
+
   public static Builder builder() {
     return new AutoValue_GcsReadOptions.Builder()
         .setGcsVectoredReadOptions(GcsVectoredReadOptions.builder().build())
@@ -88,9 +186,26 @@ public abstract class GcsReadOptions {
         .setFooterPrefetchSizeLargeFile(DEFAULT_LARGE_FILE_FOOTER_PREFETCH_SIZE)
         .setSmallObjectCacheThresholdBytes(DEFAULT_SMALL_FILE_CACHE_THRESHOLD)
         .setInplaceSeekLimit(DEFAULT_INPLACE_SEEK_LIMIT)
+        .setSeekCostModelEnabled(DEFAULT_SEEK_COST_MODEL_ENABLED)
+        .setLookBehindSize(DEFAULT_LOOK_BEHIND_SIZE)
+        .setDirectBuffersEnabled(DEFAULT_DIRECT_BUFFERS_ENABLED)
+        .setAdaptiveChunkSizeEnabled(DEFAULT_ADAPTIVE_CHUNK_SIZE_ENABLED)
+        .setAdaptiveChunkSizeInitial(DEFAULT_ADAPTIVE_CHUNK_SIZE_INITIAL)
+        .setAdaptiveChunkSizeMax(DEFAULT_ADAPTIVE_CHUNK_SIZE_MAX)
         .setFileAccessPattern(DEFAULT_FILE_ACCESS_PATTERN)
         .setAdaptiveReadSequentialReadThreshold(DEFAULT_ADAPTIVE_READ_SEQUENTIAL_READ_THRESHOLD)
-        .setRandomReadMinRequestSize(DEFAULT_RANDOM_READ_MIN_REQUEST_SIZE);
+        .setRandomReadMinRequestSize(DEFAULT_RANDOM_READ_MIN_REQUEST_SIZE)
+        .setRandomReadMaxOpenChannels(DEFAULT_RANDOM_READ_MAX_OPEN_CHANNELS)
+        .setAccessPatternHistoryEnabled(DEFAULT_ACCESS_PATTERN_HISTORY_ENABLED)
+        .setAccessPatternHistoryPrefixEnabled(DEFAULT_ACCESS_PATTERN_HISTORY_PREFIX_ENABLED)
+        .setPositionalReadMaxChannels(DEFAULT_POSITIONAL_READ_MAX_CHANNELS)
+        .setReadAheadEnabled(DEFAULT_READ_AHEAD_ENABLED)
+        .setReadAheadChunkSize(DEFAULT_READ_AHEAD_CHUNK_SIZE)
+        .setReadAheadChunkCount(DEFAULT_READ_AHEAD_CHUNK_COUNT)
+        .setStripedReadEnabled(DEFAULT_STRIPED_READ_ENABLED)
+        .setStripedReadStripeSize(DEFAULT_STRIPED_READ_STRIPE_SIZE)
+        .setStripedReadConcurrency(DEFAULT_STRIPED_READ_CONCURRENCY)
+        .setStripedReadThreshold(DEFAULT_STRIPED_READ_THRESHOLD);
   }
 
   public static GcsReadOptions createFromOptions(
@@ -126,6 +241,30 @@ public abstract class GcsReadOptions {
       optionsBuilder.setInplaceSeekLimit(
           safeParseInteger(analyticsCoreOptions, prefix + INPLACE_SEEK_LIMIT_KEY));
     }
+    if (analyticsCoreOptions.containsKey(prefix + SEEK_COST_MODEL_ENABLED_KEY)) {
+      optionsBuilder.setSeekCostModelEnabled(
+          Boolean.parseBoolean(analyticsCoreOptions.get(prefix + SEEK_COST_MODEL_ENABLED_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + LOOK_BEHIND_SIZE_KEY)) {
+      optionsBuilder.setLookBehindSize(
+          safeParseInteger(analyticsCoreOptions, prefix + LOOK_BEHIND_SIZE_KEY));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + DIRECT_BUFFERS_ENABLED_KEY)) {
+      optionsBuilder.setDirectBuffersEnabled(
+          Boolean.parseBoolean(analyticsCoreOptions.get(prefix + DIRECT_BUFFERS_ENABLED_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + ADAPTIVE_CHUNK_SIZE_ENABLED_KEY)) {
+      optionsBuilder.setAdaptiveChunkSizeEnabled(
+          Boolean.parseBoolean(analyticsCoreOptions.get(prefix + ADAPTIVE_CHUNK_SIZE_ENABLED_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + ADAPTIVE_CHUNK_SIZE_INITIAL_KEY)) {
+      optionsBuilder.setAdaptiveChunkSizeInitial(
+          safeParseInteger(analyticsCoreOptions, prefix + ADAPTIVE_CHUNK_SIZE_INITIAL_KEY));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + ADAPTIVE_CHUNK_SIZE_MAX_KEY)) {
+      optionsBuilder.setAdaptiveChunkSizeMax(
+          safeParseInteger(analyticsCoreOptions, prefix + ADAPTIVE_CHUNK_SIZE_MAX_KEY));
+    }
     if (analyticsCoreOptions.containsKey(prefix + FILE_ACCESS_PATTERN_KEY)) {
       optionsBuilder.setFileAccessPattern(
           FileAccessPattern.valueOf(
@@ -140,6 +279,52 @@ public abstract class GcsReadOptions {
       optionsBuilder.setRandomReadMinRequestSize(
           safeParseInteger(analyticsCoreOptions, prefix + RANDOM_READ_MIN_REQUEST_SIZE_KEY));
     }
+    if (analyticsCoreOptions.containsKey(prefix + RANDOM_READ_MAX_OPEN_CHANNELS_KEY)) {
+      optionsBuilder.setRandomReadMaxOpenChannels(
+          safeParseInteger(analyticsCoreOptions, prefix + RANDOM_READ_MAX_OPEN_CHANNELS_KEY));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + ACCESS_PATTERN_HISTORY_ENABLED_KEY)) {
+      optionsBuilder.setAccessPatternHistoryEnabled(
+          Boolean.parseBoolean(
+              analyticsCoreOptions.get(prefix + ACCESS_PATTERN_HISTORY_ENABLED_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + ACCESS_PATTERN_HISTORY_PREFIX_ENABLED_KEY)) {
+      optionsBuilder.setAccessPatternHistoryPrefixEnabled(
+          Boolean.parseBoolean(
+              analyticsCoreOptions.get(prefix + ACCESS_PATTERN_HISTORY_PREFIX_ENABLED_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + POSITIONAL_READ_MAX_CHANNELS_KEY)) {
+      optionsBuilder.setPositionalReadMaxChannels(
+          safeParseInteger(analyticsCoreOptions, prefix + POSITIONAL_READ_MAX_CHANNELS_KEY));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + READ_AHEAD_ENABLED_KEY)) {
+      optionsBuilder.setReadAheadEnabled(
+          Boolean.parseBoolean(analyticsCoreOptions.get(prefix + READ_AHEAD_ENABLED_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + READ_AHEAD_CHUNK_SIZE_KEY)) {
+      optionsBuilder.setReadAheadChunkSize(
+          safeParseInteger(analyticsCoreOptions, prefix + READ_AHEAD_CHUNK_SIZE_KEY));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + READ_AHEAD_CHUNK_COUNT_KEY)) {
+      optionsBuilder.setReadAheadChunkCount(
+          safeParseInteger(analyticsCoreOptions, prefix + READ_AHEAD_CHUNK_COUNT_KEY));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + STRIPED_READ_ENABLED_KEY)) {
+      optionsBuilder.setStripedReadEnabled(
+          Boolean.parseBoolean(analyticsCoreOptions.get(prefix + STRIPED_READ_ENABLED_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + STRIPED_READ_STRIPE_SIZE_KEY)) {
+      optionsBuilder.setStripedReadStripeSize(
+          safeParseInteger(analyticsCoreOptions, prefix + STRIPED_READ_STRIPE_SIZE_KEY));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + STRIPED_READ_CONCURRENCY_KEY)) {
+      optionsBuilder.setStripedReadConcurrency(
+          safeParseInteger(analyticsCoreOptions, prefix + STRIPED_READ_CONCURRENCY_KEY));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + STRIPED_READ_THRESHOLD_KEY)) {
+      optionsBuilder.setStripedReadThreshold(
+          Long.parseLong(analyticsCoreOptions.get(prefix + STRIPED_READ_THRESHOLD_KEY)));
+    }
 
     optionsBuilder.setGcsVectoredReadOptions(
         GcsVectoredReadOptions.createFromOptions(analyticsCoreOptions, prefix));
@@ -180,12 +365,47 @@ public abstract class GcsReadOptions {
 
     public abstract Builder setInplaceSeekLimit(int inplaceSeekLimit);
 
+    public abstract Builder setSeekCostModelEnabled(boolean seekCostModelEnabled);
+
+    public abstract Builder setLookBehindSize(int lookBehindSize);
+
+    public abstract Builder setDirectBuffersEnabled(boolean directBuffersEnabled);
+
+    public abstract Builder setAdaptiveChunkSizeEnabled(boolean adaptiveChunkSizeEnabled);
+
+    public abstract Builder setAdaptiveChunkSizeInitial(int adaptiveChunkSizeInitial);
+
+    public abstract Builder setAdaptiveChunkSizeMax(int adaptiveChunkSizeMax);
+
     public abstract Builder setFileAccessPattern(FileAccessPattern fileAccessPattern);
 
     public abstract Builder setAdaptiveReadSequentialReadThreshold(int threshold);
 
     public abstract Builder setRandomReadMinRequestSize(int minRequestSize);
 
+    public abstract Builder setRandomReadMaxOpenChannels(int maxOpenChannels);
+
+    public abstract Builder setAccessPatternHistoryEnabled(boolean accessPatternHistoryEnabled);
+
+    public abstract Builder setAccessPatternHistoryPrefixEnabled(
+        boolean accessPatternHistoryPrefixEnabled);
+
+    public abstract Builder setPositionalReadMaxChannels(int positionalReadMaxChannels);
+
+    public abstract Builder setReadAheadEnabled(boolean readAheadEnabled);
+
+    public abstract Builder setReadAheadChunkSize(int readAheadChunkSize);
+
+    public abstract Builder setReadAheadChunkCount(int readAheadChunkCount);
+
+    public abstract Builder setStripedReadEnabled(boolean stripedReadEnabled);
+
+    public abstract Builder setStripedReadStripeSize(int stripedReadStripeSize);
+
+    public abstract Builder setStripedReadConcurrency(int stripedReadConcurrency);
+
+    public abstract Builder setStripedReadThreshold(long stripedReadThreshold);
+
     public abstract GcsReadOptions build();
   }
 }
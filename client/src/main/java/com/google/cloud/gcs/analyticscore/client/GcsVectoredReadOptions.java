@@ -15,6 +15,8 @@
  */
 package com.google.cloud.gcs.analyticscore.client;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import com.google.auto.value.AutoValue;
 import java.util.Map;
 
@@ -26,6 +28,28 @@ public abstract class GcsVectoredReadOptions {
       "analytics-core.read.vectored.range.merge-gap.max-bytes";
   private static final String MAX_MERGE_SIZE_KEY =
       "analytics-core.read.vectored.range.merged-size.max-bytes";
+  private static final String HEDGING_ENABLED_KEY = "analytics-core.read.vectored.hedge.enabled";
+  private static final String HEDGING_LATENCY_PERCENTILE_KEY =
+      "analytics-core.read.vectored.hedge.latency-percentile";
+  private static final String HEDGING_MAX_RATE_PERCENT_KEY =
+      "analytics-core.read.vectored.hedge.max-rate-percent";
+  private static final String SCHEDULER_ENABLED_KEY =
+      "analytics-core.read.vectored.scheduler.enabled";
+  private static final String SCHEDULER_MAX_IN_FLIGHT_KEY =
+      "analytics-core.read.vectored.scheduler.max-in-flight";
+  private static final String SCHEDULER_MAX_IN_FLIGHT_PER_STREAM_KEY =
+      "analytics-core.read.vectored.scheduler.max-in-flight-per-stream";
+  private static final String SCHEDULER_MAX_QUEUED_KEY =
+      "analytics-core.read.vectored.scheduler.max-queued";
+  private static final String SCATTER_READ_ENABLED_KEY =
+      "analytics-core.read.vectored.scatter-read.enabled";
+  private static final String ADAPTIVE_MERGE_ENABLED_KEY =
+      "analytics-core.read.vectored.adaptive-merge.enabled";
+  private static final String SPLIT_ENABLED_KEY = "analytics-core.read.vectored.split.enabled";
+  private static final String SPLIT_THRESHOLD_KEY =
+      "analytics-core.read.vectored.split.threshold-bytes";
+  private static final String SPLIT_PART_SIZE_KEY =
+      "analytics-core.read.vectored.split.part-size-bytes";
 
   // The shortest distance allowed between chunks for them to be merged
   abstract int getMaxMergeGap();
@@ -33,12 +57,61 @@ public abstract class GcsVectoredReadOptions {
   // The max allowed size of the combined chunk.
   abstract int getMaxMergeSize();
 
+  // Whether a duplicate request is issued for combined ranges that are slow to respond.
+  abstract boolean isHedgingEnabled();
+
+  // The first-byte latency percentile after which a combined range read is hedged.
+  abstract int getHedgingLatencyPercentile();
+
+  // The max share of combined range reads, in percent, that may be hedged.
+  abstract int getHedgingMaxRatePercent();
+
+  // Whether combined range reads are queued per stream and dispatched fairly across streams.
+  abstract boolean isSchedulerEnabled();
+
+  // The max number of combined range reads running at a time across all streams of a client.
+  // Like the other scheduler limits, only the value in the client options is used.
+  abstract int getSchedulerMaxInFlight();
+
+  // The max number of combined range reads running at a time for a single stream.
+  abstract int getSchedulerMaxInFlightPerStream();
+
+  // The max number of queued combined range reads before callers are blocked.
+  abstract int getSchedulerMaxQueued();
+
+  // Whether each range of a combined range is read into its own buffer, discarding gap bytes.
+  abstract boolean isScatterReadEnabled();
+
+  // Whether the merge gap and merged size are derived from the observed latency and throughput.
+  abstract boolean isAdaptiveMergeEnabled();
+
+  // Whether large ranges are fetched as parts read in parallel.
+  abstract boolean isSplitEnabled();
+
+  // The size above which a range is split into parts.
+  abstract int getSplitThreshold();
+
+  // The max size of each part of a split range.
+  abstract int getSplitPartSize();
+
   public abstract Builder toBuilder();
 
   static Builder builder() {
     return new AutoValue_GcsVectoredReadOptions.Builder()
         .setMaxMergeGap(4 * 1024) // 4 KB
-        .setMaxMergeSize(8 * 1024 * 1024); // 8 MB
+        .setMaxMergeSize(8 * 1024 * 1024) // 8 MB
+        .setHedgingEnabled(false)
+        .setHedgingLatencyPercentile(95)
+        .setHedgingMaxRatePercent(5)
+        .setSchedulerEnabled(false)
+        .setSchedulerMaxInFlight(16)
+        .setSchedulerMaxInFlightPerStream(4)
+        .setSchedulerMaxQueued(1024)
+        .setScatterReadEnabled(false)
+        .setAdaptiveMergeEnabled(false)
+        .setSplitEnabled(false)
+        .setSplitThreshold(16 * 1024 * 1024) // 16 MB
+        .setSplitPartSize(8 * 1024 * 1024); // 8 MB
   }
 
   public static GcsVectoredReadOptions createFromOptions(
@@ -52,6 +125,55 @@ public abstract class GcsVectoredReadOptions {
       optionsBuilder.setMaxMergeSize(
           Integer.parseInt(analyticsCoreOptions.get(prefix + MAX_MERGE_SIZE_KEY)));
     }
+    if (analyticsCoreOptions.containsKey(prefix + HEDGING_ENABLED_KEY)) {
+      optionsBuilder.setHedgingEnabled(
+          Boolean.parseBoolean(analyticsCoreOptions.get(prefix + HEDGING_ENABLED_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + HEDGING_LATENCY_PERCENTILE_KEY)) {
+      optionsBuilder.setHedgingLatencyPercentile(
+          Integer.parseInt(analyticsCoreOptions.get(prefix + HEDGING_LATENCY_PERCENTILE_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + HEDGING_MAX_RATE_PERCENT_KEY)) {
+      optionsBuilder.setHedgingMaxRatePercent(
+          Integer.parseInt(analyticsCoreOptions.get(prefix + HEDGING_MAX_RATE_PERCENT_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + SCHEDULER_ENABLED_KEY)) {
+      optionsBuilder.setSchedulerEnabled(
+          Boolean.parseBoolean(analyticsCoreOptions.get(prefix + SCHEDULER_ENABLED_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + SCHEDULER_MAX_IN_FLIGHT_KEY)) {
+      optionsBuilder.setSchedulerMaxInFlight(
+          Integer.parseInt(analyticsCoreOptions.get(prefix + SCHEDULER_MAX_IN_FLIGHT_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + SCHEDULER_MAX_IN_FLIGHT_PER_STREAM_KEY)) {
+      optionsBuilder.setSchedulerMaxInFlightPerStream(
+          Integer.parseInt(
+              analyticsCoreOptions.get(prefix + SCHEDULER_MAX_IN_FLIGHT_PER_STREAM_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + SCHEDULER_MAX_QUEUED_KEY)) {
+      optionsBuilder.setSchedulerMaxQueued(
+          Integer.parseInt(analyticsCoreOptions.get(prefix + SCHEDULER_MAX_QUEUED_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + SCATTER_READ_ENABLED_KEY)) {
+      optionsBuilder.setScatterReadEnabled(
+          Boolean.parseBoolean(analyticsCoreOptions.get(prefix + SCATTER_READ_ENABLED_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + ADAPTIVE_MERGE_ENABLED_KEY)) {
+      optionsBuilder.setAdaptiveMergeEnabled(
+          Boolean.parseBoolean(analyticsCoreOptions.get(prefix + ADAPTIVE_MERGE_ENABLED_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + SPLIT_ENABLED_KEY)) {
+      optionsBuilder.setSplitEnabled(
+          Boolean.parseBoolean(analyticsCoreOptions.get(prefix + SPLIT_ENABLED_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + SPLIT_THRESHOLD_KEY)) {
+      optionsBuilder.setSplitThreshold(
+          Integer.parseInt(analyticsCoreOptions.get(prefix + SPLIT_THRESHOLD_KEY)));
+    }
+    if (analyticsCoreOptions.containsKey(prefix + SPLIT_PART_SIZE_KEY)) {
+      optionsBuilder.setSplitPartSize(
+          Integer.parseInt(analyticsCoreOptions.get(prefix + SPLIT_PART_SIZE_KEY)));
+    }
 
     return optionsBuilder.build();
   }
@@ -64,6 +186,57 @@ public abstract class GcsVectoredReadOptions {
 
     abstract Builder setMaxMergeSize(int maxMergeSize);
 
-    abstract GcsVectoredReadOptions build();
+    abstract Builder setHedgingEnabled(boolean hedgingEnabled);
+
+    abstract Builder setHedgingLatencyPercentile(int hedgingLatencyPercentile);
+
+    abstract Builder setHedgingMaxRatePercent(int hedgingMaxRatePercent);
+
+    abstract Builder setSchedulerEnabled(boolean schedulerEnabled);
+
+    abstract Builder setSchedulerMaxInFlight(int schedulerMaxInFlight);
+
+    abstract Builder setSchedulerMaxInFlightPerStream(int schedulerMaxInFlightPerStream);
+
+    abstract Builder setSchedulerMaxQueued(int schedulerMaxQueued);
+
+    abstract Builder setScatterReadEnabled(boolean scatterReadEnabled);
+
+    abstract Builder setAdaptiveMergeEnabled(boolean adaptiveMergeEnabled);
+
+    abstract Builder setSplitEnabled(boolean splitEnabled);
+
+    abstract Builder setSplitThreshold(int splitThreshold);
+
+    abstract Builder setSplitPartSize(int splitPartSize);
+
+    abstract GcsVectoredReadOptions autoBuild();
+
+    GcsVectoredReadOptions build() {
+      GcsVectoredReadOptions options = autoBuild();
+      if (options.isHedgingEnabled()) {
+        int percentile = options.getHedgingLatencyPercentile();
+        checkArgument(
+            percentile > 0 && percentile <= 100,
+            "hedgingLatencyPercentile must be in (0, 100] when hedgingEnabled is true");
+        int maxRatePercent = options.getHedgingMaxRatePercent();
+        checkArgument(
+            maxRatePercent >= 0 && maxRatePercent <= 100,
+            "hedgingMaxRatePercent must be in [0, 100] when hedgingEnabled is true");
+      }
+      if (options.isSchedulerEnabled()) {
+        checkArgument(
+            options.getSchedulerMaxInFlight() > 0
+                && options.getSchedulerMaxInFlightPerStream() > 0
+                && options.getSchedulerMaxQueued() > 0,
+            "scheduler limits must be positive when schedulerEnabled is true");
+      }
+      if (options.isSplitEnabled()) {
+        checkArgument(
+            options.getSplitThreshold() > 0 && options.getSplitPartSize() > 0,
+            "split sizes must be positive when splitEnabled is true");
+      }
+      return options;
+    }
   }
 }
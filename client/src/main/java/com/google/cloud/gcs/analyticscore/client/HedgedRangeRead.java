@@ -0,0 +1,262 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import com.google.cloud.ReadChannel;
+import com.google.cloud.gcs.analyticscore.common.GcsAnalyticsCoreTelemetryConstants.Metric;
+import com.google.cloud.gcs.analyticscore.common.telemetry.MetricsRecorder;
+import com.google.common.base.Throwables;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Reads a combined range, issuing a duplicate request if the first one is slow to respond.
+ *
+ * <p>The primary attempt runs on the calling thread, so {@link #read} only returns once the
+ * primary has stopped. When hedging is enabled and the primary has not received its first byte
+ * within the tracked latency percentile, a hedge attempt is started through the {@link
+ * HedgeLauncher}, subject to the hedge rate cap. No hedge is issued if the launcher cannot start
+ * one right away. The first attempt to finish wins and the other one is aborted by closing its
+ * channel.
+ */
+class HedgedRangeRead {
+  private static final ScheduledExecutorService HEDGE_TIMER =
+      Executors.newSingleThreadScheduledExecutor(
+          new ThreadFactoryBuilder()
+              .setNameFormat("gcs-range-hedge-timer-%d")
+              .setDaemon(true)
+              .build());
+
+  /** Fetches the whole range, reporting progress to the given attempt. */
+  @FunctionalInterface
+  interface RangeFetcher {
+    ByteBuffer fetch(Attempt attempt) throws IOException;
+  }
+
+  /** Starts hedge attempts on another thread. */
+  @FunctionalInterface
+  interface HedgeLauncher {
+    /**
+     * Starts {@code hedge} without blocking.
+     *
+     * @param onRejected called instead of {@code hedge} if it is rejected after being started
+     * @return whether {@code hedge} was started
+     */
+    boolean tryLaunch(Runnable hedge, Consumer<Throwable> onRejected);
+  }
+
+  private final RangeFetcher rangeFetcher;
+  private final RangeLatencyTracker latencyTracker;
+  private final GcsVectoredReadOptions options;
+  private final HedgeLauncher hedgeLauncher;
+  private final MetricsRecorder recorder;
+  private final CompletableFuture<ByteBuffer> result = new CompletableFuture<>();
+  private final List<Attempt> attempts = new ArrayList<>();
+  private int failedAttempts = 0;
+  private boolean isWonByHedge = false;
+
+  HedgedRangeRead(
+      RangeFetcher rangeFetcher,
+      RangeLatencyTracker latencyTracker,
+      GcsVectoredReadOptions options,
+      HedgeLauncher hedgeLauncher,
+      MetricsRecorder recorder) {
+    this.rangeFetcher = rangeFetcher;
+    this.latencyTracker = latencyTracker;
+    this.options = options;
+    this.hedgeLauncher = hedgeLauncher;
+    this.recorder = recorder;
+  }
+
+  /** Returns a launcher that submits hedges to {@code executorService}. */
+  static HedgeLauncher launchOn(ExecutorService executorService) {
+    return (hedge, onRejected) -> {
+      try {
+        var unused = executorService.submit(hedge);
+      } catch (RejectedExecutionException e) {
+        return false;
+      }
+
+      return true;
+    };
+  }
+
+  ByteBuffer read() throws IOException {
+    Attempt primary = new Attempt(false);
+    synchronized (this) {
+      attempts.add(primary);
+      if (result.isCancelled()) {
+        primary.abort();
+      }
+    }
+    latencyTracker.recordRangeRead();
+    ScheduledFuture<?> hedgeTimer = scheduleHedge(primary);
+    runAttempt(primary);
+    if (hedgeTimer != null) {
+      hedgeTimer.cancel(false);
+    }
+
+    return awaitResult();
+  }
+
+  /** Whether the data returned by {@link #read} comes from the hedge attempt. */
+  synchronized boolean isWonByHedge() {
+    return isWonByHedge;
+  }
+
+  /** Aborts every attempt, so that {@link #read} fails with a {@link CancellationException}. */
+  synchronized void cancel() {
+    if (!result.cancel(false)) {
+      return;
+    }
+    for (Attempt attempt : attempts) {
+      attempt.abort();
+    }
+  }
+
+  private ScheduledFuture<?> scheduleHedge(Attempt primary) {
+    if (!options.isHedgingEnabled()) {
+      return null;
+    }
+    OptionalLong hedgeDelayNanos =
+        latencyTracker.getFirstByteLatencyPercentile(options.getHedgingLatencyPercentile());
+    if (hedgeDelayNanos.isEmpty()) {
+      return null;
+    }
+
+    return HEDGE_TIMER.schedule(
+        () -> maybeIssueHedge(primary), hedgeDelayNanos.getAsLong(), TimeUnit.NANOSECONDS);
+  }
+
+  private synchronized void maybeIssueHedge(Attempt primary) {
+    if (result.isDone()
+        || primary.hasReceivedFirstByte()
+        || !latencyTracker.tryAcquireHedge(options.getHedgingMaxRatePercent())) {
+      return;
+    }
+    Attempt hedge = new Attempt(true);
+    attempts.add(hedge);
+    if (!hedgeLauncher.tryLaunch(() -> runAttempt(hedge), this::onAttemptFailed)) {
+      attempts.remove(hedge);
+      return;
+    }
+    recorder.record(Metric.HEDGED_READ_ISSUED, 1, Collections.emptyMap());
+  }
+
+  private void runAttempt(Attempt attempt) {
+    try {
+      onAttemptSucceeded(attempt, rangeFetcher.fetch(attempt));
+    } catch (IOException | RuntimeException e) {
+      onAttemptFailed(e);
+    }
+  }
+
+  private synchronized void onAttemptSucceeded(Attempt attempt, ByteBuffer data) {
+    if (!result.complete(data)) {
+      return;
+    }
+    if (attempt.isHedge) {
+      isWonByHedge = true;
+      recorder.record(Metric.HEDGED_READ_WON, 1, Collections.emptyMap());
+    }
+    for (Attempt other : attempts) {
+      if (other != attempt) {
+        other.abort();
+      }
+    }
+  }
+
+  private synchronized void onAttemptFailed(Throwable e) {
+    failedAttempts++;
+    if (failedAttempts == attempts.size()) {
+      result.completeExceptionally(e);
+    }
+  }
+
+  private ByteBuffer awaitResult() throws IOException {
+    try {
+      return result.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for hedged range read");
+    } catch (ExecutionException e) {
+      Throwables.throwIfInstanceOf(e.getCause(), IOException.class);
+      Throwables.throwIfUnchecked(e.getCause());
+      throw new IOException(e.getCause());
+    }
+  }
+
+  /** A single request for the range, either the primary one or its hedge. */
+  final class Attempt {
+    private final boolean isHedge;
+    private final long startNanos = System.nanoTime();
+    private volatile boolean receivedFirstByte = false;
+    private ReadChannel channel;
+    private boolean isAborted = false;
+
+    private Attempt(boolean isHedge) {
+      this.isHedge = isHedge;
+    }
+
+    /** Registers the channel serving this attempt so that it can be closed if the attempt loses. */
+    synchronized void onChannelOpened(ReadChannel channel) throws ClosedChannelException {
+      if (isAborted) {
+        channel.close();
+        throw new ClosedChannelException();
+      }
+      this.channel = channel;
+    }
+
+    void onBytesRead() {
+      if (!receivedFirstByte) {
+        receivedFirstByte = true;
+        latencyTracker.recordFirstByteLatency(System.nanoTime() - startNanos);
+      }
+    }
+
+    boolean isHedge() {
+      return isHedge;
+    }
+
+    boolean hasReceivedFirstByte() {
+      return receivedFirstByte;
+    }
+
+    private synchronized void abort() {
+      isAborted = true;
+      if (channel != null) {
+        channel.close();
+      }
+    }
+  }
+}
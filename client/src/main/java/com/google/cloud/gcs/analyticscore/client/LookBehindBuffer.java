@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.nio.ByteBuffer;
+
+/**
+ * A bounded ring buffer that retains the most recently consumed bytes of an object, so that short
+ * backward seeks can be served without a new request.
+ *
+ * <p>The buffer holds a contiguous window ending at {@link #getEndPosition()}. The byte at object
+ * offset {@code p} is stored at index {@code p % capacity}. Appending bytes that do not continue
+ * the window discards it.
+ */
+class LookBehindBuffer {
+  private final byte[] ring;
+  private long endPosition = 0;
+  private int size = 0;
+
+  LookBehindBuffer(int capacity) {
+    checkArgument(capacity > 0, "capacity must be positive but was %s", capacity);
+    this.ring = new byte[capacity];
+  }
+
+  /**
+   * Retains the remaining bytes of {@code src}, which were consumed starting at object offset
+   * {@code position}. The position of {@code src} is not modified.
+   */
+  void append(long position, ByteBuffer src) {
+    if (position != endPosition) {
+      endPosition = position;
+      size = 0;
+    }
+    int length = src.remaining();
+    ByteBuffer data = src.duplicate();
+    if (length > ring.length) {
+      data.position(data.position() + length - ring.length);
+    }
+    long writePosition = endPosition + length - data.remaining();
+    while (data.hasRemaining()) {
+      int offset = (int) (writePosition % ring.length);
+      int bytesToCopy = Math.min(data.remaining(), ring.length - offset);
+      data.get(ring, offset, bytesToCopy);
+      writePosition += bytesToCopy;
+    }
+    endPosition += length;
+    size = (int) Math.min(ring.length, (long) size + length);
+  }
+
+  /**
+   * Copies retained bytes starting at {@code position} into {@code dst}.
+   *
+   * @return the number of bytes copied, or 0 if {@code position} is outside the retained window
+   */
+  int read(long position, ByteBuffer dst) {
+    if (!contains(position)) {
+      return 0;
+    }
+    int bytesRead = (int) Math.min(dst.remaining(), endPosition - position);
+    long readPosition = position;
+    int remaining = bytesRead;
+    while (remaining > 0) {
+      int offset = (int) (readPosition % ring.length);
+      int bytesToCopy = Math.min(remaining, ring.length - offset);
+      dst.put(ring, offset, bytesToCopy);
+      readPosition += bytesToCopy;
+      remaining -= bytesToCopy;
+    }
+
+    return bytesRead;
+  }
+
+  boolean contains(long position) {
+    return position >= endPosition - size && position < endPosition;
+  }
+
+  /** Returns the object offset just past the last retained byte. */
+  long getEndPosition() {
+    return endPosition;
+  }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import com.google.cloud.ReadChannel;
+import com.google.cloud.RestorableState;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+
+/**
+ * A {@link ReadChannel} that reports the timing of its reads to a {@link SeekCostEstimator}.
+ *
+ * <p>The SDK channel issues its request lazily, so the first read after the channel is opened or
+ * repositioned is recorded as the time to first byte and any later read as a transfer.
+ */
+class MeasuredReadChannel implements ReadChannel {
+  private final ReadChannel delegate;
+  private final SeekCostEstimator seekCostEstimator;
+  private boolean isAwaitingFirstByte = true;
+
+  MeasuredReadChannel(ReadChannel delegate, SeekCostEstimator seekCostEstimator) {
+    this.delegate = delegate;
+    this.seekCostEstimator = seekCostEstimator;
+  }
+
+  @Override
+  public int read(ByteBuffer dst) throws IOException {
+    long startNanos = System.nanoTime();
+    int bytesRead = delegate.read(dst);
+    long durationNanos = System.nanoTime() - startNanos;
+    if (bytesRead > 0) {
+      if (isAwaitingFirstByte) {
+        isAwaitingFirstByte = false;
+        seekCostEstimator.recordFirstByteLatency(durationNanos);
+      } else {
+        seekCostEstimator.recordTransfer(bytesRead, durationNanos);
+      }
+    }
+
+    return bytesRead;
+  }
+
+  @Override
+  public void seek(long position) throws IOException {
+    delegate.seek(position);
+    isAwaitingFirstByte = true;
+  }
+
+  @Override
+  public void setChunkSize(int chunkSize) {
+    delegate.setChunkSize(chunkSize);
+  }
+
+  @Override
+  public ReadChannel limit(long limit) {
+    delegate.limit(limit);
+    return this;
+  }
+
+  @Override
+  public long limit() {
+    return delegate.limit();
+  }
+
+  @Override
+  public boolean isOpen() {
+    return delegate.isOpen();
+  }
+
+  @Override
+  public void close() {
+    delegate.close();
+  }
+
+  @Override
+  public RestorableState<ReadChannel> capture() {
+    return delegate.capture();
+  }
+}
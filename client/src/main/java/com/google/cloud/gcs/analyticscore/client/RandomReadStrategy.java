@@ -18,8 +18,22 @@ package com.google.cloud.gcs.analyticscore.client;
 import com.google.cloud.ReadChannel;
 import com.google.cloud.storage.Storage;
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
 
+/**
+ * Reads through bounded channels sized for the requested ranges.
+ *
+ * <p>Up to {@link GcsReadOptions#getRandomReadMaxOpenChannels()} channels are kept open so that
+ * readers alternating between a few regions of the object, such as the column chunks of a Parquet
+ * row group, do not reopen a connection on every switch. Each read is routed to the channel that
+ * can serve it and the least recently used idle channel is closed when the cap is reached.
+ */
 class RandomReadStrategy extends AbstractReadStrategy {
+  /** Idle channels, most recently used first. */
+  private final Deque<Cursor> idleCursors = new ArrayDeque<>();
+
   private long currentLimit = -1;
 
   RandomReadStrategy(
@@ -27,6 +41,15 @@ class RandomReadStrategy extends AbstractReadStrategy {
     super(storage, itemId, options, itemInfo);
   }
 
+  RandomReadStrategy(
+      Storage storage,
+      GcsItemId itemId,
+      GcsReadOptions options,
+      GcsItemInfo itemInfo,
+      SeekCostEstimator seekCostEstimator) {
+    super(storage, itemId, options, itemInfo, seekCostEstimator);
+  }
+
   @Override
   public ReadChannel getReadChannel(long requestedPosition, int bytesToRead) throws IOException {
     long requestedEndPosition = requestedPosition + bytesToRead;
@@ -34,19 +57,61 @@ class RandomReadStrategy extends AbstractReadStrategy {
         && performPendingSeeks(requestedPosition)) {
       return channel;
     }
+    if (switchToIdleCursor(requestedPosition, requestedEndPosition)
+        && performPendingSeeks(requestedPosition)) {
+      return channel;
+    }
 
     return openBoundedReadChannel(requestedPosition, bytesToRead);
   }
 
+  @Override
+  public void close() throws IOException {
+    for (Cursor cursor : idleCursors) {
+      cursor.channel.close();
+    }
+    idleCursors.clear();
+    super.close();
+  }
+
   private boolean canReuseChannel(long requestedPosition, long requestedEndPosition) {
     return channel != null && requestedPosition >= position && requestedEndPosition <= currentLimit;
   }
 
-  private ReadChannel openBoundedReadChannel(long requestedPosition, int bytesToRead)
-      throws IOException {
-    if (channel != null && channel.isOpen()) {
+  private boolean switchToIdleCursor(long requestedPosition, long requestedEndPosition) {
+    Iterator<Cursor> iterator = idleCursors.iterator();
+    while (iterator.hasNext()) {
+      Cursor cursor = iterator.next();
+      if (requestedPosition >= cursor.position && requestedEndPosition <= cursor.limit) {
+        iterator.remove();
+        parkCurrentChannel();
+        channel = cursor.channel;
+        position = cursor.position;
+        currentLimit = cursor.limit;
+        return true;
+      }
+    }
+
+    return false;
+  }
+
+  private void parkCurrentChannel() {
+    if (channel == null || !channel.isOpen()) {
+      return;
+    }
+    if (position >= currentLimit || options.getRandomReadMaxOpenChannels() <= 1) {
       channel.close();
+      return;
+    }
+    idleCursors.addFirst(new Cursor(channel, position, currentLimit));
+    while (idleCursors.size() >= options.getRandomReadMaxOpenChannels()) {
+      idleCursors.removeLast().channel.close();
     }
+  }
+
+  private ReadChannel openBoundedReadChannel(long requestedPosition, int bytesToRead)
+      throws IOException {
+    parkCurrentChannel();
     currentLimit = requestedPosition + Math.max(bytesToRead, options.getRandomReadMinRequestSize());
     channel = openSdkReadChannel();
     channel.setChunkSize(0);
@@ -61,4 +126,17 @@ class RandomReadStrategy extends AbstractReadStrategy {
   public long getLimit() {
     return currentLimit;
   }
+
+  /** A bounded channel that is open but not currently serving reads. */
+  private static final class Cursor {
+    private final ReadChannel channel;
+    private final long position;
+    private final long limit;
+
+    private Cursor(ReadChannel channel, long position, long limit) {
+      this.channel = channel;
+      this.position = position;
+      this.limit = limit;
+    }
+  }
 }
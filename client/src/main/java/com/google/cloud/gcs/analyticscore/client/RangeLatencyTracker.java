@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import java.util.Arrays;
+import java.util.OptionalLong;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Tracks the time to first byte of recent combined range reads and how many of them were hedged.
+ *
+ * <p>A single tracker is shared by all channels opened through a client so that the latency
+ * distribution reflects the whole workload rather than a single file.
+ */
+class RangeLatencyTracker {
+  private static final int SAMPLE_WINDOW = 256;
+  private static final int MIN_SAMPLES = 16;
+
+  private final long[] firstByteLatencies = new long[SAMPLE_WINDOW];
+  private int sampleCount = 0;
+  private int nextSample = 0;
+  private final AtomicLong rangeReads = new AtomicLong();
+  private final AtomicLong hedgedReads = new AtomicLong();
+
+  void recordRangeRead() {
+    rangeReads.incrementAndGet();
+  }
+
+  synchronized void recordFirstByteLatency(long latencyNanos) {
+    firstByteLatencies[nextSample] = latencyNanos;
+    nextSample = (nextSample + 1) % SAMPLE_WINDOW;
+    sampleCount = Math.min(sampleCount + 1, SAMPLE_WINDOW);
+  }
+
+  /**
+   * Returns the given percentile of the recent first-byte latencies, or empty if too few reads
+   * have been observed to make the estimate meaningful.
+   */
+  synchronized OptionalLong getFirstByteLatencyPercentile(int percentile) {
+    if (sampleCount < MIN_SAMPLES) {
+      return OptionalLong.empty();
+    }
+    long[] sorted = Arrays.copyOf(firstByteLatencies, sampleCount);
+    Arrays.sort(sorted);
+    int index = (int) Math.ceil(percentile / 100.0 * sampleCount) - 1;
+
+    return OptionalLong.of(sorted[Math.max(0, Math.min(index, sampleCount - 1))]);
+  }
+
+  /**
+   * Reserves a hedge if doing so keeps hedged reads within {@code maxRatePercent} of all range
+   * reads.
+   */
+  boolean tryAcquireHedge(int maxRatePercent) {
+    while (true) {
+      long issued = hedgedReads.get();
+      if ((issued + 1) * 100 > rangeReads.get() * maxRatePercent) {
+        return false;
+      }
+      if (hedgedReads.compareAndSet(issued, issued + 1)) {
+        return true;
+      }
+    }
+  }
+}
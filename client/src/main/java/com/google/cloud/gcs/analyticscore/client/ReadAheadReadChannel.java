@@ -0,0 +1,318 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.cloud.ReadChannel;
+import com.google.cloud.RestorableState;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.IntFunction;
+
+/**
+ * A {@link ReadChannel} that prefetches an object sequentially into a bounded ring of buffers.
+ *
+ * <p>Chunks are fetched one after another on the provided executor, so at most {@code chunkCount}
+ * buffers of {@code chunkSize} bytes are held ahead of the reader. Reads are served from filled
+ * buffers and block only when the pipeline has not caught up yet. Forward seeks within the
+ * prefetch window are served by discarding buffered bytes; any other seek cancels the pipeline and
+ * restarts it at the new position.
+ */
+class ReadAheadReadChannel implements ReadChannel {
+
+  /** Opens an unbounded source channel positioned at the given offset. */
+  @FunctionalInterface
+  interface SourceOpener {
+    ReadChannel open(long position) throws IOException;
+  }
+
+  private final SourceOpener sourceOpener;
+  private final ExecutorService executorService;
+  private final int chunkSize;
+  private final int chunkCount;
+  private final IntFunction<ByteBuffer> allocate;
+
+  private Pipeline pipeline;
+  private long readPosition;
+  private boolean isOpen = true;
+
+  ReadAheadReadChannel(
+      SourceOpener sourceOpener,
+      ExecutorService executorService,
+      long startPosition,
+      int chunkSize,
+      int chunkCount) {
+    this(sourceOpener, executorService, startPosition, chunkSize, chunkCount, ByteBuffer::allocate);
+  }
+
+  ReadAheadReadChannel(
+      SourceOpener sourceOpener,
+      ExecutorService executorService,
+      long startPosition,
+      int chunkSize,
+      int chunkCount,
+      IntFunction<ByteBuffer> allocate) {
+    checkArgument(chunkSize > 0, "chunkSize must be positive");
+    checkArgument(chunkCount > 0, "chunkCount must be positive");
+    this.sourceOpener = checkNotNull(sourceOpener, "sourceOpener cannot be null");
+    this.executorService = checkNotNull(executorService, "executorService cannot be null");
+    this.chunkSize = chunkSize;
+    this.chunkCount = chunkCount;
+    this.allocate = checkNotNull(allocate, "allocate cannot be null");
+    restart(startPosition);
+  }
+
+  @Override
+  public synchronized int read(ByteBuffer dst) throws IOException {
+    if (!dst.hasRemaining()) {
+      return 0;
+    }
+    while (true) {
+      if (!isOpen) {
+        throw new ClosedChannelException();
+      }
+      Chunk head = nextChunk();
+      if (head != null) {
+        int bytesRead = head.copyTo(readPosition, dst);
+        readPosition += bytesRead;
+        if (readPosition >= head.getEnd()) {
+          recycle(pipeline.filledChunks.poll());
+        }
+        return bytesRead;
+      }
+      if (pipeline.failure != null) {
+        throw new IOException(
+            String.format("Read-ahead failed at position %d", pipeline.fetchPosition),
+            pipeline.failure);
+      }
+      if (pipeline.isEof) {
+        return -1;
+      }
+      scheduleFetch(pipeline);
+      awaitPipeline(pipeline);
+    }
+  }
+
+  @Override
+  public synchronized void seek(long position) throws IOException {
+    if (!isOpen) {
+      throw new ClosedChannelException();
+    }
+    if (isWithinWindow(position)) {
+      readPosition = position;
+      return;
+    }
+    pipeline.cancel();
+    restart(position);
+  }
+
+  @Override
+  public synchronized boolean isOpen() {
+    return isOpen;
+  }
+
+  @Override
+  public synchronized void close() {
+    if (isOpen) {
+      isOpen = false;
+      pipeline.cancel();
+      notifyAll();
+    }
+  }
+
+  @Override
+  public void setChunkSize(int chunkSize) {
+    // Chunking is governed by the read-ahead configuration.
+  }
+
+  @Override
+  public RestorableState<ReadChannel> capture() {
+    throw new UnsupportedOperationException("Read-ahead channels cannot be captured");
+  }
+
+  private boolean isWithinWindow(long position) {
+    return pipeline.failure == null
+        && position >= readPosition
+        && position - readPosition <= (long) chunkSize * chunkCount;
+  }
+
+  private void restart(long position) {
+    readPosition = position;
+    pipeline = new Pipeline(position);
+    scheduleFetch(pipeline);
+  }
+
+  /** Returns the filled chunk covering the read position, dropping chunks skipped by a seek. */
+  private Chunk nextChunk() {
+    Chunk head = pipeline.filledChunks.peek();
+    while (head != null && head.getEnd() <= readPosition) {
+      recycle(pipeline.filledChunks.poll());
+      head = pipeline.filledChunks.peek();
+    }
+    return head;
+  }
+
+  private void recycle(Chunk chunk) {
+    pipeline.freeBuffers.add(chunk.buffer);
+    scheduleFetch(pipeline);
+  }
+
+  /** Waits until the in-flight fetch of {@code target} settles or the channel is closed. */
+  private void awaitPipeline(Pipeline target) throws IOException {
+    try {
+      while (isOpen
+          && !target.isCancelled
+          && target.isFetching
+          && target.filledChunks.isEmpty()
+          && target.failure == null) {
+        wait();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for read-ahead data");
+    }
+  }
+
+  private void scheduleFetch(Pipeline target) {
+    if (target.isCancelled || target.isFetching || target.isEof || target.failure != null) {
+      return;
+    }
+    ByteBuffer buffer = target.freeBuffers.poll();
+    if (buffer == null) {
+      if (target.allocatedBuffers >= chunkCount) {
+        return;
+      }
+      buffer = allocate.apply(chunkSize);
+      target.allocatedBuffers++;
+    }
+    target.isFetching = true;
+    ByteBuffer fetchBuffer = buffer;
+    try {
+      var unused = executorService.submit(() -> fetchChunk(target, fetchBuffer));
+    } catch (RejectedExecutionException e) {
+      target.isFetching = false;
+      target.freeBuffers.add(fetchBuffer);
+      target.failure = e;
+    }
+  }
+
+  private void fetchChunk(Pipeline target, ByteBuffer buffer) {
+    Throwable error = null;
+    boolean reachedEof = false;
+    buffer.clear();
+    try {
+      ReadChannel source = target.isCancelled ? null : target.getOrOpenSource();
+      while (source != null && buffer.hasRemaining() && !target.isCancelled) {
+        if (source.read(buffer) < 0) {
+          reachedEof = true;
+          break;
+        }
+      }
+    } catch (IOException | RuntimeException e) {
+      error = e;
+    }
+    buffer.flip();
+    synchronized (this) {
+      target.isFetching = false;
+      if (target.isCancelled) {
+        target.closeSource();
+        return;
+      }
+      if (buffer.hasRemaining()) {
+        target.filledChunks.add(new Chunk(target.fetchPosition, buffer));
+        target.fetchPosition += buffer.remaining();
+      } else {
+        target.freeBuffers.add(buffer);
+      }
+      target.failure = error;
+      target.isEof = reachedEof;
+      scheduleFetch(target);
+      notifyAll();
+    }
+  }
+
+  /** A single generation of prefetching, started at a fixed position. */
+  private final class Pipeline {
+    private final Deque<Chunk> filledChunks = new ArrayDeque<>();
+    private final Deque<ByteBuffer> freeBuffers = new ArrayDeque<>();
+    private long fetchPosition;
+    private int allocatedBuffers = 0;
+    private ReadChannel source;
+    private boolean isFetching = false;
+    private boolean isEof = false;
+    private Throwable failure;
+    private volatile boolean isCancelled = false;
+
+    private Pipeline(long startPosition) {
+      this.fetchPosition = startPosition;
+    }
+
+    private ReadChannel getOrOpenSource() throws IOException {
+      // Only the single in-flight fetch task touches the source, so no locking is needed here.
+      if (source == null) {
+        source = sourceOpener.open(fetchPosition);
+      }
+      return source;
+    }
+
+    private void cancel() {
+      isCancelled = true;
+      filledChunks.clear();
+      if (!isFetching) {
+        closeSource();
+      }
+    }
+
+    private void closeSource() {
+      if (source != null) {
+        source.close();
+        source = null;
+      }
+    }
+  }
+
+  /** A filled buffer holding the object bytes starting at {@code offset}. */
+  private static final class Chunk {
+    private final long offset;
+    private final ByteBuffer buffer;
+
+    private Chunk(long offset, ByteBuffer buffer) {
+      this.offset = offset;
+      this.buffer = buffer;
+    }
+
+    private long getEnd() {
+      return offset + buffer.limit();
+    }
+
+    private int copyTo(long position, ByteBuffer dst) {
+      ByteBuffer view = buffer.duplicate();
+      view.position((int) (position - offset));
+      int bytesToCopy = Math.min(view.remaining(), dst.remaining());
+      view.limit(view.position() + bytesToCopy);
+      dst.put(view);
+      return bytesToCopy;
+    }
+  }
+}
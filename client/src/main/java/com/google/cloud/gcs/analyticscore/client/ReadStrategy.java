@@ -30,6 +30,14 @@ interface ReadStrategy {
    */
   ReadChannel getReadChannel(long requestedPosition, int bytesToRead) throws IOException;
 
+  /**
+   * Sets the buffer that bytes drained by in-place seeks are retained in, so that they can later
+   * serve backward seeks.
+   *
+   * @param lookBehindBuffer the buffer to append drained bytes to, or {@code null} to retain none
+   */
+  default void setLookBehindBuffer(LookBehindBuffer lookBehindBuffer) {}
+
   /**
    * Updates the strategy's current read position.
    *
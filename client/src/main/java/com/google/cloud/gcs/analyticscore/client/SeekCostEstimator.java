@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import com.google.cloud.gcs.analyticscore.common.GcsAnalyticsCoreTelemetryConstants.Attribute;
+import com.google.cloud.gcs.analyticscore.common.GcsAnalyticsCoreTelemetryConstants.Metric;
+import com.google.cloud.gcs.analyticscore.common.telemetry.Telemetry;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.util.OptionalLong;
+
+/**
+ * Estimates whether a forward seek is cheaper to serve by draining bytes from the open stream or
+ * by issuing a new request.
+ *
+ * <p>The estimator keeps exponentially weighted averages of the time to first byte of new requests
+ * and of the transfer rate of established streams, both fed by actual reads. Draining {@code n}
+ * bytes is expected to take {@code n / throughput}, while reopening costs one time to first byte.
+ * Until enough samples have been observed, the static in-place seek limit is used instead.
+ */
+class SeekCostEstimator {
+  private static final ImmutableMap<String, String> COMMON_ATTRIBUTES =
+      ImmutableMap.of(Attribute.CLASS_NAME.name(), SeekCostEstimator.class.getName());
+  private static final double SMOOTHING_FACTOR = 0.2;
+  private static final int MIN_SAMPLES = 4;
+
+  private final Telemetry telemetry;
+  private double firstByteLatencyNanos = 0;
+  private long firstByteSamples = 0;
+  private double transferredBytes = 0;
+  private double transferNanos = 0;
+  private long transferSamples = 0;
+
+  SeekCostEstimator() {
+    this(new Telemetry(ImmutableList.of()));
+  }
+
+  SeekCostEstimator(Telemetry telemetry) {
+    this.telemetry = telemetry;
+  }
+
+  /** Records the time it took a new request to return its first bytes. */
+  synchronized void recordFirstByteLatency(long latencyNanos) {
+    firstByteLatencyNanos =
+        firstByteSamples == 0
+            ? latencyNanos
+            : firstByteLatencyNanos + SMOOTHING_FACTOR * (latencyNanos - firstByteLatencyNanos);
+    firstByteSamples++;
+  }
+
+  /** Records a read from an established stream. */
+  synchronized void recordTransfer(long bytes, long durationNanos) {
+    if (bytes <= 0) {
+      return;
+    }
+    transferredBytes = (1 - SMOOTHING_FACTOR) * transferredBytes + bytes;
+    transferNanos = (1 - SMOOTHING_FACTOR) * transferNanos + Math.max(durationNanos, 1);
+    transferSamples++;
+  }
+
+  /** Returns the estimated time to first byte of a new request, if enough reads were observed. */
+  synchronized OptionalLong getFirstByteLatencyNanos() {
+    return firstByteSamples < MIN_SAMPLES
+        ? OptionalLong.empty()
+        : OptionalLong.of((long) firstByteLatencyNanos);
+  }
+
+  /** Returns the estimated time to drain the given number of bytes from an established stream. */
+  synchronized OptionalLong getDrainDurationNanos(long bytes) {
+    return transferSamples < MIN_SAMPLES
+        ? OptionalLong.empty()
+        : OptionalLong.of((long) (bytes * (transferNanos / transferredBytes)));
+  }
+
+  /** Returns the estimated number of bytes an established stream transfers in the given time. */
+  synchronized OptionalLong getTransferredBytes(long durationNanos) {
+    return transferSamples < MIN_SAMPLES
+        ? OptionalLong.empty()
+        : OptionalLong.of((long) (durationNanos * (transferredBytes / transferNanos)));
+  }
+
+  /**
+   * Decides whether a forward seek of {@code seekDistance} bytes should be served by draining the
+   * open stream, falling back to {@code inplaceSeekLimit} while the estimates are not available.
+   */
+  boolean shouldSkipInPlace(long seekDistance, long inplaceSeekLimit) {
+    OptionalLong firstByteLatencyNanos = getFirstByteLatencyNanos();
+    OptionalLong drainDurationNanos = getDrainDurationNanos(seekDistance);
+    boolean skipInPlace;
+    if (firstByteLatencyNanos.isPresent() && drainDurationNanos.isPresent()) {
+      skipInPlace = drainDurationNanos.getAsLong() <= firstByteLatencyNanos.getAsLong();
+      telemetry.recordMetric(
+          Metric.SEEK_ESTIMATED_FIRST_BYTE_LATENCY,
+          firstByteLatencyNanos.getAsLong(),
+          COMMON_ATTRIBUTES);
+      telemetry.recordMetric(
+          Metric.SEEK_ESTIMATED_DRAIN_DURATION, drainDurationNanos.getAsLong(), COMMON_ATTRIBUTES);
+    } else {
+      skipInPlace = seekDistance <= inplaceSeekLimit;
+    }
+    telemetry.recordMetric(
+        skipInPlace ? Metric.SEEK_IN_PLACE : Metric.SEEK_REOPEN, 1, COMMON_ATTRIBUTES);
+
+    return skipInPlace;
+  }
+}
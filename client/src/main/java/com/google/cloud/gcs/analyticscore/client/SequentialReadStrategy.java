@@ -17,19 +17,63 @@ package com.google.cloud.gcs.analyticscore.client;
 
 import com.google.cloud.ReadChannel;
 import com.google.cloud.storage.Storage;
+import com.google.common.base.Supplier;
+import com.google.common.base.Suppliers;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.IOException;
+import java.util.concurrent.ExecutorService;
 
 class SequentialReadStrategy extends AbstractReadStrategy {
+  private final Supplier<ExecutorService> executorServiceSupplier;
+  private final AdaptiveChunkSize adaptiveChunkSize;
 
   SequentialReadStrategy(
       Storage storage, GcsItemId itemId, GcsReadOptions options, GcsItemInfo itemInfo)
       throws IOException {
-    super(storage, itemId, options, itemInfo);
-    this.channel = openSdkReadChannel();
+    this(
+        storage,
+        itemId,
+        options,
+        itemInfo,
+        Suppliers.ofInstance(MoreExecutors.newDirectExecutorService()));
+  }
+
+  SequentialReadStrategy(
+      Storage storage,
+      GcsItemId itemId,
+      GcsReadOptions options,
+      GcsItemInfo itemInfo,
+      Supplier<ExecutorService> executorServiceSupplier)
+      throws IOException {
+    this(storage, itemId, options, itemInfo, executorServiceSupplier, new SeekCostEstimator());
+  }
+
+  SequentialReadStrategy(
+      Storage storage,
+      GcsItemId itemId,
+      GcsReadOptions options,
+      GcsItemInfo itemInfo,
+      Supplier<ExecutorService> executorServiceSupplier,
+      SeekCostEstimator seekCostEstimator)
+      throws IOException {
+    super(storage, itemId, options, itemInfo, seekCostEstimator);
+    this.executorServiceSupplier = executorServiceSupplier;
+    this.adaptiveChunkSize =
+        options.isAdaptiveChunkSizeEnabled() && !options.isReadAheadEnabled()
+            ? new AdaptiveChunkSize(
+                options.getAdaptiveChunkSizeInitial(), options.getAdaptiveChunkSizeMax())
+            : null;
+    if (!options.isReadAheadEnabled()) {
+      this.channel = openSdkReadChannel();
+      applyAdaptiveChunkSize();
+    }
   }
 
   @Override
   public ReadChannel getReadChannel(long requestedPosition, int bytesToRead) throws IOException {
+    if (options.isReadAheadEnabled()) {
+      return getReadAheadChannel(requestedPosition);
+    }
     if (channel == null) {
       openUnboundedReadChannel(requestedPosition);
     }
@@ -46,10 +90,68 @@ class SequentialReadStrategy extends AbstractReadStrategy {
       channel.close();
     }
     channel = openSdkReadChannel();
+    if (adaptiveChunkSize != null) {
+      adaptiveChunkSize.reset();
+      applyAdaptiveChunkSize();
+    }
     channel.seek(requestedPosition);
     position = requestedPosition;
   }
 
+  // Growth is only recorded here. Setting the chunk size of a live SDK channel discards what it has
+  // buffered and issues a new request, so the size is applied when the channel next seeks.
+  @Override
+  public void position(long newPosition) {
+    if (adaptiveChunkSize != null && channel != null && newPosition > position) {
+      adaptiveChunkSize.recordSequentialRead(newPosition - position);
+    }
+    super.position(newPosition);
+  }
+
+  // The seek restarts the download anyway. A forward seek keeps the chunk size reached by the scan,
+  // while a backward seek starts over from the initial size.
+  @Override
+  void onChannelSeek(long seekDistance) {
+    if (adaptiveChunkSize != null) {
+      if (seekDistance < 0) {
+        adaptiveChunkSize.reset();
+      }
+      applyAdaptiveChunkSize();
+    }
+  }
+
+  private void applyAdaptiveChunkSize() {
+    if (adaptiveChunkSize != null) {
+      channel.setChunkSize(adaptiveChunkSize.getChunkSize());
+    }
+  }
+
+  private ReadChannel getReadAheadChannel(long requestedPosition) throws IOException {
+    if (channel == null) {
+      channel =
+          new ReadAheadReadChannel(
+              this::openSdkReadChannelAt,
+              executorServiceSupplier.get(),
+              requestedPosition,
+              options.getReadAheadChunkSize(),
+              options.getReadAheadChunkCount(),
+              options::allocateBuffer);
+    } else if (requestedPosition != position) {
+      // The read-ahead channel decides whether the seek lands inside its prefetch window.
+      channel.seek(requestedPosition);
+    }
+    position = requestedPosition;
+
+    return channel;
+  }
+
+  private ReadChannel openSdkReadChannelAt(long requestedPosition) throws IOException {
+    ReadChannel sdkReadChannel = openSdkReadChannel();
+    sdkReadChannel.seek(requestedPosition);
+
+    return sdkReadChannel;
+  }
+
   @Override
   public long getLimit() {
     return Long.MAX_VALUE;
@@ -0,0 +1,257 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.cloud.ReadChannel;
+import com.google.cloud.RestorableState;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.IntFunction;
+
+/**
+ * A {@link ReadChannel} that downloads the object ahead of the cursor as fixed-size stripes.
+ *
+ * <p>Up to {@code stripeConcurrency} stripes are fetched at the same time, each through its own
+ * bounded channel, and are handed back to the reader in object order. Seeks that land inside the
+ * stripes already requested keep them; any other seek drops the outstanding stripes and restarts
+ * striping at the new position.
+ */
+class StripedReadChannel implements ReadChannel {
+
+  /** Opens a channel that returns the object bytes in {@code [position, limit)}. */
+  @FunctionalInterface
+  interface StripeOpener {
+    ReadChannel open(long position, long limit) throws IOException;
+  }
+
+  private final StripeOpener stripeOpener;
+  private final ExecutorService executorService;
+  private final long objectSize;
+  private final int stripeSize;
+  private final int stripeConcurrency;
+  private final IntFunction<ByteBuffer> allocate;
+  private final Deque<Stripe> stripes = new ArrayDeque<>();
+
+  private long readPosition;
+  private long nextStripePosition;
+  private boolean isOpen = true;
+
+  StripedReadChannel(
+      StripeOpener stripeOpener,
+      ExecutorService executorService,
+      long objectSize,
+      long startPosition,
+      int stripeSize,
+      int stripeConcurrency) {
+    this(
+        stripeOpener,
+        executorService,
+        objectSize,
+        startPosition,
+        stripeSize,
+        stripeConcurrency,
+        ByteBuffer::allocate);
+  }
+
+  StripedReadChannel(
+      StripeOpener stripeOpener,
+      ExecutorService executorService,
+      long objectSize,
+      long startPosition,
+      int stripeSize,
+      int stripeConcurrency,
+      IntFunction<ByteBuffer> allocate) {
+    checkArgument(stripeSize > 0, "stripeSize must be positive");
+    checkArgument(stripeConcurrency > 0, "stripeConcurrency must be positive");
+    this.stripeOpener = checkNotNull(stripeOpener, "stripeOpener cannot be null");
+    this.executorService = checkNotNull(executorService, "executorService cannot be null");
+    this.objectSize = objectSize;
+    this.stripeSize = stripeSize;
+    this.stripeConcurrency = stripeConcurrency;
+    this.allocate = checkNotNull(allocate, "allocate cannot be null");
+    this.readPosition = startPosition;
+    this.nextStripePosition = startPosition;
+  }
+
+  @Override
+  public int read(ByteBuffer dst) throws IOException {
+    while (true) {
+      Stripe head;
+      synchronized (this) {
+        if (!isOpen) {
+          throw new ClosedChannelException();
+        }
+        if (!dst.hasRemaining()) {
+          return 0;
+        }
+        if (readPosition >= objectSize) {
+          return -1;
+        }
+        scheduleStripes();
+        head = stripes.peek();
+      }
+      // Waits without holding the lock, so that close and seek can cancel the stripe.
+      ByteBuffer data = head.await();
+      synchronized (this) {
+        if (!isOpen) {
+          throw new ClosedChannelException();
+        }
+        if (data == null || stripes.peek() != head) {
+          // The stripe was dropped by a seek while waiting for it.
+          continue;
+        }
+        if (readPosition >= head.offset + data.limit()) {
+          // The object ended before the stripe was filled.
+          return -1;
+        }
+        ByteBuffer view = data.duplicate();
+        view.position((int) (readPosition - head.offset));
+        int bytesToCopy = Math.min(view.remaining(), dst.remaining());
+        view.limit(view.position() + bytesToCopy);
+        dst.put(view);
+        readPosition += bytesToCopy;
+        if (readPosition >= head.getEnd()) {
+          stripes.poll();
+          scheduleStripes();
+        }
+        return bytesToCopy;
+      }
+    }
+  }
+
+  @Override
+  public synchronized void seek(long position) throws IOException {
+    if (!isOpen) {
+      throw new ClosedChannelException();
+    }
+    Stripe head = stripes.peek();
+    if (head != null && position >= head.offset && position < nextStripePosition) {
+      readPosition = position;
+      while (stripes.peek().getEnd() <= readPosition) {
+        stripes.poll();
+      }
+      return;
+    }
+    cancelStripes();
+    readPosition = position;
+    nextStripePosition = position;
+  }
+
+  @Override
+  public synchronized boolean isOpen() {
+    return isOpen;
+  }
+
+  @Override
+  public synchronized void close() {
+    if (isOpen) {
+      isOpen = false;
+      cancelStripes();
+    }
+  }
+
+  @Override
+  public void setChunkSize(int chunkSize) {
+    // Each stripe is fetched with a single bounded request.
+  }
+
+  @Override
+  public RestorableState<ReadChannel> capture() {
+    throw new UnsupportedOperationException("Striped channels cannot be captured");
+  }
+
+  private void scheduleStripes() {
+    while (stripes.size() < stripeConcurrency && nextStripePosition < objectSize) {
+      int length = (int) Math.min(stripeSize, objectSize - nextStripePosition);
+      Stripe stripe = new Stripe(nextStripePosition, length);
+      try {
+        var unused = executorService.submit(() -> fetchStripe(stripe));
+      } catch (RejectedExecutionException e) {
+        stripe.data.completeExceptionally(e);
+      }
+      stripes.add(stripe);
+      nextStripePosition += length;
+    }
+  }
+
+  private void fetchStripe(Stripe stripe) {
+    if (stripe.data.isDone()) {
+      return;
+    }
+    ByteBuffer buffer = allocate.apply(stripe.length);
+    try (ReadChannel stripeChannel = stripeOpener.open(stripe.offset, stripe.getEnd())) {
+      while (buffer.hasRemaining() && !stripe.data.isDone()) {
+        if (stripeChannel.read(buffer) < 0) {
+          break;
+        }
+      }
+      buffer.flip();
+      stripe.data.complete(buffer);
+    } catch (IOException | RuntimeException e) {
+      stripe.data.completeExceptionally(e);
+    }
+  }
+
+  private void cancelStripes() {
+    for (Stripe stripe : stripes) {
+      stripe.data.cancel(false);
+    }
+    stripes.clear();
+  }
+
+  /** A contiguous region of the object fetched by a single bounded request. */
+  private static final class Stripe {
+    private final long offset;
+    private final int length;
+    private final CompletableFuture<ByteBuffer> data = new CompletableFuture<>();
+
+    private Stripe(long offset, int length) {
+      this.offset = offset;
+      this.length = length;
+    }
+
+    private long getEnd() {
+      return offset + length;
+    }
+
+    // Returns null if the stripe was cancelled.
+    private ByteBuffer await() throws IOException {
+      try {
+        return data.get();
+      } catch (CancellationException e) {
+        return null;
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException("Interrupted while waiting for stripe at " + offset);
+      } catch (ExecutionException e) {
+        throw new IOException(
+            String.format("Failed to fetch stripe [%d, %d)", offset, getEnd()), e.getCause());
+      }
+    }
+  }
+}
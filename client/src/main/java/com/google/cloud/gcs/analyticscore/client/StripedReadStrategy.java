@@ -0,0 +1,80 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import com.google.cloud.ReadChannel;
+import com.google.cloud.storage.Storage;
+import com.google.common.base.Supplier;
+import java.io.IOException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * Reads large objects sequentially by fetching fixed-size stripes ahead of the cursor over several
+ * concurrent bounded channels.
+ */
+class StripedReadStrategy extends AbstractReadStrategy {
+  private final Supplier<ExecutorService> executorServiceSupplier;
+
+  StripedReadStrategy(
+      Storage storage,
+      GcsItemId itemId,
+      GcsReadOptions options,
+      GcsItemInfo itemInfo,
+      Supplier<ExecutorService> executorServiceSupplier) {
+    super(storage, itemId, options, itemInfo);
+    this.executorServiceSupplier = executorServiceSupplier;
+  }
+
+  static boolean isApplicable(GcsReadOptions options, GcsItemInfo itemInfo) {
+    return options.isStripedReadEnabled()
+        && itemInfo != null
+        && itemInfo.getSize() >= options.getStripedReadThreshold();
+  }
+
+  @Override
+  public ReadChannel getReadChannel(long requestedPosition, int bytesToRead) throws IOException {
+    if (channel == null) {
+      channel =
+          new StripedReadChannel(
+              this::openStripeChannel,
+              executorServiceSupplier.get(),
+              itemInfo.getSize(),
+              requestedPosition,
+              options.getStripedReadStripeSize(),
+              options.getStripedReadConcurrency(),
+              options::allocateBuffer);
+    } else if (requestedPosition != position) {
+      channel.seek(requestedPosition);
+    }
+    position = requestedPosition;
+
+    return channel;
+  }
+
+  private ReadChannel openStripeChannel(long stripePosition, long stripeLimit) throws IOException {
+    ReadChannel stripeChannel = openSdkReadChannel();
+    stripeChannel.setChunkSize(0);
+    stripeChannel.limit(stripeLimit);
+    stripeChannel.seek(stripePosition);
+
+    return stripeChannel;
+  }
+
+  @Override
+  public long getLimit() {
+    return Long.MAX_VALUE;
+  }
+}
@@ -17,48 +17,105 @@ package com.google.cloud.gcs.analyticscore.client;
 
 import com.google.common.collect.ImmutableList;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 
 class VectoredIoUtil {
+  private static final Comparator<GcsObjectRange> BY_OFFSET =
+      Comparator.comparingLong(GcsObjectRange::getOffset);
+  private static final Comparator<GcsObjectRange> BY_LENGTH =
+      Comparator.comparingInt(GcsObjectRange::getLength);
+
   public static ImmutableList<GcsObjectRange> sortGcsObjectRanges(
       ImmutableList<GcsObjectRange> ranges) {
-    return ranges.stream()
-        .sorted(Comparator.comparingLong(GcsObjectRange::getOffset))
-        .collect(ImmutableList.toImmutableList());
+    return ImmutableList.copyOf(sortedArray(ranges));
+  }
+
+  /**
+   * Collapses ranges that are identical to or contained in another range, so that their bytes are
+   * fetched once.
+   *
+   * <p>Each group of a range and the ranges it contains is replaced by a single range with a new
+   * future. When that range completes, every range of the group is completed with a read-only view
+   * of its bytes, all sharing the fetched buffer. The group's range is cancelled once every range
+   * of the group has been cancelled. Ranges that neither contain nor are contained in another range
+   * are returned unchanged.
+   *
+   * @return the ranges to fetch, sorted by offset
+   */
+  public static ImmutableList<GcsObjectRange> deduplicateGcsObjectRanges(
+      ImmutableList<GcsObjectRange> ranges) {
+    if (ranges == null || ranges.size() < 2) {
+      return ranges == null ? ImmutableList.of() : ranges;
+    }
+
+    GcsObjectRange[] sortedRanges = ranges.toArray(new GcsObjectRange[0]);
+    // Containing ranges first, so that each group starts with the range that covers it.
+    Arrays.sort(sortedRanges, BY_OFFSET.thenComparing(BY_LENGTH.reversed()));
+    ImmutableList.Builder<GcsObjectRange> uniqueRanges = ImmutableList.builder();
+    int groupStartIndex = 0;
+    for (int i = 1; i <= sortedRanges.length; i++) {
+      GcsObjectRange container = sortedRanges[groupStartIndex];
+      if (i < sortedRanges.length && isContained(sortedRanges[i], container)) {
+        continue;
+      }
+      if (i - groupStartIndex == 1) {
+        uniqueRanges.add(container);
+      } else {
+        uniqueRanges.add(
+            shareRange(container, Arrays.asList(sortedRanges).subList(groupStartIndex, i)));
+      }
+      groupStartIndex = i;
+    }
+
+    return uniqueRanges.build();
   }
 
+  /**
+   * Merges ranges whose gap is below {@code maxMergeGap} into combined ranges of at most {@code
+   * maxMergeSize} bytes.
+   *
+   * <p>Ranges are sorted only if they are not already in offset order, then merged in a single
+   * pass that tracks the bounds of the current combined range in primitives. Each combined range
+   * copies its underlying ranges once, so merging takes linear time after sorting.
+   */
   public static ImmutableList<GcsObjectCombinedRange> mergeGcsObjectRanges(
       ImmutableList<GcsObjectRange> ranges, int maxMergeGap, int maxMergeSize) {
     if (ranges == null || ranges.isEmpty()) {
       return ImmutableList.of();
     }
 
-    ImmutableList<GcsObjectRange> sortedRanges = sortGcsObjectRanges(ranges);
+    GcsObjectRange[] sortedRanges = sortedArray(ranges);
+    List<GcsObjectRange> sortedRangeList = Arrays.asList(sortedRanges);
     ImmutableList.Builder<GcsObjectCombinedRange> combinedRanges = ImmutableList.builder();
-    GcsObjectCombinedRange currentCombinedRange = null;
-
-    for (GcsObjectRange nextRange : sortedRanges) {
-      if (currentCombinedRange == null) {
-        currentCombinedRange = createCombinedRangeFromSingleRange(nextRange);
-        continue;
-      }
-
-      long currentEnd = currentCombinedRange.getOffset() + currentCombinedRange.getLength();
+    int currentStartIndex = 0;
+    long currentOffset = sortedRanges[0].getOffset();
+    long currentEnd = currentOffset + sortedRanges[0].getLength();
+    for (int i = 1; i < sortedRanges.length; i++) {
+      GcsObjectRange nextRange = sortedRanges[i];
       long nextEnd = nextRange.getOffset() + nextRange.getLength();
       long gap = nextRange.getOffset() - currentEnd;
-      long potentialMergedSize = Math.max(currentEnd, nextEnd) - currentCombinedRange.getOffset();
+      long potentialMergedSize = Math.max(currentEnd, nextEnd) - currentOffset;
 
       if (canMerge(gap, potentialMergedSize, maxMergeGap, maxMergeSize)) {
-        currentCombinedRange = currentCombinedRange.union(nextRange);
+        currentEnd = Math.max(currentEnd, nextEnd);
       } else {
-        combinedRanges.add(currentCombinedRange);
-        currentCombinedRange = createCombinedRangeFromSingleRange(nextRange);
+        combinedRanges.add(
+            createCombinedRange(
+                sortedRangeList.subList(currentStartIndex, i), currentOffset, currentEnd));
+        currentStartIndex = i;
+        currentOffset = nextRange.getOffset();
+        currentEnd = nextEnd;
       }
     }
-
-    if (currentCombinedRange != null) {
-      combinedRanges.add(currentCombinedRange);
-    }
+    combinedRanges.add(
+        createCombinedRange(
+            sortedRangeList.subList(currentStartIndex, sortedRanges.length),
+            currentOffset,
+            currentEnd));
 
     return combinedRanges.build();
   }
@@ -73,11 +130,80 @@ class VectoredIoUtil {
     return result;
   }
 
-  private static GcsObjectCombinedRange createCombinedRangeFromSingleRange(GcsObjectRange range) {
+  private static boolean isContained(GcsObjectRange range, GcsObjectRange container) {
+    return range.getOffset() >= container.getOffset()
+        && range.getOffset() + range.getLength()
+            <= container.getOffset() + container.getLength();
+  }
+
+  private static GcsObjectRange shareRange(GcsObjectRange container, List<GcsObjectRange> group) {
+    GcsObjectRange sharedRange =
+        GcsObjectRange.builder()
+            .setOffset(container.getOffset())
+            .setLength(container.getLength())
+            .setByteBufferFuture(new CompletableFuture<>())
+            .build();
+    ImmutableList<GcsObjectRange> members = ImmutableList.copyOf(group);
+    var unused =
+        sharedRange
+            .getByteBufferFuture()
+            .whenComplete(
+                (buffer, e) -> {
+                  for (GcsObjectRange member : members) {
+                    if (e != null) {
+                      member.getByteBufferFuture().completeExceptionally(e);
+                    } else {
+                      member
+                          .getByteBufferFuture()
+                          .complete(createView(buffer, sharedRange, member));
+                    }
+                  }
+                });
+    AtomicInteger cancelledMembers = new AtomicInteger();
+    for (GcsObjectRange member : members) {
+      var unusedMember =
+          member
+              .getByteBufferFuture()
+              .whenComplete(
+                  (buffer, e) -> {
+                    if (member.getByteBufferFuture().isCancelled()
+                        && cancelledMembers.incrementAndGet() == members.size()) {
+                      sharedRange.getByteBufferFuture().cancel(false);
+                    }
+                  });
+    }
+
+    return sharedRange;
+  }
+
+  private static ByteBuffer createView(
+      ByteBuffer buffer, GcsObjectRange sharedRange, GcsObjectRange member) {
+    int start = buffer.position() + (int) (member.getOffset() - sharedRange.getOffset());
+    ByteBuffer view = buffer.asReadOnlyBuffer();
+    view.limit(start + member.getLength());
+    view.position(start);
+
+    return view;
+  }
+
+  private static GcsObjectRange[] sortedArray(ImmutableList<GcsObjectRange> ranges) {
+    GcsObjectRange[] sortedRanges = ranges.toArray(new GcsObjectRange[0]);
+    for (int i = 1; i < sortedRanges.length; i++) {
+      if (sortedRanges[i].getOffset() < sortedRanges[i - 1].getOffset()) {
+        Arrays.sort(sortedRanges, BY_OFFSET);
+        break;
+      }
+    }
+
+    return sortedRanges;
+  }
+
+  private static GcsObjectCombinedRange createCombinedRange(
+      List<GcsObjectRange> underlyingRanges, long offset, long end) {
     return GcsObjectCombinedRange.builder()
-        .setOffset(range.getOffset())
-        .setLength(range.getLength())
-        .setUnderlyingRanges(ImmutableList.of(range))
+        .setOffset(offset)
+        .setLength((int) (end - offset))
+        .setUnderlyingRanges(ImmutableList.copyOf(underlyingRanges))
         .build();
   }
 
@@ -0,0 +1,312 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.cloud.gcs.analyticscore.common.GcsAnalyticsCoreTelemetryConstants.Attribute;
+import com.google.cloud.gcs.analyticscore.common.GcsAnalyticsCoreTelemetryConstants.Metric;
+import com.google.cloud.gcs.analyticscore.common.telemetry.Telemetry;
+import com.google.common.base.Supplier;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.InterruptedIOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+/**
+ * Schedules the combined range reads of vectored reads onto the shared thread pool.
+ *
+ * <p>Reads are queued per stream and dispatched round-robin across streams, so that a stream with
+ * many ranges cannot starve the others. At most {@code maxInFlight} reads run at a time, and at
+ * most {@code maxInFlightPerStream} of them for the same stream. When {@code maxQueued} reads are
+ * already waiting, {@link #submit} blocks the caller until a queued read is dispatched, while
+ * {@link #trySubmit} returns without queueing the read. {@link #tryStart} bypasses the queue for
+ * reads that are only worth running right away, such as hedges.
+ *
+ * <p>A client has a single scheduler, so its limits are taken from the vectored read options of the
+ * client. The scheduler limits in the read options passed when opening a channel are ignored.
+ */
+class VectoredReadScheduler {
+  private static final ImmutableMap<String, String> COMMON_ATTRIBUTES =
+      ImmutableMap.of(Attribute.CLASS_NAME.name(), VectoredReadScheduler.class.getName());
+
+  private final Supplier<ExecutorService> executorServiceSupplier;
+  private final Telemetry telemetry;
+  private final int maxInFlight;
+  private final int maxInFlightPerStream;
+  private final int maxQueued;
+  private final Map<Object, StreamQueue> streamQueues = new HashMap<>();
+  // Streams with queued reads, in the order they are served.
+  private final Deque<StreamQueue> readyStreams = new ArrayDeque<>();
+  private int inFlight = 0;
+  private int queued = 0;
+
+  VectoredReadScheduler(
+      Supplier<ExecutorService> executorServiceSupplier,
+      GcsVectoredReadOptions vectoredReadOptions,
+      Telemetry telemetry) {
+    this.executorServiceSupplier =
+        checkNotNull(executorServiceSupplier, "executorServiceSupplier cannot be null");
+    this.telemetry = checkNotNull(telemetry, "telemetry cannot be null");
+    this.maxInFlight = vectoredReadOptions.getSchedulerMaxInFlight();
+    this.maxInFlightPerStream = vectoredReadOptions.getSchedulerMaxInFlightPerStream();
+    this.maxQueued = vectoredReadOptions.getSchedulerMaxQueued();
+  }
+
+  /**
+   * Queues {@code read} on behalf of {@code stream}, blocking while the queue is full.
+   *
+   * @param onRejected called instead of {@code read} if the thread pool rejects it or the read is
+   *     cancelled while queued
+   * @throws InterruptedIOException if interrupted while waiting for space in the queue
+   */
+  void submit(Object stream, Runnable read, Consumer<Throwable> onRejected)
+      throws InterruptedIOException {
+    List<ScheduledRead> dispatched;
+    synchronized (this) {
+      while (queued >= maxQueued) {
+        try {
+          wait();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new InterruptedIOException("Interrupted while waiting to queue vectored read");
+        }
+      }
+      dispatched = enqueue(stream, read, onRejected);
+    }
+    launch(dispatched);
+  }
+
+  /**
+   * Queues {@code read} on behalf of {@code stream} if the queue is not full, without blocking.
+   *
+   * @param onRejected called instead of {@code read} if the thread pool rejects it or the read is
+   *     cancelled while queued
+   * @return whether {@code read} was queued
+   */
+  boolean trySubmit(Object stream, Runnable read, Consumer<Throwable> onRejected) {
+    List<ScheduledRead> dispatched;
+    synchronized (this) {
+      if (queued >= maxQueued) {
+        return false;
+      }
+      dispatched = enqueue(stream, read, onRejected);
+    }
+    launch(dispatched);
+
+    return true;
+  }
+
+  /**
+   * Starts {@code read} on behalf of {@code stream} if the in-flight limits leave room for it and
+   * no read of the stream is queued ahead of it. The read is never queued.
+   *
+   * @param onRejected called instead of {@code read} if the thread pool rejects it
+   * @return whether {@code read} was started
+   */
+  boolean tryStart(Object stream, Runnable read, Consumer<Throwable> onRejected) {
+    ScheduledRead scheduledRead;
+    synchronized (this) {
+      StreamQueue streamQueue = streamQueues.get(stream);
+      if (inFlight >= maxInFlight
+          || (streamQueue != null
+              && (streamQueue.inFlight >= maxInFlightPerStream
+                  || !streamQueue.pendingReads.isEmpty()))) {
+        return false;
+      }
+      if (streamQueue == null) {
+        streamQueue = new StreamQueue(stream);
+        streamQueues.put(stream, streamQueue);
+      }
+      scheduledRead = new ScheduledRead(streamQueue, read, onRejected);
+      streamQueue.inFlight++;
+      inFlight++;
+    }
+    launch(ImmutableList.of(scheduledRead));
+
+    return true;
+  }
+
+  /**
+   * Drops the reads of {@code stream} that are still queued, failing each through its {@code
+   * onRejected} consumer with a {@link CancellationException}. Reads already running are kept.
+   */
+  void cancel(Object stream) {
+    List<ScheduledRead> droppedReads;
+    synchronized (this) {
+      StreamQueue streamQueue = streamQueues.get(stream);
+      if (streamQueue == null || streamQueue.pendingReads.isEmpty()) {
+        return;
+      }
+      droppedReads = new ArrayList<>(streamQueue.pendingReads);
+      queued -= streamQueue.pendingReads.size();
+      streamQueue.pendingReads.clear();
+      readyStreams.remove(streamQueue);
+      if (streamQueue.inFlight == 0) {
+        streamQueues.remove(stream);
+      }
+      notifyAll();
+    }
+    for (ScheduledRead droppedRead : droppedReads) {
+      droppedRead.onRejected.accept(
+          new CancellationException("The vectored read was cancelled before it started"));
+    }
+  }
+
+  synchronized int getQueuedCount() {
+    return queued;
+  }
+
+  synchronized int getInFlightCount() {
+    return inFlight;
+  }
+
+  // Adds a read to the queue of its stream and dispatches what the limits allow. Must hold lock.
+  private List<ScheduledRead> enqueue(
+      Object stream, Runnable read, Consumer<Throwable> onRejected) {
+    StreamQueue streamQueue = streamQueues.computeIfAbsent(stream, StreamQueue::new);
+    if (streamQueue.pendingReads.isEmpty()) {
+      readyStreams.addLast(streamQueue);
+    }
+    streamQueue.pendingReads.addLast(new ScheduledRead(streamQueue, read, onRejected));
+    queued++;
+    telemetry.recordMetric(Metric.VECTORED_READ_QUEUE_DEPTH, queued, COMMON_ATTRIBUTES);
+
+    return dispatch();
+  }
+
+  // Takes reads off the queues round-robin until a limit is reached. Must hold the lock.
+  private List<ScheduledRead> dispatch() {
+    List<ScheduledRead> dispatched = new ArrayList<>();
+    boolean progress = true;
+    while (progress && inFlight < maxInFlight) {
+      progress = false;
+      for (int i = readyStreams.size(); i > 0 && inFlight < maxInFlight; i--) {
+        StreamQueue streamQueue = readyStreams.pollFirst();
+        if (streamQueue.inFlight < maxInFlightPerStream) {
+          dispatched.add(streamQueue.pendingReads.pollFirst());
+          streamQueue.inFlight++;
+          inFlight++;
+          queued--;
+          progress = true;
+        }
+        if (!streamQueue.pendingReads.isEmpty()) {
+          readyStreams.addLast(streamQueue);
+        }
+      }
+    }
+    if (!dispatched.isEmpty()) {
+      notifyAll();
+    }
+
+    return dispatched;
+  }
+
+  private void launch(List<ScheduledRead> dispatched) {
+    Deque<ScheduledRead> toLaunch = new ArrayDeque<>(dispatched);
+    while (!toLaunch.isEmpty()) {
+      ScheduledRead scheduledRead = toLaunch.pollFirst();
+      try {
+        executorServiceSupplier.get().execute(newTask(scheduledRead));
+      } catch (RejectedExecutionException e) {
+        scheduledRead.onRejected.accept(e);
+        toLaunch.addAll(complete(scheduledRead));
+      }
+    }
+  }
+
+  // A read whose task is cancelled before it starts, as by shutdownNow, is rejected instead.
+  private FutureTask<Void> newTask(ScheduledRead scheduledRead) {
+    AtomicBoolean started = new AtomicBoolean(false);
+    return new FutureTask<>(
+        () -> {
+          if (started.compareAndSet(false, true)) {
+            run(scheduledRead);
+          }
+        },
+        null) {
+      @Override
+      protected void done() {
+        if (isCancelled() && started.compareAndSet(false, true)) {
+          scheduledRead.onRejected.accept(
+              new CancellationException("The vectored read was cancelled before it started"));
+          onComplete(scheduledRead);
+        }
+      }
+    };
+  }
+
+  private void run(ScheduledRead scheduledRead) {
+    telemetry.recordMetric(
+        Metric.VECTORED_READ_QUEUE_WAIT_DURATION,
+        System.nanoTime() - scheduledRead.queuedNanos,
+        COMMON_ATTRIBUTES);
+    try {
+      scheduledRead.read.run();
+    } finally {
+      onComplete(scheduledRead);
+    }
+  }
+
+  private void onComplete(ScheduledRead scheduledRead) {
+    launch(complete(scheduledRead));
+  }
+
+  private synchronized List<ScheduledRead> complete(ScheduledRead scheduledRead) {
+    StreamQueue streamQueue = scheduledRead.streamQueue;
+    streamQueue.inFlight--;
+    inFlight--;
+    if (streamQueue.inFlight == 0 && streamQueue.pendingReads.isEmpty()) {
+      streamQueues.remove(streamQueue.stream);
+    }
+
+    return dispatch();
+  }
+
+  private static final class StreamQueue {
+    private final Object stream;
+    private final Deque<ScheduledRead> pendingReads = new ArrayDeque<>();
+    private int inFlight = 0;
+
+    private StreamQueue(Object stream) {
+      this.stream = stream;
+    }
+  }
+
+  private static final class ScheduledRead {
+    private final StreamQueue streamQueue;
+    private final Runnable read;
+    private final Consumer<Throwable> onRejected;
+    private final long queuedNanos = System.nanoTime();
+
+    private ScheduledRead(StreamQueue streamQueue, Runnable read, Consumer<Throwable> onRejected) {
+      this.streamQueue = streamQueue;
+      this.read = read;
+      this.onRejected = onRejected;
+    }
+  }
+}
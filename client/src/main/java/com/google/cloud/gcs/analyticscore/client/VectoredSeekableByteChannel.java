@@ -19,16 +19,42 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.SeekableByteChannel;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.IntFunction;
 
 public interface VectoredSeekableByteChannel extends SeekableByteChannel {
   /**
    * Reads the list of provided ranges in parallel.
    *
+   * <p>Nearby ranges may be fetched with a single request. The future of each range completes as
+   * soon as its bytes have been received, without waiting for the rest of the request.
+   *
    * @param ranges Ranges to be fetched in parallel
    * @param allocate the function to allocate ByteBuffer
    * @throws IOException on any IO failure
    */
   void readVectored(List<GcsObjectRange> ranges, IntFunction<ByteBuffer> allocate)
       throws IOException;
+
+  /**
+   * Starts reading the list of provided ranges in parallel like {@link #readVectored}, without
+   * blocking the calling thread to wait for capacity to read them. Ranges that cannot be read right
+   * away are failed instead. Defaults to {@link #readVectored}.
+   *
+   * @param ranges Ranges to be fetched in parallel
+   * @param allocate the function to allocate ByteBuffer
+   * @throws IOException on any IO failure
+   */
+  default void readVectoredNonBlocking(
+      List<GcsObjectRange> ranges, IntFunction<ByteBuffer> allocate) throws IOException {
+    readVectored(ranges, allocate);
+  }
+
+  /**
+   * Returns the id of the object read by this channel, including its content generation once the
+   * channel has resolved it. Defaults to empty.
+   */
+  default Optional<GcsItemId> getItemId() {
+    return Optional.empty();
+  }
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An executor that runs each task on its own virtual thread, with at most {@code maxConcurrency}
+ * tasks running at a time.
+ *
+ * <p>Tasks over the limit wait for a permit on their virtual thread, which costs no platform
+ * thread. {@link #shutdownNow} drops and returns the tasks still waiting for a permit. Virtual
+ * threads are looked up reflectively, so that the library still runs on JDKs that do not have
+ * them.
+ */
+class VirtualThreadExecutor extends AbstractExecutorService {
+  private static final Logger LOG = LoggerFactory.getLogger(VirtualThreadExecutor.class);
+
+  private final ExecutorService delegate;
+  private final Semaphore permits;
+  private final int maxConcurrency;
+  private final Set<PermitWaiter> waitingTasks = ConcurrentHashMap.newKeySet();
+
+  VirtualThreadExecutor(ExecutorService delegate, int maxConcurrency) {
+    checkArgument(maxConcurrency > 0, "maxConcurrency must be positive but was %s", maxConcurrency);
+    this.delegate = delegate;
+    this.permits = new Semaphore(maxConcurrency);
+    this.maxConcurrency = maxConcurrency;
+  }
+
+  /**
+   * Creates an executor backed by virtual threads, or returns empty if the running JVM does not
+   * support them.
+   */
+  static Optional<ExecutorService> create(int maxConcurrency) {
+    ExecutorService virtualThreadPerTaskExecutor;
+    try {
+      virtualThreadPerTaskExecutor =
+          (ExecutorService)
+              Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    } catch (ReflectiveOperationException | RuntimeException e) {
+      LOG.info("Virtual threads are not available, falling back to a platform thread pool", e);
+      return Optional.empty();
+    }
+
+    return Optional.of(new VirtualThreadExecutor(virtualThreadPerTaskExecutor, maxConcurrency));
+  }
+
+  int getMaxConcurrency() {
+    return maxConcurrency;
+  }
+
+  @Override
+  public void execute(Runnable command) {
+    PermitWaiter waiter = new PermitWaiter(command);
+    waitingTasks.add(waiter);
+    try {
+      delegate.execute(waiter);
+    } catch (RuntimeException e) {
+      // A task that shutdownNow has already dropped is handed back by it instead.
+      if (waitingTasks.remove(waiter)) {
+        throw e;
+      }
+    }
+  }
+
+  @Override
+  public void shutdown() {
+    delegate.shutdown();
+  }
+
+  /**
+   * Interrupts the running tasks and returns the tasks that had not started, including those still
+   * waiting for a permit. Tasks returned by {@link #submit} that are dropped this way are
+   * cancelled.
+   */
+  @Override
+  public List<Runnable> shutdownNow() {
+    List<Runnable> droppedTasks = new ArrayList<>();
+    for (Runnable task : delegate.shutdownNow()) {
+      if (!(task instanceof PermitWaiter)) {
+        droppedTasks.add(task);
+      }
+    }
+    for (PermitWaiter waiter : waitingTasks) {
+      if (waitingTasks.remove(waiter)) {
+        droppedTasks.add(waiter.command);
+        if (waiter.command instanceof Future) {
+          ((Future<?>) waiter.command).cancel(false);
+        }
+      }
+    }
+
+    return droppedTasks;
+  }
+
+  @Override
+  public boolean isShutdown() {
+    return delegate.isShutdown();
+  }
+
+  @Override
+  public boolean isTerminated() {
+    return delegate.isTerminated();
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    return delegate.awaitTermination(timeout, unit);
+  }
+
+  /** Runs a task once a permit is available, unless it is dropped by shutdownNow before that. */
+  private final class PermitWaiter implements Runnable {
+    private final Runnable command;
+
+    private PermitWaiter(Runnable command) {
+      this.command = command;
+    }
+
+    @Override
+    public void run() {
+      try {
+        permits.acquire();
+      } catch (InterruptedException e) {
+        // Interrupted by shutdownNow, which hands the task back to its caller.
+        Thread.currentThread().interrupt();
+        return;
+      }
+      try {
+        if (waitingTasks.remove(this)) {
+          command.run();
+        }
+      } finally {
+        permits.release();
+      }
+    }
+  }
+}
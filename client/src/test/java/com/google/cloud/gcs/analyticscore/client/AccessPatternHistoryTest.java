@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class AccessPatternHistoryTest {
+
+  private final AccessPatternHistory history = new AccessPatternHistory(2);
+
+  @Test
+  void lookup_unknownObject_returnsEmpty() {
+    assertThat(history.lookup(createItemId("table/part-0.parquet"), true)).isEmpty();
+  }
+
+  @Test
+  void lookup_recordedObject_returnsLastRecordedPattern() {
+    GcsItemId itemId = createItemId("table/part-0.parquet");
+    history.record(itemId, FileAccessPattern.SEQUENTIAL, false);
+    history.record(itemId, FileAccessPattern.RANDOM, false);
+
+    assertThat(history.lookup(itemId, false)).hasValue(FileAccessPattern.RANDOM);
+  }
+
+  @Test
+  void lookup_ignoresContentGeneration() {
+    history.record(createItemId("table/part-0.parquet"), FileAccessPattern.RANDOM, false);
+    GcsItemId newGeneration =
+        GcsItemId.builder()
+            .setBucketName("test-bucket")
+            .setObjectName("table/part-0.parquet")
+            .setContentGeneration(42L)
+            .build();
+
+    assertThat(history.lookup(newGeneration, false)).hasValue(FileAccessPattern.RANDOM);
+  }
+
+  @Test
+  void lookup_siblingWithPrefixEnabled_returnsPrefixPattern() {
+    history.record(createItemId("table/part-0.parquet"), FileAccessPattern.RANDOM, true);
+
+    assertThat(history.lookup(createItemId("table/part-1.parquet"), true))
+        .hasValue(FileAccessPattern.RANDOM);
+    assertThat(history.lookup(createItemId("table/part-1.parquet"), false)).isEmpty();
+    assertThat(history.lookup(createItemId("other/part-1.parquet"), true)).isEmpty();
+  }
+
+  @Test
+  void lookup_objectHistoryTakesPrecedenceOverPrefix() {
+    history.record(createItemId("table/part-0.parquet"), FileAccessPattern.SEQUENTIAL, true);
+    history.record(createItemId("table/part-1.parquet"), FileAccessPattern.RANDOM, true);
+
+    assertThat(history.lookup(createItemId("table/part-0.parquet"), true))
+        .hasValue(FileAccessPattern.SEQUENTIAL);
+  }
+
+  @Test
+  void record_beyondMaxEntries_evictsOldEntries() {
+    history.record(createItemId("first"), FileAccessPattern.RANDOM, false);
+    for (int i = 0; i < 100; i++) {
+      history.record(createItemId("object-" + i), FileAccessPattern.RANDOM, false);
+    }
+
+    assertThat(history.lookup(createItemId("first"), false)).isEmpty();
+  }
+
+  @Test
+  void record_adaptivePattern_throwsIllegalArgumentException() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> history.record(createItemId("a"), FileAccessPattern.AUTO_RANDOM, false));
+  }
+
+  private static GcsItemId createItemId(String objectName) {
+    return GcsItemId.builder().setBucketName("test-bucket").setObjectName(objectName).build();
+  }
+}
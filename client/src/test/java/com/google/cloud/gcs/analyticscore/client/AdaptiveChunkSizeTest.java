@@ -0,0 +1,71 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class AdaptiveChunkSizeTest {
+
+  @Test
+  void constructor_maxLessThanInitial_throwsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> new AdaptiveChunkSize(200, 100));
+  }
+
+  @Test
+  void recordSequentialRead_fullChunkConsumed_doublesChunkSize() {
+    AdaptiveChunkSize adaptiveChunkSize = new AdaptiveChunkSize(100, 1000);
+
+    assertThat(adaptiveChunkSize.recordSequentialRead(60)).isFalse();
+    assertThat(adaptiveChunkSize.recordSequentialRead(40)).isTrue();
+    assertThat(adaptiveChunkSize.getChunkSize()).isEqualTo(200);
+    assertThat(adaptiveChunkSize.recordSequentialRead(199)).isFalse();
+    assertThat(adaptiveChunkSize.getChunkSize()).isEqualTo(200);
+  }
+
+  @Test
+  void recordSequentialRead_capsAtMaxChunkSize() {
+    AdaptiveChunkSize adaptiveChunkSize = new AdaptiveChunkSize(100, 300);
+
+    adaptiveChunkSize.recordSequentialRead(100);
+    adaptiveChunkSize.recordSequentialRead(200);
+
+    assertThat(adaptiveChunkSize.getChunkSize()).isEqualTo(300);
+    assertThat(adaptiveChunkSize.recordSequentialRead(10_000)).isFalse();
+  }
+
+  @Test
+  void reset_returnsToInitialChunkSize() {
+    AdaptiveChunkSize adaptiveChunkSize = new AdaptiveChunkSize(100, 1000);
+    adaptiveChunkSize.recordSequentialRead(100);
+
+    assertThat(adaptiveChunkSize.reset()).isTrue();
+    assertThat(adaptiveChunkSize.getChunkSize()).isEqualTo(100);
+    assertThat(adaptiveChunkSize.reset()).isFalse();
+  }
+
+  @Test
+  void reset_discardsPartialProgress() {
+    AdaptiveChunkSize adaptiveChunkSize = new AdaptiveChunkSize(100, 1000);
+    adaptiveChunkSize.recordSequentialRead(90);
+
+    adaptiveChunkSize.reset();
+
+    assertThat(adaptiveChunkSize.recordSequentialRead(10)).isFalse();
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.cloud.gcs.analyticscore.common.GcsAnalyticsCoreTelemetryConstants.Metric;
+import com.google.cloud.gcs.analyticscore.common.telemetry.MetricKey;
+import com.google.cloud.gcs.analyticscore.common.telemetry.Operation;
+import com.google.cloud.gcs.analyticscore.common.telemetry.OperationListener;
+import com.google.cloud.gcs.analyticscore.common.telemetry.Telemetry;
+import com.google.common.collect.ImmutableList;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class AdaptiveMergePolicyTest {
+
+  private final Map<Metric, Long> recordedMetrics = new ConcurrentHashMap<>();
+  private final SeekCostEstimator seekCostEstimator = new SeekCostEstimator();
+  private final AdaptiveMergePolicy policy =
+      new AdaptiveMergePolicy(
+          seekCostEstimator,
+          new Telemetry(
+              Collections.singletonList(
+                  new OperationListener() {
+                    @Override
+                    public void onOperationStart(Operation operation) {}
+
+                    @Override
+                    public void onOperationEnd(Operation operation, Map<MetricKey, Long> metrics) {
+                      metrics.forEach(
+                          (key, value) -> recordedMetrics.put((Metric) key.getMetric(), value));
+                    }
+                  })));
+
+  @Test
+  void mergeRanges_withoutSamples_usesStaticLimits() {
+    ImmutableList<GcsObjectRange> ranges = ImmutableList.of(range(0, 100), range(5_000, 100));
+
+    ImmutableList<GcsObjectCombinedRange> combinedRanges =
+        policy.mergeRanges(ranges, GcsVectoredReadOptions.builder().build(), 16);
+
+    assertThat(combinedRanges).hasSize(2);
+    assertThat(recordedMetrics).isEmpty();
+  }
+
+  @Test
+  void mergeRanges_gapBelowBandwidthDelayProduct_mergesRanges() {
+    // 1 ms to first byte at 0.1 byte per nanosecond: 100 KB in flight.
+    recordSamples(TimeUnit.MILLISECONDS.toNanos(1), 100_000, TimeUnit.MILLISECONDS.toNanos(1));
+    ImmutableList<GcsObjectRange> ranges = ImmutableList.of(range(0, 100), range(50_000, 100));
+
+    ImmutableList<GcsObjectCombinedRange> combinedRanges =
+        policy.mergeRanges(ranges, GcsVectoredReadOptions.builder().build(), 0);
+
+    assertThat(combinedRanges).hasSize(1);
+    assertThat(combinedRanges.get(0).getLength()).isEqualTo(50_100);
+    assertThat((double) recordedMetrics.get(Metric.VECTORED_READ_MERGE_GAP))
+        .isWithin(1)
+        .of(100_000);
+    assertThat(recordedMetrics).containsEntry(Metric.VECTORED_READ_MERGE_SIZE, 8L * 1024 * 1024);
+  }
+
+  @Test
+  void mergeRanges_spreadsRequestedBytesOverParallelism() {
+    recordSamples(TimeUnit.MILLISECONDS.toNanos(1), 10_000, TimeUnit.MILLISECONDS.toNanos(1));
+    ImmutableList<GcsObjectRange> ranges =
+        ImmutableList.of(
+            range(0, 100_000),
+            range(100_000, 100_000),
+            range(200_000, 100_000),
+            range(300_000, 100_000));
+    GcsVectoredReadOptions options = GcsVectoredReadOptions.builder().build();
+
+    assertThat(policy.mergeRanges(ranges, options, 4)).hasSize(4);
+    assertThat(policy.mergeRanges(ranges, options, 2)).hasSize(2);
+    assertThat(policy.mergeRanges(ranges, options, 0)).hasSize(1);
+  }
+
+  @Test
+  void mergeRanges_doesNotExceedStaticMaxMergeSize() {
+    recordSamples(TimeUnit.MILLISECONDS.toNanos(1), 100_000, TimeUnit.MILLISECONDS.toNanos(1));
+    ImmutableList<GcsObjectRange> ranges = ImmutableList.of(range(0, 100), range(2_000, 100));
+    GcsVectoredReadOptions options =
+        GcsVectoredReadOptions.builder().setMaxMergeSize(1_000).build();
+
+    ImmutableList<GcsObjectCombinedRange> combinedRanges = policy.mergeRanges(ranges, options, 1);
+
+    assertThat(combinedRanges).hasSize(2);
+    assertThat(recordedMetrics).containsEntry(Metric.VECTORED_READ_MERGE_GAP, 1_000L);
+    assertThat(recordedMetrics).containsEntry(Metric.VECTORED_READ_MERGE_SIZE, 1_000L);
+  }
+
+  private void recordSamples(long firstByteLatencyNanos, long bytes, long durationNanos) {
+    for (int i = 0; i < 4; i++) {
+      seekCostEstimator.recordFirstByteLatency(firstByteLatencyNanos);
+      seekCostEstimator.recordTransfer(bytes, durationNanos);
+    }
+  }
+
+  private static GcsObjectRange range(long offset, int length) {
+    return GcsObjectRange.builder()
+        .setOffset(offset)
+        .setLength(length)
+        .setByteBufferFuture(new CompletableFuture<>())
+        .build();
+  }
+}
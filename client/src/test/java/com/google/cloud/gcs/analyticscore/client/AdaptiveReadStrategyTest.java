@@ -19,6 +19,7 @@ import static com.google.common.truth.Truth.assertThat;
 
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.contrib.nio.testing.LocalStorageHelper;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.IOException;
 import org.junit.jupiter.api.Test;
 
@@ -46,6 +47,30 @@ class AdaptiveReadStrategyTest {
     assertThat(strategy.getLimit()).isEqualTo(Long.MAX_VALUE);
   }
 
+  @Test
+  void constructor_stripedReadEnabledForLargeObject_usesStripedStrategy() throws IOException {
+    createBlobInStorage("a".repeat(1000));
+    GcsReadOptions stripedOptions =
+        options.toBuilder().setStripedReadEnabled(true).setStripedReadThreshold(1000).build();
+
+    AdaptiveReadStrategy strategy =
+        new AdaptiveReadStrategy(storage, itemId, stripedOptions, itemInfo);
+
+    assertThat(strategy.getDelegateStrategy()).isInstanceOf(StripedReadStrategy.class);
+  }
+
+  @Test
+  void constructor_stripedReadEnabledForSmallObject_usesSequentialStrategy() throws IOException {
+    createBlobInStorage("a".repeat(1000));
+    GcsReadOptions stripedOptions =
+        options.toBuilder().setStripedReadEnabled(true).setStripedReadThreshold(1001).build();
+
+    AdaptiveReadStrategy strategy =
+        new AdaptiveReadStrategy(storage, itemId, stripedOptions, itemInfo);
+
+    assertThat(strategy.getDelegateStrategy()).isInstanceOf(SequentialReadStrategy.class);
+  }
+
   @Test
   void getReadChannel_smallForwardSeek_staysInSequentialMode() throws IOException {
     createBlobInStorage("a".repeat(1000));
@@ -298,6 +323,91 @@ class AdaptiveReadStrategyTest {
     assertThat(strategy.getLimit()).isEqualTo(Long.MAX_VALUE);
   }
 
+  @Test
+  void constructor_withRandomPatternInHistory_startsInRandomMode() throws IOException {
+    createBlobInStorage("a".repeat(1000));
+    AccessPatternHistory history = new AccessPatternHistory(10);
+    history.record(itemId, FileAccessPattern.RANDOM, false);
+    GcsReadOptions historyOptions =
+        options.toBuilder().setAccessPatternHistoryEnabled(true).build();
+
+    AdaptiveReadStrategy strategy = createStrategyWithHistory(historyOptions, history);
+
+    assertThat(strategy.getDelegateStrategy()).isInstanceOf(RandomReadStrategy.class);
+  }
+
+  @Test
+  void constructor_historyDisabled_ignoresHistory() throws IOException {
+    createBlobInStorage("a".repeat(1000));
+    AccessPatternHistory history = new AccessPatternHistory(10);
+    history.record(itemId, FileAccessPattern.RANDOM, false);
+
+    AdaptiveReadStrategy strategy = createStrategyWithHistory(options, history);
+
+    assertThat(strategy.getDelegateStrategy()).isInstanceOf(SequentialReadStrategy.class);
+  }
+
+  @Test
+  void getReadChannel_seededRandomStreamReadsSequentially_switchesToSequentialMode()
+      throws IOException {
+    createBlobInStorage("a".repeat(1000));
+    AccessPatternHistory history = new AccessPatternHistory(10);
+    history.record(itemId, FileAccessPattern.RANDOM, false);
+    GcsReadOptions historyOptions =
+        options.toBuilder()
+            .setAccessPatternHistoryEnabled(true)
+            .setAdaptiveReadSequentialReadThreshold(2)
+            .build();
+    AdaptiveReadStrategy strategy = createStrategyWithHistory(historyOptions, history);
+
+    strategy.getReadChannel(0, 10);
+    strategy.position(10);
+    strategy.getReadChannel(10, 10);
+    strategy.position(20);
+    strategy.getReadChannel(20, 10);
+
+    assertThat(strategy.getDelegateStrategy()).isInstanceOf(SequentialReadStrategy.class);
+  }
+
+  @Test
+  void close_recordsConvergedModeInHistory() throws IOException {
+    createBlobInStorage("a".repeat(1000));
+    AccessPatternHistory history = new AccessPatternHistory(10);
+    GcsReadOptions historyOptions =
+        options.toBuilder()
+            .setAccessPatternHistoryEnabled(true)
+            .setAccessPatternHistoryPrefixEnabled(true)
+            .build();
+    AdaptiveReadStrategy strategy = createStrategyWithHistory(historyOptions, history);
+    strategy.getReadChannel(500, 10);
+
+    strategy.close();
+
+    assertThat(history.lookup(itemId, false)).hasValue(FileAccessPattern.RANDOM);
+    GcsItemId sibling =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("other-object").build();
+    assertThat(history.lookup(sibling, true)).hasValue(FileAccessPattern.RANDOM);
+  }
+
+  @Test
+  void close_withoutReads_doesNotRecordHistory() throws IOException {
+    createBlobInStorage("a".repeat(1000));
+    AccessPatternHistory history = new AccessPatternHistory(10);
+    GcsReadOptions historyOptions =
+        options.toBuilder().setAccessPatternHistoryEnabled(true).build();
+    AdaptiveReadStrategy strategy = createStrategyWithHistory(historyOptions, history);
+
+    strategy.close();
+
+    assertThat(history.lookup(itemId, false)).isEmpty();
+  }
+
+  private AdaptiveReadStrategy createStrategyWithHistory(
+      GcsReadOptions readOptions, AccessPatternHistory history) throws IOException {
+    return new AdaptiveReadStrategy(
+        storage, itemId, readOptions, itemInfo, MoreExecutors::newDirectExecutorService, history);
+  }
+
   private void createBlobInStorage(String content) {
     StorageTestUtils.createBlobInStorage(storage, itemId, content);
   }
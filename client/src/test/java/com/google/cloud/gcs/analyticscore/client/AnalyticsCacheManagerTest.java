@@ -19,11 +19,21 @@ package com.google.cloud.gcs.analyticscore.client;
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.google.cloud.gcs.analyticscore.common.GcsAnalyticsCoreTelemetryConstants.Metric;
+import com.google.cloud.gcs.analyticscore.common.telemetry.MetricKey;
+import com.google.cloud.gcs.analyticscore.common.telemetry.Operation;
+import com.google.cloud.gcs.analyticscore.common.telemetry.OperationListener;
+import com.google.cloud.gcs.analyticscore.common.telemetry.Telemetry;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 class AnalyticsCacheManagerTest {
 
@@ -110,6 +120,31 @@ class AnalyticsCacheManagerTest {
     manager.invalidateAll();
   }
 
+  @Test
+  void getFooter_withoutLoader_returnsOnlyCachedFooter() throws IOException {
+    assertThat(manager.getFooter(ITEM_ID)).isEmpty();
+
+    manager.getFooter(ITEM_ID, itemId -> FOOTER.duplicate());
+
+    assertThat(manager.getFooter(ITEM_ID)).hasValue(FOOTER);
+    assertThat(manager.getFooter(ITEM_ID).get().isReadOnly()).isTrue();
+  }
+
+  @Test
+  void getSmallObject_withoutLoader_returnsOnlyCachedObject() throws IOException {
+    manager =
+        new AnalyticsCacheManager(
+            GcsCacheOptions.builder()
+                .setSmallObjectCacheEnabled(true)
+                .setSmallObjectCacheMaxSizeBytes(200)
+                .build());
+    assertThat(manager.getSmallObject(ITEM_ID)).isEmpty();
+
+    manager.getSmallObject(ITEM_ID, itemId -> FOOTER.duplicate());
+
+    assertThat(manager.getSmallObject(ITEM_ID)).hasValue(FOOTER);
+  }
+
   @Test
   void invalidateSmallObject_present_removesEntry() throws IOException {
     GcsCacheOptions cacheOptions =
@@ -172,4 +207,173 @@ class AnalyticsCacheManagerTest {
         });
     assertThat(callCount.get()).isEqualTo(2);
   }
+
+  @Test
+  void getBlock_blockCacheEnabled_returnsBlockOfSameGeneration() {
+    AnalyticsCacheManager blockCacheManager =
+        new AnalyticsCacheManager(GcsCacheOptions.builder().setBlockCacheEnabled(true).build());
+    blockCacheManager.putBlock(ITEM_ID, 1L, 3L, ByteBuffer.wrap(new byte[] {1, 2, 3}));
+
+    assertThat(blockCacheManager.getBlock(ITEM_ID, 1L, 3L))
+        .hasValue(ByteBuffer.wrap(new byte[] {1, 2, 3}));
+    assertThat(blockCacheManager.getBlock(ITEM_ID, 1L, 3L).get().isReadOnly()).isTrue();
+    assertThat(blockCacheManager.getBlock(ITEM_ID, 2L, 3L)).isEmpty();
+    assertThat(blockCacheManager.getBlock(ITEM_ID, 1L, 4L)).isEmpty();
+  }
+
+  @Test
+  void getBlock_blockCacheDisabled_returnsEmpty() {
+    manager.putBlock(ITEM_ID, 1L, 0L, ByteBuffer.wrap(new byte[] {1}));
+
+    assertThat(manager.isBlockCacheEnabled()).isFalse();
+    assertThat(manager.getBlock(ITEM_ID, 1L, 0L)).isEmpty();
+  }
+
+  @Test
+  void getFooter_offHeapCacheEnabled_returnsReadOnlyDirectBuffer() throws IOException {
+    AnalyticsCacheManager offHeapManager =
+        new AnalyticsCacheManager(
+            GcsCacheOptions.builder()
+                .setFooterCacheEnabled(true)
+                .setOffHeapCacheEnabled(true)
+                .setOffHeapCacheSlabSizeBytes(1024)
+                .build());
+
+    ByteBuffer footer = offHeapManager.getFooter(ITEM_ID, itemId -> FOOTER.duplicate());
+    ByteBuffer cachedFooter =
+        offHeapManager.getFooter(ITEM_ID, itemId -> ByteBuffer.wrap(new byte[] {4, 5, 6}));
+
+    assertThat(footer).isEqualTo(FOOTER);
+    assertThat(cachedFooter).isEqualTo(FOOTER);
+    assertThat(cachedFooter.isDirect()).isTrue();
+    assertThat(cachedFooter.isReadOnly()).isTrue();
+  }
+
+  @Test
+  void getFooter_diskCacheEnabled_servesEvictedFooterFromDisk(@TempDir Path directory)
+      throws IOException {
+    AnalyticsCacheManager tieredManager =
+        new AnalyticsCacheManager(
+            GcsCacheOptions.builder()
+                .setFooterCacheEnabled(true)
+                .setFooterCacheMaxSizeBytes(4)
+                .setOffHeapCacheEnabled(true)
+                .setOffHeapCacheSlabSizeBytes(4)
+                .setDiskCacheEnabled(true)
+                .setDiskCachePath(directory.toString())
+                .setDiskCacheMaxSizeBytes(64)
+                .setDiskCacheSegmentSizeBytes(16)
+                .build());
+    GcsItemId otherItemId = GcsItemId.builder().setBucketName("b").setObjectName("o2").build();
+    AtomicInteger callCount = new AtomicInteger(0);
+    tieredManager.getFooter(ITEM_ID, itemId -> FOOTER.duplicate());
+    tieredManager.getFooter(otherItemId, itemId -> ByteBuffer.wrap(new byte[] {4, 5, 6}));
+
+    ByteBuffer footer =
+        tieredManager.getFooter(
+            ITEM_ID,
+            itemId -> {
+              callCount.incrementAndGet();
+              return FOOTER.duplicate();
+            });
+    ByteBuffer otherFooter =
+        tieredManager.getFooter(
+            otherItemId,
+            itemId -> {
+              callCount.incrementAndGet();
+              return ByteBuffer.wrap(new byte[] {4, 5, 6});
+            });
+
+    assertThat(footer).isEqualTo(FOOTER);
+    assertThat(otherFooter).isEqualTo(ByteBuffer.wrap(new byte[] {4, 5, 6}));
+    assertThat(callCount.get()).isEqualTo(0);
+  }
+
+  @Test
+  void putBlock_diskCacheEnabled_reportsOnlyEvictionsFromDisk(@TempDir Path directory) {
+    AtomicLong evictions = new AtomicLong();
+    Telemetry telemetry =
+        new Telemetry(
+            Collections.singletonList(
+                new OperationListener() {
+                  @Override
+                  public void onOperationStart(Operation operation) {}
+
+                  @Override
+                  public void onOperationEnd(Operation operation, Map<MetricKey, Long> metrics) {
+                    metrics.forEach(
+                        (key, value) -> {
+                          if (key.getMetric() == Metric.BLOCK_CACHE_EVICTION) {
+                            evictions.addAndGet(value);
+                          }
+                        });
+                  }
+                }));
+    AnalyticsCacheManager tieredManager =
+        new AnalyticsCacheManager(
+            GcsCacheOptions.builder()
+                .setBlockCacheEnabled(true)
+                .setBlockCacheBlockSizeBytes(4)
+                .setBlockCacheMaxSizeBytes(4)
+                .setOffHeapCacheEnabled(true)
+                .setOffHeapCacheSlabSizeBytes(4)
+                .setDiskCacheEnabled(true)
+                .setDiskCachePath(directory.toString())
+                .setDiskCacheMaxSizeBytes(4)
+                .setDiskCacheSegmentSizeBytes(4)
+                .build(),
+            telemetry);
+
+    tieredManager.putBlock(ITEM_ID, 1L, 0L, ByteBuffer.wrap(new byte[] {0, 0, 0}));
+    tieredManager.putBlock(ITEM_ID, 1L, 1L, ByteBuffer.wrap(new byte[] {1, 1, 1}));
+    assertThat(evictions.get()).isEqualTo(0);
+    tieredManager.putBlock(ITEM_ID, 1L, 2L, ByteBuffer.wrap(new byte[] {2, 2, 2}));
+
+    assertThat(evictions.get()).isEqualTo(1);
+    assertThat(tieredManager.getBlock(ITEM_ID, 1L, 0L)).isEmpty();
+    assertThat(tieredManager.getBlock(ITEM_ID, 1L, 1L))
+        .hasValue(ByteBuffer.wrap(new byte[] {1, 1, 1}));
+  }
+
+  @Test
+  void close_footerCacheSnapshotPathSet_newManagerLoadsFooters(@TempDir Path directory)
+      throws IOException {
+    GcsCacheOptions options =
+        GcsCacheOptions.builder()
+            .setFooterCacheEnabled(true)
+            .setFooterCacheSnapshotPath(directory.resolve("footers.snapshot").toString())
+            .build();
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("b").setObjectName("o").setContentGeneration(7L).build();
+    AnalyticsCacheManager firstManager = new AnalyticsCacheManager(options);
+    firstManager.getFooter(itemId, id -> FOOTER.duplicate());
+    firstManager.close();
+    AtomicInteger callCount = new AtomicInteger(0);
+
+    ByteBuffer footer =
+        new AnalyticsCacheManager(options)
+            .getFooter(
+                itemId,
+                id -> {
+                  callCount.incrementAndGet();
+                  return FOOTER.duplicate();
+                });
+
+    assertThat(footer).isEqualTo(FOOTER);
+    assertThat(callCount.get()).isEqualTo(0);
+  }
+
+  @Test
+  void create_footerCacheSnapshotMissing_writesSnapshotOnClose(@TempDir Path directory) {
+    AnalyticsCacheManager snapshotManager =
+        new AnalyticsCacheManager(
+            GcsCacheOptions.builder()
+                .setFooterCacheEnabled(true)
+                .setFooterCacheSnapshotPath(directory.resolve("missing.snapshot").toString())
+                .build());
+
+    snapshotManager.close();
+
+    assertThat(directory.resolve("missing.snapshot").toFile().exists()).isTrue();
+  }
 }
@@ -0,0 +1,156 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.cloud.gcs.analyticscore.common.telemetry.Telemetry;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import org.junit.jupiter.api.Test;
+
+class BlockCacheReaderTest {
+
+  private static final GcsItemId ITEM_ID =
+      GcsItemId.builder().setBucketName("b").setObjectName("o").build();
+  private static final long GENERATION = 7L;
+  private static final byte[] OBJECT_DATA = {0, 1, 2, 3, 4, 5, 6, 7, 8, 9};
+
+  private final AnalyticsCacheManager cacheManager =
+      new AnalyticsCacheManager(
+          GcsCacheOptions.builder()
+              .setBlockCacheEnabled(true)
+              .setBlockCacheMaxSizeBytes(1024)
+              .setBlockCacheBlockSizeBytes(4)
+              .build());
+  private final BlockCacheReader reader =
+      new BlockCacheReader(
+          cacheManager,
+          ITEM_ID,
+          GENERATION,
+          OBJECT_DATA.length,
+          new Telemetry(ImmutableList.of()),
+          ImmutableMap.of());
+  private final List<Long> loadedBlocks = new ArrayList<>();
+
+  @Test
+  void read_blockNotCached_loadsWholeBlockAndCachesIt() throws IOException {
+    ByteBuffer dst = ByteBuffer.allocate(10);
+
+    int bytesRead = reader.read(5, dst, this::loadBlock);
+
+    assertThat(bytesRead).isEqualTo(3);
+    assertThat(dst.flip()).isEqualTo(ByteBuffer.wrap(OBJECT_DATA, 5, 3));
+    assertThat(loadedBlocks).containsExactly(4L);
+    assertThat(cacheManager.getBlock(ITEM_ID, GENERATION, 1))
+        .hasValue(ByteBuffer.wrap(OBJECT_DATA, 4, 4));
+  }
+
+  @Test
+  void read_blockCached_servesWithoutLoading() throws IOException {
+    reader.read(0, ByteBuffer.allocate(1), this::loadBlock);
+    loadedBlocks.clear();
+    ByteBuffer dst = ByteBuffer.allocate(2);
+
+    int bytesRead = reader.read(2, dst, this::loadBlock);
+
+    assertThat(bytesRead).isEqualTo(2);
+    assertThat(dst.flip()).isEqualTo(ByteBuffer.wrap(OBJECT_DATA, 2, 2));
+    assertThat(loadedBlocks).isEmpty();
+  }
+
+  @Test
+  void read_pastEndOfObject_returnsZero() throws IOException {
+    assertThat(reader.read(10, ByteBuffer.allocate(1), this::loadBlock)).isEqualTo(0);
+    assertThat(loadedBlocks).isEmpty();
+  }
+
+  @Test
+  void isCacheable_rangeWithinObject_returnsTrue() {
+    assertThat(reader.isCacheable(createRange(6, 4))).isTrue();
+    assertThat(reader.isCacheable(createRange(8, 4))).isFalse();
+    assertThat(reader.isCacheable(createRange(2, 0))).isFalse();
+  }
+
+  @Test
+  void readVectored_returnsOnlyMissingBlocksAndCompletesRangesOnceRead() throws Exception {
+    cacheManager.putBlock(ITEM_ID, GENERATION, 0, ByteBuffer.wrap(OBJECT_DATA, 0, 4));
+    GcsObjectRange cachedRange = createRange(1, 2);
+    GcsObjectRange spanningRange = createRange(2, 4);
+    GcsObjectRange lastBlockRange = createRange(8, 2);
+
+    List<GcsObjectRange> blockRanges =
+        reader.readVectored(
+            ImmutableList.of(cachedRange, spanningRange, lastBlockRange), ByteBuffer::allocate);
+
+    assertThat(cachedRange.getByteBufferFuture().get())
+        .isEqualTo(ByteBuffer.wrap(OBJECT_DATA, 1, 2));
+    assertThat(blockRanges).hasSize(2);
+    assertThat(blockRanges.get(0).getOffset()).isEqualTo(4);
+    assertThat(blockRanges.get(0).getLength()).isEqualTo(4);
+    assertThat(blockRanges.get(1).getOffset()).isEqualTo(8);
+    assertThat(blockRanges.get(1).getLength()).isEqualTo(2);
+    assertThat(spanningRange.getByteBufferFuture().isDone()).isFalse();
+    for (GcsObjectRange blockRange : blockRanges) {
+      blockRange
+          .getByteBufferFuture()
+          .complete(loadBlock(blockRange.getOffset(), blockRange.getLength()));
+    }
+    assertThat(spanningRange.getByteBufferFuture().get())
+        .isEqualTo(ByteBuffer.wrap(OBJECT_DATA, 2, 4));
+    assertThat(lastBlockRange.getByteBufferFuture().get())
+        .isEqualTo(ByteBuffer.wrap(OBJECT_DATA, 8, 2));
+    assertThat(cacheManager.getBlock(ITEM_ID, GENERATION, 2))
+        .hasValue(ByteBuffer.wrap(OBJECT_DATA, 8, 2));
+  }
+
+  @Test
+  void readVectored_blockReadFails_failsDependentRanges() {
+    GcsObjectRange range = createRange(2, 4);
+    List<GcsObjectRange> blockRanges =
+        reader.readVectored(ImmutableList.of(range), ByteBuffer::allocate);
+
+    blockRanges.get(1).getByteBufferFuture().completeExceptionally(new IOException("failed"));
+
+    ExecutionException e =
+        assertThrows(ExecutionException.class, () -> range.getByteBufferFuture().get());
+    assertThat(e).hasCauseThat().hasMessageThat().isEqualTo("failed");
+    assertThat(cacheManager.getBlock(ITEM_ID, GENERATION, 1)).isEmpty();
+  }
+
+  private ByteBuffer loadBlock(long blockStart, int blockLength) {
+    loadedBlocks.add(blockStart);
+    ByteBuffer block = ByteBuffer.allocate(blockLength);
+    block.put(OBJECT_DATA, (int) blockStart, blockLength);
+    block.flip();
+    return block;
+  }
+
+  private static GcsObjectRange createRange(long offset, int length) {
+    return GcsObjectRange.builder()
+        .setOffset(offset)
+        .setLength(length)
+        .setByteBufferFuture(new CompletableFuture<>())
+        .build();
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class FooterCacheSnapshotTest {
+
+  private static final GcsItemId ITEM_ID_1 =
+      GcsItemId.builder().setBucketName("b").setObjectName("o1").setContentGeneration(1L).build();
+  private static final GcsItemId ITEM_ID_2 =
+      GcsItemId.builder().setBucketName("b").setObjectName("o2").setContentGeneration(2L).build();
+  private static final ByteBuffer FOOTER_1 = ByteBuffer.wrap(new byte[] {1, 2, 3});
+  private static final ByteBuffer FOOTER_2 = ByteBuffer.wrap(new byte[] {4, 5});
+
+  @TempDir Path directory;
+
+  @Test
+  void write_thenRead_returnsSameFooters() throws IOException {
+    Path path = directory.resolve("footers.snapshot");
+
+    int footerCount =
+        FooterCacheSnapshot.write(path, ImmutableMap.of(ITEM_ID_1, FOOTER_1, ITEM_ID_2, FOOTER_2));
+
+    assertThat(footerCount).isEqualTo(2);
+    assertThat(FooterCacheSnapshot.read(path))
+        .containsExactly(ITEM_ID_1, FOOTER_1, ITEM_ID_2, FOOTER_2);
+    assertThat(FOOTER_1.position()).isEqualTo(0);
+  }
+
+  @Test
+  void write_itemIdWithoutGeneration_skipsFooter() throws IOException {
+    Path path = directory.resolve("footers.snapshot");
+    GcsItemId unversionedItemId = GcsItemId.builder().setBucketName("b").setObjectName("o").build();
+
+    int footerCount =
+        FooterCacheSnapshot.write(
+            path, ImmutableMap.of(unversionedItemId, FOOTER_1, ITEM_ID_2, FOOTER_2));
+
+    assertThat(footerCount).isEqualTo(1);
+    assertThat(FooterCacheSnapshot.read(path)).containsExactly(ITEM_ID_2, FOOTER_2);
+  }
+
+  @Test
+  void write_existingSnapshot_replacesItAndLeavesNoTemporaryFiles() throws IOException {
+    Path path = directory.resolve("footers.snapshot");
+    FooterCacheSnapshot.write(path, ImmutableMap.of(ITEM_ID_1, FOOTER_1));
+
+    FooterCacheSnapshot.write(path, ImmutableMap.of(ITEM_ID_2, FOOTER_2));
+
+    assertThat(FooterCacheSnapshot.read(path)).containsExactly(ITEM_ID_2, FOOTER_2);
+    try (var files = Files.list(directory)) {
+      assertThat(files.count()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  void read_corruptFooter_returnsFootersBeforeIt() throws IOException {
+    Path path = directory.resolve("footers.snapshot");
+    FooterCacheSnapshot.write(path, ImmutableMap.of(ITEM_ID_1, FOOTER_1, ITEM_ID_2, FOOTER_2));
+    byte[] data = Files.readAllBytes(path);
+    // Flips the last byte of the second footer's data, ahead of its checksum and the end marker.
+    data[data.length - 6] ^= 1;
+    Files.write(path, data);
+
+    assertThat(FooterCacheSnapshot.read(path)).containsExactly(ITEM_ID_1, FOOTER_1);
+  }
+
+  @Test
+  void read_truncatedSnapshot_returnsCompleteFooters() throws IOException {
+    Path path = directory.resolve("footers.snapshot");
+    FooterCacheSnapshot.write(path, ImmutableMap.of(ITEM_ID_1, FOOTER_1, ITEM_ID_2, FOOTER_2));
+    byte[] data = Files.readAllBytes(path);
+    Files.write(path, Arrays.copyOf(data, data.length - 3));
+
+    assertThat(FooterCacheSnapshot.read(path)).containsExactly(ITEM_ID_1, FOOTER_1);
+  }
+
+  @Test
+  void read_notASnapshot_throwsException() throws IOException {
+    Path path = directory.resolve("footers.snapshot");
+    Files.write(path, new byte[] {0, 1, 2, 3, 4, 5, 6, 7});
+
+    IOException e = assertThrows(IOException.class, () -> FooterCacheSnapshot.read(path));
+
+    assertThat(e).hasMessageThat().contains("Not a footer cache snapshot");
+  }
+}
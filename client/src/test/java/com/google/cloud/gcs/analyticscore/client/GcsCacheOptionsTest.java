@@ -19,6 +19,7 @@ package com.google.cloud.gcs.analyticscore.client;
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.google.common.collect.ImmutableMap;
 import org.junit.jupiter.api.Test;
 
 class GcsCacheOptionsTest {
@@ -34,6 +35,17 @@ class GcsCacheOptionsTest {
     assertThat(options.getFooterCacheMaxSizeBytes()).isEqualTo(100 * MB);
     assertThat(options.isSmallObjectCacheEnabled()).isFalse();
     assertThat(options.getSmallObjectCacheMaxSizeBytes()).isEqualTo(200 * MB);
+    assertThat(options.isBlockCacheEnabled()).isFalse();
+    assertThat(options.getBlockCacheMaxSizeBytes()).isEqualTo(256 * MB);
+    assertThat(options.getBlockCacheBlockSizeBytes()).isEqualTo(MB);
+    assertThat(options.isOffHeapCacheEnabled()).isFalse();
+    assertThat(options.getOffHeapCacheSlabSizeBytes()).isEqualTo(4 * MB);
+    assertThat(options.isDiskCacheEnabled()).isFalse();
+    assertThat(options.getDiskCachePath()).isEmpty();
+    assertThat(options.getDiskCacheMaxSizeBytes()).isEqualTo(10 * 1024 * MB);
+    assertThat(options.getDiskCacheSegmentSizeBytes()).isEqualTo(64 * MB);
+    assertThat(options.getFooterCacheSnapshotPath()).isEmpty();
+    assertThat(options.getFooterCacheSnapshotIntervalSeconds()).isEqualTo(0);
   }
 
   @Test
@@ -67,4 +79,106 @@ class GcsCacheOptionsTest {
 
     assertThrows(IllegalArgumentException.class, builder::build);
   }
+
+  @Test
+  void build_enabledBlockCacheBlockLargerThanMaxSize_throwsException() {
+    GcsCacheOptions.Builder builder =
+        GcsCacheOptions.builder()
+            .setBlockCacheEnabled(true)
+            .setBlockCacheMaxSizeBytes(MB)
+            .setBlockCacheBlockSizeBytes((int) (2 * MB));
+
+    IllegalArgumentException e = assertThrows(IllegalArgumentException.class, builder::build);
+
+    assertThat(e).hasMessageThat().contains("blockCacheBlockSizeBytes");
+  }
+
+  @Test
+  void createFromOptions_blockCacheOptions_setsValues() {
+    GcsCacheOptions options =
+        GcsCacheOptions.createFromOptions(
+            ImmutableMap.of(
+                "fs.gs.analytics-core.block.cache.enabled", "true",
+                "fs.gs.analytics-core.block.cache.max-size-bytes", "1048576",
+                "fs.gs.analytics-core.block.cache.block-size-bytes", "65536"),
+            "fs.gs.");
+
+    assertThat(options.isBlockCacheEnabled()).isTrue();
+    assertThat(options.getBlockCacheMaxSizeBytes()).isEqualTo(MB);
+    assertThat(options.getBlockCacheBlockSizeBytes()).isEqualTo(64 * KB);
+  }
+
+  @Test
+  void build_enabledOffHeapCacheZeroSlabSize_throwsException() {
+    GcsCacheOptions.Builder builder =
+        GcsCacheOptions.builder().setOffHeapCacheEnabled(true).setOffHeapCacheSlabSizeBytes(0);
+
+    IllegalArgumentException e = assertThrows(IllegalArgumentException.class, builder::build);
+
+    assertThat(e).hasMessageThat().contains("offHeapCacheSlabSizeBytes");
+  }
+
+  @Test
+  void createFromOptions_offHeapCacheOptions_setsValues() {
+    GcsCacheOptions options =
+        GcsCacheOptions.createFromOptions(
+            ImmutableMap.of(
+                "fs.gs.analytics-core.cache.off-heap.enabled", "true",
+                "fs.gs.analytics-core.cache.off-heap.slab-size-bytes", "1048576"),
+            "fs.gs.");
+
+    assertThat(options.isOffHeapCacheEnabled()).isTrue();
+    assertThat(options.getOffHeapCacheSlabSizeBytes()).isEqualTo(MB);
+  }
+
+  @Test
+  void build_enabledDiskCacheWithoutPath_throwsException() {
+    GcsCacheOptions.Builder builder = GcsCacheOptions.builder().setDiskCacheEnabled(true);
+
+    IllegalArgumentException e = assertThrows(IllegalArgumentException.class, builder::build);
+
+    assertThat(e).hasMessageThat().contains("diskCachePath");
+  }
+
+  @Test
+  void createFromOptions_diskCacheOptions_setsValues() {
+    GcsCacheOptions options =
+        GcsCacheOptions.createFromOptions(
+            ImmutableMap.of(
+                "fs.gs.analytics-core.cache.disk.enabled", "true",
+                "fs.gs.analytics-core.cache.disk.path", "/mnt/nvme/cache",
+                "fs.gs.analytics-core.cache.disk.max-size-bytes", "1073741824",
+                "fs.gs.analytics-core.cache.disk.segment-size-bytes", "1048576"),
+            "fs.gs.");
+
+    assertThat(options.isDiskCacheEnabled()).isTrue();
+    assertThat(options.getDiskCachePath()).hasValue("/mnt/nvme/cache");
+    assertThat(options.getDiskCacheMaxSizeBytes()).isEqualTo(1024 * MB);
+    assertThat(options.getDiskCacheSegmentSizeBytes()).isEqualTo(MB);
+  }
+
+  @Test
+  void build_enabledFooterCacheNegativeSnapshotInterval_throwsException() {
+    GcsCacheOptions.Builder builder =
+        GcsCacheOptions.builder()
+            .setFooterCacheEnabled(true)
+            .setFooterCacheSnapshotIntervalSeconds(-1);
+
+    IllegalArgumentException e = assertThrows(IllegalArgumentException.class, builder::build);
+
+    assertThat(e).hasMessageThat().contains("footerCacheSnapshotIntervalSeconds");
+  }
+
+  @Test
+  void createFromOptions_footerCacheSnapshotOptions_setsValues() {
+    GcsCacheOptions options =
+        GcsCacheOptions.createFromOptions(
+            ImmutableMap.of(
+                "fs.gs.analytics-core.footer.cache.snapshot.path", "/tmp/footers.snapshot",
+                "fs.gs.analytics-core.footer.cache.snapshot.interval-seconds", "300"),
+            "fs.gs.");
+
+    assertThat(options.getFooterCacheSnapshotPath()).hasValue("/tmp/footers.snapshot");
+    assertThat(options.getFooterCacheSnapshotIntervalSeconds()).isEqualTo(300);
+  }
 }
@@ -154,6 +154,25 @@ class GcsClientImplTest {
     assertThat(new String(buffer.array(), UTF_8)).isEqualTo(objectData);
   }
 
+  @Test
+  void openReadChannel_itemId_sizeResolved_returnsItemIdWithGeneration() throws IOException {
+    GcsReadOptions readOptions = GcsReadOptions.builder().setUserProjectId("test-project").build();
+    GcsItemId itemId =
+        GcsItemId.builder()
+            .setBucketName("test-bucket-name")
+            .setObjectName("test-object-name")
+            .build();
+    StorageTestUtils.createBlobInStorage(
+        storage, BlobId.of(itemId.getBucketName(), itemId.getObjectName().get(), 0L), "hello");
+
+    VectoredSeekableByteChannel channel = gcsClient.openReadChannel(itemId, readOptions);
+
+    assertThat(channel.getItemId()).hasValue(itemId);
+    channel.size();
+    assertThat(channel.getItemId().get().getContentGeneration().isPresent()).isTrue();
+    assertThat(channel.getItemId().get().getObjectName()).isEqualTo(itemId.getObjectName());
+  }
+
   @Test
   void openReadChannel_nullItemId_throwsNullPointerException() {
     GcsReadOptions readOptions =
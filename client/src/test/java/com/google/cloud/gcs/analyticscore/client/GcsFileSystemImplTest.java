@@ -310,6 +310,24 @@ class GcsFileSystemImplTest {
         .isEqualTo(16);
   }
 
+  @Test
+  void initializeExecutionServiceSupplier_virtualThreadsEnabled_usesVirtualThreadsWhenSupported() {
+    GcsFileSystemImpl fileSystemImpl =
+        new GcsFileSystemImpl(
+            mockClient,
+            TEST_GCS_FILESYSTEM_OPTIONS.toBuilder().setVirtualThreadsEnabled(true).build());
+
+    ExecutorService executorService = fileSystemImpl.initializeExecutionServiceSupplier().get();
+
+    if (Runtime.version().feature() >= 21) {
+      assertThat(executorService).isInstanceOf(VirtualThreadExecutor.class);
+      assertThat(((VirtualThreadExecutor) executorService).getMaxConcurrency()).isEqualTo(256);
+    } else {
+      assertThat(executorService).isInstanceOf(ThreadPoolExecutor.class);
+    }
+    executorService.shutdown();
+  }
+
   @Test
   void close_whenTerminationSucceeds_shutsDownGracefully() throws InterruptedException {
     ExecutorService mockExecutorService = mock(ExecutorService.class);
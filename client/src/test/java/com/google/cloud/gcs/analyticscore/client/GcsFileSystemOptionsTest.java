@@ -32,13 +32,17 @@ class GcsFileSystemOptionsTest {
         ImmutableMap.of(
             "fs.gs.project-id", "test-project",
             "fs.gs.client.type", "GRPC_CLIENT",
-            "fs.gs.analytics-core.read.thread.count", "32");
+            "fs.gs.analytics-core.read.thread.count", "32",
+            "fs.gs.analytics-core.read.thread.virtual.enabled", "true",
+            "fs.gs.analytics-core.read.thread.virtual.max-concurrency", "512");
 
     GcsFileSystemOptions options = GcsFileSystemOptions.createFromOptions(properties, "fs.gs.");
 
     assertThat(options.getGcsClientOptions().getProjectId().get()).isEqualTo("test-project");
     assertThat(options.getClientType()).isEqualTo(GcsFileSystemOptions.ClientType.GRPC_CLIENT);
     assertThat(options.getReadThreadCount()).isEqualTo(32);
+    assertThat(options.isVirtualThreadsEnabled()).isTrue();
+    assertThat(options.getVirtualThreadMaxConcurrency()).isEqualTo(512);
   }
 
   @Test
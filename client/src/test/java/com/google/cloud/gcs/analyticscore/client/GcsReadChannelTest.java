@@ -37,15 +37,19 @@ import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.nio.channels.ClosedChannelException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.IntFunction;
@@ -262,6 +266,82 @@ class GcsReadChannelTest {
     assertThat(gcsReadChannel.position()).isEqualTo(11L);
   }
 
+  @Test
+  void read_backwardSeekWithinLookBehindBuffer_servedWithoutNewRequest() throws IOException {
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
+    String objectData = "hello world";
+    GcsItemInfo itemInfo =
+        GcsItemInfo.builder()
+            .setItemId(itemId)
+            .setSize(objectData.length())
+            .setContentGeneration(0L)
+            .build();
+    StorageTestUtils.createBlobInStorage(
+        storage, BlobId.of(itemId.getBucketName(), itemId.getObjectName().get(), 0L), objectData);
+    Map<Metric, Long> recordedMetrics = new ConcurrentHashMap<>();
+    OperationListener listener =
+        new OperationListener() {
+          @Override
+          public void onOperationStart(Operation operation) {}
+
+          @Override
+          public void onOperationEnd(Operation operation, Map<MetricKey, Long> metrics) {
+            metrics.forEach(
+                (key, value) -> recordedMetrics.merge((Metric) key.getMetric(), value, Long::sum));
+          }
+        };
+    GcsReadOptions readOptions =
+        GcsReadOptions.builder().setUserProjectId(TEST_PROJECT_ID).setLookBehindSize(8).build();
+    GcsReadChannel gcsReadChannel =
+        new GcsReadChannel(
+            storage,
+            itemInfo,
+            readOptions,
+            executorServiceSupplier,
+            new Telemetry(Collections.singletonList(listener)));
+    gcsReadChannel.read(ByteBuffer.allocate(objectData.length()));
+    gcsReadChannel.position(6);
+    ByteBuffer buffer = ByteBuffer.allocate(5);
+
+    int bytesRead = gcsReadChannel.read(buffer);
+
+    assertThat(bytesRead).isEqualTo(5);
+    assertThat(new String(buffer.array(), StandardCharsets.UTF_8)).isEqualTo("world");
+    assertThat(gcsReadChannel.position()).isEqualTo(11L);
+    Mockito.verify(storage, Mockito.times(1))
+        .reader(Mockito.any(BlobId.class), Mockito.any(Storage.BlobSourceOption[].class));
+    assertThat(recordedMetrics).containsEntry(Metric.LOOK_BEHIND_HIT, 1L);
+    assertThat(recordedMetrics).doesNotContainKey(Metric.LOOK_BEHIND_MISS);
+  }
+
+  @Test
+  void read_backwardSeekBeyondLookBehindBuffer_readsFromStorage() throws IOException {
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
+    String objectData = "hello world";
+    GcsItemInfo itemInfo =
+        GcsItemInfo.builder()
+            .setItemId(itemId)
+            .setSize(objectData.length())
+            .setContentGeneration(0L)
+            .build();
+    StorageTestUtils.createBlobInStorage(
+        storage, BlobId.of(itemId.getBucketName(), itemId.getObjectName().get(), 0L), objectData);
+    GcsReadOptions readOptions =
+        GcsReadOptions.builder().setUserProjectId(TEST_PROJECT_ID).setLookBehindSize(4).build();
+    GcsReadChannel gcsReadChannel =
+        new GcsReadChannel(storage, itemInfo, readOptions, executorServiceSupplier, telemetry);
+    gcsReadChannel.read(ByteBuffer.allocate(objectData.length()));
+    gcsReadChannel.position(0);
+    ByteBuffer buffer = ByteBuffer.allocate(5);
+
+    int bytesRead = gcsReadChannel.read(buffer);
+
+    assertThat(bytesRead).isEqualTo(5);
+    assertThat(new String(buffer.array(), StandardCharsets.UTF_8)).isEqualTo("hello");
+  }
+
   @Test
   void read_emptyBuffer_returnsZero() throws IOException {
     GcsItemInfo itemInfo = createItemInfoWith(100);
@@ -508,6 +588,150 @@ class GcsReadChannelTest {
         .reader(blobId, sourceOptions.toArray(new Storage.BlobSourceOption[0]));
   }
 
+  @Test
+  void readVectored_schedulerEnabled_readsRanges() throws Exception {
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
+    String objectData = "hello world,this is a test string for vectored read.";
+    GcsItemInfo itemInfo =
+        GcsItemInfo.builder().setItemId(itemId).setSize(objectData.length()).build();
+    StorageTestUtils.createBlobInStorage(
+        storage, BlobId.of(itemId.getBucketName(), itemId.getObjectName().get()), objectData);
+    GcsVectoredReadOptions vectoredReadOptions =
+        GcsVectoredReadOptions.builder()
+            .setMaxMergeGap(1)
+            .setMaxMergeSize(1)
+            .setSchedulerEnabled(true)
+            .setSchedulerMaxInFlight(2)
+            .setSchedulerMaxInFlightPerStream(1)
+            .setSchedulerMaxQueued(1)
+            .build();
+    GcsReadOptions readOptions =
+        TEST_GCS_READ_OPTIONS.toBuilder().setGcsVectoredReadOptions(vectoredReadOptions).build();
+    GcsReadChannel gcsReadChannel =
+        new GcsReadChannel(storage, itemInfo, readOptions, executorServiceSupplier, telemetry);
+    // "hello", "this", "test string"
+    ImmutableList<GcsObjectRange> ranges = createRanges(ImmutableMap.of(0L, 5, 12L, 4, 22L, 11));
+
+    gcsReadChannel.readVectored(ranges, ByteBuffer::allocate);
+
+    assertThat(getGcsObjectRangeData(ranges.get(0))).isEqualTo("hello");
+    assertThat(getGcsObjectRangeData(ranges.get(1))).isEqualTo("this");
+    assertThat(getGcsObjectRangeData(ranges.get(2))).isEqualTo("test string");
+  }
+
+  @Test
+  void readVectoredNonBlocking_schedulerQueueFull_failsRangesThatDoNotFit() throws Exception {
+    GcsItemInfo itemInfo = createItemInfoWith(100);
+    StorageTestUtils.createBlobInStorage(
+        storage,
+        BlobId.of(
+            itemInfo.getItemId().getBucketName(), itemInfo.getItemId().getObjectName().get(), 0L),
+        "a".repeat(100));
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    CountDownLatch release = new CountDownLatch(1);
+    var unused =
+        executorService.submit(
+            () -> {
+              release.await();
+              return null;
+            });
+    GcsVectoredReadOptions vectoredReadOptions =
+        GcsVectoredReadOptions.builder()
+            .setMaxMergeGap(1)
+            .setMaxMergeSize(1)
+            .setSchedulerEnabled(true)
+            .setSchedulerMaxInFlight(1)
+            .setSchedulerMaxInFlightPerStream(1)
+            .setSchedulerMaxQueued(1)
+            .build();
+    GcsReadOptions readOptions =
+        TEST_GCS_READ_OPTIONS.toBuilder().setGcsVectoredReadOptions(vectoredReadOptions).build();
+    GcsReadChannel gcsReadChannel =
+        new GcsReadChannel(storage, itemInfo, readOptions, () -> executorService, telemetry);
+    ImmutableList<GcsObjectRange> ranges = createRanges(ImmutableMap.of(0L, 5, 10L, 5, 20L, 5));
+
+    gcsReadChannel.readVectoredNonBlocking(ranges, ByteBuffer::allocate);
+
+    ExecutionException exception =
+        assertThrows(ExecutionException.class, () -> ranges.get(2).getByteBufferFuture().get());
+    assertThat(exception)
+        .hasCauseThat()
+        .hasCauseThat()
+        .isInstanceOf(RejectedExecutionException.class);
+    release.countDown();
+    assertThat(getGcsObjectRangeData(ranges.get(0))).isEqualTo("aaaaa");
+    assertThat(getGcsObjectRangeData(ranges.get(1))).isEqualTo("aaaaa");
+    executorService.shutdown();
+  }
+
+  @Test
+  void readVectored_allChildRangesCancelled_dropsQueuedRead() throws Exception {
+    GcsItemInfo itemInfo = createItemInfoWith(100);
+    StorageTestUtils.createBlobInStorage(
+        storage,
+        BlobId.of(
+            itemInfo.getItemId().getBucketName(), itemInfo.getItemId().getObjectName().get(), 0L),
+        "a".repeat(100));
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    CountDownLatch release = new CountDownLatch(1);
+    var unused =
+        executorService.submit(
+            () -> {
+              release.await();
+              return null;
+            });
+    GcsReadChannel gcsReadChannel =
+        new GcsReadChannel(
+            storage, itemInfo, TEST_GCS_READ_OPTIONS, () -> executorService, telemetry);
+    Mockito.clearInvocations(storage);
+    ImmutableList<GcsObjectRange> ranges = createRanges(ImmutableMap.of(0L, 5, 6L, 5));
+
+    gcsReadChannel.readVectored(ranges, ByteBuffer::allocate);
+    ranges.forEach(range -> range.getByteBufferFuture().cancel(false));
+    release.countDown();
+    executorService.shutdown();
+
+    assertThat(executorService.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    Mockito.verify(storage, Mockito.never())
+        .reader(Mockito.any(BlobId.class), Mockito.any(Storage.BlobSourceOption[].class));
+  }
+
+  @Test
+  void readVectored_channelClosed_failsPendingRangesWithoutReading() throws Exception {
+    GcsItemInfo itemInfo = createItemInfoWith(100);
+    StorageTestUtils.createBlobInStorage(
+        storage,
+        BlobId.of(
+            itemInfo.getItemId().getBucketName(), itemInfo.getItemId().getObjectName().get(), 0L),
+        "a".repeat(100));
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    CountDownLatch release = new CountDownLatch(1);
+    var unused =
+        executorService.submit(
+            () -> {
+              release.await();
+              return null;
+            });
+    GcsReadChannel gcsReadChannel =
+        new GcsReadChannel(
+            storage, itemInfo, TEST_GCS_READ_OPTIONS, () -> executorService, telemetry);
+    Mockito.clearInvocations(storage);
+    ImmutableList<GcsObjectRange> ranges = createRanges(ImmutableMap.of(0L, 5));
+    gcsReadChannel.readVectored(ranges, ByteBuffer::allocate);
+
+    gcsReadChannel.close();
+    release.countDown();
+    executorService.shutdown();
+
+    ExecutionException exception =
+        assertThrows(ExecutionException.class, () -> ranges.get(0).getByteBufferFuture().get());
+    assertThat(exception).hasCauseThat().hasCauseThat().isInstanceOf(ClosedChannelException.class);
+    assertThat(executorService.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    Mockito.verify(storage, Mockito.never())
+        .reader(Mockito.any(BlobId.class), Mockito.any(Storage.BlobSourceOption[].class));
+  }
+
   @Test
   void readVectored_rangesCanBeMerged_readsRanges()
       throws IOException, ExecutionException, InterruptedException {
@@ -662,6 +886,368 @@ class GcsReadChannelTest {
     assertThat(getGcsObjectRangeData(range1)).isEqualTo("abcdefghij");
   }
 
+  @Test
+  void readVectored_combinedRange_completesChildRangesAsBytesArrive() throws Exception {
+    String objectData = "hello world,this is a test";
+    GcsItemInfo itemInfo = createItemInfoWith(objectData.length());
+    Storage mockStorage = Mockito.mock(Storage.class);
+    ReadChannel mockReadChannel = Mockito.mock(ReadChannel.class);
+    Mockito.when(
+            mockStorage.reader(
+                Mockito.any(BlobId.class), Mockito.any(Storage.BlobSourceOption[].class)))
+        .thenReturn(mockReadChannel);
+    Mockito.when(mockReadChannel.isOpen()).thenReturn(true);
+    byte[] dataBytes = objectData.getBytes(StandardCharsets.UTF_8);
+    CountDownLatch firstRangeConsumed = new CountDownLatch(1);
+    AtomicInteger callCount = new AtomicInteger(0);
+    Mockito.when(mockReadChannel.read(Mockito.any(ByteBuffer.class)))
+        .thenAnswer(
+            invocation -> {
+              ByteBuffer buffer = invocation.getArgument(0);
+              if (callCount.getAndIncrement() == 0) {
+                // Deliver "hello world" only.
+                buffer.put(dataBytes, 0, 11);
+                return 11;
+              }
+              assertThat(firstRangeConsumed.await(5, TimeUnit.SECONDS)).isTrue();
+              int remaining = buffer.remaining();
+              buffer.put(dataBytes, buffer.position(), remaining);
+              return remaining;
+            });
+    GcsReadOptions readOptions =
+        TEST_GCS_READ_OPTIONS.toBuilder()
+            .setGcsVectoredReadOptions(
+                GcsVectoredReadOptions.builder().setMaxMergeGap(20).build())
+            .build();
+    GcsReadChannel gcsReadChannel =
+        new GcsReadChannel(mockStorage, itemInfo, readOptions, executorServiceSupplier, telemetry);
+    // "hello", "world", "test"
+    ImmutableList<GcsObjectRange> ranges =
+        createRanges(ImmutableMap.of(0L, 5, 6L, 5, 22L, 4));
+
+    gcsReadChannel.readVectored(ranges, ByteBuffer::allocate);
+
+    assertThat(getGcsObjectRangeData(ranges.get(0))).isEqualTo("hello");
+    assertThat(getGcsObjectRangeData(ranges.get(1))).isEqualTo("world");
+    assertThat(ranges.get(2).getByteBufferFuture().isDone()).isFalse();
+    firstRangeConsumed.countDown();
+    assertThat(getGcsObjectRangeData(ranges.get(2))).isEqualTo("test");
+    gcsReadChannel.close();
+  }
+
+  @Test
+  void readVectored_scatterReadEnabled_allocatesOnlyRequestedBytes() throws Exception {
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
+    String objectData = "hello world,this is a test string for vectored read.";
+    GcsItemInfo itemInfo =
+        GcsItemInfo.builder()
+            .setItemId(itemId)
+            .setSize(objectData.length())
+            .setContentGeneration(0L)
+            .build();
+    StorageTestUtils.createBlobInStorage(
+        storage, BlobId.of(itemId.getBucketName(), itemId.getObjectName().get(), 0L), objectData);
+    GcsReadOptions readOptions =
+        TEST_GCS_READ_OPTIONS.toBuilder()
+            .setGcsVectoredReadOptions(
+                GcsVectoredReadOptions.builder()
+                    .setMaxMergeGap(20)
+                    .setScatterReadEnabled(true)
+                    .build())
+            .build();
+    GcsReadChannel gcsReadChannel =
+        new GcsReadChannel(storage, itemInfo, readOptions, executorServiceSupplier, telemetry);
+    List<Integer> allocatedSizes = Collections.synchronizedList(new ArrayList<>());
+    // "hello", "world", "this is", "is a", "string"
+    ImmutableList<GcsObjectRange> ranges =
+        createRanges(ImmutableMap.of(0L, 5, 6L, 5, 12L, 7, 17L, 4, 27L, 6));
+
+    gcsReadChannel.readVectored(
+        ranges,
+        size -> {
+          allocatedSizes.add(size);
+          return ByteBuffer.allocate(size);
+        });
+
+    assertThat(getGcsObjectRangeData(ranges.get(0))).isEqualTo("hello");
+    assertThat(getGcsObjectRangeData(ranges.get(1))).isEqualTo("world");
+    assertThat(getGcsObjectRangeData(ranges.get(2))).isEqualTo("this is");
+    assertThat(getGcsObjectRangeData(ranges.get(3))).isEqualTo("is a");
+    assertThat(getGcsObjectRangeData(ranges.get(4))).isEqualTo("string");
+    assertThat(allocatedSizes).containsExactly(5, 5, 7, 4, 6);
+    gcsReadChannel.close();
+  }
+
+  @Test
+  void readVectored_scatterReadHedgeWins_copiesHedgeDataIntoCallerBuffers() throws Exception {
+    String objectData = "hello world";
+    Storage mockStorage = Mockito.mock(Storage.class);
+    CountDownLatch primaryClosed = new CountDownLatch(1);
+    List<ByteBuffer> hedgeBuffers = Collections.synchronizedList(new ArrayList<>());
+    stubPrimaryAndHedgeChannels(mockStorage, objectData, primaryClosed, hedgeBuffers);
+    GcsReadChannel gcsReadChannel =
+        createHedgingChannel(
+            mockStorage,
+            createItemInfoWith(objectData.length()),
+            GcsVectoredReadOptions.builder().setMaxMergeGap(20).setScatterReadEnabled(true));
+    List<ByteBuffer> allocatedBuffers = Collections.synchronizedList(new ArrayList<>());
+    // "hello", "world"
+    ImmutableList<GcsObjectRange> ranges = createRanges(ImmutableMap.of(0L, 5, 6L, 5));
+
+    gcsReadChannel.readVectored(
+        ranges,
+        size -> {
+          ByteBuffer buffer = ByteBuffer.allocate(size);
+          allocatedBuffers.add(buffer);
+          return buffer;
+        });
+
+    assertThat(getGcsObjectRangeData(ranges.get(0))).isEqualTo("hello");
+    assertThat(getGcsObjectRangeData(ranges.get(1))).isEqualTo("world");
+    assertThat(allocatedBuffers).hasSize(2);
+    assertThat(ranges.get(0).getByteBufferFuture().get()).isSameInstanceAs(allocatedBuffers.get(0));
+    assertThat(ranges.get(1).getByteBufferFuture().get()).isSameInstanceAs(allocatedBuffers.get(1));
+    assertThat(hedgeBuffers).isNotEmpty();
+    assertThat(sharesArrayWithAny(hedgeBuffers, allocatedBuffers)).isFalse();
+    assertThat(primaryClosed.getCount()).isEqualTo(0);
+    gcsReadChannel.close();
+  }
+
+  @Test
+  void readVectored_scatterReadEofReachedBeforeFullyRead_completesExceptionally()
+      throws Exception {
+    GcsItemInfo itemInfo = createItemInfoWith(10);
+    Storage mockStorage = Mockito.mock(Storage.class);
+    ReadChannel mockReadChannel = Mockito.mock(ReadChannel.class);
+    Mockito.when(
+            mockStorage.reader(
+                Mockito.any(BlobId.class), Mockito.any(Storage.BlobSourceOption[].class)))
+        .thenReturn(mockReadChannel);
+    Mockito.when(mockReadChannel.isOpen()).thenReturn(true);
+    Mockito.when(mockReadChannel.read(Mockito.any(ByteBuffer.class))).thenReturn(-1);
+    GcsReadOptions readOptions =
+        TEST_GCS_READ_OPTIONS.toBuilder()
+            .setGcsVectoredReadOptions(
+                GcsVectoredReadOptions.builder().setScatterReadEnabled(true).build())
+            .build();
+    GcsReadChannel gcsReadChannel =
+        new GcsReadChannel(mockStorage, itemInfo, readOptions, executorServiceSupplier, telemetry);
+    GcsObjectRange range = createRange(0, 10);
+
+    gcsReadChannel.readVectored(ImmutableList.of(range), ByteBuffer::allocate);
+
+    ExecutionException e =
+        assertThrows(ExecutionException.class, () -> range.getByteBufferFuture().get());
+    assertThat(e.getCause().getCause()).isInstanceOf(EOFException.class);
+    gcsReadChannel.close();
+  }
+
+  @Test
+  void readVectored_splitEnabled_readsLargeRangeInParts() throws Exception {
+    GcsItemId itemId =
+        GcsItemId.builder()
+            .setBucketName("test-bucket")
+            .setObjectName("test-object")
+            .setContentGeneration(0L)
+            .build();
+    String objectData = "abcdefghijklmnopqrstuvwxyz";
+    GcsItemInfo itemInfo =
+        GcsItemInfo.builder()
+            .setItemId(itemId)
+            .setSize(objectData.length())
+            .setContentGeneration(0L)
+            .build();
+    BlobId blobId = BlobId.of(itemId.getBucketName(), itemId.getObjectName().get(), 0L);
+    StorageTestUtils.createBlobInStorage(storage, blobId, objectData);
+    GcsReadOptions readOptions =
+        TEST_GCS_READ_OPTIONS.toBuilder()
+            .setGcsVectoredReadOptions(
+                GcsVectoredReadOptions.builder()
+                    .setSplitEnabled(true)
+                    .setSplitThreshold(8)
+                    .setSplitPartSize(5)
+                    .build())
+            .build();
+    GcsReadChannel gcsReadChannel =
+        new GcsReadChannel(storage, itemInfo, readOptions, executorServiceSupplier, telemetry);
+    List<Integer> allocatedSizes = Collections.synchronizedList(new ArrayList<>());
+    GcsObjectRange largeRange = createRange(2, 18);
+    GcsObjectRange smallRange = createRange(22, 3);
+    Mockito.clearInvocations(storage);
+
+    gcsReadChannel.readVectored(
+        ImmutableList.of(largeRange, smallRange),
+        size -> {
+          allocatedSizes.add(size);
+          return ByteBuffer.allocate(size);
+        });
+
+    assertThat(getGcsObjectRangeData(largeRange)).isEqualTo("cdefghijklmnopqrst");
+    assertThat(getGcsObjectRangeData(smallRange)).isEqualTo("wxy");
+    assertThat(allocatedSizes).containsExactly(18, 3);
+    Mockito.verify(storage, Mockito.times(5))
+        .reader(Mockito.eq(blobId), Mockito.any(Storage.BlobSourceOption[].class));
+    gcsReadChannel.close();
+  }
+
+  @Test
+  void readVectored_splitRangePartHedgeWins_copiesHedgeDataIntoCallerBuffer() throws Exception {
+    String objectData = "abcdefghijklmnopqrstuvwxyz";
+    Storage mockStorage = Mockito.mock(Storage.class);
+    CountDownLatch primaryClosed = new CountDownLatch(1);
+    List<ByteBuffer> hedgeBuffers = Collections.synchronizedList(new ArrayList<>());
+    stubPrimaryAndHedgeChannels(mockStorage, objectData, primaryClosed, hedgeBuffers);
+    GcsReadChannel gcsReadChannel =
+        createHedgingChannel(
+            mockStorage,
+            createItemInfoWith(objectData.length()),
+            GcsVectoredReadOptions.builder()
+                .setSplitEnabled(true)
+                .setSplitThreshold(8)
+                .setSplitPartSize(10));
+    List<ByteBuffer> allocatedBuffers = Collections.synchronizedList(new ArrayList<>());
+    GcsObjectRange range = createRange(0, 10);
+
+    gcsReadChannel.readVectored(
+        ImmutableList.of(range),
+        size -> {
+          ByteBuffer buffer = ByteBuffer.allocate(size);
+          allocatedBuffers.add(buffer);
+          return buffer;
+        });
+
+    assertThat(getGcsObjectRangeData(range)).isEqualTo("abcdefghij");
+    assertThat(allocatedBuffers).hasSize(1);
+    assertThat(range.getByteBufferFuture().get().array())
+        .isSameInstanceAs(allocatedBuffers.get(0).array());
+    assertThat(hedgeBuffers).isNotEmpty();
+    assertThat(sharesArrayWithAny(hedgeBuffers, allocatedBuffers)).isFalse();
+    assertThat(primaryClosed.getCount()).isEqualTo(0);
+    gcsReadChannel.close();
+  }
+
+  @Test
+  void readVectored_splitRangePartFails_completesExceptionally() throws Exception {
+    GcsItemId itemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("test-object").build();
+    String objectData = "abcdefghijklmnopqrstuvwxyz";
+    GcsItemInfo itemInfo =
+        GcsItemInfo.builder()
+            .setItemId(itemId)
+            .setSize(objectData.length())
+            .setContentGeneration(0L)
+            .build();
+    StorageTestUtils.createBlobInStorage(
+        storage, BlobId.of(itemId.getBucketName(), itemId.getObjectName().get(), 0L), objectData);
+    GcsReadOptions readOptions =
+        TEST_GCS_READ_OPTIONS.toBuilder()
+            .setGcsVectoredReadOptions(
+                GcsVectoredReadOptions.builder()
+                    .setSplitEnabled(true)
+                    .setSplitThreshold(8)
+                    .setSplitPartSize(5)
+                    .build())
+            .build();
+    GcsReadChannel gcsReadChannel =
+        new GcsReadChannel(storage, itemInfo, readOptions, executorServiceSupplier, telemetry);
+    // The last part extends past the end of the object.
+    GcsObjectRange range = createRange(16, 14);
+
+    gcsReadChannel.readVectored(ImmutableList.of(range), ByteBuffer::allocate);
+
+    ExecutionException e =
+        assertThrows(ExecutionException.class, () -> range.getByteBufferFuture().get());
+    assertThat(e).hasCauseThat().isInstanceOf(IOException.class);
+    assertThat(e).hasCauseThat().hasMessageThat().contains("Error while populating childRange");
+    gcsReadChannel.close();
+  }
+
+  @Test
+  void readVectored_duplicateRanges_fetchesBytesOnce() throws Exception {
+    GcsItemId itemId =
+        GcsItemId.builder()
+            .setBucketName("test-bucket")
+            .setObjectName("test-object")
+            .setContentGeneration(0L)
+            .build();
+    String objectData = "hello world";
+    GcsItemInfo itemInfo =
+        GcsItemInfo.builder()
+            .setItemId(itemId)
+            .setSize(objectData.length())
+            .setContentGeneration(0L)
+            .build();
+    BlobId blobId = BlobId.of(itemId.getBucketName(), itemId.getObjectName().get(), 0L);
+    StorageTestUtils.createBlobInStorage(storage, blobId, objectData);
+    GcsReadChannel gcsReadChannel =
+        new GcsReadChannel(
+            storage, itemInfo, TEST_GCS_READ_OPTIONS, executorServiceSupplier, telemetry);
+    AtomicInteger allocatedBytes = new AtomicInteger();
+    ImmutableList<GcsObjectRange> ranges =
+        ImmutableList.of(createRange(6, 5), createRange(6, 5), createRange(7, 3));
+    Mockito.clearInvocations(storage);
+
+    gcsReadChannel.readVectored(
+        ranges,
+        size -> {
+          allocatedBytes.addAndGet(size);
+          return ByteBuffer.allocate(size);
+        });
+
+    assertThat(getGcsObjectRangeData(ranges.get(0))).isEqualTo("world");
+    assertThat(getGcsObjectRangeData(ranges.get(1))).isEqualTo("world");
+    assertThat(getGcsObjectRangeData(ranges.get(2))).isEqualTo("orl");
+    assertThat(allocatedBytes.get()).isEqualTo(5);
+    Mockito.verify(storage, Mockito.times(1))
+        .reader(Mockito.eq(blobId), Mockito.any(Storage.BlobSourceOption[].class));
+    gcsReadChannel.close();
+  }
+
+  @Test
+  void readVectored_blockCacheEnabled_servesOtherChannelsFromCache() throws Exception {
+    GcsItemId itemId =
+        GcsItemId.builder()
+            .setBucketName("test-bucket")
+            .setObjectName("test-object")
+            .setContentGeneration(0L)
+            .build();
+    String objectData = "hello world";
+    GcsItemInfo itemInfo =
+        GcsItemInfo.builder()
+            .setItemId(itemId)
+            .setSize(objectData.length())
+            .setContentGeneration(0L)
+            .build();
+    BlobId blobId = BlobId.of(itemId.getBucketName(), itemId.getObjectName().get(), 0L);
+    StorageTestUtils.createBlobInStorage(storage, blobId, objectData);
+    AnalyticsCacheManager cacheManager =
+        new AnalyticsCacheManager(
+            GcsCacheOptions.builder()
+                .setBlockCacheEnabled(true)
+                .setBlockCacheBlockSizeBytes(4)
+                .build());
+    GcsReadChannel firstChannel = createChannelWithCacheManager(itemInfo, cacheManager);
+    ImmutableList<GcsObjectRange> firstRanges = ImmutableList.of(createRange(0, 5));
+    firstChannel.readVectored(firstRanges, ByteBuffer::allocate);
+    assertThat(getGcsObjectRangeData(firstRanges.get(0))).isEqualTo("hello");
+    GcsReadChannel secondChannel = createChannelWithCacheManager(itemInfo, cacheManager);
+    ImmutableList<GcsObjectRange> secondRanges = ImmutableList.of(createRange(2, 6));
+    ByteBuffer dst = ByteBuffer.allocate(3);
+    Mockito.clearInvocations(storage);
+
+    secondChannel.readVectored(secondRanges, ByteBuffer::allocate);
+    secondChannel.position(4);
+    secondChannel.read(dst);
+
+    assertThat(getGcsObjectRangeData(secondRanges.get(0))).isEqualTo("llo wo");
+    assertThat(new String(dst.array(), StandardCharsets.UTF_8)).isEqualTo("o w");
+    Mockito.verify(storage, Mockito.never())
+        .reader(Mockito.any(BlobId.class), Mockito.any(Storage.BlobSourceOption[].class));
+    firstChannel.close();
+    secondChannel.close();
+  }
+
   @Test
   void readVectored_eofReachedBeforeFullyRead_completesExceptionally() throws Exception {
     GcsItemId itemId =
@@ -706,10 +1292,10 @@ class GcsReadChannelTest {
     ImmutableList<GcsObjectRange> ranges = ImmutableList.of(range1);
 
     gcsReadChannel.readVectored(ranges, ByteBuffer::allocate);
-    gcsReadChannel.close();
 
     ExecutionException e =
         assertThrows(ExecutionException.class, () -> range1.getByteBufferFuture().get());
+    gcsReadChannel.close();
     assertThat(e).hasCauseThat().isInstanceOf(IOException.class);
     assertThat(e).hasCauseThat().hasMessageThat().contains("Error while populating childRange");
     assertThat(e.getCause().getCause()).isInstanceOf(EOFException.class);
@@ -926,6 +1512,116 @@ class GcsReadChannelTest {
     return GcsItemInfo.builder().setItemId(itemId).setSize(size).setContentGeneration(0L).build();
   }
 
+  private GcsReadChannel createChannelWithCacheManager(
+      GcsItemInfo itemInfo, AnalyticsCacheManager cacheManager) throws IOException {
+    return new GcsReadChannel(
+        storage,
+        itemInfo,
+        TEST_GCS_READ_OPTIONS,
+        executorServiceSupplier,
+        telemetry,
+        new RangeLatencyTracker(),
+        new SeekCostEstimator(telemetry),
+        new VectoredReadScheduler(
+            executorServiceSupplier, TEST_GCS_READ_OPTIONS.getGcsVectoredReadOptions(), telemetry),
+        cacheManager);
+  }
+
+  private static boolean sharesArrayWithAny(List<ByteBuffer> buffers, List<ByteBuffer> others) {
+    for (ByteBuffer buffer : buffers) {
+      for (ByteBuffer other : others) {
+        if (buffer.hasArray() && other.hasArray() && buffer.array() == other.array()) {
+          return true;
+        }
+      }
+    }
+
+    return false;
+  }
+
+  // The channel hedges any range read that has not received its first byte within 50ms.
+  private GcsReadChannel createHedgingChannel(
+      Storage storage, GcsItemInfo itemInfo, GcsVectoredReadOptions.Builder vectoredReadOptions)
+      throws IOException {
+    RangeLatencyTracker rangeLatencyTracker = new RangeLatencyTracker();
+    for (int i = 0; i < 16; i++) {
+      rangeLatencyTracker.recordFirstByteLatency(TimeUnit.MILLISECONDS.toNanos(50));
+    }
+    GcsReadOptions readOptions =
+        TEST_GCS_READ_OPTIONS.toBuilder()
+            .setGcsVectoredReadOptions(
+                vectoredReadOptions
+                    .setHedgingEnabled(true)
+                    .setHedgingLatencyPercentile(50)
+                    .setHedgingMaxRatePercent(100)
+                    .build())
+            .build();
+    return new GcsReadChannel(
+        storage,
+        itemInfo,
+        readOptions,
+        executorServiceSupplier,
+        telemetry,
+        rangeLatencyTracker,
+        new SeekCostEstimator(telemetry),
+        new VectoredReadScheduler(
+            executorServiceSupplier, readOptions.getGcsVectoredReadOptions(), telemetry),
+        new AnalyticsCacheManager(GcsCacheOptions.builder().build()));
+  }
+
+  /**
+   * Stubs {@code storage} so that the first channel read from stalls until it is closed, and the
+   * other ones serve {@code objectData} from the start, recording the buffers they are given. The
+   * channel that the read strategy of the channel opens on construction is never read from.
+   */
+  private static void stubPrimaryAndHedgeChannels(
+      Storage storage,
+      String objectData,
+      CountDownLatch primaryClosed,
+      List<ByteBuffer> hedgeBuffers)
+      throws IOException {
+    byte[] dataBytes = objectData.getBytes(StandardCharsets.UTF_8);
+    AtomicBoolean primaryAssigned = new AtomicBoolean(false);
+    Mockito.when(
+            storage.reader(
+                Mockito.any(BlobId.class), Mockito.any(Storage.BlobSourceOption[].class)))
+        .thenAnswer(
+            invocation -> {
+              AtomicBoolean isPrimary = new AtomicBoolean(false);
+              AtomicInteger position = new AtomicInteger(0);
+              ReadChannel channel = Mockito.mock(ReadChannel.class);
+              Mockito.when(channel.isOpen()).thenReturn(true);
+              Mockito.when(channel.read(Mockito.any(ByteBuffer.class)))
+                  .thenAnswer(
+                      readInvocation -> {
+                        if (isPrimary.get() || primaryAssigned.compareAndSet(false, true)) {
+                          isPrimary.set(true);
+                          assertThat(primaryClosed.await(5, TimeUnit.SECONDS)).isTrue();
+                          throw new ClosedChannelException();
+                        }
+                        ByteBuffer buffer = readInvocation.getArgument(0);
+                        hedgeBuffers.add(buffer);
+                        int length =
+                            Math.min(buffer.remaining(), dataBytes.length - position.get());
+                        if (length == 0) {
+                          return -1;
+                        }
+                        buffer.put(dataBytes, position.getAndAdd(length), length);
+                        return length;
+                      });
+              Mockito.doAnswer(
+                      closeInvocation -> {
+                        if (isPrimary.get()) {
+                          primaryClosed.countDown();
+                        }
+                        return null;
+                      })
+                  .when(channel)
+                  .close();
+              return channel;
+            });
+  }
+
   private GcsObjectRange createRange(long offset, int length) {
     return GcsObjectRange.builder()
         .setOffset(offset)
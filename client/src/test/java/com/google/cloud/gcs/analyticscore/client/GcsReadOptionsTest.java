@@ -20,6 +20,7 @@ import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.google.common.collect.ImmutableMap;
+import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.Optional;
 import org.junit.jupiter.api.Test;
@@ -45,9 +46,26 @@ class GcsReadOptionsTest {
             .put("gcs.analytics-core.large-file.footer.prefetch.size-bytes", "4194304")
             .put("gcs.analytics-core.small-file.footer.prefetch.size-bytes", "41943")
             .put("gcs.analytics-core.read.inplace-seek-limit-bytes", "16777216")
+            .put("gcs.analytics-core.read.seek-cost-model.enabled", "true")
+            .put("gcs.analytics-core.read.look-behind.size-bytes", "65536")
+            .put("gcs.analytics-core.read.direct-buffers.enabled", "true")
+            .put("gcs.analytics-core.read.adaptive-chunk-size.enabled", "true")
+            .put("gcs.analytics-core.read.adaptive-chunk-size.initial-bytes", "131072")
+            .put("gcs.analytics-core.read.adaptive-chunk-size.max-bytes", "8388608")
             .put("gcs.analytics-core.read.file-access-pattern", "random")
             .put("gcs.analytics-core.adaptive-read.sequential-read-threshold", "5")
             .put("gcs.analytics-core.random-read.min-request-size", "65536")
+            .put("gcs.analytics-core.random-read.max-open-channels", "3")
+            .put("gcs.analytics-core.adaptive-read.pattern-history.enabled", "true")
+            .put("gcs.analytics-core.adaptive-read.pattern-history.prefix.enabled", "true")
+            .put("gcs.analytics-core.positional-read.max-channels", "4")
+            .put("gcs.analytics-core.read-ahead.enabled", "true")
+            .put("gcs.analytics-core.read-ahead.chunk-size-bytes", "2097152")
+            .put("gcs.analytics-core.read-ahead.chunk-count", "8")
+            .put("gcs.analytics-core.striped-read.enabled", "true")
+            .put("gcs.analytics-core.striped-read.stripe-size-bytes", "4194304")
+            .put("gcs.analytics-core.striped-read.concurrency", "16")
+            .put("gcs.analytics-core.striped-read.threshold-bytes", "4294967296")
             .build();
     String prefix = "gcs.";
 
@@ -62,9 +80,26 @@ class GcsReadOptionsTest {
     assertThat(readOptions.getFooterPrefetchSizeLargeFile()).isEqualTo(4194304);
     assertThat(readOptions.getSmallObjectCacheThresholdBytes()).isEqualTo(102400);
     assertThat(readOptions.getInplaceSeekLimit()).isEqualTo(16777216);
+    assertThat(readOptions.isSeekCostModelEnabled()).isTrue();
+    assertThat(readOptions.getLookBehindSize()).isEqualTo(65536);
+    assertThat(readOptions.isDirectBuffersEnabled()).isTrue();
+    assertThat(readOptions.isAdaptiveChunkSizeEnabled()).isTrue();
+    assertThat(readOptions.getAdaptiveChunkSizeInitial()).isEqualTo(131072);
+    assertThat(readOptions.getAdaptiveChunkSizeMax()).isEqualTo(8388608);
     assertThat(readOptions.getFileAccessPattern()).isEqualTo(FileAccessPattern.RANDOM);
     assertThat(readOptions.getAdaptiveReadSequentialReadThreshold()).isEqualTo(5);
     assertThat(readOptions.getRandomReadMinRequestSize()).isEqualTo(65536);
+    assertThat(readOptions.getRandomReadMaxOpenChannels()).isEqualTo(3);
+    assertThat(readOptions.getPositionalReadMaxChannels()).isEqualTo(4);
+    assertThat(readOptions.isAccessPatternHistoryEnabled()).isTrue();
+    assertThat(readOptions.isAccessPatternHistoryPrefixEnabled()).isTrue();
+    assertThat(readOptions.isReadAheadEnabled()).isTrue();
+    assertThat(readOptions.getReadAheadChunkSize()).isEqualTo(2 * MB);
+    assertThat(readOptions.getReadAheadChunkCount()).isEqualTo(8);
+    assertThat(readOptions.isStripedReadEnabled()).isTrue();
+    assertThat(readOptions.getStripedReadStripeSize()).isEqualTo(4 * MB);
+    assertThat(readOptions.getStripedReadConcurrency()).isEqualTo(16);
+    assertThat(readOptions.getStripedReadThreshold()).isEqualTo(4096L * MB);
     properties =
         ImmutableMap.<String, String>builder()
             .put("gcs.analytics-core.read.file-access-pattern", "auto_sequential")
@@ -92,9 +127,26 @@ class GcsReadOptionsTest {
     assertThat(readOptions.getFooterPrefetchSizeLargeFile()).isEqualTo(MB);
     assertThat(readOptions.getSmallObjectCacheThresholdBytes()).isEqualTo(MB);
     assertThat(readOptions.getInplaceSeekLimit()).isEqualTo(128 * KB);
+    assertThat(readOptions.isSeekCostModelEnabled()).isFalse();
+    assertThat(readOptions.getLookBehindSize()).isEqualTo(0);
+    assertThat(readOptions.isDirectBuffersEnabled()).isFalse();
+    assertThat(readOptions.isAdaptiveChunkSizeEnabled()).isFalse();
+    assertThat(readOptions.getAdaptiveChunkSizeInitial()).isEqualTo(256 * 1024);
+    assertThat(readOptions.getAdaptiveChunkSizeMax()).isEqualTo(16 * 1024 * 1024);
     assertThat(readOptions.getFileAccessPattern()).isEqualTo(FileAccessPattern.AUTO_SEQUENTIAL);
     assertThat(readOptions.getAdaptiveReadSequentialReadThreshold()).isEqualTo(3);
     assertThat(readOptions.getRandomReadMinRequestSize()).isEqualTo(128 * KB);
+    assertThat(readOptions.getRandomReadMaxOpenChannels()).isEqualTo(1);
+    assertThat(readOptions.getPositionalReadMaxChannels()).isEqualTo(2);
+    assertThat(readOptions.isAccessPatternHistoryEnabled()).isFalse();
+    assertThat(readOptions.isAccessPatternHistoryPrefixEnabled()).isFalse();
+    assertThat(readOptions.isReadAheadEnabled()).isFalse();
+    assertThat(readOptions.getReadAheadChunkSize()).isEqualTo(MB);
+    assertThat(readOptions.getReadAheadChunkCount()).isEqualTo(4);
+    assertThat(readOptions.isStripedReadEnabled()).isFalse();
+    assertThat(readOptions.getStripedReadStripeSize()).isEqualTo(16 * MB);
+    assertThat(readOptions.getStripedReadConcurrency()).isEqualTo(4);
+    assertThat(readOptions.getStripedReadThreshold()).isEqualTo(256L * MB);
     assertThat(vectoredReadOptions.getMaxMergeGap()).isEqualTo(4 * KB);
     assertThat(vectoredReadOptions.getMaxMergeSize()).isEqualTo(8 * MB);
   }
@@ -106,8 +158,17 @@ class GcsReadOptionsTest {
         "gcs.analytics-core.small-file.cache.threshold-bytes",
         "gcs.analytics-core.large-file.footer.prefetch.size-bytes",
         "gcs.analytics-core.read.inplace-seek-limit-bytes",
+        "gcs.analytics-core.read.look-behind.size-bytes",
+        "gcs.analytics-core.read.adaptive-chunk-size.initial-bytes",
+        "gcs.analytics-core.read.adaptive-chunk-size.max-bytes",
         "gcs.analytics-core.adaptive-read.sequential-read-threshold",
         "gcs.analytics-core.random-read.min-request-size",
+        "gcs.analytics-core.random-read.max-open-channels",
+        "gcs.analytics-core.positional-read.max-channels",
+        "gcs.analytics-core.read-ahead.chunk-size-bytes",
+        "gcs.analytics-core.read-ahead.chunk-count",
+        "gcs.analytics-core.striped-read.stripe-size-bytes",
+        "gcs.analytics-core.striped-read.concurrency",
       })
   void createFromOptions_integerValuesGreaterThanIntegerMax_throwsIllegalArgumentException(
       String propertyKey) {
@@ -128,6 +189,23 @@ class GcsReadOptionsTest {
                 propertyKey, outOfBoundValue, Integer.MAX_VALUE));
   }
 
+  @Test
+  void allocateBuffer_directBuffersEnabled_allocatesDirectBuffer() {
+    GcsReadOptions readOptions = GcsReadOptions.builder().setDirectBuffersEnabled(true).build();
+
+    ByteBuffer buffer = readOptions.allocateBuffer(16);
+
+    assertThat(buffer.isDirect()).isTrue();
+    assertThat(buffer.capacity()).isEqualTo(16);
+  }
+
+  @Test
+  void allocateBuffer_directBuffersDisabled_allocatesHeapBuffer() {
+    GcsReadOptions readOptions = GcsReadOptions.builder().build();
+
+    assertThat(readOptions.allocateBuffer(16).isDirect()).isFalse();
+  }
+
   @Test
   void createFromOptions_withInvalidFileAccessPattern_throwsIllegalArgumentException() {
     Map<String, String> properties =
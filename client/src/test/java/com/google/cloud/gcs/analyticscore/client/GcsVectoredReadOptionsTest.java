@@ -17,6 +17,7 @@
 package com.google.cloud.gcs.analyticscore.client;
 
 import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.google.common.collect.ImmutableMap;
 import org.junit.jupiter.api.Test;
@@ -26,14 +27,39 @@ class GcsVectoredReadOptionsTest {
   @Test
   void createFromOptions_withValidProperties_shouldCreateCorrectOptions() {
     ImmutableMap<String, String> properties =
-        ImmutableMap.of(
-            "gcs.analytics-core.read.vectored.range.merge-gap.max-bytes", "8192",
-            "gcs.analytics-core.read.vectored.range.merged-size.max-bytes", "16777216");
+        ImmutableMap.<String, String>builder()
+            .put("gcs.analytics-core.read.vectored.range.merge-gap.max-bytes", "8192")
+            .put("gcs.analytics-core.read.vectored.range.merged-size.max-bytes", "16777216")
+            .put("gcs.analytics-core.read.vectored.hedge.enabled", "true")
+            .put("gcs.analytics-core.read.vectored.hedge.latency-percentile", "99")
+            .put("gcs.analytics-core.read.vectored.hedge.max-rate-percent", "10")
+            .put("gcs.analytics-core.read.vectored.scheduler.enabled", "true")
+            .put("gcs.analytics-core.read.vectored.scheduler.max-in-flight", "32")
+            .put("gcs.analytics-core.read.vectored.scheduler.max-in-flight-per-stream", "8")
+            .put("gcs.analytics-core.read.vectored.scheduler.max-queued", "256")
+            .put("gcs.analytics-core.read.vectored.scatter-read.enabled", "true")
+            .put("gcs.analytics-core.read.vectored.adaptive-merge.enabled", "true")
+            .put("gcs.analytics-core.read.vectored.split.enabled", "true")
+            .put("gcs.analytics-core.read.vectored.split.threshold-bytes", "33554432")
+            .put("gcs.analytics-core.read.vectored.split.part-size-bytes", "4194304")
+            .build();
 
     GcsVectoredReadOptions options = GcsVectoredReadOptions.createFromOptions(properties, "gcs.");
 
     assertThat(options.getMaxMergeGap()).isEqualTo(8192);
     assertThat(options.getMaxMergeSize()).isEqualTo(16777216);
+    assertThat(options.isHedgingEnabled()).isTrue();
+    assertThat(options.getHedgingLatencyPercentile()).isEqualTo(99);
+    assertThat(options.getHedgingMaxRatePercent()).isEqualTo(10);
+    assertThat(options.isSchedulerEnabled()).isTrue();
+    assertThat(options.getSchedulerMaxInFlight()).isEqualTo(32);
+    assertThat(options.getSchedulerMaxInFlightPerStream()).isEqualTo(8);
+    assertThat(options.getSchedulerMaxQueued()).isEqualTo(256);
+    assertThat(options.isScatterReadEnabled()).isTrue();
+    assertThat(options.isAdaptiveMergeEnabled()).isTrue();
+    assertThat(options.isSplitEnabled()).isTrue();
+    assertThat(options.getSplitThreshold()).isEqualTo(33554432);
+    assertThat(options.getSplitPartSize()).isEqualTo(4194304);
   }
 
   @Test
@@ -44,5 +70,69 @@ class GcsVectoredReadOptionsTest {
 
     assertThat(options.getMaxMergeGap()).isEqualTo(4 * 1024);
     assertThat(options.getMaxMergeSize()).isEqualTo(8 * 1024 * 1024);
+    assertThat(options.isHedgingEnabled()).isFalse();
+    assertThat(options.getHedgingLatencyPercentile()).isEqualTo(95);
+    assertThat(options.getHedgingMaxRatePercent()).isEqualTo(5);
+    assertThat(options.isSchedulerEnabled()).isFalse();
+    assertThat(options.getSchedulerMaxInFlight()).isEqualTo(16);
+    assertThat(options.getSchedulerMaxInFlightPerStream()).isEqualTo(4);
+    assertThat(options.getSchedulerMaxQueued()).isEqualTo(1024);
+    assertThat(options.isScatterReadEnabled()).isFalse();
+    assertThat(options.isAdaptiveMergeEnabled()).isFalse();
+    assertThat(options.isSplitEnabled()).isFalse();
+    assertThat(options.getSplitThreshold()).isEqualTo(16 * 1024 * 1024);
+    assertThat(options.getSplitPartSize()).isEqualTo(8 * 1024 * 1024);
+  }
+
+  @Test
+  void build_hedgingEnabledWithInvalidPercentile_throwsIllegalArgumentException() {
+    GcsVectoredReadOptions.Builder builder =
+        GcsVectoredReadOptions.builder().setHedgingEnabled(true).setHedgingLatencyPercentile(0);
+
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, builder::build);
+
+    assertThat(exception)
+        .hasMessageThat()
+        .isEqualTo("hedgingLatencyPercentile must be in (0, 100] when hedgingEnabled is true");
+  }
+
+  @Test
+  void build_hedgingEnabledWithInvalidMaxRate_throwsIllegalArgumentException() {
+    GcsVectoredReadOptions.Builder builder =
+        GcsVectoredReadOptions.builder().setHedgingEnabled(true).setHedgingMaxRatePercent(101);
+
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, builder::build);
+
+    assertThat(exception)
+        .hasMessageThat()
+        .isEqualTo("hedgingMaxRatePercent must be in [0, 100] when hedgingEnabled is true");
+  }
+
+  @Test
+  void build_schedulerEnabledWithZeroLimit_throwsIllegalArgumentException() {
+    GcsVectoredReadOptions.Builder builder =
+        GcsVectoredReadOptions.builder().setSchedulerEnabled(true).setSchedulerMaxQueued(0);
+
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, builder::build);
+
+    assertThat(exception)
+        .hasMessageThat()
+        .isEqualTo("scheduler limits must be positive when schedulerEnabled is true");
+  }
+
+  @Test
+  void build_splitEnabledWithZeroPartSize_throwsIllegalArgumentException() {
+    GcsVectoredReadOptions.Builder builder =
+        GcsVectoredReadOptions.builder().setSplitEnabled(true).setSplitPartSize(0);
+
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, builder::build);
+
+    assertThat(exception)
+        .hasMessageThat()
+        .isEqualTo("split sizes must be positive when splitEnabled is true");
   }
 }
@@ -0,0 +1,296 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.cloud.ReadChannel;
+import com.google.cloud.gcs.analyticscore.common.GcsAnalyticsCoreTelemetryConstants.Metric;
+import com.google.cloud.gcs.analyticscore.common.telemetry.MetricsRecorder;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class HedgedRangeReadTest {
+
+  private static final GcsVectoredReadOptions HEDGING_OPTIONS =
+      GcsVectoredReadOptions.builder()
+          .setHedgingEnabled(true)
+          .setHedgingLatencyPercentile(50)
+          .setHedgingMaxRatePercent(100)
+          .build();
+
+  private final RangeLatencyTracker tracker = new RangeLatencyTracker();
+  private final Map<Metric, Long> recordedMetrics = new ConcurrentHashMap<>();
+  private final MetricsRecorder recorder =
+      (metric, value, attributes) -> recordedMetrics.merge((Metric) metric, value, Long::sum);
+  private ExecutorService executorService;
+
+  @BeforeEach
+  void setUp() {
+    executorService = Executors.newFixedThreadPool(2);
+    for (int i = 0; i < 16; i++) {
+      tracker.recordFirstByteLatency(TimeUnit.MILLISECONDS.toNanos(1));
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  void read_fastPrimary_returnsPrimaryDataWithoutHedging() throws IOException {
+    // The hedge delay is raised so that a stall of the calling thread cannot trigger a hedge.
+    for (int i = 0; i < 32; i++) {
+      tracker.recordFirstByteLatency(TimeUnit.MINUTES.toNanos(1));
+    }
+    ByteBuffer primaryData = ByteBuffer.wrap(new byte[] {1});
+    AtomicInteger attempts = new AtomicInteger();
+    HedgedRangeRead rangeRead =
+        createRangeRead(
+            attempt -> {
+              attempts.incrementAndGet();
+              attempt.onBytesRead();
+              return primaryData;
+            },
+            HEDGING_OPTIONS);
+
+    ByteBuffer result = rangeRead.read();
+
+    assertThat(result).isSameInstanceAs(primaryData);
+    assertThat(rangeRead.isWonByHedge()).isFalse();
+    assertThat(attempts.get()).isEqualTo(1);
+    assertThat(recordedMetrics).doesNotContainKey(Metric.HEDGED_READ_ISSUED);
+  }
+
+  @Test
+  void read_slowPrimary_hedgeWinsAndPrimaryIsAborted() throws IOException {
+    ByteBuffer hedgeData = ByteBuffer.wrap(new byte[] {2});
+    CountDownLatch primaryClosed = new CountDownLatch(1);
+    Thread callingThread = Thread.currentThread();
+    HedgedRangeRead rangeRead =
+        createRangeRead(
+            attempt -> {
+              // The primary attempt runs on the calling thread, hedges on the executor.
+              if (Thread.currentThread() != callingThread) {
+                attempt.onBytesRead();
+                return hedgeData;
+              }
+              attempt.onChannelOpened(createChannelClosing(primaryClosed));
+              awaitQuietly(primaryClosed);
+              throw new ClosedChannelException();
+            },
+            HEDGING_OPTIONS);
+
+    ByteBuffer result = rangeRead.read();
+
+    assertThat(result).isSameInstanceAs(hedgeData);
+    assertThat(rangeRead.isWonByHedge()).isTrue();
+    assertThat(primaryClosed.getCount()).isEqualTo(0);
+    assertThat(recordedMetrics).containsEntry(Metric.HEDGED_READ_ISSUED, 1L);
+    assertThat(recordedMetrics).containsEntry(Metric.HEDGED_READ_WON, 1L);
+  }
+
+  @Test
+  void read_hedgeNotLaunched_waitsForPrimary() throws IOException {
+    ByteBuffer primaryData = ByteBuffer.wrap(new byte[] {1});
+    AtomicInteger attempts = new AtomicInteger();
+    AtomicInteger launchRequests = new AtomicInteger();
+    HedgedRangeRead rangeRead =
+        new HedgedRangeRead(
+            attempt -> {
+              attempts.incrementAndGet();
+              sleepQuietly(50);
+              return primaryData;
+            },
+            tracker,
+            HEDGING_OPTIONS,
+            (hedge, onRejected) -> {
+              launchRequests.incrementAndGet();
+              return false;
+            },
+            recorder);
+
+    ByteBuffer result = rangeRead.read();
+
+    assertThat(result).isSameInstanceAs(primaryData);
+    assertThat(attempts.get()).isEqualTo(1);
+    assertThat(launchRequests.get()).isEqualTo(1);
+    assertThat(recordedMetrics).doesNotContainKey(Metric.HEDGED_READ_ISSUED);
+  }
+
+  @Test
+  void read_hedgingDisabled_waitsForPrimary() throws IOException {
+    ByteBuffer primaryData = ByteBuffer.wrap(new byte[] {1});
+    AtomicInteger attempts = new AtomicInteger();
+    HedgedRangeRead rangeRead =
+        createRangeRead(
+            attempt -> {
+              attempts.incrementAndGet();
+              sleepQuietly(50);
+              return primaryData;
+            },
+            GcsVectoredReadOptions.builder().build());
+
+    ByteBuffer result = rangeRead.read();
+
+    assertThat(result).isSameInstanceAs(primaryData);
+    assertThat(attempts.get()).isEqualTo(1);
+  }
+
+  @Test
+  void read_hedgeRateExhausted_waitsForPrimary() throws IOException {
+    ByteBuffer primaryData = ByteBuffer.wrap(new byte[] {1});
+    AtomicInteger attempts = new AtomicInteger();
+    HedgedRangeRead rangeRead =
+        createRangeRead(
+            attempt -> {
+              attempts.incrementAndGet();
+              sleepQuietly(50);
+              return primaryData;
+            },
+            HEDGING_OPTIONS.toBuilder().setHedgingMaxRatePercent(0).build());
+
+    ByteBuffer result = rangeRead.read();
+
+    assertThat(result).isSameInstanceAs(primaryData);
+    assertThat(attempts.get()).isEqualTo(1);
+    assertThat(recordedMetrics).doesNotContainKey(Metric.HEDGED_READ_ISSUED);
+  }
+
+  @Test
+  void read_primaryFailsWithoutHedge_throwsPrimaryException() {
+    HedgedRangeRead rangeRead =
+        createRangeRead(
+            attempt -> {
+              throw new IOException("primary failed");
+            },
+            HEDGING_OPTIONS);
+
+    IOException exception = assertThrows(IOException.class, rangeRead::read);
+
+    assertThat(exception).hasMessageThat().isEqualTo("primary failed");
+  }
+
+  @Test
+  void cancel_duringRead_abortsChannelAndFailsRead() throws Exception {
+    CountDownLatch channelOpened = new CountDownLatch(1);
+    CountDownLatch channelClosed = new CountDownLatch(1);
+    HedgedRangeRead rangeRead =
+        createRangeRead(
+            attempt -> {
+              attempt.onChannelOpened(createChannelClosing(channelClosed));
+              channelOpened.countDown();
+              awaitQuietly(channelClosed);
+              throw new ClosedChannelException();
+            },
+            GcsVectoredReadOptions.builder().build());
+    var read = executorService.submit(rangeRead::read);
+    awaitQuietly(channelOpened);
+
+    rangeRead.cancel();
+
+    ExecutionException exception = assertThrows(ExecutionException.class, read::get);
+    assertThat(exception).hasCauseThat().isInstanceOf(CancellationException.class);
+    assertThat(channelClosed.getCount()).isEqualTo(0);
+  }
+
+  @Test
+  void cancel_beforeRead_doesNotOpenChannel() {
+    AtomicInteger openedChannels = new AtomicInteger();
+    HedgedRangeRead rangeRead =
+        createRangeRead(
+            attempt -> {
+              attempt.onChannelOpened(Mockito.mock(ReadChannel.class));
+              openedChannels.incrementAndGet();
+              return ByteBuffer.allocate(0);
+            },
+            GcsVectoredReadOptions.builder().build());
+
+    rangeRead.cancel();
+
+    assertThrows(CancellationException.class, rangeRead::read);
+    assertThat(openedChannels.get()).isEqualTo(0);
+  }
+
+  @Test
+  void read_recordsFirstByteLatency() throws IOException {
+    RangeLatencyTracker emptyTracker = new RangeLatencyTracker();
+    for (int i = 0; i < 16; i++) {
+      new HedgedRangeRead(
+              attempt -> {
+                attempt.onBytesRead();
+                return ByteBuffer.allocate(0);
+              },
+              emptyTracker,
+              HEDGING_OPTIONS,
+              HedgedRangeRead.launchOn(executorService),
+              recorder)
+          .read();
+    }
+
+    assertThat(emptyTracker.getFirstByteLatencyPercentile(50).isPresent()).isTrue();
+  }
+
+  private HedgedRangeRead createRangeRead(
+      HedgedRangeRead.RangeFetcher fetcher, GcsVectoredReadOptions options) {
+    return new HedgedRangeRead(
+        fetcher, tracker, options, HedgedRangeRead.launchOn(executorService), recorder);
+  }
+
+  private static ReadChannel createChannelClosing(CountDownLatch closed) {
+    ReadChannel channel = Mockito.mock(ReadChannel.class);
+    Mockito.doAnswer(
+            invocation -> {
+              closed.countDown();
+              return null;
+            })
+        .when(channel)
+        .close();
+    return channel;
+  }
+
+  private static void awaitQuietly(CountDownLatch latch) {
+    try {
+      latch.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void sleepQuietly(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class LookBehindBufferTest {
+
+  @Test
+  void constructor_nonPositiveCapacity_throwsIllegalArgumentException() {
+    assertThrows(IllegalArgumentException.class, () -> new LookBehindBuffer(0));
+  }
+
+  @Test
+  void read_withinWindow_returnsAppendedBytes() {
+    LookBehindBuffer buffer = new LookBehindBuffer(16);
+    buffer.append(100, wrap("hello world"));
+    ByteBuffer dst = ByteBuffer.allocate(5);
+
+    int bytesRead = buffer.read(106, dst);
+
+    assertThat(bytesRead).isEqualTo(5);
+    assertThat(toString(dst)).isEqualTo("world");
+    assertThat(buffer.getEndPosition()).isEqualTo(111);
+  }
+
+  @Test
+  void append_doesNotModifySource() {
+    LookBehindBuffer buffer = new LookBehindBuffer(16);
+    ByteBuffer src = wrap("hello");
+
+    buffer.append(0, src);
+
+    assertThat(src.remaining()).isEqualTo(5);
+  }
+
+  @Test
+  void append_beyondCapacity_retainsMostRecentBytes() {
+    LookBehindBuffer buffer = new LookBehindBuffer(4);
+    buffer.append(0, wrap("abcdef"));
+    buffer.append(6, wrap("gh"));
+    ByteBuffer dst = ByteBuffer.allocate(8);
+
+    int bytesRead = buffer.read(4, dst);
+
+    assertThat(bytesRead).isEqualTo(4);
+    assertThat(toString(dst)).isEqualTo("efgh");
+    assertThat(buffer.contains(3)).isFalse();
+  }
+
+  @Test
+  void append_discontinuousPosition_discardsWindow() {
+    LookBehindBuffer buffer = new LookBehindBuffer(16);
+    buffer.append(0, wrap("hello"));
+
+    buffer.append(10, wrap("world"));
+
+    assertThat(buffer.contains(0)).isFalse();
+    assertThat(buffer.contains(10)).isTrue();
+    assertThat(buffer.getEndPosition()).isEqualTo(15);
+  }
+
+  @Test
+  void read_outsideWindow_returnsZero() {
+    LookBehindBuffer buffer = new LookBehindBuffer(16);
+    buffer.append(10, wrap("hello"));
+    ByteBuffer dst = ByteBuffer.allocate(5);
+
+    assertThat(buffer.read(9, dst)).isEqualTo(0);
+    assertThat(buffer.read(15, dst)).isEqualTo(0);
+    assertThat(dst.position()).isEqualTo(0);
+  }
+
+  private static ByteBuffer wrap(String data) {
+    return ByteBuffer.wrap(data.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static String toString(ByteBuffer buffer) {
+    buffer.flip();
+    return StandardCharsets.UTF_8.decode(buffer).toString();
+  }
+}
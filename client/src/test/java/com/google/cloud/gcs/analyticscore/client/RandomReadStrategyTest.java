@@ -211,4 +211,68 @@ class RandomReadStrategyTest {
     assertThat(trackingChannel.getLastChunkSize()).isEqualTo(0);
     assertThat(trackingChannel.getSeekCalls()).isEqualTo(1);
   }
+
+  @Test
+  void getReadChannel_alternatingRegions_routesReadsToPooledChannels() throws IOException {
+    StorageTestUtils.createBlobInStorage(storage, itemId, "0123456789".repeat(100));
+    FakeRandomReadStrategy strategy =
+        new FakeRandomReadStrategy(storage, itemId, createPoolOptions(3), itemInfo);
+    readAndAdvance(strategy, 0, 5);
+    readAndAdvance(strategy, 500, 5);
+
+    String firstRegion = readAndAdvance(strategy, 5, 5);
+    String secondRegion = readAndAdvance(strategy, 505, 5);
+
+    assertThat(firstRegion).isEqualTo("56789");
+    assertThat(secondRegion).isEqualTo("56789");
+    assertThat(strategy.getCreatedChannels()).hasSize(2);
+    assertThat(strategy.getCreatedChannels().get(0).getCloseCalls()).isEqualTo(0);
+    assertThat(strategy.getCreatedChannels().get(1).getCloseCalls()).isEqualTo(0);
+  }
+
+  @Test
+  void getReadChannel_beyondMaxOpenChannels_closesLeastRecentlyUsedChannel() throws IOException {
+    StorageTestUtils.createBlobInStorage(storage, itemId, "0123456789".repeat(100));
+    FakeRandomReadStrategy strategy =
+        new FakeRandomReadStrategy(storage, itemId, createPoolOptions(2), itemInfo);
+    readAndAdvance(strategy, 0, 5);
+    readAndAdvance(strategy, 300, 5);
+
+    readAndAdvance(strategy, 600, 5);
+
+    assertThat(strategy.getCreatedChannels()).hasSize(3);
+    assertThat(strategy.getCreatedChannels().get(0).getCloseCalls()).isEqualTo(1);
+    assertThat(strategy.getCreatedChannels().get(1).getCloseCalls()).isEqualTo(0);
+  }
+
+  @Test
+  void close_closesPooledChannels() throws IOException {
+    StorageTestUtils.createBlobInStorage(storage, itemId, "0123456789".repeat(100));
+    FakeRandomReadStrategy strategy =
+        new FakeRandomReadStrategy(storage, itemId, createPoolOptions(3), itemInfo);
+    readAndAdvance(strategy, 0, 5);
+    readAndAdvance(strategy, 500, 5);
+
+    strategy.close();
+
+    assertThat(strategy.getCreatedChannels().get(0).getCloseCalls()).isEqualTo(1);
+    assertThat(strategy.getCreatedChannels().get(1).getCloseCalls()).isEqualTo(1);
+  }
+
+  private static GcsReadOptions createPoolOptions(int maxOpenChannels) {
+    return GcsReadOptions.builder()
+        .setInplaceSeekLimit(0)
+        .setRandomReadMinRequestSize(100)
+        .setRandomReadMaxOpenChannels(maxOpenChannels)
+        .build();
+  }
+
+  private static String readAndAdvance(RandomReadStrategy strategy, long position, int length)
+      throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(length);
+    strategy.getReadChannel(position, length).read(buffer);
+    strategy.position(position + length);
+
+    return new String(buffer.array(), StandardCharsets.UTF_8);
+  }
 }
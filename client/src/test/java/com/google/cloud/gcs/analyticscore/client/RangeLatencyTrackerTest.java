@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import java.util.OptionalLong;
+import org.junit.jupiter.api.Test;
+
+class RangeLatencyTrackerTest {
+
+  private final RangeLatencyTracker tracker = new RangeLatencyTracker();
+
+  @Test
+  void getFirstByteLatencyPercentile_tooFewSamples_returnsEmpty() {
+    for (int i = 0; i < 15; i++) {
+      tracker.recordFirstByteLatency(i);
+    }
+
+    OptionalLong percentile = tracker.getFirstByteLatencyPercentile(95);
+
+    assertThat(percentile.isPresent()).isFalse();
+  }
+
+  @Test
+  void getFirstByteLatencyPercentile_returnsRequestedPercentile() {
+    for (int i = 100; i >= 1; i--) {
+      tracker.recordFirstByteLatency(i);
+    }
+
+    assertThat(tracker.getFirstByteLatencyPercentile(50).getAsLong()).isEqualTo(50);
+    assertThat(tracker.getFirstByteLatencyPercentile(95).getAsLong()).isEqualTo(95);
+    assertThat(tracker.getFirstByteLatencyPercentile(100).getAsLong()).isEqualTo(100);
+  }
+
+  @Test
+  void getFirstByteLatencyPercentile_keepsOnlyRecentSamples() {
+    for (int i = 0; i < 256; i++) {
+      tracker.recordFirstByteLatency(1_000);
+    }
+    for (int i = 0; i < 256; i++) {
+      tracker.recordFirstByteLatency(10);
+    }
+
+    assertThat(tracker.getFirstByteLatencyPercentile(100).getAsLong()).isEqualTo(10);
+  }
+
+  @Test
+  void tryAcquireHedge_respectsMaxRate() {
+    for (int i = 0; i < 40; i++) {
+      tracker.recordRangeRead();
+    }
+
+    assertThat(tracker.tryAcquireHedge(5)).isTrue();
+    assertThat(tracker.tryAcquireHedge(5)).isTrue();
+    assertThat(tracker.tryAcquireHedge(5)).isFalse();
+  }
+
+  @Test
+  void tryAcquireHedge_zeroRate_neverHedges() {
+    tracker.recordRangeRead();
+
+    assertThat(tracker.tryAcquireHedge(0)).isFalse();
+  }
+}
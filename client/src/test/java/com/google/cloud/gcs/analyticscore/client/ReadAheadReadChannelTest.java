@@ -0,0 +1,210 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.cloud.ReadChannel;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.contrib.nio.testing.LocalStorageHelper;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class ReadAheadReadChannelTest {
+
+  private static final String CONTENT = "0123456789abcdefghijklmnopqrstuvwxyz";
+
+  private final Storage storage = LocalStorageHelper.getOptions().getService();
+  private final BlobId blobId = BlobId.of("test-bucket", "test-object", 0L);
+  private final List<TrackingReadChannel> openedSources = new ArrayList<>();
+  private ExecutorService executorService;
+
+  @BeforeEach
+  void setUp() {
+    StorageTestUtils.createBlobInStorage(storage, blobId, CONTENT);
+    executorService = MoreExecutors.newDirectExecutorService();
+  }
+
+  @AfterEach
+  void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  void read_sequentially_returnsObjectContentFromSingleSource() throws IOException {
+    ReadAheadReadChannel channel = createChannel(0, 4, 2);
+
+    String content = readRemaining(channel, 5);
+
+    assertThat(content).isEqualTo(CONTENT);
+    assertThat(openedSources).hasSize(1);
+  }
+
+  @Test
+  void read_atEndOfObject_returnsMinusOne() throws IOException {
+    ReadAheadReadChannel channel = createChannel(CONTENT.length() - 2, 4, 2);
+    ByteBuffer buffer = ByteBuffer.allocate(8);
+
+    int firstRead = channel.read(buffer);
+    int secondRead = channel.read(buffer);
+
+    assertThat(firstRead).isEqualTo(2);
+    assertThat(secondRead).isEqualTo(-1);
+  }
+
+  @Test
+  void seek_forwardWithinWindow_reusesSource() throws IOException {
+    ReadAheadReadChannel channel = createChannel(0, 4, 4);
+    channel.read(ByteBuffer.allocate(2));
+
+    channel.seek(10);
+    String content = readRemaining(channel, 3);
+
+    assertThat(content).isEqualTo(CONTENT.substring(10));
+    assertThat(openedSources).hasSize(1);
+    assertThat(openedSources.get(0).getSeekCalls()).isEqualTo(1);
+  }
+
+  @Test
+  void seek_forwardBeyondWindow_restartsPipelineAtNewPosition() throws IOException {
+    ReadAheadReadChannel channel = createChannel(0, 4, 2);
+    channel.read(ByteBuffer.allocate(2));
+
+    channel.seek(20);
+    String content = readRemaining(channel, 3);
+
+    assertThat(content).isEqualTo(CONTENT.substring(20));
+    assertThat(openedSources).hasSize(2);
+    assertThat(openedSources.get(0).getCloseCalls()).isEqualTo(1);
+  }
+
+  @Test
+  void seek_backward_restartsPipelineAtNewPosition() throws IOException {
+    ReadAheadReadChannel channel = createChannel(0, 4, 2);
+    channel.read(ByteBuffer.allocate(6));
+
+    channel.seek(1);
+    ByteBuffer buffer = ByteBuffer.allocate(3);
+    channel.read(buffer);
+
+    assertThat(new String(buffer.array(), StandardCharsets.UTF_8)).isEqualTo("123");
+    assertThat(openedSources).hasSize(2);
+  }
+
+  @Test
+  void read_withThreadPool_returnsObjectContent() throws IOException {
+    executorService = Executors.newFixedThreadPool(2);
+    ReadAheadReadChannel channel = createChannel(3, 5, 3);
+
+    String content = readRemaining(channel, 7);
+
+    assertThat(content).isEqualTo(CONTENT.substring(3));
+  }
+
+  @Test
+  void read_customAllocator_allocatesChunksThroughIt() throws IOException {
+    List<ByteBuffer> allocatedBuffers = new ArrayList<>();
+    ReadAheadReadChannel channel =
+        new ReadAheadReadChannel(
+            position -> {
+              ReadChannel source = storage.reader(blobId);
+              source.seek(position);
+              return source;
+            },
+            executorService,
+            0,
+            4,
+            2,
+            capacity -> {
+              ByteBuffer buffer = ByteBuffer.allocateDirect(capacity);
+              allocatedBuffers.add(buffer);
+              return buffer;
+            });
+
+    String content = readRemaining(channel, 5);
+
+    assertThat(content).isEqualTo(CONTENT);
+    assertThat(allocatedBuffers).hasSize(2);
+    assertThat(allocatedBuffers.get(0).capacity()).isEqualTo(4);
+  }
+
+  @Test
+  void read_sourceFails_throwsIOException() {
+    ReadAheadReadChannel channel =
+        new ReadAheadReadChannel(
+            position -> {
+              throw new IOException("open failed");
+            },
+            executorService,
+            0,
+            4,
+            2);
+
+    IOException exception =
+        assertThrows(IOException.class, () -> channel.read(ByteBuffer.allocate(4)));
+
+    assertThat(exception).hasCauseThat().hasMessageThat().isEqualTo("open failed");
+  }
+
+  @Test
+  void close_closesSourceAndRejectsReads() throws IOException {
+    ReadAheadReadChannel channel = createChannel(0, 4, 2);
+    channel.read(ByteBuffer.allocate(2));
+
+    channel.close();
+
+    assertThat(channel.isOpen()).isFalse();
+    assertThat(openedSources.get(0).getCloseCalls()).isEqualTo(1);
+    assertThrows(ClosedChannelException.class, () -> channel.read(ByteBuffer.allocate(2)));
+  }
+
+  private ReadAheadReadChannel createChannel(long startPosition, int chunkSize, int chunkCount) {
+    return new ReadAheadReadChannel(
+        position -> {
+          TrackingReadChannel source = new TrackingReadChannel(storage.reader(blobId));
+          source.seek(position);
+          openedSources.add(source);
+          return source;
+        },
+        executorService,
+        startPosition,
+        chunkSize,
+        chunkCount);
+  }
+
+  private static String readRemaining(ReadChannel channel, int bufferSize) throws IOException {
+    StringBuilder content = new StringBuilder();
+    ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+    while (channel.read(buffer) >= 0) {
+      buffer.flip();
+      content.append(StandardCharsets.UTF_8.decode(buffer));
+      buffer.clear();
+    }
+    return content.toString();
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.truth.Truth.assertThat;
+
+import com.google.cloud.gcs.analyticscore.common.GcsAnalyticsCoreTelemetryConstants.Metric;
+import com.google.cloud.gcs.analyticscore.common.telemetry.MetricKey;
+import com.google.cloud.gcs.analyticscore.common.telemetry.Operation;
+import com.google.cloud.gcs.analyticscore.common.telemetry.OperationListener;
+import com.google.cloud.gcs.analyticscore.common.telemetry.Telemetry;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class SeekCostEstimatorTest {
+
+  private final Map<Metric, Long> recordedMetrics = new ConcurrentHashMap<>();
+  private final SeekCostEstimator estimator =
+      new SeekCostEstimator(
+          new Telemetry(
+              Collections.singletonList(
+                  new OperationListener() {
+                    @Override
+                    public void onOperationStart(Operation operation) {}
+
+                    @Override
+                    public void onOperationEnd(Operation operation, Map<MetricKey, Long> metrics) {
+                      metrics.forEach(
+                          (key, value) ->
+                              recordedMetrics.merge((Metric) key.getMetric(), value, Long::sum));
+                    }
+                  })));
+
+  @Test
+  void shouldSkipInPlace_withoutSamples_usesInplaceSeekLimit() {
+    assertThat(estimator.shouldSkipInPlace(100, 100)).isTrue();
+    assertThat(estimator.shouldSkipInPlace(101, 100)).isFalse();
+    assertThat(recordedMetrics).containsEntry(Metric.SEEK_IN_PLACE, 1L);
+    assertThat(recordedMetrics).containsEntry(Metric.SEEK_REOPEN, 1L);
+    assertThat(recordedMetrics).doesNotContainKey(Metric.SEEK_ESTIMATED_FIRST_BYTE_LATENCY);
+  }
+
+  @Test
+  void shouldSkipInPlace_drainCheaperThanReopen_skipsBeyondInplaceSeekLimit() {
+    // 10 ms to first byte and 1 byte per microsecond: draining 1 MB takes about 1 second.
+    recordSamples(TimeUnit.MILLISECONDS.toNanos(10), 1_000, TimeUnit.MICROSECONDS.toNanos(1_000));
+
+    assertThat(estimator.shouldSkipInPlace(5_000, 100)).isTrue();
+    assertThat(estimator.shouldSkipInPlace(1_000_000, 100)).isFalse();
+    assertThat(recordedMetrics).containsEntry(Metric.SEEK_IN_PLACE, 1L);
+    assertThat(recordedMetrics).containsEntry(Metric.SEEK_REOPEN, 1L);
+    assertThat(recordedMetrics)
+        .containsEntry(
+            Metric.SEEK_ESTIMATED_FIRST_BYTE_LATENCY, 2 * TimeUnit.MILLISECONDS.toNanos(10));
+  }
+
+  @Test
+  void getFirstByteLatencyNanos_tooFewSamples_returnsEmpty() {
+    for (int i = 0; i < 3; i++) {
+      estimator.recordFirstByteLatency(1_000);
+    }
+
+    assertThat(estimator.getFirstByteLatencyNanos().isPresent()).isFalse();
+  }
+
+  @Test
+  void getFirstByteLatencyNanos_followsRecentSamples() {
+    for (int i = 0; i < 4; i++) {
+      estimator.recordFirstByteLatency(1_000);
+    }
+    for (int i = 0; i < 50; i++) {
+      estimator.recordFirstByteLatency(100);
+    }
+
+    assertThat((double) estimator.getFirstByteLatencyNanos().getAsLong()).isWithin(1).of(100);
+  }
+
+  @Test
+  void getDrainDurationNanos_scalesWithTransferRate() {
+    recordSamples(1_000, 1_000, 2_000);
+
+    assertThat((double) estimator.getDrainDurationNanos(500).getAsLong()).isWithin(1).of(1_000);
+  }
+
+  private void recordSamples(long firstByteLatencyNanos, long bytes, long durationNanos) {
+    for (int i = 0; i < 4; i++) {
+      estimator.recordFirstByteLatency(firstByteLatencyNanos);
+      estimator.recordTransfer(bytes, durationNanos);
+    }
+  }
+}
@@ -20,9 +20,14 @@ import static com.google.common.truth.Truth.assertThat;
 import com.google.cloud.ReadChannel;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.contrib.nio.testing.LocalStorageHelper;
+import com.google.common.base.Suppliers;
+import com.google.common.util.concurrent.MoreExecutors;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.mockito.Mockito;
 
 class SequentialReadStrategyTest {
 
@@ -219,4 +224,103 @@ class SequentialReadStrategyTest {
     assertThat(strategy.channel).isNotNull();
     assertThat(strategy.channel).isNotEqualTo(oldChannel);
   }
+
+  @Test
+  void getReadChannel_readAheadEnabled_servesReadsFromReadAheadChannel() throws IOException {
+    StorageTestUtils.createBlobInStorage(storage, itemId, "0123456789".repeat(100));
+    GcsReadOptions readAheadOptions =
+        GcsReadOptions.builder()
+            .setReadAheadEnabled(true)
+            .setReadAheadChunkSize(64)
+            .setReadAheadChunkCount(2)
+            .build();
+    FakeSequentialReadStrategy strategy =
+        new FakeSequentialReadStrategy(storage, itemId, readAheadOptions, itemInfo);
+    ByteBuffer buffer = ByteBuffer.allocate(5);
+
+    ReadChannel channel = strategy.getReadChannel(13, 5);
+    channel.read(buffer);
+    strategy.position(18);
+    strategy.getReadChannel(40, 5);
+
+    assertThat(channel).isInstanceOf(ReadAheadReadChannel.class);
+    assertThat(new String(buffer.array(), StandardCharsets.UTF_8)).isEqualTo("34567");
+    assertThat(strategy.getCreatedChannels()).hasSize(1);
+    assertThat(strategy.getCreatedChannels().get(0).getSeekCalls()).isEqualTo(1);
+  }
+
+  @Test
+  void getReadChannel_seekCostModelEnabled_feedsSeekCostEstimator() throws IOException {
+    StorageTestUtils.createBlobInStorage(storage, itemId, "0123456789".repeat(100));
+    SeekCostEstimator seekCostEstimator = new SeekCostEstimator();
+    SequentialReadStrategy strategy =
+        new SequentialReadStrategy(
+            storage,
+            itemId,
+            options.toBuilder().setSeekCostModelEnabled(true).build(),
+            itemInfo,
+            Suppliers.ofInstance(MoreExecutors.newDirectExecutorService()),
+            seekCostEstimator);
+    ByteBuffer buffer = ByteBuffer.allocate(5);
+
+    ReadChannel channel = null;
+    for (int i = 1; i <= 4; i++) {
+      buffer.clear();
+      channel = strategy.getReadChannel(i * 200L, 5);
+      channel.read(buffer);
+      strategy.position(i * 200L + 5);
+    }
+
+    assertThat(channel).isInstanceOf(MeasuredReadChannel.class);
+    assertThat(new String(buffer.array(), StandardCharsets.UTF_8)).isEqualTo("01234");
+    assertThat(seekCostEstimator.getFirstByteLatencyNanos().isPresent()).isTrue();
+  }
+
+  @Test
+  void position_adaptiveChunkSizeEnabled_appliesGrownChunkSizeOnForwardSeekOnly()
+      throws IOException {
+    SequentialReadStrategy strategy = createAdaptiveStrategyWithMockChannel();
+    ReadChannel channel = strategy.channel;
+
+    strategy.position(100);
+    strategy.position(300);
+    strategy.position(800);
+    Mockito.verify(channel, Mockito.never()).setChunkSize(Mockito.anyInt());
+    strategy.getReadChannel(950, 10);
+
+    InOrder inOrder = Mockito.inOrder(channel);
+    inOrder.verify(channel).seek(950);
+    inOrder.verify(channel).setChunkSize(400);
+  }
+
+  @Test
+  void getReadChannel_adaptiveChunkSizeEnabled_backwardSeekResetsChunkSize() throws IOException {
+    SequentialReadStrategy strategy = createAdaptiveStrategyWithMockChannel();
+    ReadChannel channel = strategy.channel;
+    strategy.position(100);
+    strategy.position(300);
+
+    strategy.getReadChannel(50, 10);
+
+    InOrder inOrder = Mockito.inOrder(channel);
+    inOrder.verify(channel).seek(50);
+    inOrder.verify(channel).setChunkSize(100);
+    Mockito.verify(channel, Mockito.never()).setChunkSize(200);
+  }
+
+  private SequentialReadStrategy createAdaptiveStrategyWithMockChannel() throws IOException {
+    StorageTestUtils.createBlobInStorage(storage, itemId, "a".repeat(1000));
+    GcsReadOptions adaptiveOptions =
+        options.toBuilder()
+            .setAdaptiveChunkSizeEnabled(true)
+            .setAdaptiveChunkSizeInitial(100)
+            .setAdaptiveChunkSizeMax(400)
+            .build();
+    SequentialReadStrategy strategy =
+        new SequentialReadStrategy(storage, itemId, adaptiveOptions, itemInfo);
+    strategy.channel.close();
+    strategy.channel = Mockito.mock(ReadChannel.class);
+
+    return strategy;
+  }
 }
@@ -0,0 +1,216 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.cloud.ReadChannel;
+import com.google.cloud.storage.BlobId;
+import com.google.cloud.storage.Storage;
+import com.google.cloud.storage.contrib.nio.testing.LocalStorageHelper;
+import com.google.common.util.concurrent.MoreExecutors;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class StripedReadChannelTest {
+
+  private static final String CONTENT = "0123456789abcdefghijklmnopqrstuvwxyz";
+
+  private final Storage storage = LocalStorageHelper.getOptions().getService();
+  private final BlobId blobId = BlobId.of("test-bucket", "test-object", 0L);
+  private final List<TrackingReadChannel> openedStripes = new ArrayList<>();
+  private ExecutorService executorService;
+
+  @BeforeEach
+  void setUp() {
+    StorageTestUtils.createBlobInStorage(storage, blobId, CONTENT);
+    executorService = MoreExecutors.newDirectExecutorService();
+  }
+
+  @AfterEach
+  void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  void read_sequentially_reassemblesStripesInOrder() throws IOException {
+    StripedReadChannel channel = createChannel(0, 8, 3);
+
+    String content = readRemaining(channel, 5);
+
+    assertThat(content).isEqualTo(CONTENT);
+    assertThat(openedStripes).hasSize(5);
+    assertThat(openedStripes.get(0).getLastLimit()).isEqualTo(8L);
+    assertThat(openedStripes.get(4).getLastLimit()).isEqualTo((long) CONTENT.length());
+  }
+
+  @Test
+  void read_fetchesStripesAheadOfCursorUpToConcurrency() throws IOException {
+    StripedReadChannel channel = createChannel(0, 4, 3);
+
+    channel.read(ByteBuffer.allocate(1));
+
+    assertThat(openedStripes).hasSize(3);
+  }
+
+  @Test
+  void read_withThreadPool_reassemblesStripesInOrder() throws IOException {
+    executorService = Executors.newFixedThreadPool(4);
+    StripedReadChannel channel = createChannel(5, 3, 4);
+
+    String content = readRemaining(channel, 7);
+
+    assertThat(content).isEqualTo(CONTENT.substring(5));
+  }
+
+  @Test
+  void seek_withinRequestedStripes_reusesStripes() throws IOException {
+    StripedReadChannel channel = createChannel(0, 4, 4);
+    channel.read(ByteBuffer.allocate(2));
+
+    channel.seek(13);
+    ByteBuffer buffer = ByteBuffer.allocate(3);
+    channel.read(buffer);
+
+    assertThat(new String(buffer.array(), StandardCharsets.UTF_8)).isEqualTo("def");
+    assertThat(openedStripes.get(4).getLastLimit()).isEqualTo(20L);
+  }
+
+  @Test
+  void seek_outsideRequestedStripes_restartsAtNewPosition() throws IOException {
+    StripedReadChannel channel = createChannel(0, 4, 2);
+    channel.read(ByteBuffer.allocate(2));
+
+    channel.seek(30);
+    String content = readRemaining(channel, 4);
+
+    assertThat(content).isEqualTo(CONTENT.substring(30));
+    assertThat(openedStripes.get(2).getLastLimit()).isEqualTo(34L);
+  }
+
+  @Test
+  void read_stripeFails_throwsIOException() {
+    StripedReadChannel channel =
+        new StripedReadChannel(
+            (position, limit) -> {
+              throw new IOException("open failed");
+            },
+            executorService,
+            CONTENT.length(),
+            0,
+            4,
+            2);
+
+    IOException exception =
+        assertThrows(IOException.class, () -> channel.read(ByteBuffer.allocate(4)));
+
+    assertThat(exception).hasCauseThat().hasMessageThat().isEqualTo("open failed");
+  }
+
+  @Test
+  void close_rejectsReads() throws IOException {
+    StripedReadChannel channel = createChannel(0, 4, 2);
+    channel.read(ByteBuffer.allocate(2));
+
+    channel.close();
+
+    assertThat(channel.isOpen()).isFalse();
+    assertThrows(ClosedChannelException.class, () -> channel.read(ByteBuffer.allocate(2)));
+  }
+
+  @Test
+  void close_whileReadWaitsForStripe_failsReadWithoutWaitingForStripe() throws Exception {
+    CountDownLatch stripeRequested = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    ExecutorService stripeExecutor = Executors.newSingleThreadExecutor();
+    ExecutorService readerExecutor = Executors.newSingleThreadExecutor();
+    try {
+      StripedReadChannel channel =
+          new StripedReadChannel(
+              (position, limit) -> {
+                stripeRequested.countDown();
+                try {
+                  release.await();
+                } catch (InterruptedException e) {
+                  Thread.currentThread().interrupt();
+                }
+                throw new IOException("stripe released");
+              },
+              stripeExecutor,
+              CONTENT.length(),
+              0,
+              4,
+              1);
+      Future<Integer> read = readerExecutor.submit(() -> channel.read(ByteBuffer.allocate(4)));
+      assertThat(stripeRequested.await(5, TimeUnit.SECONDS)).isTrue();
+
+      CompletableFuture.runAsync(channel::close).get(5, TimeUnit.SECONDS);
+
+      ExecutionException exception =
+          assertThrows(ExecutionException.class, () -> read.get(5, TimeUnit.SECONDS));
+      assertThat(exception).hasCauseThat().isInstanceOf(ClosedChannelException.class);
+      assertThat(release.getCount()).isEqualTo(1);
+    } finally {
+      release.countDown();
+      stripeExecutor.shutdownNow();
+      readerExecutor.shutdownNow();
+    }
+  }
+
+  private StripedReadChannel createChannel(long startPosition, int stripeSize, int concurrency) {
+    return new StripedReadChannel(
+        (position, limit) -> {
+          TrackingReadChannel stripe = new TrackingReadChannel(storage.reader(blobId));
+          stripe.limit(limit);
+          stripe.seek(position);
+          synchronized (openedStripes) {
+            openedStripes.add(stripe);
+          }
+          return stripe;
+        },
+        executorService,
+        CONTENT.length(),
+        startPosition,
+        stripeSize,
+        concurrency);
+  }
+
+  private static String readRemaining(ReadChannel channel, int bufferSize) throws IOException {
+    StringBuilder content = new StringBuilder();
+    ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
+    while (channel.read(buffer) >= 0) {
+      buffer.flip();
+      content.append(StandardCharsets.UTF_8.decode(buffer));
+      buffer.clear();
+    }
+    return content.toString();
+  }
+}
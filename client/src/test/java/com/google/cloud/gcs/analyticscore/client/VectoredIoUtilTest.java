@@ -16,12 +16,16 @@
 package com.google.cloud.gcs.analyticscore.client;
 
 import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import org.apache.commons.lang3.RandomUtils;
 import org.junit.jupiter.api.Test;
 
@@ -127,6 +131,91 @@ class VectoredIoUtilTest {
     assertThat(merged.get(0).getUnderlyingRanges()).hasSize(2);
   }
 
+  @Test
+  void mergeGcsObjectRanges_withManyAdjacentRanges_mergesUpToMaxSize() {
+    ImmutableList.Builder<GcsObjectRange> rangesBuilder = ImmutableList.builder();
+    // Built in reverse to exercise sorting.
+    for (long offset = 99_990; offset >= 0; offset -= 10) {
+      rangesBuilder.add(createRange(offset, 8));
+    }
+    ImmutableList<GcsObjectRange> ranges = rangesBuilder.build();
+
+    List<GcsObjectCombinedRange> merged = VectoredIoUtil.mergeGcsObjectRanges(ranges, 5, 1_000);
+
+    assertThat(merged).hasSize(100);
+    for (int i = 0; i < merged.size(); i++) {
+      GcsObjectCombinedRange combinedRange = merged.get(i);
+      assertThat(combinedRange.getOffset()).isEqualTo(i * 1_000L);
+      assertThat(combinedRange.getLength()).isEqualTo(998);
+      assertThat(combinedRange.getUnderlyingRanges()).hasSize(100);
+      assertThat(combinedRange.getUnderlyingRanges().get(99).getOffset())
+          .isEqualTo(i * 1_000L + 990);
+    }
+  }
+
+  @Test
+  void deduplicateGcsObjectRanges_withDisjointRanges_returnsRangesUnchanged() {
+    ImmutableList<GcsObjectRange> ranges = createRanges(ImmutableMap.of(20L, 5, 0L, 10));
+
+    ImmutableList<GcsObjectRange> uniqueRanges = VectoredIoUtil.deduplicateGcsObjectRanges(ranges);
+
+    assertThat(uniqueRanges).containsExactly(ranges.get(1), ranges.get(0)).inOrder();
+  }
+
+  @Test
+  void deduplicateGcsObjectRanges_withContainedRanges_sharesFetchedBuffer() throws Exception {
+    GcsObjectRange container = createRange(0, 10);
+    GcsObjectRange duplicate = createRange(0, 10);
+    GcsObjectRange contained = createRange(2, 3);
+    GcsObjectRange disjoint = createRange(20, 5);
+    byte[] data = RandomUtils.nextBytes(10);
+
+    ImmutableList<GcsObjectRange> uniqueRanges =
+        VectoredIoUtil.deduplicateGcsObjectRanges(
+            ImmutableList.of(contained, disjoint, duplicate, container));
+    uniqueRanges.get(0).getByteBufferFuture().complete(ByteBuffer.wrap(data));
+
+    assertThat(uniqueRanges).hasSize(2);
+    assertThat(uniqueRanges.get(0).getOffset()).isEqualTo(0);
+    assertThat(uniqueRanges.get(0).getLength()).isEqualTo(10);
+    assertThat(uniqueRanges.get(1)).isSameInstanceAs(disjoint);
+    assertThat(readBytes(container.getByteBufferFuture().get())).isEqualTo(data);
+    assertThat(readBytes(duplicate.getByteBufferFuture().get())).isEqualTo(data);
+    assertThat(readBytes(contained.getByteBufferFuture().get()))
+        .isEqualTo(Arrays.copyOfRange(data, 2, 5));
+    assertThat(contained.getByteBufferFuture().get().isReadOnly()).isTrue();
+  }
+
+  @Test
+  void deduplicateGcsObjectRanges_sharedRangeFails_failsEveryRange() {
+    GcsObjectRange container = createRange(0, 10);
+    GcsObjectRange contained = createRange(2, 3);
+    IOException failure = new IOException("read failed");
+
+    ImmutableList<GcsObjectRange> uniqueRanges =
+        VectoredIoUtil.deduplicateGcsObjectRanges(ImmutableList.of(container, contained));
+    uniqueRanges.get(0).getByteBufferFuture().completeExceptionally(failure);
+
+    ExecutionException e =
+        assertThrows(ExecutionException.class, () -> contained.getByteBufferFuture().get());
+    assertThat(e).hasCauseThat().isSameInstanceAs(failure);
+    assertThat(container.getByteBufferFuture().isCompletedExceptionally()).isTrue();
+  }
+
+  @Test
+  void deduplicateGcsObjectRanges_allRangesCancelled_cancelsSharedRange() {
+    GcsObjectRange container = createRange(0, 10);
+    GcsObjectRange contained = createRange(2, 3);
+
+    ImmutableList<GcsObjectRange> uniqueRanges =
+        VectoredIoUtil.deduplicateGcsObjectRanges(ImmutableList.of(container, contained));
+    container.getByteBufferFuture().cancel(false);
+
+    assertThat(uniqueRanges.get(0).getByteBufferFuture().isCancelled()).isFalse();
+    contained.getByteBufferFuture().cancel(false);
+    assertThat(uniqueRanges.get(0).getByteBufferFuture().isCancelled()).isTrue();
+  }
+
   @Test
   void fetchUnderlyingRangeData_withValidInputs_returnsCorrectDataSlice() {
     byte[] data = RandomUtils.nextBytes(100);
@@ -151,6 +240,12 @@ class VectoredIoUtilTest {
     assertThat(resultArray).isEqualTo(expectedArray);
   }
 
+  private static byte[] readBytes(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.duplicate().get(bytes);
+    return bytes;
+  }
+
   private GcsObjectRange createRange(long offset, int length) {
     return GcsObjectRange.builder()
         .setOffset(offset)
@@ -0,0 +1,265 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.cloud.gcs.analyticscore.common.GcsAnalyticsCoreTelemetryConstants.Metric;
+import com.google.cloud.gcs.analyticscore.common.telemetry.MetricKey;
+import com.google.cloud.gcs.analyticscore.common.telemetry.Operation;
+import com.google.cloud.gcs.analyticscore.common.telemetry.OperationListener;
+import com.google.cloud.gcs.analyticscore.common.telemetry.Telemetry;
+import com.google.common.base.Suppliers;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class VectoredReadSchedulerTest {
+
+  private final Map<Metric, Long> recordedMetrics = new ConcurrentHashMap<>();
+  private final Telemetry telemetry =
+      new Telemetry(
+          Collections.singletonList(
+              new OperationListener() {
+                @Override
+                public void onOperationStart(Operation operation) {}
+
+                @Override
+                public void onOperationEnd(Operation operation, Map<MetricKey, Long> metrics) {
+                  metrics.forEach(
+                      (key, value) ->
+                          recordedMetrics.merge((Metric) key.getMetric(), value, Long::max));
+                }
+              }));
+  private final ExecutorService executorService = Executors.newFixedThreadPool(4);
+  private final ExecutorService callerExecutor = Executors.newSingleThreadExecutor();
+  private final CountDownLatch release = new CountDownLatch(1);
+
+  @AfterEach
+  void shutDownExecutors() {
+    release.countDown();
+    executorService.shutdownNow();
+    callerExecutor.shutdownNow();
+  }
+
+  @Test
+  void submit_multipleStreams_dispatchesRoundRobin() throws Exception {
+    VectoredReadScheduler scheduler = createScheduler(1, 1, 16);
+    List<String> order = new CopyOnWriteArrayList<>();
+    CountDownLatch done = new CountDownLatch(5);
+    Object streamA = new Object();
+    Object streamB = new Object();
+
+    scheduler.submit(streamA, blockingRead(order, "a1", done), e -> {});
+    scheduler.submit(streamA, recordingRead(order, "a2", done), e -> {});
+    scheduler.submit(streamA, recordingRead(order, "a3", done), e -> {});
+    scheduler.submit(streamB, recordingRead(order, "b1", done), e -> {});
+    scheduler.submit(streamB, recordingRead(order, "b2", done), e -> {});
+    release.countDown();
+
+    assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(order).containsExactly("a1", "a2", "b1", "a3", "b2").inOrder();
+    assertThat(recordedMetrics).containsEntry(Metric.VECTORED_READ_QUEUE_DEPTH, 4L);
+    assertThat(recordedMetrics).containsKey(Metric.VECTORED_READ_QUEUE_WAIT_DURATION);
+  }
+
+  @Test
+  void submit_streamAtLimit_queuesRemainingReads() throws Exception {
+    VectoredReadScheduler scheduler = createScheduler(4, 2, 16);
+    Object stream = new Object();
+
+    for (int i = 0; i < 3; i++) {
+      scheduler.submit(stream, this::awaitRelease, e -> {});
+    }
+
+    assertThat(scheduler.getInFlightCount()).isEqualTo(2);
+    assertThat(scheduler.getQueuedCount()).isEqualTo(1);
+  }
+
+  @Test
+  void submit_queueFull_blocksUntilReadIsDispatched() throws Exception {
+    VectoredReadScheduler scheduler = createScheduler(1, 1, 1);
+    Object stream = new Object();
+    scheduler.submit(stream, this::awaitRelease, e -> {});
+    scheduler.submit(stream, () -> {}, e -> {});
+
+    Future<?> blockedSubmit =
+        callerExecutor.submit(
+            () -> {
+              scheduler.submit(stream, () -> {}, e -> {});
+              return null;
+            });
+
+    assertThrows(TimeoutException.class, () -> blockedSubmit.get(100, TimeUnit.MILLISECONDS));
+    release.countDown();
+    blockedSubmit.get(5, TimeUnit.SECONDS);
+  }
+
+  @Test
+  void trySubmit_queueFull_returnsFalseWithoutQueueing() throws Exception {
+    VectoredReadScheduler scheduler = createScheduler(1, 1, 1);
+    Object stream = new Object();
+    assertThat(scheduler.trySubmit(stream, this::awaitRelease, e -> {})).isTrue();
+    assertThat(scheduler.trySubmit(stream, () -> {}, e -> {})).isTrue();
+
+    boolean queued = scheduler.trySubmit(stream, () -> {}, e -> {});
+
+    assertThat(queued).isFalse();
+    assertThat(scheduler.getInFlightCount()).isEqualTo(1);
+    assertThat(scheduler.getQueuedCount()).isEqualTo(1);
+  }
+
+  @Test
+  void tryStart_withinLimits_runsReadWithoutQueueing() throws Exception {
+    VectoredReadScheduler scheduler = createScheduler(2, 2, 1);
+    Object stream = new Object();
+    scheduler.submit(stream, this::awaitRelease, e -> {});
+    CountDownLatch started = new CountDownLatch(1);
+
+    assertThat(scheduler.tryStart(stream, started::countDown, e -> {})).isTrue();
+
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(scheduler.getQueuedCount()).isEqualTo(0);
+  }
+
+  @Test
+  void tryStart_streamAtLimit_returnsFalseWithoutQueueing() throws Exception {
+    VectoredReadScheduler scheduler = createScheduler(4, 1, 16);
+    Object stream = new Object();
+    scheduler.submit(stream, this::awaitRelease, e -> {});
+
+    assertThat(scheduler.tryStart(stream, () -> {}, e -> {})).isFalse();
+    assertThat(scheduler.tryStart(new Object(), this::awaitRelease, e -> {})).isTrue();
+    assertThat(scheduler.getInFlightCount()).isEqualTo(2);
+    assertThat(scheduler.getQueuedCount()).isEqualTo(0);
+  }
+
+  @Test
+  void cancel_queuedReads_failsThemWithoutRunning() throws Exception {
+    VectoredReadScheduler scheduler = createScheduler(4, 1, 16);
+    Object stream = new Object();
+    AtomicReference<Throwable> runningReadFailure = new AtomicReference<>();
+    List<Throwable> queuedReadFailures = new CopyOnWriteArrayList<>();
+    List<String> order = new CopyOnWriteArrayList<>();
+    CountDownLatch done = new CountDownLatch(1);
+    scheduler.submit(stream, blockingRead(order, "running", done), runningReadFailure::set);
+    scheduler.submit(stream, () -> order.add("queued1"), queuedReadFailures::add);
+    scheduler.submit(stream, () -> order.add("queued2"), queuedReadFailures::add);
+
+    scheduler.cancel(stream);
+    release.countDown();
+
+    assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(queuedReadFailures).hasSize(2);
+    assertThat(queuedReadFailures.get(0)).isInstanceOf(CancellationException.class);
+    assertThat(runningReadFailure.get()).isNull();
+    assertThat(order).containsExactly("running");
+    assertThat(scheduler.getQueuedCount()).isEqualTo(0);
+  }
+
+  @Test
+  void submit_executorRejects_callsOnRejected() throws Exception {
+    VectoredReadScheduler scheduler = createScheduler(1, 1, 16);
+    executorService.shutdown();
+    AtomicReference<Throwable> rejection = new AtomicReference<>();
+
+    scheduler.submit(new Object(), () -> {}, rejection::set);
+
+    assertThat(rejection.get()).isNotNull();
+    assertThat(scheduler.getInFlightCount()).isEqualTo(0);
+    assertThat(scheduler.getQueuedCount()).isEqualTo(0);
+  }
+
+  @Test
+  void shutdownNow_readWaitingForPermit_callsOnRejected() throws Exception {
+    VirtualThreadExecutor virtualThreadExecutor =
+        new VirtualThreadExecutor(Executors.newCachedThreadPool(), 1);
+    VectoredReadScheduler scheduler = createScheduler(virtualThreadExecutor, 2, 2, 16);
+    Object stream = new Object();
+    List<String> order = new CopyOnWriteArrayList<>();
+    CountDownLatch started = new CountDownLatch(1);
+    AtomicReference<Throwable> rejection = new AtomicReference<>();
+    scheduler.submit(
+        stream,
+        () -> {
+          started.countDown();
+          awaitRelease();
+        },
+        e -> {});
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    scheduler.submit(stream, () -> order.add("waiting"), rejection::set);
+
+    virtualThreadExecutor.shutdownNow();
+
+    assertThat(virtualThreadExecutor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(rejection.get()).isInstanceOf(CancellationException.class);
+    assertThat(order).isEmpty();
+    assertThat(scheduler.getInFlightCount()).isEqualTo(0);
+  }
+
+  private VectoredReadScheduler createScheduler(
+      int maxInFlight, int maxInFlightPerStream, int maxQueued) {
+    return createScheduler(executorService, maxInFlight, maxInFlightPerStream, maxQueued);
+  }
+
+  private VectoredReadScheduler createScheduler(
+      ExecutorService executor, int maxInFlight, int maxInFlightPerStream, int maxQueued) {
+    GcsVectoredReadOptions options =
+        GcsVectoredReadOptions.builder()
+            .setSchedulerEnabled(true)
+            .setSchedulerMaxInFlight(maxInFlight)
+            .setSchedulerMaxInFlightPerStream(maxInFlightPerStream)
+            .setSchedulerMaxQueued(maxQueued)
+            .build();
+    return new VectoredReadScheduler(Suppliers.ofInstance(executor), options, telemetry);
+  }
+
+  private Runnable blockingRead(List<String> order, String name, CountDownLatch done) {
+    return () -> {
+      awaitRelease();
+      order.add(name);
+      done.countDown();
+    };
+  }
+
+  private void awaitRelease() {
+    try {
+      release.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static Runnable recordingRead(List<String> order, String name, CountDownLatch done) {
+    return () -> {
+      order.add(name);
+      done.countDown();
+    };
+  }
+}
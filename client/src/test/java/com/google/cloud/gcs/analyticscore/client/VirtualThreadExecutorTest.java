@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadExecutorTest {
+
+  @Test
+  void create_matchesRuntimeSupport() {
+    Optional<ExecutorService> executor = VirtualThreadExecutor.create(4);
+
+    assertThat(executor.isPresent()).isEqualTo(Runtime.version().feature() >= 21);
+    executor.ifPresent(ExecutorService::shutdown);
+  }
+
+  @Test
+  void constructor_nonPositiveConcurrency_throwsIllegalArgumentException() {
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> new VirtualThreadExecutor(Executors.newCachedThreadPool(), 0));
+  }
+
+  @Test
+  void submit_limitsRunningTasksToMaxConcurrency() throws Exception {
+    VirtualThreadExecutor executor = new VirtualThreadExecutor(Executors.newCachedThreadPool(), 2);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    CountDownLatch started = new CountDownLatch(2);
+    CountDownLatch release = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+
+    for (int i = 0; i < 6; i++) {
+      futures.add(
+          executor.submit(
+              () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                started.countDown();
+                release.await();
+                running.decrementAndGet();
+                return null;
+              }));
+    }
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(running.get()).isEqualTo(2);
+    release.countDown();
+    for (Future<?> future : futures) {
+      future.get(5, TimeUnit.SECONDS);
+    }
+
+    assertThat(maxRunning.get()).isEqualTo(2);
+    assertThat(executor.getMaxConcurrency()).isEqualTo(2);
+    executor.shutdown();
+    assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  void shutdownNow_dropsTasksWaitingForPermit() throws Exception {
+    VirtualThreadExecutor executor = new VirtualThreadExecutor(Executors.newCachedThreadPool(), 1);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    AtomicBoolean waitingTaskRan = new AtomicBoolean(false);
+    executor.execute(
+        () -> {
+          started.countDown();
+          // Holds the only permit until released, even when interrupted by shutdownNow.
+          while (release.getCount() > 0) {
+            try {
+              release.await();
+            } catch (InterruptedException e) {
+              // Keep waiting for the release.
+            }
+          }
+        });
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+    Runnable waitingTask = () -> waitingTaskRan.set(true);
+    executor.execute(waitingTask);
+    Future<?> waitingFuture = executor.submit(() -> waitingTaskRan.set(true));
+
+    List<Runnable> droppedTasks = executor.shutdownNow();
+    release.countDown();
+
+    assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    assertThat(waitingTaskRan.get()).isFalse();
+    assertThat(droppedTasks).containsExactly(waitingTask, waitingFuture);
+    assertThat(waitingFuture.isCancelled()).isTrue();
+  }
+}
@@ -23,9 +23,17 @@ public class GcsAnalyticsCoreTelemetryConstants {
   public enum Metric implements com.google.cloud.gcs.analyticscore.common.telemetry.Metric {
     SEEK_DISTANCE("gcs.analytics-core.client.seek.size", MetricType.COUNTER),
     SEEK_DURATION("gcs.analytics-core.client.seek.duration", MetricType.DURATION),
+    SEEK_IN_PLACE("gcs.analytics-core.client.seek.in-place", MetricType.COUNTER),
+    SEEK_REOPEN("gcs.analytics-core.client.seek.reopen", MetricType.COUNTER),
+    SEEK_ESTIMATED_FIRST_BYTE_LATENCY(
+        "gcs.analytics-core.client.seek.estimated.first-byte-latency", MetricType.DURATION),
+    SEEK_ESTIMATED_DRAIN_DURATION(
+        "gcs.analytics-core.client.seek.estimated.drain-duration", MetricType.DURATION),
     READ_BYTES("gcs.analytics-core.client.read.size", MetricType.COUNTER),
     READ_DURATION("gcs.analytics-core.client.read.duration", MetricType.DURATION),
     OPEN_DURATION("gcs.analytics-core.client.open.duration", MetricType.DURATION),
+    LOOK_BEHIND_HIT("gcs.analytics-core.client.read.look-behind.hits", MetricType.COUNTER),
+    LOOK_BEHIND_MISS("gcs.analytics-core.client.read.look-behind.misses", MetricType.COUNTER),
     READ_CACHE_HIT("gcs.analytics-core.client.read.cache.hits", MetricType.COUNTER),
     READ_CACHE_MISS("gcs.analytics-core.client.read.cache.misses", MetricType.COUNTER),
     FOOTER_CACHE_HIT("gcs.analytics-core.client.footer.cache.hits", MetricType.COUNTER),
@@ -34,6 +42,19 @@ public class GcsAnalyticsCoreTelemetryConstants {
     SMALL_OBJECT_CACHE_HIT("gcs.analytics-core.client.small.object.cache.hits", MetricType.COUNTER),
     SMALL_OBJECT_CACHE_MISS(
         "gcs.analytics-core.client.small.object.cache.misses", MetricType.COUNTER),
+    BLOCK_CACHE_HIT("gcs.analytics-core.client.block.cache.hits", MetricType.COUNTER),
+    BLOCK_CACHE_MISS("gcs.analytics-core.client.block.cache.misses", MetricType.COUNTER),
+    BLOCK_CACHE_EVICTION("gcs.analytics-core.client.block.cache.evictions", MetricType.COUNTER),
+    HEDGED_READ_ISSUED("gcs.analytics-core.client.read.hedge.issued", MetricType.COUNTER),
+    HEDGED_READ_WON("gcs.analytics-core.client.read.hedge.won", MetricType.COUNTER),
+    VECTORED_READ_QUEUE_DEPTH(
+        "gcs.analytics-core.client.read.vectored.queue.depth", MetricType.DISTRIBUTION),
+    VECTORED_READ_QUEUE_WAIT_DURATION(
+        "gcs.analytics-core.client.read.vectored.queue.wait-duration", MetricType.DURATION),
+    VECTORED_READ_MERGE_GAP(
+        "gcs.analytics-core.client.read.vectored.merge.gap", MetricType.DISTRIBUTION),
+    VECTORED_READ_MERGE_SIZE(
+        "gcs.analytics-core.client.read.vectored.merge.size", MetricType.DISTRIBUTION),
     CLOSE_DURATION("gcs.analytics-core.client.close.duration", MetricType.DURATION),
     GCS_CLIENT_CREATE_DURATION("gcs.analytics-core.client.create.duration", MetricType.DURATION);
 
@@ -16,6 +16,8 @@
 
 package com.google.cloud.gcs.analyticscore.common.cache;
 
+import java.util.Collections;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -66,6 +68,16 @@ public interface AnalyticsCache<K, V> {
   /** Returns the approximate number of entries in this cache. */
   long size();
 
+  /**
+   * Returns an immutable copy of the entries currently in this cache. Later changes to the cache
+   * are not reflected in the returned map.
+   *
+   * <p>Returns an empty map by default, for caches that cannot enumerate their entries.
+   */
+  default Map<K, V> snapshot() {
+    return Collections.emptyMap();
+  }
+
   /** Performs any pending maintenance operations needed by the cache. */
   default void cleanUp() {
     // No-op by default
@@ -21,7 +21,10 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalListener;
 import com.github.benmanes.caffeine.cache.Weigher;
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -35,10 +38,15 @@ public class AnalyticsCacheCaffeineImpl<K, V> implements AnalyticsCache<K, V> {
 
   private final Cache<K, V> cache;
 
-  private AnalyticsCacheCaffeineImpl(long maxWeight, Weigher<K, V> weigher) {
+  private AnalyticsCacheCaffeineImpl(
+      long maxWeight, Weigher<K, V> weigher, RemovalListener<K, V> removalListener) {
     checkArgument(maxWeight > 0, "maxWeight must be positive");
     checkNotNull(weigher, "weigher cannot be null");
-    this.cache = Caffeine.newBuilder().maximumWeight(maxWeight).weigher(weigher).build();
+    Caffeine<K, V> builder = Caffeine.newBuilder().maximumWeight(maxWeight).weigher(weigher);
+    if (removalListener != null) {
+      builder = builder.removalListener(removalListener);
+    }
+    this.cache = builder.build();
   }
 
   /**
@@ -46,7 +54,18 @@ public class AnalyticsCacheCaffeineImpl<K, V> implements AnalyticsCache<K, V> {
    */
   public static <K, V> AnalyticsCacheCaffeineImpl<K, V> create(
       long maxWeight, Weigher<K, V> weigher) {
-    return new AnalyticsCacheCaffeineImpl<>(maxWeight, weigher);
+    return new AnalyticsCacheCaffeineImpl<>(maxWeight, weigher, null);
+  }
+
+  /**
+   * Creates a new {@link AnalyticsCacheCaffeineImpl} with the specified maximum weight and weigher,
+   * notifying {@code removalListener} of every entry removed from the cache, for example to
+   * record evictions.
+   */
+  public static <K, V> AnalyticsCacheCaffeineImpl<K, V> create(
+      long maxWeight, Weigher<K, V> weigher, RemovalListener<K, V> removalListener) {
+    checkNotNull(removalListener, "removalListener cannot be null");
+    return new AnalyticsCacheCaffeineImpl<>(maxWeight, weigher, removalListener);
   }
 
   /** {@inheritDoc} */
@@ -114,6 +133,12 @@ public class AnalyticsCacheCaffeineImpl<K, V> implements AnalyticsCache<K, V> {
     return cache.estimatedSize();
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public Map<K, V> snapshot() {
+    return ImmutableMap.copyOf(cache.asMap());
+  }
+
   /** {@inheritDoc} */
   @Override
   public void cleanUp() {
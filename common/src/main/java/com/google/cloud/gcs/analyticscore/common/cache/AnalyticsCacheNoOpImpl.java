@@ -18,6 +18,8 @@ package com.google.cloud.gcs.analyticscore.common.cache;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -86,4 +88,10 @@ public class AnalyticsCacheNoOpImpl<K, V> implements AnalyticsCache<K, V> {
   public long size() {
     return 0;
   }
+
+  /** {@inheritDoc} */
+  @Override
+  public Map<K, V> snapshot() {
+    return ImmutableMap.of();
+  }
 }
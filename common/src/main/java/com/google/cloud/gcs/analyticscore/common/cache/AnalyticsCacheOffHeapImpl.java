@@ -0,0 +1,631 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.gcs.analyticscore.common.cache;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.zip.CRC32C;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link AnalyticsCache} implementation that keeps cached bytes outside of the Java heap. This
+ * implementation is thread-safe.
+ *
+ * <p>Values are copied into slabs of direct memory that are filled in order, and a Caffeine {@link
+ * Cache} holding only the location of each value acts as the index and decides which values to
+ * evict. Reads return read-only views of the slab memory, so a cached value is never copied back
+ * onto the heap.
+ *
+ * <p>Direct memory is never reused: a slab is released once none of its values remain cached, and
+ * the JVM frees it once the slab and every view handed out from it are unreachable. When evictions
+ * leave too many partly used slabs, the oldest slab is released together with the values still in
+ * it.
+ *
+ * <p>Slabs are either direct memory, see {@link #create(long, int)}, or memory-mapped segment files
+ * on a local disk, see {@link #createMappedFile(Path, long, int)}. Segments are allocated in the
+ * background and, unlike direct memory slabs, reused once released, so that the disk space of the
+ * cache never exceeds its maximum weight. Reads therefore return copies of values in segments,
+ * verified against a checksum after they are copied, and a segment holding a corrupt value is
+ * released.
+ *
+ * @param <K> The type of keys maintained by this cache.
+ */
+public class AnalyticsCacheOffHeapImpl<K> implements AnalyticsCache<K, ByteBuffer> {
+
+  /** Allocates the memory of a slab. */
+  @FunctionalInterface
+  interface SlabAllocator {
+    ByteBuffer allocate(int capacity) throws IOException;
+  }
+
+  private static final Logger LOG = LoggerFactory.getLogger(AnalyticsCacheOffHeapImpl.class);
+
+  private static final int SEGMENT_FILL_CHUNK_SIZE = 64 * 1024;
+
+  // Zero-fills new segment files, away from the threads that read and write the caches.
+  private static final Executor SEGMENT_ALLOCATION_EXECUTOR =
+      Executors.newSingleThreadExecutor(
+          new ThreadFactoryBuilder()
+              .setNameFormat("analytics-cache-segment-allocator-%d")
+              .setDaemon(true)
+              .build());
+
+  private final Cache<K, Entry> index;
+  private final int slabSizeBytes;
+  private final long maxSlabBytes;
+  private final SlabAllocator slabAllocator;
+  // Whether slabs are segments, which are allocated on segmentAllocationExecutor and reused.
+  private final boolean recycleSlabs;
+  private final Executor segmentAllocationExecutor;
+  private final RemovalListener<K, ByteBuffer> removalListener;
+
+  // Guarded by slabLock.
+  private final Object slabLock = new Object();
+  private final Deque<Slab> slabs = new ArrayDeque<>();
+  private Slab currentSlab;
+  private long slabBytes = 0;
+  // Segments that are not in use, and the bytes of every segment allocated or being allocated.
+  private final Deque<ByteBuffer> freeSegments = new ArrayDeque<>();
+  private long segmentBytes = 0;
+  private boolean segmentAllocationPending = false;
+
+  // Entries of released slabs that are still in the index.
+  private final Queue<Entry> releasedEntries = new ConcurrentLinkedQueue<>();
+
+  /**
+   * Creates a cache whose slabs are allocated by {@code slabAllocator}. When {@code
+   * segmentAllocationExecutor} is set, slabs are segments allocated on it and reused once released,
+   * and values larger than a segment are not cached.
+   */
+  AnalyticsCacheOffHeapImpl(
+      long maxWeight,
+      int slabSizeBytes,
+      SlabAllocator slabAllocator,
+      Executor segmentAllocationExecutor,
+      RemovalListener<K, ByteBuffer> removalListener) {
+    checkArgument(maxWeight > 0, "maxWeight must be positive");
+    checkArgument(slabSizeBytes > 0, "slabSizeBytes must be positive");
+    this.slabSizeBytes = slabSizeBytes;
+    this.slabAllocator = checkNotNull(slabAllocator, "slabAllocator cannot be null");
+    this.recycleSlabs = segmentAllocationExecutor != null;
+    this.segmentAllocationExecutor = segmentAllocationExecutor;
+    // Rounded up to whole slabs, so that a cache smaller than a slab can still hold values.
+    this.maxSlabBytes = (maxWeight + slabSizeBytes - 1) / slabSizeBytes * slabSizeBytes;
+    this.removalListener = removalListener;
+    // Removal notifications run on the calling thread, so that slab memory is accounted for as
+    // soon as an entry leaves the index.
+    this.index =
+        Caffeine.newBuilder()
+            .maximumWeight(maxWeight)
+            .<K, Entry>weigher((key, entry) -> entry.length)
+            .executor(Runnable::run)
+            .removalListener(this::onRemoval)
+            .build();
+  }
+
+  /**
+   * Creates a new {@link AnalyticsCacheOffHeapImpl} that holds at most {@code maxWeight} bytes,
+   * allocating direct memory in slabs of {@code slabSizeBytes} bytes.
+   */
+  public static <K> AnalyticsCacheOffHeapImpl<K> create(long maxWeight, int slabSizeBytes) {
+    return new AnalyticsCacheOffHeapImpl<>(
+        maxWeight, slabSizeBytes, ByteBuffer::allocateDirect, null, null);
+  }
+
+  /**
+   * Creates a new {@link AnalyticsCacheOffHeapImpl} that holds at most {@code maxWeight} bytes,
+   * allocating direct memory in slabs of {@code slabSizeBytes} bytes, and notifying {@code
+   * removalListener} of every entry removed from the cache.
+   */
+  public static <K> AnalyticsCacheOffHeapImpl<K> create(
+      long maxWeight, int slabSizeBytes, RemovalListener<K, ByteBuffer> removalListener) {
+    checkNotNull(removalListener, "removalListener cannot be null");
+    return new AnalyticsCacheOffHeapImpl<>(
+        maxWeight, slabSizeBytes, ByteBuffer::allocateDirect, null, removalListener);
+  }
+
+  /**
+   * Creates a new {@link AnalyticsCacheOffHeapImpl} that holds at most {@code maxWeight} bytes in
+   * memory-mapped segment files of {@code segmentSizeBytes} bytes, created in {@code directory}.
+   *
+   * <p>Each segment file is filled with zeros when it is created, so that running out of disk space
+   * fails the allocation of the segment rather than a later access to the mapping. The first
+   * segment is allocated here, and the others in the background, one ahead of need. Values written
+   * while no segment is ready are not cached. The file is deleted as soon as it is mapped, so that
+   * no files are left behind if the process exits. Segments are reused rather than unmapped, so
+   * that at most {@code maxWeight} bytes, rounded up to whole segments, of disk space are held.
+   */
+  public static <K> AnalyticsCacheOffHeapImpl<K> createMappedFile(
+      Path directory, long maxWeight, int segmentSizeBytes) {
+    return createMappedFile(directory, maxWeight, segmentSizeBytes, null);
+  }
+
+  /**
+   * Creates a new {@link AnalyticsCacheOffHeapImpl} like {@link #createMappedFile(Path, long,
+   * int)}, notifying {@code removalListener} of every entry removed from the cache. The value is
+   * {@code null} for entries whose segment has already been reused.
+   */
+  public static <K> AnalyticsCacheOffHeapImpl<K> createMappedFile(
+      Path directory,
+      long maxWeight,
+      int segmentSizeBytes,
+      RemovalListener<K, ByteBuffer> removalListener) {
+    checkNotNull(directory, "directory cannot be null");
+    AnalyticsCacheOffHeapImpl<K> cache =
+        new AnalyticsCacheOffHeapImpl<>(
+            maxWeight,
+            segmentSizeBytes,
+            capacity -> mapSegmentFile(directory, capacity),
+            SEGMENT_ALLOCATION_EXECUTOR,
+            removalListener);
+    synchronized (cache.slabLock) {
+      cache.segmentAllocationPending = true;
+      cache.segmentBytes += segmentSizeBytes;
+    }
+    cache.allocateSegment();
+    return cache;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Optional<ByteBuffer> get(K key) {
+    checkNotNull(key, "key cannot be null");
+    Entry entry = index.getIfPresent(key);
+    if (entry == null) {
+      return Optional.empty();
+    }
+    Optional<ByteBuffer> value = entry.slab.released ? Optional.empty() : read(entry);
+    if (value.isEmpty()) {
+      index.asMap().remove(key, entry);
+      invalidateReleasedEntries();
+    }
+    return value;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  @SuppressWarnings("unchecked")
+  public <E extends Exception> ByteBuffer get(
+      K key, ThrowingFunction<? super K, ? extends ByteBuffer, E> mappingFunction) throws E {
+    checkNotNull(key, "key cannot be null");
+    checkNotNull(mappingFunction, "mappingFunction cannot be null");
+    // A corrupt entry is discarded and loaded again, once.
+    for (int attempt = 0; ; attempt++) {
+      Entry entry;
+      try {
+        entry =
+            index.get(
+                key,
+                keyToLoad -> {
+                  try {
+                    ByteBuffer computed = mappingFunction.apply(keyToLoad);
+                    if (computed == null) {
+                      throw new NullPointerException(
+                          "mappingFunction returned null for key: " + keyToLoad);
+                    }
+                    Entry storedEntry = store(keyToLoad, computed);
+                    if (storedEntry == null) {
+                      throw new ValueNotStoredException(computed);
+                    }
+                    return storedEntry;
+                  } catch (Exception exception) {
+                    throw new ExecutionException(exception);
+                  }
+                });
+      } catch (ExecutionException executionException) {
+        Throwable cause = executionException.getCause();
+        if (cause instanceof ValueNotStoredException) {
+          return ((ValueNotStoredException) cause).value;
+        }
+        if (cause instanceof RuntimeException) {
+          throw (RuntimeException) cause;
+        }
+        throw (E) cause;
+      }
+      Optional<ByteBuffer> value = read(entry);
+      if (value.isPresent()) {
+        invalidateReleasedEntries();
+        // A view stays valid even if the slab was released in the meantime.
+        return value.get();
+      }
+      index.asMap().remove(key, entry);
+      invalidateReleasedEntries();
+      if (attempt > 0) {
+        throw new IllegalStateException("Cached value failed checksum verification: " + key);
+      }
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void put(K key, ByteBuffer value) {
+    checkNotNull(key, "key cannot be null");
+    checkNotNull(value, "value cannot be null");
+    Entry entry = store(key, value);
+    // Values of a reused segment still weigh on the index until they are dropped from it, and
+    // would otherwise make it evict live values, including the new one.
+    invalidateReleasedEntries();
+    if (entry == null) {
+      // The previous value must not be served in place of the new one.
+      index.invalidate(key);
+    } else {
+      index.put(key, entry);
+    }
+    invalidateReleasedEntries();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void invalidate(K key) {
+    checkNotNull(key, "key cannot be null");
+    index.invalidate(key);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void invalidateAll() {
+    index.invalidateAll();
+    releasedEntries.clear();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long size() {
+    return index.estimatedSize();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Map<K, ByteBuffer> snapshot() {
+    ImmutableMap.Builder<K, ByteBuffer> entries = ImmutableMap.builder();
+    index
+        .asMap()
+        .forEach(
+            (key, entry) -> {
+              if (!entry.slab.released) {
+                read(entry).ifPresent(value -> entries.put(key, value));
+              }
+            });
+    return entries.build();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void cleanUp() {
+    index.cleanUp();
+    invalidateReleasedEntries();
+  }
+
+  /** Returns the number of bytes of direct memory held by slabs that are still in use. */
+  long getSlabBytes() {
+    synchronized (slabLock) {
+      return slabBytes;
+    }
+  }
+
+  // Copies the remaining bytes of value into a slab, or returns null if no segment is ready for
+  // it. The position of value is not modified.
+  private Entry store(K key, ByteBuffer value) {
+    Entry entry =
+        recycleSlabs
+            ? allocateInSegment(key, value.remaining(), checksum(value))
+            : allocateInSlab(key, value.remaining());
+    if (entry == null) {
+      return null;
+    }
+    ByteBuffer target = entry.slab.memory.duplicate();
+    target.position(entry.offset);
+    target.put(value.duplicate());
+
+    return entry;
+  }
+
+  // Allocates a new slab outside of the lock when the current one is full.
+  private Entry allocateInSlab(K key, int length) {
+    synchronized (slabLock) {
+      if (currentSlab != null && currentSlab.remaining() >= length) {
+        return append(key, length, 0);
+      }
+    }
+    ByteBuffer memory;
+    try {
+      memory = slabAllocator.allocate(Math.max(slabSizeBytes, length));
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to allocate a cache slab", e);
+    }
+    synchronized (slabLock) {
+      openSlab(memory);
+      return append(key, length, 0);
+    }
+  }
+
+  // Fills the current segment, and then a free one. Once every segment has been allocated, the
+  // oldest one is reused along with the values still in it. One free segment is kept ready ahead.
+  private Entry allocateInSegment(K key, int length, int checksum) {
+    checkArgument(
+        length <= slabSizeBytes,
+        "Value of %s bytes is larger than a cache segment of %s bytes",
+        length,
+        slabSizeBytes);
+    for (int attempt = 0; attempt < 2; attempt++) {
+      Entry entry = null;
+      boolean allocateSegment = false;
+      synchronized (slabLock) {
+        if (currentSlab == null || currentSlab.remaining() < length) {
+          if (freeSegments.isEmpty()
+              && segmentBytes + slabSizeBytes > maxSlabBytes
+              && !slabs.isEmpty()) {
+            Slab oldestSlab = slabs.peekFirst();
+            if (oldestSlab == currentSlab) {
+              currentSlab = null;
+            }
+            evictSlab(oldestSlab);
+          }
+          if (!freeSegments.isEmpty()) {
+            openSlab(freeSegments.pollFirst());
+          }
+        }
+        if (currentSlab != null && currentSlab.remaining() >= length) {
+          entry = append(key, length, checksum);
+        }
+        if (freeSegments.isEmpty()
+            && !segmentAllocationPending
+            && segmentBytes + slabSizeBytes <= maxSlabBytes) {
+          segmentAllocationPending = true;
+          segmentBytes += slabSizeBytes;
+          allocateSegment = true;
+        }
+      }
+      if (allocateSegment) {
+        segmentAllocationExecutor.execute(this::allocateSegment);
+      }
+      // The segment may have been allocated on this thread, in which case the value is retried.
+      if (entry != null || !allocateSegment) {
+        return entry;
+      }
+    }
+    return null;
+  }
+
+  private void allocateSegment() {
+    ByteBuffer segment = null;
+    try {
+      segment = slabAllocator.allocate(slabSizeBytes);
+    } catch (IOException | RuntimeException e) {
+      LOG.warn("Failed to allocate a cache segment", e);
+    }
+    synchronized (slabLock) {
+      segmentAllocationPending = false;
+      if (segment == null) {
+        segmentBytes -= slabSizeBytes;
+      } else {
+        freeSegments.addLast(segment);
+      }
+    }
+  }
+
+  // Guarded by slabLock.
+  private Entry append(K key, int length, int checksum) {
+    Entry entry = new Entry(key, currentSlab, currentSlab.nextOffset, length, checksum);
+    currentSlab.nextOffset += length;
+    currentSlab.entries.add(entry);
+
+    return entry;
+  }
+
+  /**
+   * Returns the value of {@code entry}, or empty if it is corrupt. Values in segments are copied
+   * out and verified after the copy, as a segment may be reused as soon as it is released. The
+   * whole segment of a corrupt value is released, as the rest of it cannot be trusted either.
+   */
+  private Optional<ByteBuffer> read(Entry entry) {
+    if (!recycleSlabs) {
+      return Optional.of(entry.view());
+    }
+    ByteBuffer value = ByteBuffer.allocate(entry.length);
+    value.put(entry.view()).flip();
+    if (checksum(value) == entry.checksum) {
+      return Optional.of(value.asReadOnlyBuffer());
+    }
+    synchronized (slabLock) {
+      if (!entry.slab.released) {
+        releasedEntries.addAll(entry.slab.entries);
+        if (entry.slab == currentSlab) {
+          currentSlab = null;
+        }
+        releaseSlab(entry.slab);
+      }
+    }
+    return Optional.empty();
+  }
+
+  private static int checksum(ByteBuffer value) {
+    CRC32C crc = new CRC32C();
+    crc.update(value.duplicate());
+    return (int) crc.getValue();
+  }
+
+  // Guarded by slabLock.
+  private void openSlab(ByteBuffer memory) {
+    Slab previousSlab = currentSlab;
+    currentSlab = null;
+    if (previousSlab != null && previousSlab.entries.isEmpty()) {
+      releaseSlab(previousSlab);
+    }
+    while (!slabs.isEmpty() && slabBytes + memory.capacity() > maxSlabBytes) {
+      evictSlab(slabs.peekFirst());
+    }
+    currentSlab = new Slab(memory);
+    slabs.addLast(currentSlab);
+    slabBytes += memory.capacity();
+  }
+
+  // Releases a slab together with the values still in it. Guarded by slabLock.
+  private void evictSlab(Slab slab) {
+    for (Entry entry : slab.entries) {
+      entry.evictedWithSlab = true;
+      releasedEntries.add(entry);
+    }
+    releaseSlab(slab);
+  }
+
+  // Guarded by slabLock.
+  private void releaseSlab(Slab slab) {
+    slab.released = true;
+    slab.entries.clear();
+    slabs.remove(slab);
+    slabBytes -= slab.memory.capacity();
+    if (recycleSlabs) {
+      freeSegments.addLast(slab.memory);
+    }
+  }
+
+  private void onRemoval(K key, Entry entry, RemovalCause cause) {
+    if (entry == null) {
+      return;
+    }
+    synchronized (slabLock) {
+      Slab slab = entry.slab;
+      if (!slab.released && slab.entries.remove(entry)) {
+        if (slab.entries.isEmpty() && slab != currentSlab) {
+          releaseSlab(slab);
+        }
+      }
+    }
+    if (removalListener != null) {
+      // Values dropped with their slab are reported as evicted for lack of space.
+      RemovalCause reportedCause =
+          entry.evictedWithSlab && cause == RemovalCause.EXPLICIT ? RemovalCause.SIZE : cause;
+      // A value whose segment has been reused can no longer be read, but its removal is reported.
+      removalListener.onRemoval(key, read(entry).orElse(null), reportedCause);
+    }
+  }
+
+  private static ByteBuffer mapSegmentFile(Path directory, int capacity) throws IOException {
+    Files.createDirectories(directory);
+    Path segmentFile = Files.createTempFile(directory, "analytics-core-cache-", ".segment");
+    try (FileChannel channel =
+        FileChannel.open(segmentFile, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+      ByteBuffer zeros = ByteBuffer.allocateDirect(Math.min(capacity, SEGMENT_FILL_CHUNK_SIZE));
+      long position = 0;
+      while (position < capacity) {
+        zeros.clear().limit((int) Math.min(zeros.capacity(), capacity - position));
+        position += channel.write(zeros, position);
+      }
+      return channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+    } finally {
+      try {
+        Files.deleteIfExists(segmentFile);
+      } catch (IOException e) {
+        // Mapped files cannot be deleted on some platforms.
+        segmentFile.toFile().deleteOnExit();
+      }
+    }
+  }
+
+  private void invalidateReleasedEntries() {
+    Entry entry;
+    while ((entry = releasedEntries.poll()) != null) {
+      index.asMap().remove(entry.key, entry);
+    }
+  }
+
+  /** A contiguous region of direct memory that values are appended to. */
+  private final class Slab {
+    private final ByteBuffer memory;
+    // Guarded by slabLock.
+    private final Set<Entry> entries = Collections.newSetFromMap(new IdentityHashMap<>());
+    private int nextOffset = 0;
+    private volatile boolean released = false;
+
+    Slab(ByteBuffer memory) {
+      this.memory = memory;
+    }
+
+    int remaining() {
+      return memory.capacity() - nextOffset;
+    }
+  }
+
+  /** The location of a cached value within a slab. */
+  private final class Entry {
+    private final K key;
+    private final Slab slab;
+    private final int offset;
+    private final int length;
+    private final int checksum;
+    private volatile boolean evictedWithSlab = false;
+
+    Entry(K key, Slab slab, int offset, int length, int checksum) {
+      this.key = key;
+      this.slab = slab;
+      this.offset = offset;
+      this.length = length;
+      this.checksum = checksum;
+    }
+
+    ByteBuffer view() {
+      ByteBuffer view = slab.memory.duplicate();
+      view.position(offset);
+      view.limit(offset + length);
+      return view.slice().asReadOnlyBuffer();
+    }
+  }
+
+  /** Carries a loaded value that could not be stored out of the cache loading function. */
+  private static class ValueNotStoredException extends RuntimeException {
+    private final ByteBuffer value;
+
+    ValueNotStoredException(ByteBuffer value) {
+      super(null, null, false, false);
+      this.value = value;
+    }
+  }
+
+  /** A private runtime exception used to wrap checked exceptions during cache loading. */
+  private static class ExecutionException extends RuntimeException {
+    ExecutionException(Throwable cause) {
+      super(cause);
+    }
+  }
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.gcs.analyticscore.common.cache;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.RemovalListener;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link AnalyticsCache} that serves values from a primary cache and keeps values evicted from
+ * it in a larger, slower secondary cache. This implementation is thread-safe.
+ *
+ * <p>Values are loaded into the primary cache only, and are served from the secondary cache without
+ * being moved back. A failure to write to the secondary cache is logged and otherwise ignored, so
+ * that the secondary cache can never fail a read.
+ *
+ * @param <K> The type of keys maintained by this cache.
+ * @param <V> The type of mapped values.
+ */
+public class AnalyticsCacheTieredImpl<K, V> implements AnalyticsCache<K, V> {
+
+  private static final Logger LOG = LoggerFactory.getLogger(AnalyticsCacheTieredImpl.class);
+
+  private final AnalyticsCache<K, V> primary;
+  private final AnalyticsCache<K, V> secondary;
+
+  /**
+   * Creates a new {@link AnalyticsCacheTieredImpl}. The primary cache is created by {@code
+   * primaryFactory}, which must register the given removal listener with it, so that the values
+   * it evicts are kept in {@code secondary}.
+   */
+  public AnalyticsCacheTieredImpl(
+      Function<RemovalListener<K, V>, AnalyticsCache<K, V>> primaryFactory,
+      AnalyticsCache<K, V> secondary) {
+    checkNotNull(primaryFactory, "primaryFactory cannot be null");
+    this.secondary = checkNotNull(secondary, "secondary cannot be null");
+    this.primary = checkNotNull(primaryFactory.apply(this::onRemoval), "primary cannot be null");
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Optional<V> get(K key) {
+    checkNotNull(key, "key cannot be null");
+    Optional<V> value = primary.get(key);
+    return value.isPresent() ? value : secondary.get(key);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public <E extends Exception> V get(
+      K key, ThrowingFunction<? super K, ? extends V, E> mappingFunction) throws E {
+    checkNotNull(key, "key cannot be null");
+    checkNotNull(mappingFunction, "mappingFunction cannot be null");
+    Optional<V> value = get(key);
+    if (value.isPresent()) {
+      return value.get();
+    }
+    return primary.get(key, mappingFunction);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void put(K key, V value) {
+    checkNotNull(key, "key cannot be null");
+    checkNotNull(value, "value cannot be null");
+    // The secondary cache must not keep serving the replaced value.
+    secondary.invalidate(key);
+    primary.put(key, value);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void invalidate(K key) {
+    checkNotNull(key, "key cannot be null");
+    primary.invalidate(key);
+    secondary.invalidate(key);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void invalidateAll() {
+    primary.invalidateAll();
+    secondary.invalidateAll();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public long size() {
+    return primary.size() + secondary.size();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Map<K, V> snapshot() {
+    Map<K, V> entries = new HashMap<>(secondary.snapshot());
+    entries.putAll(primary.snapshot());
+    return Collections.unmodifiableMap(entries);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void cleanUp() {
+    primary.cleanUp();
+    secondary.cleanUp();
+  }
+
+  private void onRemoval(K key, V value, RemovalCause cause) {
+    if (!cause.wasEvicted() || key == null || value == null) {
+      return;
+    }
+    try {
+      secondary.put(key, value);
+    } catch (RuntimeException e) {
+      LOG.warn("Failed to write an evicted cache entry to the secondary cache", e);
+    }
+  }
+}
@@ -19,7 +19,9 @@ package com.google.cloud.gcs.analyticscore.common.telemetry;
 public interface Metric {
   enum MetricType {
     COUNTER,
-    DURATION
+    DURATION,
+    // Values, such as sizes or queue depths, whose distribution matters rather than their sum.
+    DISTRIBUTION
   }
 
   String getName();
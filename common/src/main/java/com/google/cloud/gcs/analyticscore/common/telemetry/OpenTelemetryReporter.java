@@ -87,7 +87,9 @@ public class OpenTelemetryReporter implements OperationListener {
               .putAll(operationAttributes)
               .putAll(toOpenTelemetryAttributes(metricKey.getAttributes()))
               .build();
-      if (metricKey.getMetric().getType() == Metric.MetricType.DURATION) {
+      Metric.MetricType metricType = metricKey.getMetric().getType();
+      if (metricType == Metric.MetricType.DURATION
+          || metricType == Metric.MetricType.DISTRIBUTION) {
         LongHistogram histogram =
             histograms.computeIfAbsent(
                 metricKey.getMetric().getName(),
@@ -20,6 +20,9 @@ import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -40,6 +43,27 @@ class AnalyticsCacheCaffeineImplTest {
     assertThat(exception).hasMessageThat().contains("weigher cannot be null");
   }
 
+  @Test
+  void create_withRemovalListener_notifiesEvictions() throws Exception {
+    CountDownLatch evicted = new CountDownLatch(1);
+    AnalyticsCacheCaffeineImpl<String, String> evictingCache =
+        AnalyticsCacheCaffeineImpl.create(
+            1,
+            (key, value) -> 1,
+            (key, value, cause) -> {
+              if (cause.wasEvicted()) {
+                evicted.countDown();
+              }
+            });
+
+    evictingCache.put("key1", "value1");
+    evictingCache.put("key2", "value2");
+    evictingCache.cleanUp();
+
+    assertThat(evicted.await(10, TimeUnit.SECONDS)).isTrue();
+    assertThat(evictingCache.size()).isEqualTo(1);
+  }
+
   @Test
   void get_notPresent_returnsEmpty() {
     assertThat(cache.get("key1")).isEmpty();
@@ -115,4 +139,15 @@ class AnalyticsCacheCaffeineImplTest {
 
     assertThat(cache.size()).isEqualTo(2);
   }
+
+  @Test
+  void snapshot_withEntries_returnsImmutableCopy() {
+    cache.put("key1", "value1");
+
+    Map<String, String> snapshot = cache.snapshot();
+    cache.put("key2", "value2");
+
+    assertThat(snapshot).containsExactly("key1", "value1");
+    assertThrows(UnsupportedOperationException.class, () -> snapshot.put("key3", "value3"));
+  }
 }
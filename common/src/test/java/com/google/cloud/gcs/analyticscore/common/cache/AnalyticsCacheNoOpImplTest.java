@@ -98,4 +98,11 @@ class AnalyticsCacheNoOpImplTest {
 
     assertThat(cache.size()).isEqualTo(0);
   }
+
+  @Test
+  void snapshot_anyEntries_alwaysReturnsEmpty() {
+    cache.put("key1", "value1");
+
+    assertThat(cache.snapshot()).isEmpty();
+  }
 }
@@ -0,0 +1,320 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.gcs.analyticscore.common.cache;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class AnalyticsCacheOffHeapImplTest {
+
+  private final AnalyticsCacheOffHeapImpl<String> cache = AnalyticsCacheOffHeapImpl.create(8, 4);
+
+  @Test
+  void create_nonPositiveSlabSize_throwsException() {
+    IllegalArgumentException exception =
+        assertThrows(IllegalArgumentException.class, () -> AnalyticsCacheOffHeapImpl.create(8, 0));
+    assertThat(exception).hasMessageThat().contains("slabSizeBytes must be positive");
+  }
+
+  @Test
+  void get_notPresent_returnsEmpty() {
+    assertThat(cache.get("key1")).isEmpty();
+  }
+
+  @Test
+  void put_copiesValueOffHeap() {
+    ByteBuffer value = ByteBuffer.wrap(new byte[] {1, 2, 3});
+
+    cache.put("key1", value);
+    value.put(0, (byte) 9);
+
+    ByteBuffer cached = cache.get("key1").get();
+    assertThat(cached).isEqualTo(ByteBuffer.wrap(new byte[] {1, 2, 3}));
+    assertThat(cached.isDirect()).isTrue();
+    assertThat(cached.isReadOnly()).isTrue();
+    assertThat(value.position()).isEqualTo(0);
+  }
+
+  @Test
+  void put_valueLargerThanSlab_isCached() {
+    AnalyticsCacheOffHeapImpl<String> largeCache = AnalyticsCacheOffHeapImpl.create(16, 4);
+
+    largeCache.put("key1", ByteBuffer.wrap(new byte[10]));
+
+    assertThat(largeCache.get("key1")).hasValue(ByteBuffer.wrap(new byte[10]));
+  }
+
+  @Test
+  void get_withMappingFunction_notPresent_computesAndCachesValue() {
+    AtomicInteger callCount = new AtomicInteger(0);
+
+    ByteBuffer value =
+        cache.get(
+            "key1",
+            key -> {
+              callCount.incrementAndGet();
+              return ByteBuffer.wrap(new byte[] {1, 2});
+            });
+    ByteBuffer cachedValue =
+        cache.get(
+            "key1",
+            key -> {
+              callCount.incrementAndGet();
+              return ByteBuffer.wrap(new byte[] {3, 4});
+            });
+
+    assertThat(value).isEqualTo(ByteBuffer.wrap(new byte[] {1, 2}));
+    assertThat(cachedValue).isEqualTo(ByteBuffer.wrap(new byte[] {1, 2}));
+    assertThat(callCount.get()).isEqualTo(1);
+  }
+
+  @Test
+  void get_withMappingFunction_throwsCheckedException_propagatesAndDoesNotCache() {
+    IOException exception =
+        assertThrows(
+            IOException.class,
+            () ->
+                cache.get(
+                    "key1",
+                    key -> {
+                      throw new IOException("test-exception");
+                    }));
+
+    assertThat(exception).hasMessageThat().isEqualTo("test-exception");
+    assertThat(cache.get("key1")).isEmpty();
+  }
+
+  @Test
+  void get_withMappingFunction_returnsNull_throwsNullPointerException() {
+    assertThrows(NullPointerException.class, () -> cache.get("key1", key -> null));
+  }
+
+  @Test
+  void invalidate_lastEntryOfSlab_releasesSlab() {
+    cache.put("key1", ByteBuffer.wrap(new byte[4]));
+    cache.put("key2", ByteBuffer.wrap(new byte[2]));
+
+    cache.invalidate("key1");
+
+    assertThat(cache.get("key1")).isEmpty();
+    assertThat(cache.getSlabBytes()).isEqualTo(4);
+  }
+
+  @Test
+  void put_slabsExhausted_releasesOldestSlabAndKeepsViewsReadable() {
+    cache.put("key1", ByteBuffer.wrap(new byte[] {1, 2, 3}));
+    ByteBuffer firstView = cache.get("key1").get();
+    cache.put("key2", ByteBuffer.wrap(new byte[] {4, 5, 6}));
+
+    cache.put("key3", ByteBuffer.wrap(new byte[] {7, 8, 9}));
+    cache.cleanUp();
+
+    assertThat(cache.get("key1")).isEmpty();
+    assertThat(cache.getSlabBytes()).isAtMost(8);
+    assertThat(firstView).isEqualTo(ByteBuffer.wrap(new byte[] {1, 2, 3}));
+  }
+
+  @Test
+  void create_withRemovalListener_notifiesRemovals() {
+    List<ByteBuffer> removedValues = new ArrayList<>();
+    AnalyticsCacheOffHeapImpl<String> listeningCache =
+        AnalyticsCacheOffHeapImpl.create(
+            8,
+            4,
+            (String key, ByteBuffer value, RemovalCause cause) -> removedValues.add(value));
+    listeningCache.put("key1", ByteBuffer.wrap(new byte[] {1, 2}));
+
+    listeningCache.invalidate("key1");
+
+    assertThat(removedValues).containsExactly(ByteBuffer.wrap(new byte[] {1, 2}));
+  }
+
+  @Test
+  void invalidateAll_removesAllEntries() {
+    cache.put("key1", ByteBuffer.wrap(new byte[] {1}));
+    cache.put("key2", ByteBuffer.wrap(new byte[] {2}));
+
+    cache.invalidateAll();
+
+    assertThat(cache.size()).isEqualTo(0);
+    assertThat(cache.get("key1")).isEmpty();
+  }
+
+  @Test
+  void createMappedFile_servesCopiesOfValuesAndLeavesNoFiles(@TempDir Path directory)
+      throws IOException {
+    AnalyticsCacheOffHeapImpl<String> mappedCache =
+        AnalyticsCacheOffHeapImpl.createMappedFile(directory.resolve("cache"), 8, 4);
+
+    mappedCache.put("key1", ByteBuffer.wrap(new byte[] {1, 2, 3}));
+
+    ByteBuffer cached = mappedCache.get("key1").get();
+    assertThat(cached).isEqualTo(ByteBuffer.wrap(new byte[] {1, 2, 3}));
+    assertThat(cached).isNotInstanceOf(MappedByteBuffer.class);
+    try (var files = Files.list(directory.resolve("cache"))) {
+      assertThat(files.count()).isEqualTo(0);
+    }
+  }
+
+  @Test
+  void put_segmentsExhausted_reusesOldestSegmentWithoutAllocating() {
+    List<ByteBuffer> segments = new ArrayList<>();
+    AnalyticsCacheOffHeapImpl<String> segmentedCache =
+        createSegmentedCache(segments, Runnable::run);
+    segmentedCache.put("key1", ByteBuffer.wrap(new byte[] {1, 2, 3}));
+    ByteBuffer firstValue = segmentedCache.get("key1").get();
+
+    for (int i = 2; i <= 10; i++) {
+      segmentedCache.put("key" + i, ByteBuffer.wrap(new byte[] {(byte) i, 0, 0}));
+    }
+
+    assertThat(segments).hasSize(2);
+    assertThat(segmentedCache.get("key1")).isEmpty();
+    assertThat(segmentedCache.get("key10").get())
+        .isEqualTo(ByteBuffer.wrap(new byte[] {10, 0, 0}));
+    assertThat(firstValue).isEqualTo(ByteBuffer.wrap(new byte[] {1, 2, 3}));
+  }
+
+  @Test
+  void put_noSegmentReady_doesNotCacheValueUntilSegmentIsAllocated() {
+    List<ByteBuffer> segments = new ArrayList<>();
+    List<Runnable> pendingAllocations = new ArrayList<>();
+    AnalyticsCacheOffHeapImpl<String> segmentedCache =
+        createSegmentedCache(segments, pendingAllocations::add);
+
+    segmentedCache.put("key1", ByteBuffer.wrap(new byte[] {1, 2}));
+
+    assertThat(segmentedCache.get("key1")).isEmpty();
+    assertThat(segments).isEmpty();
+    assertThat(pendingAllocations).hasSize(1);
+    pendingAllocations.get(0).run();
+    segmentedCache.put("key1", ByteBuffer.wrap(new byte[] {1, 2}));
+    assertThat(segmentedCache.get("key1").get()).isEqualTo(ByteBuffer.wrap(new byte[] {1, 2}));
+  }
+
+  @Test
+  void get_withMappingFunction_noSegmentReady_returnsValueWithoutCachingIt() {
+    AnalyticsCacheOffHeapImpl<String> segmentedCache =
+        createSegmentedCache(new ArrayList<>(), runnable -> {});
+
+    ByteBuffer value = segmentedCache.get("key1", key -> ByteBuffer.wrap(new byte[] {1, 2}));
+
+    assertThat(value).isEqualTo(ByteBuffer.wrap(new byte[] {1, 2}));
+    assertThat(segmentedCache.get("key1")).isEmpty();
+  }
+
+  @Test
+  void put_valueLargerThanSegment_throwsException() {
+    AnalyticsCacheOffHeapImpl<String> segmentedCache =
+        createSegmentedCache(new ArrayList<>(), Runnable::run);
+
+    IllegalArgumentException exception =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> segmentedCache.put("key1", ByteBuffer.wrap(new byte[5])));
+
+    assertThat(exception).hasMessageThat().contains("larger than a cache segment");
+  }
+
+  @Test
+  void get_checksumMismatch_discardsSegment() {
+    List<ByteBuffer> slabs = new ArrayList<>();
+    AnalyticsCacheOffHeapImpl<String> checkedCache =
+        new AnalyticsCacheOffHeapImpl<>(
+            8,
+            4,
+            capacity -> {
+              ByteBuffer slab = ByteBuffer.allocateDirect(capacity);
+              slabs.add(slab);
+              return slab;
+            },
+            Runnable::run,
+            null);
+    checkedCache.put("key1", ByteBuffer.wrap(new byte[] {1, 2}));
+    checkedCache.put("key2", ByteBuffer.wrap(new byte[] {3, 4}));
+
+    slabs.get(0).put(0, (byte) 9);
+
+    assertThat(checkedCache.get("key1")).isEmpty();
+    assertThat(checkedCache.get("key2")).isEmpty();
+    assertThat(checkedCache.size()).isEqualTo(0);
+    assertThat(checkedCache.getSlabBytes()).isEqualTo(0);
+  }
+
+  @Test
+  void get_withMappingFunction_checksumMismatch_reloadsValue() {
+    List<ByteBuffer> slabs = new ArrayList<>();
+    AnalyticsCacheOffHeapImpl<String> checkedCache =
+        new AnalyticsCacheOffHeapImpl<>(
+            8,
+            4,
+            capacity -> {
+              ByteBuffer slab = ByteBuffer.allocateDirect(capacity);
+              slabs.add(slab);
+              return slab;
+            },
+            Runnable::run,
+            null);
+    checkedCache.put("key1", ByteBuffer.wrap(new byte[] {1, 2}));
+    slabs.get(0).put(0, (byte) 9);
+
+    ByteBuffer value = checkedCache.get("key1", key -> ByteBuffer.wrap(new byte[] {1, 2}));
+
+    assertThat(value).isEqualTo(ByteBuffer.wrap(new byte[] {1, 2}));
+    assertThat(slabs).hasSize(2);
+  }
+
+  @Test
+  void snapshot_withEntries_returnsReadOnlyViewsOfLiveEntries() {
+    cache.put("key1", ByteBuffer.wrap(new byte[] {1, 2}));
+    cache.put("key2", ByteBuffer.wrap(new byte[] {3, 4}));
+    cache.invalidate("key2");
+
+    Map<String, ByteBuffer> snapshot = cache.snapshot();
+
+    assertThat(snapshot).containsExactly("key1", ByteBuffer.wrap(new byte[] {1, 2}));
+    assertThat(snapshot.get("key1").isReadOnly()).isTrue();
+  }
+
+  private static AnalyticsCacheOffHeapImpl<String> createSegmentedCache(
+      List<ByteBuffer> segments, Executor segmentAllocationExecutor) {
+    return new AnalyticsCacheOffHeapImpl<>(
+        8,
+        4,
+        capacity -> {
+          ByteBuffer segment = ByteBuffer.allocateDirect(capacity);
+          segments.add(segment);
+          return segment;
+        },
+        segmentAllocationExecutor,
+        null);
+  }
+}
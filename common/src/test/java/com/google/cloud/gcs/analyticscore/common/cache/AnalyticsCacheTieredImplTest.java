@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.gcs.analyticscore.common.cache;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class AnalyticsCacheTieredImplTest {
+
+  private static final ByteBuffer VALUE_1 = ByteBuffer.wrap(new byte[] {1, 2, 3, 4});
+  private static final ByteBuffer VALUE_2 = ByteBuffer.wrap(new byte[] {5, 6, 7, 8});
+
+  private final AnalyticsCacheOffHeapImpl<String> secondary =
+      AnalyticsCacheOffHeapImpl.create(16, 8);
+  // The primary holds a single value, and notifies removals on the calling thread.
+  private final AnalyticsCacheTieredImpl<String, ByteBuffer> cache =
+      new AnalyticsCacheTieredImpl<>(
+          removalListener -> AnalyticsCacheOffHeapImpl.create(4, 4, removalListener), secondary);
+
+  @Test
+  void put_primaryFull_movesEvictedValueToSecondary() {
+    cache.put("key1", VALUE_1);
+    cache.put("key2", VALUE_2);
+    cache.cleanUp();
+
+    assertThat(cache.get("key1")).hasValue(VALUE_1);
+    assertThat(cache.get("key2")).hasValue(VALUE_2);
+    assertThat(secondary.size()).isAtLeast(1);
+  }
+
+  @Test
+  void get_withMappingFunction_presentInSecondary_doesNotLoad() {
+    secondary.put("key1", VALUE_1);
+    AtomicInteger callCount = new AtomicInteger(0);
+
+    ByteBuffer value =
+        cache.get(
+            "key1",
+            key -> {
+              callCount.incrementAndGet();
+              return VALUE_2;
+            });
+
+    assertThat(value).isEqualTo(VALUE_1);
+    assertThat(callCount.get()).isEqualTo(0);
+  }
+
+  @Test
+  void put_replacesValueHeldInSecondary() {
+    secondary.put("key1", VALUE_1);
+
+    cache.put("key1", VALUE_2);
+
+    assertThat(cache.get("key1")).hasValue(VALUE_2);
+    assertThat(secondary.get("key1")).isEmpty();
+  }
+
+  @Test
+  void invalidate_removesFromBothTiers() {
+    secondary.put("key1", VALUE_1);
+    cache.put("key2", VALUE_2);
+
+    cache.invalidate("key1");
+    cache.invalidate("key2");
+
+    assertThat(cache.get("key1")).isEmpty();
+    assertThat(cache.get("key2")).isEmpty();
+  }
+
+  @Test
+  void put_secondaryWriteFails_doesNotThrow() {
+    @SuppressWarnings("unchecked")
+    AnalyticsCache<String, ByteBuffer> failingSecondary = mock(AnalyticsCache.class);
+    doThrow(new IllegalStateException("disk full"))
+        .when(failingSecondary)
+        .put(any(), any());
+    AnalyticsCacheTieredImpl<String, ByteBuffer> tieredCache =
+        new AnalyticsCacheTieredImpl<>(
+            removalListener -> AnalyticsCacheOffHeapImpl.create(4, 4, removalListener),
+            failingSecondary);
+
+    tieredCache.put("key1", VALUE_1);
+    tieredCache.put("key2", VALUE_2);
+    tieredCache.cleanUp();
+
+    verify(failingSecondary, atLeastOnce()).put(any(), any());
+    assertThat(tieredCache.size()).isAtMost(1);
+  }
+
+  @Test
+  void snapshot_entriesInBothTiers_returnsPrimaryValueFirst() {
+    secondary.put("key1", VALUE_2);
+    secondary.put("key2", VALUE_2);
+    cache.put("key3", VALUE_1);
+
+    assertThat(cache.snapshot())
+        .containsExactly("key1", VALUE_2, "key2", VALUE_2, "key3", VALUE_1);
+  }
+}
@@ -17,8 +17,10 @@ package com.google.cloud.gcs.analyticscore.common.telemetry;
 
 import static com.google.common.truth.Truth.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -111,4 +113,27 @@ class OpenTelemetryReporterTest {
       assertThat(counterAttributes.get(AttributeKey.stringKey("status"))).isEqualTo("OK");
     }
   }
+
+  @Test
+  void testOperationEnd_distributionMetric_recordsHistogram() {
+    OpenTelemetryOptions options =
+        OpenTelemetryOptions.builder()
+            .setEnabled(true)
+            .setProviderType(OpenTelemetryOptions.ProviderType.PRE_CONFIGURED)
+            .setPreconfiguredOpenTelemetryInstance(mockOpenTelemetry)
+            .build();
+    try (OpenTelemetryReporter reporter = new OpenTelemetryReporter(options)) {
+      Map<MetricKey, Long> metrics = new HashMap<>();
+      metrics.put(
+          MetricKey.builder()
+              .setMetric(TestMetric.of("testOp.depth", Metric.MetricType.DISTRIBUTION))
+              .build(),
+          7L);
+
+      reporter.onOperationEnd(Operation.builder().setName("testOp").build(), metrics);
+
+      verify(mockHistogram).record(eq(7L), any(Attributes.class));
+      verify(mockCounter, never()).add(anyLong(), any(Attributes.class));
+    }
+  }
 }
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2025 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import com.google.cloud.gcs.analyticscore.core.GoogleCloudStorageInputStream;
+import com.google.cloud.gcs.analyticscore.core.IntegrationTestHelper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reads into caller-owned direct buffers with and without direct buffers enabled inside
+ * the library. Run with {@code -prof gc} to compare the allocation rate of the two modes.
+ */
+@State(Scope.Benchmark)
+public class DirectBufferReadBenchmark {
+
+    private static final int READ_SIZE = 64 * 1024;
+    private static final int BYTES_TO_READ = 2 * 1024 * 1024;
+
+    @Param({"false", "true"})
+    public boolean directBuffersEnabled;
+
+    private GcsItemId itemId;
+    private long objectSize;
+    private GcsFileSystem gcsFileSystem;
+    private GoogleCloudStorageInputStream stream;
+    private ByteBuffer buffer;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        IntegrationTestHelper.uploadSampleParquetFilesIfNotExists();
+        itemId = GcsItemId.builder()
+                .setBucketName(IntegrationTestHelper.BUCKET_NAME)
+                .setObjectName(IntegrationTestHelper.getFolderName() + IntegrationTestHelper.TPCDS_CUSTOMER_MEDIUM_FILE)
+                .build();
+        buffer = ByteBuffer.allocateDirect(READ_SIZE);
+
+        GcsReadOptions options = GcsReadOptions.builder()
+                .setFileAccessPattern(FileAccessPattern.SEQUENTIAL)
+                .setReadAheadEnabled(true)
+                .setDirectBuffersEnabled(directBuffersEnabled)
+                .build();
+        GcsFileSystemOptions fileSystemOptions = GcsFileSystemOptions.builder()
+                .setGcsClientOptions(GcsClientOptions.builder()
+                        .setGcsReadOptions(options)
+                        .build())
+                .build();
+        gcsFileSystem = new GcsFileSystemImpl(fileSystemOptions);
+        objectSize = gcsFileSystem.getFileInfo(itemId).getItemInfo().getSize();
+    }
+
+    @Setup(Level.Invocation)
+    public void setupInvocation() throws IOException {
+        stream = GoogleCloudStorageInputStream.create(gcsFileSystem, itemId);
+    }
+
+    @TearDown(Level.Invocation)
+    public void tearDownInvocation() throws IOException {
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5, time = 1)
+    @Measurement(iterations = 10, time = 1)
+    @Fork(value = 2, warmups = 0)
+    public long sequentialReadIntoDirectBuffer() throws IOException {
+        long bytesRead = 0;
+        while (bytesRead < BYTES_TO_READ) {
+            buffer.clear();
+            int read = stream.read(buffer);
+            if (read == -1) break;
+            bytesRead += read;
+        }
+        return bytesRead;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5, time = 1)
+    @Measurement(iterations = 10, time = 1)
+    @Fork(value = 2, warmups = 0)
+    public int footerReadIntoDirectBuffer() throws IOException {
+        buffer.clear();
+        stream.seek(objectSize - READ_SIZE);
+        return stream.read(buffer);
+    }
+}
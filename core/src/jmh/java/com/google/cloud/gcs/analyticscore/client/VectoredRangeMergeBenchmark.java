@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.client;
+
+import com.google.common.collect.ImmutableList;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures merging of many small vectored ranges, as sent by index lookups. Run with {@code -prof
+ * gc} to compare allocation per merge.
+ */
+@State(Scope.Benchmark)
+public class VectoredRangeMergeBenchmark {
+
+    private static final int MAX_MERGE_GAP = 4 * 1024;
+    private static final int MAX_MERGE_SIZE = 8 * 1024 * 1024;
+
+    @Param({"1000", "100000", "1000000"})
+    public int rangeCount;
+
+    @Param({"true", "false"})
+    public boolean sorted;
+
+    private ImmutableList<GcsObjectRange> ranges;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        List<GcsObjectRange> generatedRanges = new ArrayList<>(rangeCount);
+        long offset = 0;
+        for (int i = 0; i < rangeCount; i++) {
+            int length = 16 + random.nextInt(240);
+            generatedRanges.add(GcsObjectRange.builder()
+                    .setOffset(offset)
+                    .setLength(length)
+                    .setByteBufferFuture(new CompletableFuture<>())
+                    .build());
+            offset += length + random.nextInt(2 * MAX_MERGE_GAP);
+        }
+        if (!sorted) {
+            Collections.shuffle(generatedRanges, random);
+        }
+        ranges = ImmutableList.copyOf(generatedRanges);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    @Warmup(iterations = 5, time = 1)
+    @Measurement(iterations = 10, time = 1)
+    @Fork(value = 2, warmups = 0)
+    public ImmutableList<GcsObjectCombinedRange> mergeRanges() {
+        return VectoredIoUtil.mergeGcsObjectRanges(ranges, MAX_MERGE_GAP, MAX_MERGE_SIZE);
+    }
+}
@@ -17,11 +17,16 @@
 package com.google.cloud.gcs.analyticscore.core;
 
 
+import com.google.cloud.gcs.analyticscore.client.AnalyticsCacheManager;
+import com.google.cloud.gcs.analyticscore.client.GcsCacheOptions;
 import com.google.cloud.gcs.analyticscore.client.GcsFileSystemOptions;
+import com.google.cloud.gcs.analyticscore.client.GcsItemId;
 import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
 
 import java.io.IOException;
 import java.net.URI;
+import java.nio.ByteBuffer;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
@@ -53,4 +58,58 @@ public class SmallObjectCachingBenchmark {
         URI uri = IntegrationTestHelper.getGcsObjectUriForFile(IntegrationTestHelper.TPCDS_CUSTOMER_SMALL_FILE);
         ParquetHelper.readParquetMetadata(uri, gcsFileSystemOptions);
     }
+
+    /**
+     * Reads small objects through a cache that holds only half of them, so that cached objects are
+     * constantly evicted and replaced. Run with {@code -prof gc} to compare the allocation rate and
+     * GC pauses of the heap and off-heap caches.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    @Warmup(iterations = 1, time = 1)
+    @Measurement(iterations = 2, time = 1)
+    @Fork(value = 2, warmups = 1, jvmArgsAppend = {"-Xmx1g", "-XX:MaxDirectMemorySize=1g"})
+    public void smallObjectCacheChurn(SmallObjectCacheChurnState state, Blackhole blackhole)
+            throws IOException {
+        GcsItemId itemId = state.itemIds[state.nextItem];
+        state.nextItem = (state.nextItem + 1) % state.itemIds.length;
+        blackhole.consume(
+                state.cacheManager.getSmallObject(
+                        itemId, ignored -> ByteBuffer.wrap(new byte[state.objectSizeBytes])));
+    }
+
+    @State(Scope.Thread)
+    public static class SmallObjectCacheChurnState {
+        private static final long CACHE_MAX_SIZE_BYTES = 200L * 1024 * 1024;
+
+        @Param({"false", "true"})
+        public boolean offHeapCacheEnabled;
+
+        @Param({"1048576"}) // 1MB
+        public int objectSizeBytes;
+
+        AnalyticsCacheManager cacheManager;
+        GcsItemId[] itemIds;
+        int nextItem = 0;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            cacheManager =
+                    new AnalyticsCacheManager(
+                            GcsCacheOptions.builder()
+                                    .setSmallObjectCacheEnabled(true)
+                                    .setSmallObjectCacheMaxSizeBytes(CACHE_MAX_SIZE_BYTES)
+                                    .setOffHeapCacheEnabled(offHeapCacheEnabled)
+                                    .build());
+            itemIds = new GcsItemId[(int) (2 * CACHE_MAX_SIZE_BYTES / objectSizeBytes)];
+            for (int i = 0; i < itemIds.length; i++) {
+                itemIds[i] =
+                        GcsItemId.builder()
+                                .setBucketName("benchmark-bucket")
+                                .setObjectName("small-object-" + i)
+                                .build();
+            }
+        }
+    }
 }
@@ -21,6 +21,7 @@ import com.google.cloud.gcs.analyticscore.client.*;
 import com.google.cloud.gcs.analyticscore.common.GcsAnalyticsCoreTelemetryConstants.Attribute;
 import com.google.cloud.gcs.analyticscore.common.GcsAnalyticsCoreTelemetryConstants.Metric;
 import com.google.cloud.gcs.analyticscore.common.GcsAnalyticsCoreTelemetryConstants.Operation;
+import com.google.cloud.gcs.analyticscore.core.channel.ReadChannelPool;
 import com.google.cloud.gcs.analyticscore.core.channel.SmartReadChannel;
 import com.google.cloud.gcs.analyticscore.core.optimizer.GcsFooterOptimizer;
 import com.google.cloud.gcs.analyticscore.core.optimizer.SmallObjectOptimizer;
@@ -32,6 +33,7 @@ import java.net.URI;
 import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.IntFunction;
 import javax.annotation.Nonnull;
 
@@ -41,7 +43,8 @@ public class GoogleCloudStorageInputStream extends SeekableInputStream {
   private final ByteBuffer singleByteBuffer = ByteBuffer.wrap(new byte[1]);
 
   private final GcsFileSystem gcsFileSystem;
-  private final VectoredSeekableByteChannel channel;
+  private final SmartReadChannel channel;
+  private final ReadChannelPool positionalReadPool;
   private long position;
   private final URI gcsPath;
   private GcsItemId gcsItemId;
@@ -54,7 +57,7 @@ public class GoogleCloudStorageInputStream extends SeekableInputStream {
   public static GoogleCloudStorageInputStream create(
       GcsFileSystem gcsFileSystem, GcsFileInfo gcsFileInfo) throws IOException {
     checkState(gcsFileInfo != null, "GcsFileInfo shouldn't be null");
-    VectoredSeekableByteChannel channel =
+    SmartReadChannel channel =
         openReadChannel(gcsFileSystem, gcsFileInfo.getItemInfo().getItemId(), gcsFileInfo);
     return new GoogleCloudStorageInputStream(gcsFileSystem, channel, gcsFileInfo);
   }
@@ -69,20 +72,24 @@ public class GoogleCloudStorageInputStream extends SeekableInputStream {
   public static GoogleCloudStorageInputStream create(GcsFileSystem gcsFileSystem, GcsItemId itemId)
       throws IOException {
     checkState(gcsFileSystem != null, "GcsFileSystem shouldn't be null");
-    VectoredSeekableByteChannel channel = openReadChannel(gcsFileSystem, itemId, null);
+    SmartReadChannel channel = openReadChannel(gcsFileSystem, itemId, null);
     return new GoogleCloudStorageInputStream(gcsFileSystem, channel, itemId);
   }
 
   private GoogleCloudStorageInputStream(
-      GcsFileSystem gcsFileSystem, VectoredSeekableByteChannel channel, GcsFileInfo gcsFileInfo) {
+      GcsFileSystem gcsFileSystem, SmartReadChannel channel, GcsFileInfo gcsFileInfo) {
     this(gcsFileSystem, channel, gcsFileInfo.getItemInfo().getItemId());
     this.gcsFileInfo = gcsFileInfo;
   }
 
   private GoogleCloudStorageInputStream(
-      GcsFileSystem gcsFileSystem, VectoredSeekableByteChannel channel, GcsItemId itemId) {
+      GcsFileSystem gcsFileSystem, SmartReadChannel channel, GcsItemId itemId) {
     this.gcsFileSystem = gcsFileSystem;
     this.channel = channel;
+    this.positionalReadPool =
+        new ReadChannelPool(
+            () -> openRawChannel(gcsFileSystem, gcsItemId, gcsFileInfo),
+            getReadOptions(gcsFileSystem).getPositionalReadMaxChannels());
     this.gcsPath =
         URI.create(BlobId.of(itemId.getBucketName(), itemId.getObjectName().get()).toGsUtilUri());
     this.gcsItemId = itemId;
@@ -177,7 +184,11 @@ public class GoogleCloudStorageInputStream extends SeekableInputStream {
             recorder -> {
               if (!closed) {
                 closed = true;
-                channel.close();
+                try {
+                  positionalReadPool.close();
+                } finally {
+                  channel.close();
+                }
               }
               return null;
             });
@@ -198,18 +209,29 @@ public class GoogleCloudStorageInputStream extends SeekableInputStream {
             Metric.READ_DURATION,
             commonAttributes,
             recorder -> {
-              try (VectoredSeekableByteChannel byteChannel =
-                  openReadChannel(gcsFileSystem, gcsItemId, gcsFileInfo)) {
-                byteChannel.position(position);
-                int numberOfBytesRead = byteChannel.read(ByteBuffer.wrap(buffer, offset, length));
-                if (numberOfBytesRead < length) {
-                  throw new EOFException(
-                      "Reached the end of stream with "
-                          + (length - numberOfBytesRead)
-                          + " bytes left to read");
+              checkNotClosed("Cannot read: already closed");
+              ByteBuffer dst = ByteBuffer.wrap(buffer, offset, length);
+              VectoredSeekableByteChannel source = positionalReadPool.acquire(position);
+              try {
+                while (dst.hasRemaining()) {
+                  long readPosition = position + dst.position() - offset;
+                  if (channel.read(readPosition, dst, source) <= 0) {
+                    break;
+                  }
                 }
-                recorder.record(Metric.READ_BYTES, numberOfBytesRead, Collections.emptyMap());
+              } catch (IOException | RuntimeException e) {
+                source.close();
+                throw e;
               }
+              positionalReadPool.release(source);
+              int numberOfBytesRead = dst.position() - offset;
+              if (numberOfBytesRead < length) {
+                throw new EOFException(
+                    "Reached the end of stream with "
+                        + (length - numberOfBytesRead)
+                        + " bytes left to read");
+              }
+              recorder.record(Metric.READ_BYTES, numberOfBytesRead, Collections.emptyMap());
               return null;
             });
   }
@@ -246,7 +268,34 @@ public class GoogleCloudStorageInputStream extends SeekableInputStream {
     channel.readVectored(fileRanges, alloc);
   }
 
-  private static VectoredSeekableByteChannel openReadChannel(
+  @Override
+  public CompletableFuture<Void> readVectoredAsync(
+      List<GcsObjectRange> fileRanges, IntFunction<ByteBuffer> alloc) {
+    if (closed) {
+      IOException e = new IOException(gcsPath + ": Cannot read: already closed");
+      for (GcsObjectRange range : fileRanges) {
+        range.getByteBufferFuture().completeExceptionally(e);
+      }
+      return CompletableFuture.failedFuture(e);
+    }
+
+    return super.readVectoredAsync(fileRanges, alloc);
+  }
+
+  // Async reads fail their ranges rather than wait for space in the vectored read queue, so that
+  // the calling thread is never parked.
+  @Override
+  protected void startVectoredRead(List<GcsObjectRange> fileRanges, IntFunction<ByteBuffer> alloc)
+      throws IOException {
+    channel.readVectoredNonBlocking(fileRanges, alloc);
+  }
+
+  @Override
+  protected ByteBuffer allocateBuffer(int size) {
+    return getReadOptions(gcsFileSystem).allocateBuffer(size);
+  }
+
+  private static SmartReadChannel openReadChannel(
       GcsFileSystem gcsFileSystem, GcsItemId gcsItemId, GcsFileInfo gcsFileInfo)
       throws IOException {
     return gcsFileSystem
@@ -256,15 +305,10 @@ public class GoogleCloudStorageInputStream extends SeekableInputStream {
             Metric.OPEN_DURATION,
             buildCommonAttributes(),
             recorder -> {
-              GcsReadOptions readOptions =
-                  gcsFileSystem.getFileSystemOptions().getGcsClientOptions().getGcsReadOptions();
-              VectoredSeekableByteChannel rawChannel =
-                  gcsFileInfo != null
-                      ? gcsFileSystem.open(gcsFileInfo, readOptions)
-                      : gcsFileSystem.open(gcsItemId, readOptions);
+              GcsReadOptions readOptions = getReadOptions(gcsFileSystem);
 
               return SmartReadChannel.builder()
-                  .setDelegate(rawChannel)
+                  .setDelegate(openRawChannel(gcsFileSystem, gcsItemId, gcsFileInfo))
                   .setItemId(gcsItemId)
                   .setFileInfo(gcsFileInfo)
                   .setCacheManager(gcsFileSystem.getCacheManager())
@@ -278,6 +322,20 @@ public class GoogleCloudStorageInputStream extends SeekableInputStream {
             });
   }
 
+  private static VectoredSeekableByteChannel openRawChannel(
+      GcsFileSystem gcsFileSystem, GcsItemId gcsItemId, GcsFileInfo gcsFileInfo)
+      throws IOException {
+    GcsReadOptions readOptions = getReadOptions(gcsFileSystem);
+
+    return gcsFileInfo != null
+        ? gcsFileSystem.open(gcsFileInfo, readOptions)
+        : gcsFileSystem.open(gcsItemId, readOptions);
+  }
+
+  private static GcsReadOptions getReadOptions(GcsFileSystem gcsFileSystem) {
+    return gcsFileSystem.getFileSystemOptions().getGcsClientOptions().getGcsReadOptions();
+  }
+
   private static ImmutableMap<String, String> buildCommonAttributes() {
     return ImmutableMap.of(
         Attribute.CLASS_NAME.name(), GoogleCloudStorageInputStream.class.getName());
@@ -15,11 +15,15 @@
  */
 package com.google.cloud.gcs.analyticscore.core;
 
+import static com.google.common.base.Preconditions.checkArgument;
+
 import com.google.cloud.gcs.analyticscore.client.GcsObjectRange;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.ByteBuffer;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.IntFunction;
 
 /**
@@ -91,4 +95,78 @@ public abstract class SeekableInputStream extends InputStream {
    */
   public abstract void readVectored(
       List<GcsObjectRange> fileRanges, final IntFunction<ByteBuffer> alloc) throws IOException;
+
+  /**
+   * Starts a vectored read and returns a future that completes once every range has completed,
+   * without blocking the calling thread until then.
+   *
+   * <p>The returned future fails if any range fails. A failure to start the read fails every range.
+   * The read is started by {@link #startVectoredRead}.
+   *
+   * @param fileRanges a list of {@link GcsObjectRange} ranges to be read in parallel.
+   * @param alloc a function that allocates a {@link ByteBuffer} of a given size.
+   * @return a future that completes when all ranges have completed.
+   */
+  public CompletableFuture<Void> readVectoredAsync(
+      List<GcsObjectRange> fileRanges, final IntFunction<ByteBuffer> alloc) {
+    try {
+      startVectoredRead(fileRanges, alloc);
+    } catch (IOException | RuntimeException e) {
+      for (GcsObjectRange range : fileRanges) {
+        range.getByteBufferFuture().completeExceptionally(e);
+      }
+    }
+
+    return CompletableFuture.allOf(
+        fileRanges.stream()
+            .map(GcsObjectRange::getByteBufferFuture)
+            .toArray(CompletableFuture[]::new));
+  }
+
+  /**
+   * Reads {@code length} bytes starting at {@code position} without blocking the calling thread
+   * and without changing the current stream position. The read runs as a single range vectored
+   * read.
+   *
+   * @param position the starting position in the stream from which to read.
+   * @param length the number of bytes to read.
+   * @return a future completed with the bytes read.
+   */
+  public CompletableFuture<ByteBuffer> readAsync(long position, int length) {
+    checkArgument(position >= 0, "position can't be negative: %s", position);
+    checkArgument(length >= 0, "length can't be negative: %s", length);
+    GcsObjectRange range =
+        GcsObjectRange.builder()
+            .setOffset(position)
+            .setLength(length)
+            .setByteBufferFuture(new CompletableFuture<>())
+            .build();
+    var unused = readVectoredAsync(Collections.singletonList(range), this::allocateBuffer);
+
+    return range.getByteBufferFuture();
+  }
+
+  /**
+   * Starts the vectored read of {@link #readVectoredAsync}. The default implementation calls {@link
+   * #readVectored} on the calling thread; streams whose vectored reads may block the caller should
+   * override it to start the read without blocking.
+   *
+   * @param fileRanges a list of {@link GcsObjectRange} ranges to be read in parallel.
+   * @param alloc a function that allocates a {@link ByteBuffer} of a given size.
+   * @throws IOException if the read cannot be started.
+   */
+  protected void startVectoredRead(List<GcsObjectRange> fileRanges, IntFunction<ByteBuffer> alloc)
+      throws IOException {
+    readVectored(fileRanges, alloc);
+  }
+
+  /**
+   * Allocates the buffers of {@link #readAsync}. The default implementation allocates heap buffers.
+   *
+   * @param size the size of the buffer.
+   * @return a buffer with a capacity of {@code size} bytes.
+   */
+  protected ByteBuffer allocateBuffer(int size) {
+    return ByteBuffer.allocate(size);
+  }
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.core.channel;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.cloud.gcs.analyticscore.client.VectoredSeekableByteChannel;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A small pool of channels over a single object, used to serve positional reads without moving
+ * the position of the stream's main channel.
+ *
+ * <p>Channels are opened lazily and kept open between reads, so that consecutive positional reads
+ * can continue on an existing connection. At most {@code maxIdleChannels} channels are kept; any
+ * channel released beyond that is closed.
+ */
+public class ReadChannelPool implements Closeable {
+
+  /** Opens a new channel over the pooled object. */
+  @FunctionalInterface
+  public interface ChannelOpener {
+    VectoredSeekableByteChannel open() throws IOException;
+  }
+
+  private final ChannelOpener channelOpener;
+  private final int maxIdleChannels;
+  // Most recently released first.
+  private final Deque<VectoredSeekableByteChannel> idleChannels = new ArrayDeque<>();
+  private boolean closed = false;
+
+  public ReadChannelPool(ChannelOpener channelOpener, int maxIdleChannels) {
+    this.channelOpener = checkNotNull(channelOpener, "channelOpener cannot be null");
+    this.maxIdleChannels = maxIdleChannels;
+  }
+
+  /**
+   * Returns a channel for a read starting at {@code position}, preferring the idle channel that is
+   * positioned closest before it, and opening a new channel if none is idle.
+   */
+  public VectoredSeekableByteChannel acquire(long position) throws IOException {
+    synchronized (this) {
+      if (closed) {
+        throw new IOException("Read channel pool is closed");
+      }
+      VectoredSeekableByteChannel channel = pollClosestBefore(position);
+      if (channel == null) {
+        channel = idleChannels.pollFirst();
+      }
+      if (channel != null) {
+        return channel;
+      }
+    }
+
+    return channelOpener.open();
+  }
+
+  /** Returns an acquired channel to the pool, closing it if the pool is full. */
+  public void release(VectoredSeekableByteChannel channel) throws IOException {
+    synchronized (this) {
+      if (!closed && channel.isOpen() && idleChannels.size() < maxIdleChannels) {
+        idleChannels.addFirst(channel);
+        return;
+      }
+    }
+    channel.close();
+  }
+
+  @Override
+  public void close() throws IOException {
+    IOException closeException = null;
+    synchronized (this) {
+      closed = true;
+      for (VectoredSeekableByteChannel channel : idleChannels) {
+        try {
+          channel.close();
+        } catch (IOException e) {
+          if (closeException == null) {
+            closeException = e;
+          } else {
+            closeException.addSuppressed(e);
+          }
+        }
+      }
+      idleChannels.clear();
+    }
+    if (closeException != null) {
+      throw closeException;
+    }
+  }
+
+  private VectoredSeekableByteChannel pollClosestBefore(long position) throws IOException {
+    VectoredSeekableByteChannel closest = null;
+    long closestPosition = -1;
+    for (VectoredSeekableByteChannel channel : idleChannels) {
+      long channelPosition = channel.position();
+      if (channelPosition <= position && channelPosition > closestPosition) {
+        closest = channel;
+        closestPosition = channelPosition;
+      }
+    }
+    if (closest != null) {
+      idleChannels.remove(closest);
+    }
+
+    return closest;
+  }
+}
@@ -28,6 +28,7 @@ import com.google.common.collect.ImmutableList;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.Optional;
 import java.util.function.IntFunction;
 import javax.annotation.Nullable;
 
@@ -110,17 +111,57 @@ public class SmartReadChannel implements VectoredSeekableByteChannel {
     return delegate.read(dst);
   }
 
+  /**
+   * Reads from {@code position} without moving the position of this channel. Reads that no
+   * optimizer can serve are issued against {@code source}, which must be a channel over the same
+   * object, so that buffers already loaded by the optimizers are shared with positional reads.
+   */
+  public int read(long position, ByteBuffer dst, VectoredSeekableByteChannel source)
+      throws IOException {
+    for (FormatOptimizer optimizer : optimizers) {
+      int bytesRead = optimizer.read(position, dst, source);
+      if (bytesRead != 0) {
+        return bytesRead;
+      }
+    }
+    source.position(position);
+
+    return source.read(dst);
+  }
+
+  /**
+   * Serves each range from the optimizers where possible, so that only the ranges, or parts of
+   * ranges, not covered by data they hold or can load are read from the delegate.
+   */
   @Override
   public void readVectored(List<GcsObjectRange> ranges, IntFunction<ByteBuffer> allocate)
       throws IOException {
+    readVectored(ranges, allocate, delegate);
+  }
+
+  /**
+   * Like {@link #readVectored}, except that the delegate, including the loads of the optimizers,
+   * is read with {@link VectoredSeekableByteChannel#readVectoredNonBlocking}.
+   */
+  @Override
+  public void readVectoredNonBlocking(
+      List<GcsObjectRange> ranges, IntFunction<ByteBuffer> allocate) throws IOException {
+    readVectored(ranges, allocate, new NonBlockingChannel(delegate));
+  }
+
+  private void readVectored(
+      List<GcsObjectRange> ranges,
+      IntFunction<ByteBuffer> allocate,
+      VectoredSeekableByteChannel source)
+      throws IOException {
     List<GcsObjectRange> remainingRanges = ranges;
     for (FormatOptimizer optimizer : optimizers) {
-      remainingRanges = optimizer.readVectored(remainingRanges, allocate);
+      remainingRanges = optimizer.readVectored(remainingRanges, allocate, source);
       if (remainingRanges.isEmpty()) {
         return;
       }
     }
-    delegate.readVectored(remainingRanges, allocate);
+    source.readVectored(remainingRanges, allocate);
   }
 
   @Override
@@ -144,6 +185,11 @@ public class SmartReadChannel implements VectoredSeekableByteChannel {
     return delegate.size();
   }
 
+  @Override
+  public Optional<GcsItemId> getItemId() {
+    return delegate.getItemId();
+  }
+
   @Override
   public VectoredSeekableByteChannel truncate(long size) throws IOException {
     delegate.truncate(size);
@@ -248,4 +294,66 @@ public class SmartReadChannel implements VectoredSeekableByteChannel {
       return new SmartReadChannel(delegate, itemId, cacheManager, optimizerList);
     }
   }
+
+  /** A view of a channel whose vectored reads do not block the calling thread. */
+  private static final class NonBlockingChannel implements VectoredSeekableByteChannel {
+    private final VectoredSeekableByteChannel channel;
+
+    private NonBlockingChannel(VectoredSeekableByteChannel channel) {
+      this.channel = channel;
+    }
+
+    @Override
+    public void readVectored(List<GcsObjectRange> ranges, IntFunction<ByteBuffer> allocate)
+        throws IOException {
+      channel.readVectoredNonBlocking(ranges, allocate);
+    }
+
+    @Override
+    public int read(ByteBuffer dst) throws IOException {
+      return channel.read(dst);
+    }
+
+    @Override
+    public int write(ByteBuffer src) throws IOException {
+      return channel.write(src);
+    }
+
+    @Override
+    public long position() throws IOException {
+      return channel.position();
+    }
+
+    @Override
+    public VectoredSeekableByteChannel position(long newPosition) throws IOException {
+      channel.position(newPosition);
+      return this;
+    }
+
+    @Override
+    public long size() throws IOException {
+      return channel.size();
+    }
+
+    @Override
+    public Optional<GcsItemId> getItemId() {
+      return channel.getItemId();
+    }
+
+    @Override
+    public VectoredSeekableByteChannel truncate(long size) throws IOException {
+      channel.truncate(size);
+      return this;
+    }
+
+    @Override
+    public boolean isOpen() {
+      return channel.isOpen();
+    }
+
+    @Override
+    public void close() throws IOException {
+      channel.close();
+    }
+  }
 }
@@ -63,6 +63,27 @@ public interface FormatOptimizer {
     return ranges;
   }
 
+  /**
+   * Intercepts vectored read operations, with {@code delegate} available to load the data this
+   * optimizer serves ranges from. Ranges that are only partly covered may be returned as the
+   * uncovered sub-ranges, in which case the optimizer completes the original range once they are
+   * read. Data the optimizer has yet to load should be read through a vectored read on {@code
+   * delegate}, so that the calling thread does not wait for it. Defaults to {@link
+   * #readVectored(List, IntFunction)}.
+   *
+   * @param ranges The list of ranges requested.
+   * @param allocate Function to allocate ByteBuffers for satisfied ranges.
+   * @param delegate The channel over the same object that unsatisfied ranges are read from.
+   * @return The list of ranges that were NOT satisfied and still need to be read from source.
+   */
+  default List<GcsObjectRange> readVectored(
+      List<GcsObjectRange> ranges,
+      IntFunction<ByteBuffer> allocate,
+      VectoredSeekableByteChannel delegate)
+      throws IOException {
+    return readVectored(ranges, allocate);
+  }
+
   /** Invoked when the channel is closed. */
   default void onClose() throws IOException {}
 }
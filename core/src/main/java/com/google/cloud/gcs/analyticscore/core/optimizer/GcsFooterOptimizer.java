@@ -21,15 +21,23 @@ import static com.google.common.base.Preconditions.checkNotNull;
 import com.google.cloud.gcs.analyticscore.client.AnalyticsCacheManager;
 import com.google.cloud.gcs.analyticscore.client.GcsFileInfo;
 import com.google.cloud.gcs.analyticscore.client.GcsItemId;
+import com.google.cloud.gcs.analyticscore.client.GcsObjectRange;
 import com.google.cloud.gcs.analyticscore.client.GcsReadOptions;
 import com.google.cloud.gcs.analyticscore.client.VectoredSeekableByteChannel;
 import com.google.cloud.gcs.analyticscore.common.GcsAnalyticsCoreTelemetryConstants.Metric;
 import com.google.cloud.gcs.analyticscore.common.telemetry.Telemetry;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntFunction;
 
 /** A {@link FormatOptimizer} that caches and serves GCS object footers (e.g., for Parquet). */
 public class GcsFooterOptimizer implements FormatOptimizer {
@@ -42,9 +50,11 @@ public class GcsFooterOptimizer implements FormatOptimizer {
 
   private AnalyticsCacheManager cacheManager;
   private GcsItemId gcsItemId;
-  private long fileSize = -1;
-  private long prefetchSize = -1;
-  private ByteBuffer localFooterBuffer;
+  // Positional reads of a stream may use this optimizer concurrently. The sizes are set once, with
+  // gcsItemId and prefetchSize written first, so that a thread that sees fileSize also sees them.
+  private volatile long fileSize = -1;
+  private volatile long prefetchSize = -1;
+  private final LocalBuffer localFooterBuffer = new LocalBuffer();
 
   public GcsFooterOptimizer(GcsReadOptions readOptions, Telemetry telemetry) {
     this.readOptions = checkNotNull(readOptions, "readOptions cannot be null");
@@ -73,17 +83,15 @@ public class GcsFooterOptimizer implements FormatOptimizer {
   public void onOpen(GcsFileInfo fileInfo, AnalyticsCacheManager cacheManager) {
     this.gcsItemId = fileInfo.getItemInfo().getItemId();
     this.cacheManager = cacheManager;
-    this.fileSize = fileInfo.getItemInfo().getSize();
-    this.prefetchSize = calculatePrefetchSize(fileSize, readOptions);
+    long size = fileInfo.getItemInfo().getSize();
+    this.prefetchSize = calculatePrefetchSize(size, readOptions);
+    this.fileSize = size;
   }
 
   @Override
   public int read(long position, ByteBuffer dst, VectoredSeekableByteChannel source)
       throws IOException {
-    if (fileSize == -1) {
-      fileSize = source.size();
-      prefetchSize = calculatePrefetchSize(fileSize, readOptions);
-    }
+    initializeFileSize(source);
 
     if (prefetchSize <= 0 || position < (fileSize - prefetchSize)) {
       return 0;
@@ -93,26 +101,15 @@ public class GcsFooterOptimizer implements FormatOptimizer {
       return -1;
     }
 
-    if (localFooterBuffer == null) {
-      // AtomicBoolean serves as a mutable wrapper to signal intent clearly
-      AtomicBoolean isMiss = new AtomicBoolean(false);
-      localFooterBuffer =
-          cacheManager.getFooter(
-              gcsItemId,
-              itemId -> {
-                isMiss.set(true);
-                return loadFooter(source);
-              });
-
-      if (!isMiss.get()) {
-        telemetry.recordMetric(Metric.FOOTER_CACHE_HIT, 1L, Collections.emptyMap());
-      }
+    ByteBuffer footer = localFooterBuffer.getIfLoaded();
+    if (footer == null) {
+      footer = localFooterBuffer.get(() -> loadLocalFooter(source));
     } else {
       // If we already fetched it locally for this stream, it's a guaranteed hit
       telemetry.recordMetric(Metric.FOOTER_PREFETCH_HIT, 1L, Collections.emptyMap());
     }
 
-    ByteBuffer footerView = localFooterBuffer.duplicate();
+    ByteBuffer footerView = footer.duplicate();
     int readStartPosition = (int) (position - (fileSize - prefetchSize));
     footerView.position(readStartPosition);
 
@@ -122,11 +119,232 @@ public class GcsFooterOptimizer implements FormatOptimizer {
     return bytesToRead;
   }
 
+  /** Serves the ranges that overlap a footer already fetched by this stream. */
+  @Override
+  public List<GcsObjectRange> readVectored(
+      List<GcsObjectRange> ranges, IntFunction<ByteBuffer> allocate) {
+    ByteBuffer footer = localFooterBuffer.getIfLoaded();
+    if (footer == null) {
+      return ranges;
+    }
+
+    return serveFromFooter(
+        ranges, allocate, CompletableFuture.completedFuture(footer), /* isPrefetchHit= */ true);
+  }
+
+  /**
+   * Serves the ranges that overlap the footer, loading it through a vectored read on {@code source}
+   * if any range needs it, so that the calling thread does not wait for the load. A range that
+   * starts before the footer is returned as the sub-range preceding the footer, and is completed
+   * once both that sub-range and the footer have been read.
+   */
+  @Override
+  public List<GcsObjectRange> readVectored(
+      List<GcsObjectRange> ranges,
+      IntFunction<ByteBuffer> allocate,
+      VectoredSeekableByteChannel source)
+      throws IOException {
+    initializeFileSize(source);
+    ByteBuffer footer = localFooterBuffer.getIfLoaded();
+    if (footer != null) {
+      return serveFromFooter(
+          ranges, allocate, CompletableFuture.completedFuture(footer), /* isPrefetchHit= */ true);
+    }
+    if (prefetchSize <= 0 || ranges.stream().noneMatch(this::overlapsFooter)) {
+      return ranges;
+    }
+
+    return serveFromFooter(
+        ranges,
+        allocate,
+        localFooterBuffer.getAsync(() -> loadLocalFooterAsync(source)),
+        /* isPrefetchHit= */ false);
+  }
+
+  private void initializeFileSize(VectoredSeekableByteChannel source) throws IOException {
+    if (fileSize != -1) {
+      return;
+    }
+    long size = source.size();
+    synchronized (this) {
+      if (fileSize == -1) {
+        // A stream opened by item id alone learns the generation of the object when it resolves its
+        // size. Footers are cached under it, so that they are saved to and found in snapshots.
+        if (gcsItemId.getContentGeneration().isEmpty()) {
+          gcsItemId = source.getItemId().filter(this::isResolvedItemId).orElse(gcsItemId);
+        }
+        prefetchSize = calculatePrefetchSize(size, readOptions);
+        fileSize = size;
+      }
+    }
+  }
+
+  private boolean isResolvedItemId(GcsItemId itemId) {
+    return itemId.getContentGeneration().isPresent()
+        && itemId.getBucketName().equals(gcsItemId.getBucketName())
+        && itemId.getObjectName().equals(gcsItemId.getObjectName());
+  }
+
+  private ByteBuffer loadLocalFooter(VectoredSeekableByteChannel source) throws IOException {
+    // AtomicBoolean serves as a mutable wrapper to signal intent clearly
+    AtomicBoolean isMiss = new AtomicBoolean(false);
+    ByteBuffer footer =
+        cacheManager.getFooter(
+            gcsItemId,
+            itemId -> {
+              isMiss.set(true);
+              return loadFooter(source);
+            });
+
+    if (!isMiss.get()) {
+      telemetry.recordMetric(Metric.FOOTER_CACHE_HIT, 1L, Collections.emptyMap());
+    }
+    return footer;
+  }
+
+  // Reads a missing footer as a vectored read, which runs on the range read thread pool.
+  private CompletableFuture<ByteBuffer> loadLocalFooterAsync(VectoredSeekableByteChannel source) {
+    Optional<ByteBuffer> cachedFooter = cacheManager.getFooter(gcsItemId);
+    if (cachedFooter.isPresent()) {
+      telemetry.recordMetric(Metric.FOOTER_CACHE_HIT, 1L, Collections.emptyMap());
+      return CompletableFuture.completedFuture(cachedFooter.get());
+    }
+    telemetry.recordMetric(Metric.FOOTER_CACHE_MISS, 1L, Collections.emptyMap());
+    GcsObjectRange footerRange =
+        GcsObjectRange.builder()
+            .setOffset(fileSize - prefetchSize)
+            .setLength((int) prefetchSize)
+            .setByteBufferFuture(new CompletableFuture<>())
+            .build();
+    try {
+      source.readVectored(List.of(footerRange), readOptions::allocateBuffer);
+    } catch (IOException | RuntimeException e) {
+      footerRange.getByteBufferFuture().completeExceptionally(e);
+    }
+
+    return footerRange.getByteBufferFuture().thenApply(this::cacheFooter);
+  }
+
+  // Returns the footer cached for this object, which is footer unless one was cached meanwhile.
+  private ByteBuffer cacheFooter(ByteBuffer footer) {
+    try {
+      return cacheManager.getFooter(gcsItemId, itemId -> footer);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  // Ranges extending past the end of the object are left to the source, which reports the EOF.
+  private boolean overlapsFooter(GcsObjectRange range) {
+    long rangeEnd = range.getOffset() + range.getLength();
+    return rangeEnd > fileSize - prefetchSize && rangeEnd <= fileSize;
+  }
+
+  /**
+   * Serves the ranges that overlap the footer once {@code footer} completes, and returns the other
+   * ranges along with the sub-ranges that precede the footer.
+   */
+  private List<GcsObjectRange> serveFromFooter(
+      List<GcsObjectRange> ranges,
+      IntFunction<ByteBuffer> allocate,
+      CompletableFuture<ByteBuffer> footer,
+      boolean isPrefetchHit) {
+    long footerStart = fileSize - prefetchSize;
+    List<GcsObjectRange> remainingRanges = new ArrayList<>();
+    int servedRanges = 0;
+    for (GcsObjectRange range : ranges) {
+      if (!overlapsFooter(range)) {
+        remainingRanges.add(range);
+        continue;
+      }
+      ByteBuffer dest = allocate.apply(range.getLength());
+      if (dest == null) {
+        range
+            .getByteBufferFuture()
+            .completeExceptionally(
+                new IllegalArgumentException(
+                    String.format("Buffer allocation returned null for range: %s", range)));
+        continue;
+      }
+      long overlapStart = Math.max(range.getOffset(), footerStart);
+      int gapLength = (int) (overlapStart - range.getOffset());
+      // The footer and the gap are copied into disjoint regions of dest, possibly concurrently.
+      CompletableFuture<Void> footerCopied =
+          footer.thenAccept(
+              footerBuffer -> {
+                ByteBuffer footerView = footerBuffer.duplicate();
+                footerView.limit((int) (range.getOffset() + range.getLength() - footerStart));
+                footerView.position((int) (overlapStart - footerStart));
+                ByteBuffer destView = dest.duplicate();
+                destView.position(gapLength);
+                destView.put(footerView);
+              });
+      CompletableFuture<Void> gapCopied = CompletableFuture.completedFuture(null);
+      if (gapLength > 0) {
+        GcsObjectRange gapRange = createGapRange(range, gapLength);
+        remainingRanges.add(gapRange);
+        gapCopied =
+            gapRange
+                .getByteBufferFuture()
+                .thenAccept(
+                    gapBuffer -> {
+                      ByteBuffer destView = dest.duplicate();
+                      destView.position(0);
+                      destView.put(gapBuffer.duplicate());
+                    });
+      }
+      CompletableFuture.allOf(footerCopied, gapCopied)
+          .whenComplete(
+              (unused, throwable) -> {
+                if (throwable != null) {
+                  range
+                      .getByteBufferFuture()
+                      .completeExceptionally(
+                          throwable instanceof CompletionException && throwable.getCause() != null
+                              ? throwable.getCause()
+                              : throwable);
+                  return;
+                }
+                dest.position(range.getLength());
+                dest.flip();
+                range.getByteBufferFuture().complete(dest);
+              });
+      servedRanges++;
+    }
+    if (isPrefetchHit && servedRanges > 0) {
+      telemetry.recordMetric(Metric.FOOTER_PREFETCH_HIT, servedRanges, Collections.emptyMap());
+    }
+
+    return remainingRanges;
+  }
+
+  /**
+   * Returns a range over the first {@code gapLength} bytes of {@code range}, which is cancelled if
+   * {@code range} is.
+   */
+  private static GcsObjectRange createGapRange(GcsObjectRange range, int gapLength) {
+    CompletableFuture<ByteBuffer> gapFuture = new CompletableFuture<>();
+    range
+        .getByteBufferFuture()
+        .whenComplete(
+            (unused, throwable) -> {
+              if (range.getByteBufferFuture().isCancelled()) {
+                gapFuture.cancel(true);
+              }
+            });
+
+    return GcsObjectRange.builder()
+        .setOffset(range.getOffset())
+        .setLength(gapLength)
+        .setByteBufferFuture(gapFuture)
+        .build();
+  }
+
   private ByteBuffer loadFooter(VectoredSeekableByteChannel source) throws IOException {
     telemetry.recordMetric(Metric.FOOTER_CACHE_MISS, 1L, Collections.emptyMap());
     long startPosition = fileSize - prefetchSize;
     int bufferSize = (int) prefetchSize;
-    ByteBuffer cacheBuffer = ByteBuffer.allocate(bufferSize);
+    ByteBuffer cacheBuffer = readOptions.allocateBuffer(bufferSize);
     long originalPosition = source.position();
     try {
       source.position(startPosition);
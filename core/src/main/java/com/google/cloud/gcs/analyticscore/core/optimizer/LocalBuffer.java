@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.gcs.analyticscore.core.optimizer;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * A buffer that a {@link FormatOptimizer} loads once and then serves reads of a stream from. This
+ * class is thread-safe.
+ *
+ * <p>The buffer is loaded either on the calling thread by {@link #get}, or in the background by
+ * {@link #getAsync}. Reads that need the buffer while it is being loaded wait for that load rather
+ * than starting another one. A failed load is not kept, so that a later read retries it.
+ */
+final class LocalBuffer {
+
+  /** Loads the buffer on the calling thread. */
+  @FunctionalInterface
+  interface Loader {
+    ByteBuffer load() throws IOException;
+  }
+
+  private CompletableFuture<ByteBuffer> buffer;
+
+  /** Returns the loaded buffer, or {@code null} if it has not been loaded yet. */
+  synchronized ByteBuffer getIfLoaded() {
+    return buffer != null && buffer.isDone() && !buffer.isCompletedExceptionally()
+        ? buffer.join()
+        : null;
+  }
+
+  /**
+   * Returns the buffer, loading it with {@code loader} on the calling thread if no load has been
+   * started, and waiting for the load in progress otherwise.
+   *
+   * @throws IOException if the buffer cannot be loaded
+   */
+  ByteBuffer get(Loader loader) throws IOException {
+    CompletableFuture<ByteBuffer> load = new CompletableFuture<>();
+    CompletableFuture<ByteBuffer> startedLoad = start(load);
+    if (startedLoad != null) {
+      return await(startedLoad);
+    }
+    try {
+      ByteBuffer loadedBuffer = loader.load();
+      load.complete(loadedBuffer);
+      return loadedBuffer;
+    } catch (IOException | RuntimeException e) {
+      fail(load, e);
+      throw e;
+    }
+  }
+
+  /**
+   * Returns a future of the buffer, starting the load returned by {@code loader} if no load has
+   * been started. {@code loader} must not block the calling thread.
+   */
+  CompletableFuture<ByteBuffer> getAsync(Supplier<CompletableFuture<ByteBuffer>> loader) {
+    CompletableFuture<ByteBuffer> load = new CompletableFuture<>();
+    CompletableFuture<ByteBuffer> startedLoad = start(load);
+    if (startedLoad != null) {
+      return startedLoad;
+    }
+    CompletableFuture<ByteBuffer> pendingBuffer;
+    try {
+      pendingBuffer = loader.get();
+    } catch (RuntimeException e) {
+      pendingBuffer = CompletableFuture.failedFuture(e);
+    }
+    pendingBuffer.whenComplete(
+        (loadedBuffer, e) -> {
+          if (e != null) {
+            fail(load, e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+          } else {
+            load.complete(loadedBuffer);
+          }
+        });
+
+    return load;
+  }
+
+  // Returns the load already started, or null if load is now the load of this buffer.
+  private synchronized CompletableFuture<ByteBuffer> start(CompletableFuture<ByteBuffer> load) {
+    if (buffer != null) {
+      return buffer;
+    }
+    buffer = load;
+
+    return null;
+  }
+
+  private void fail(CompletableFuture<ByteBuffer> load, Throwable cause) {
+    synchronized (this) {
+      if (buffer == load) {
+        buffer = null;
+      }
+    }
+    load.completeExceptionally(cause);
+  }
+
+  private static ByteBuffer await(CompletableFuture<ByteBuffer> load) throws IOException {
+    try {
+      return load.get();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while waiting for the buffer to be loaded");
+    } catch (ExecutionException e) {
+      throw new IOException("Failed to load the buffer", e.getCause());
+    }
+  }
+}
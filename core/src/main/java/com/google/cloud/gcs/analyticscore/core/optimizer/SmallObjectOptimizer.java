@@ -29,10 +29,12 @@ import com.google.cloud.gcs.analyticscore.common.GcsAnalyticsCoreTelemetryConsta
 import com.google.cloud.gcs.analyticscore.common.telemetry.Telemetry;
 import java.io.EOFException;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.IntFunction;
 
@@ -47,8 +49,9 @@ public class SmallObjectOptimizer implements FormatOptimizer {
 
   private AnalyticsCacheManager cacheManager;
   private GcsItemId currentItemId;
-  private long fileSize = -1;
-  private ByteBuffer localCachedBuffer;
+  // Set once on open; positional reads of a stream may use this optimizer concurrently.
+  private volatile long fileSize = -1;
+  private final LocalBuffer localCachedBuffer = new LocalBuffer();
 
   public SmallObjectOptimizer(
       GcsCacheOptions cacheOptions, GcsReadOptions readOptions, Telemetry telemetry) {
@@ -100,23 +103,12 @@ public class SmallObjectOptimizer implements FormatOptimizer {
       return -1;
     }
 
-    if (localCachedBuffer == null) {
-      AtomicBoolean isMiss = new AtomicBoolean(false);
-      localCachedBuffer =
-          cacheManager.getSmallObject(
-              currentItemId,
-              itemId -> {
-                isMiss.set(true);
-                return ensureCached(source);
-              });
-
-      telemetry.recordMetric(
-          isMiss.get() ? Metric.SMALL_OBJECT_CACHE_MISS : Metric.SMALL_OBJECT_CACHE_HIT,
-          1L,
-          Collections.emptyMap());
+    ByteBuffer cachedBuffer = localCachedBuffer.getIfLoaded();
+    if (cachedBuffer == null) {
+      cachedBuffer = localCachedBuffer.get(() -> loadLocalCachedBuffer(source));
     }
 
-    return serveFromCache(position, dst, localCachedBuffer);
+    return serveFromCache(position, dst, cachedBuffer);
   }
 
   @Override
@@ -126,19 +118,110 @@ public class SmallObjectOptimizer implements FormatOptimizer {
       return ranges;
     }
 
-    ByteBuffer cachedBuffer;
-    try {
-      cachedBuffer =
-          cacheManager.getSmallObject(
-              currentItemId,
-              id -> {
-                throw new IOException("Cache miss during vectored read");
-              });
-    } catch (IOException e) {
+    ByteBuffer cachedBuffer = getCachedBuffer();
+    if (cachedBuffer == null) {
       return ranges; // Cannot satisfy yet
     }
 
     telemetry.recordMetric(Metric.SMALL_OBJECT_CACHE_HIT, ranges.size(), Collections.emptyMap());
+    serveRangesFromCache(ranges, allocate, cachedBuffer);
+    return Collections.emptyList();
+  }
+
+  /**
+   * Serves all ranges from the cached object. On a cache miss, the whole object is loaded with a
+   * single range read on {@code source} instead of returning the ranges to the network, and the
+   * ranges are served once it completes, so that the calling thread does not wait for the load.
+   */
+  @Override
+  public List<GcsObjectRange> readVectored(
+      List<GcsObjectRange> ranges,
+      IntFunction<ByteBuffer> allocate,
+      VectoredSeekableByteChannel source)
+      throws IOException {
+    if (fileSize == -1 || fileSize > readOptions.getSmallObjectCacheThresholdBytes()) {
+      return ranges;
+    }
+
+    ByteBuffer cachedBuffer = getCachedBuffer();
+    if (cachedBuffer != null) {
+      telemetry.recordMetric(Metric.SMALL_OBJECT_CACHE_HIT, ranges.size(), Collections.emptyMap());
+      serveRangesFromCache(ranges, allocate, cachedBuffer);
+      return Collections.emptyList();
+    }
+
+    var unused =
+        localCachedBuffer
+            .getAsync(() -> loadLocalCachedBufferAsync(source))
+            .whenComplete(
+                (loadedBuffer, throwable) -> {
+                  if (throwable != null) {
+                    for (GcsObjectRange range : ranges) {
+                      range.getByteBufferFuture().completeExceptionally(throwable);
+                    }
+                    return;
+                  }
+                  serveRangesFromCache(ranges, allocate, loadedBuffer);
+                });
+    return Collections.emptyList();
+  }
+
+  // Returns the object loaded by this stream or cached by another one, or null if neither.
+  private ByteBuffer getCachedBuffer() {
+    ByteBuffer cachedBuffer = localCachedBuffer.getIfLoaded();
+    return cachedBuffer != null
+        ? cachedBuffer
+        : cacheManager.getSmallObject(currentItemId).orElse(null);
+  }
+
+  // Reads the object as a vectored read, which runs on the range read thread pool.
+  private CompletableFuture<ByteBuffer> loadLocalCachedBufferAsync(
+      VectoredSeekableByteChannel source) {
+    telemetry.recordMetric(Metric.SMALL_OBJECT_CACHE_MISS, 1L, Collections.emptyMap());
+    GcsObjectRange objectRange =
+        GcsObjectRange.builder()
+            .setOffset(0)
+            .setLength((int) fileSize)
+            .setByteBufferFuture(new CompletableFuture<>())
+            .build();
+    try {
+      source.readVectored(List.of(objectRange), readOptions::allocateBuffer);
+    } catch (IOException | RuntimeException e) {
+      objectRange.getByteBufferFuture().completeExceptionally(e);
+    }
+
+    return objectRange.getByteBufferFuture().thenApply(this::cacheObject);
+  }
+
+  // Returns the object cached for this item, which is object unless one was cached meanwhile.
+  private ByteBuffer cacheObject(ByteBuffer object) {
+    try {
+      return cacheManager.getSmallObject(currentItemId, itemId -> object);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private ByteBuffer loadLocalCachedBuffer(VectoredSeekableByteChannel source)
+      throws IOException {
+    AtomicBoolean isMiss = new AtomicBoolean(false);
+    ByteBuffer cachedBuffer =
+        cacheManager.getSmallObject(
+            currentItemId,
+            itemId -> {
+              isMiss.set(true);
+              return ensureCached(source);
+            });
+
+    telemetry.recordMetric(
+        isMiss.get() ? Metric.SMALL_OBJECT_CACHE_MISS : Metric.SMALL_OBJECT_CACHE_HIT,
+        1L,
+        Collections.emptyMap());
+    return cachedBuffer;
+  }
+
+  private void serveRangesFromCache(
+      List<GcsObjectRange> ranges, IntFunction<ByteBuffer> allocate, ByteBuffer cachedBuffer) {
     for (GcsObjectRange range : ranges) {
       ByteBuffer dest = allocate.apply(range.getLength());
       if (dest == null) {
@@ -161,11 +244,10 @@ public class SmallObjectOptimizer implements FormatOptimizer {
         range.getByteBufferFuture().complete(dest);
       }
     }
-    return Collections.emptyList();
   }
 
   private ByteBuffer ensureCached(VectoredSeekableByteChannel source) throws IOException {
-    ByteBuffer buffer = ByteBuffer.allocate((int) fileSize);
+    ByteBuffer buffer = readOptions.allocateBuffer((int) fileSize);
     long originalPosition = source.position();
     try {
       source.position(0);
@@ -22,6 +22,8 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -33,9 +35,15 @@ import java.io.EOFException;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.MockitoAnnotations;
@@ -414,6 +422,93 @@ class GoogleCloudStorageInputStreamTest {
     assertThat(googleCloudStorageInputStream.getPos()).isEqualTo(initialStreamPosition);
   }
 
+  @Test
+  void readFully_repeatedCalls_reusePooledChannel() throws IOException {
+    GcsFileSystem spyFileSystem = spy(fakeFileSystem);
+    googleCloudStorageInputStream = GoogleCloudStorageInputStream.create(spyFileSystem, testUri);
+    byte[] buffer = new byte[10];
+
+    googleCloudStorageInputStream.readFully(100, buffer, 0, 10);
+    googleCloudStorageInputStream.readFully(110, buffer, 0, 10);
+    googleCloudStorageInputStream.readFully(500, buffer, 0, 10);
+
+    for (int i = 0; i < 10; i++) {
+      assertThat(buffer[i]).isEqualTo(testData[500 + i]);
+    }
+    // One channel for the stream and one for positional reads.
+    verify(spyFileSystem, times(2)).open(any(GcsFileInfo.class), any());
+    assertThat(googleCloudStorageInputStream.getPos()).isEqualTo(0);
+  }
+
+  @Test
+  void readFully_concurrentCallsWithOptimizers_readExpectedBytes() throws Exception {
+    GcsItemId parquetItemId =
+        GcsItemId.builder().setBucketName("test-bucket").setObjectName("test.parquet").build();
+    FakeGcsClientImpl.storage.create(
+        BlobInfo.newBuilder(parquetItemId.getBucketName(), parquetItemId.getObjectName().get(), 1L)
+            .build(),
+        testData);
+    GcsReadOptions readOptions =
+        GcsReadOptions.builder().setFooterPrefetchSizeSmallFile(prefetchSize).build();
+    GcsFileSystem fileSystem =
+        new FakeGcsFileSystemImpl(
+            fileSystemOptions.toBuilder()
+                .setGcsClientOptions(
+                    clientOptions.toBuilder().setGcsReadOptions(readOptions).build())
+                .build());
+    googleCloudStorageInputStream =
+        GoogleCloudStorageInputStream.create(
+            fileSystem, URI.create("gs://test-bucket/test.parquet"));
+    int threadCount = 8;
+    ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> reads = new ArrayList<>();
+    try {
+      for (int thread = 0; thread < threadCount; thread++) {
+        int readPosition = thread % 2 == 0 ? (int) fileSize - prefetchSize : thread * 100;
+        reads.add(
+            executorService.submit(
+                () -> {
+                  start.await();
+                  byte[] buffer = new byte[prefetchSize];
+                  for (int i = 0; i < 20; i++) {
+                    googleCloudStorageInputStream.readFully(readPosition, buffer, 0, prefetchSize);
+                    for (int j = 0; j < prefetchSize; j++) {
+                      assertThat(buffer[j]).isEqualTo(testData[readPosition + j]);
+                    }
+                  }
+                  return null;
+                }));
+      }
+      start.countDown();
+
+      for (Future<?> read : reads) {
+        read.get(10, TimeUnit.SECONDS);
+      }
+    } finally {
+      executorService.shutdownNow();
+    }
+  }
+
+  @Test
+  void readFully_positionalReadsDisabled_opensChannelPerCall() throws IOException {
+    GcsReadOptions readOptions = GcsReadOptions.builder().setPositionalReadMaxChannels(0).build();
+    GcsFileSystem spyFileSystem =
+        spy(
+            new FakeGcsFileSystemImpl(
+                fileSystemOptions.toBuilder()
+                    .setGcsClientOptions(
+                        clientOptions.toBuilder().setGcsReadOptions(readOptions).build())
+                    .build()));
+    googleCloudStorageInputStream = GoogleCloudStorageInputStream.create(spyFileSystem, testUri);
+    byte[] buffer = new byte[10];
+
+    googleCloudStorageInputStream.readFully(100, buffer, 0, 10);
+    googleCloudStorageInputStream.readFully(110, buffer, 0, 10);
+
+    verify(spyFileSystem, times(3)).open(any(GcsFileInfo.class), any());
+  }
+
   @Test
   void readFully_reachesEofEarly_throwsEOFException() throws IOException {
     googleCloudStorageInputStream = defaultGcsInputStream();
@@ -530,6 +625,59 @@ class GoogleCloudStorageInputStreamTest {
     assertThat(googleCloudStorageInputStream.getPos()).isEqualTo(position);
   }
 
+  @Test
+  void readAsync_readsRangeWithoutMovingPosition() throws Exception {
+    googleCloudStorageInputStream = defaultGcsInputStream();
+
+    ByteBuffer result = googleCloudStorageInputStream.readAsync(300, 50).get();
+
+    assertThat(result.remaining()).isEqualTo(50);
+    for (int i = 0; i < 50; i++) {
+      assertThat(result.get()).isEqualTo(testData[300 + i]);
+    }
+    assertThat(googleCloudStorageInputStream.getPos()).isEqualTo(0);
+  }
+
+  @Test
+  void readAsync_directBuffersEnabled_returnsDirectBuffer() throws Exception {
+    googleCloudStorageInputStream =
+        createStream(GcsReadOptions.builder().setDirectBuffersEnabled(true).build());
+
+    ByteBuffer result = googleCloudStorageInputStream.readAsync(300, 50).get();
+
+    assertThat(result.isDirect()).isTrue();
+    assertThat(result.get()).isEqualTo(testData[300]);
+  }
+
+  @Test
+  void readVectoredAsync_completesAfterAllRanges() throws Exception {
+    googleCloudStorageInputStream = defaultGcsInputStream();
+    GcsObjectRange range1 = createGcsObjectRange(/* offset= */ 100, /* length= */ 10);
+    GcsObjectRange range2 = createGcsObjectRange(/* offset= */ 800, /* length= */ 10);
+
+    googleCloudStorageInputStream
+        .readVectoredAsync(List.of(range1, range2), ByteBuffer::allocate)
+        .get();
+
+    assertThat(range1.getByteBufferFuture().isDone()).isTrue();
+    assertThat(range2.getByteBufferFuture().isDone()).isTrue();
+    assertThat(range2.getByteBufferFuture().get().get()).isEqualTo(testData[800]);
+  }
+
+  @Test
+  void readVectoredAsync_streamClosed_failsRanges() throws Exception {
+    googleCloudStorageInputStream = defaultGcsInputStream();
+    googleCloudStorageInputStream.close();
+    GcsObjectRange range = createGcsObjectRange(/* offset= */ 100, /* length= */ 10);
+
+    CompletableFuture<Void> result =
+        googleCloudStorageInputStream.readVectoredAsync(List.of(range), ByteBuffer::allocate);
+
+    ExecutionException e = assertThrows(ExecutionException.class, result::get);
+    assertThat(e).hasCauseThat().isInstanceOf(IOException.class);
+    assertThat(range.getByteBufferFuture().isCompletedExceptionally()).isTrue();
+  }
+
   @Test
   void read_fromHead_smallObjectCachingEnabled_objectSmall_caches() throws IOException {
     GcsReadOptions readOptions = GcsReadOptions.builder().build();
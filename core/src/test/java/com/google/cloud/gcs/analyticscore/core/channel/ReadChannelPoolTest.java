@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.google.cloud.gcs.analyticscore.core.channel;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.google.cloud.gcs.analyticscore.client.VectoredSeekableByteChannel;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class ReadChannelPoolTest {
+
+  private final List<VectoredSeekableByteChannel> openedChannels = new ArrayList<>();
+
+  @Test
+  void acquire_emptyPool_opensNewChannel() throws IOException {
+    ReadChannelPool pool = new ReadChannelPool(this::openChannel, 2);
+
+    VectoredSeekableByteChannel channel = pool.acquire(0);
+
+    assertThat(openedChannels).containsExactly(channel);
+  }
+
+  @Test
+  void acquire_afterRelease_reusesChannel() throws IOException {
+    ReadChannelPool pool = new ReadChannelPool(this::openChannel, 2);
+    VectoredSeekableByteChannel channel = pool.acquire(0);
+    pool.release(channel);
+
+    VectoredSeekableByteChannel reused = pool.acquire(100);
+
+    assertThat(reused).isSameInstanceAs(channel);
+    assertThat(openedChannels).hasSize(1);
+  }
+
+  @Test
+  void acquire_prefersChannelPositionedClosestBefore() throws IOException {
+    ReadChannelPool pool = new ReadChannelPool(this::openChannel, 3);
+    VectoredSeekableByteChannel first = pool.acquire(0);
+    VectoredSeekableByteChannel second = pool.acquire(0);
+    VectoredSeekableByteChannel third = pool.acquire(0);
+    when(first.position()).thenReturn(100L);
+    when(second.position()).thenReturn(500L);
+    when(third.position()).thenReturn(900L);
+    pool.release(first);
+    pool.release(second);
+    pool.release(third);
+
+    assertThat(pool.acquire(600)).isSameInstanceAs(second);
+  }
+
+  @Test
+  void release_poolFull_closesChannel() throws IOException {
+    ReadChannelPool pool = new ReadChannelPool(this::openChannel, 1);
+    VectoredSeekableByteChannel first = pool.acquire(0);
+    VectoredSeekableByteChannel second = pool.acquire(0);
+
+    pool.release(first);
+    pool.release(second);
+
+    verify(first, never()).close();
+    verify(second).close();
+  }
+
+  @Test
+  void release_zeroCapacity_closesChannel() throws IOException {
+    ReadChannelPool pool = new ReadChannelPool(this::openChannel, 0);
+    VectoredSeekableByteChannel channel = pool.acquire(0);
+
+    pool.release(channel);
+
+    verify(channel).close();
+  }
+
+  @Test
+  void close_closesIdleChannelsAndRejectsAcquire() throws IOException {
+    ReadChannelPool pool = new ReadChannelPool(this::openChannel, 2);
+    VectoredSeekableByteChannel channel = pool.acquire(0);
+    pool.release(channel);
+
+    pool.close();
+
+    verify(channel).close();
+    assertThrows(IOException.class, () -> pool.acquire(0));
+  }
+
+  private VectoredSeekableByteChannel openChannel() {
+    VectoredSeekableByteChannel channel = mock(VectoredSeekableByteChannel.class);
+    when(channel.isOpen()).thenReturn(true);
+    openedChannels.add(channel);
+    return channel;
+  }
+}
@@ -25,6 +25,7 @@ import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -224,6 +225,46 @@ class SmartReadChannelTest {
     verify(mockDelegate, never()).position(anyLong());
   }
 
+  @Test
+  void readAtPosition_optimizerHit_doesNotTouchSourceOrDelegate() throws IOException {
+    VectoredSeekableByteChannel mockSource = mock(VectoredSeekableByteChannel.class);
+    when(mockOptimizer.read(eq(100L), any(ByteBuffer.class), eq(mockSource))).thenReturn(5);
+    SmartReadChannel smartChannel =
+        SmartReadChannel.builder()
+            .setDelegate(mockDelegate)
+            .setItemId(ITEM_ID)
+            .setCacheManager(mockCacheManager)
+            .addOptimizer(mockOptimizer)
+            .build();
+
+    int bytesRead = smartChannel.read(100L, ByteBuffer.allocate(10), mockSource);
+
+    assertThat(bytesRead).isEqualTo(5);
+    verify(mockSource, never()).read(any(ByteBuffer.class));
+    verify(mockDelegate, never()).position(anyLong());
+  }
+
+  @Test
+  void readAtPosition_optimizerMiss_readsFromSourceAtPosition() throws IOException {
+    VectoredSeekableByteChannel mockSource = mock(VectoredSeekableByteChannel.class);
+    when(mockOptimizer.read(eq(100L), any(ByteBuffer.class), eq(mockSource))).thenReturn(0);
+    when(mockSource.read(any(ByteBuffer.class))).thenReturn(10);
+    SmartReadChannel smartChannel =
+        SmartReadChannel.builder()
+            .setDelegate(mockDelegate)
+            .setItemId(ITEM_ID)
+            .setCacheManager(mockCacheManager)
+            .addOptimizer(mockOptimizer)
+            .build();
+
+    int bytesRead = smartChannel.read(100L, ByteBuffer.allocate(10), mockSource);
+
+    assertThat(bytesRead).isEqualTo(10);
+    verify(mockSource).position(100L);
+    verify(mockDelegate, never()).read(any(ByteBuffer.class));
+    verify(mockDelegate, never()).position(anyLong());
+  }
+
   @Test
   void readVectored_delegatesToDelegate() throws IOException {
     SmartReadChannel smartChannel =
@@ -240,6 +281,41 @@ class SmartReadChannelTest {
     verify(mockDelegate).readVectored(ranges, allocate);
   }
 
+  @Test
+  void readVectoredNonBlocking_optimizerLoadsAndRemainingRanges_readDelegateWithoutBlocking()
+      throws IOException {
+    GcsObjectRange range =
+        GcsObjectRange.builder()
+            .setOffset(0)
+            .setLength(10)
+            .setByteBufferFuture(new CompletableFuture<>())
+            .build();
+    List<GcsObjectRange> ranges = List.of(range);
+    IntFunction<ByteBuffer> allocate = (i) -> ByteBuffer.allocate(i);
+    FormatOptimizer mockOptimizer = mock(FormatOptimizer.class);
+    when(mockOptimizer.isApplicable(any(GcsItemId.class))).thenReturn(true);
+    doAnswer(
+            invocation -> {
+              VectoredSeekableByteChannel source = invocation.getArgument(2);
+              source.readVectored(ranges, allocate);
+              return ranges;
+            })
+        .when(mockOptimizer)
+        .readVectored(any(), any(), any());
+    SmartReadChannel smartChannel =
+        SmartReadChannel.builder()
+            .setDelegate(mockDelegate)
+            .setItemId(ITEM_ID)
+            .setCacheManager(mockCacheManager)
+            .addOptimizer(mockOptimizer)
+            .build();
+
+    smartChannel.readVectoredNonBlocking(ranges, allocate);
+
+    verify(mockDelegate, times(2)).readVectoredNonBlocking(ranges, allocate);
+    verify(mockDelegate, never()).readVectored(any(), any());
+  }
+
   @Test
   void write_delegatesToDelegate() throws IOException {
     SmartReadChannel smartChannel =
@@ -543,10 +619,11 @@ class SmartReadChannelTest {
     List<GcsObjectRange> ranges = List.of(range);
     FormatOptimizer mockOptimizer1 = mock(FormatOptimizer.class);
     when(mockOptimizer1.isApplicable(any(GcsItemId.class))).thenReturn(true);
-    when(mockOptimizer1.readVectored(any(), any())).thenReturn(ranges);
+    when(mockOptimizer1.readVectored(any(), any(), any())).thenReturn(ranges);
     FormatOptimizer mockOptimizer2 = mock(FormatOptimizer.class);
     when(mockOptimizer2.isApplicable(any(GcsItemId.class))).thenReturn(true);
-    when(mockOptimizer2.readVectored(any(), any())).thenReturn(java.util.Collections.emptyList());
+    when(mockOptimizer2.readVectored(any(), any(), any()))
+        .thenReturn(java.util.Collections.emptyList());
     SmartReadChannel smartChannel =
         SmartReadChannel.builder()
             .setDelegate(mockDelegate)
@@ -558,8 +635,8 @@ class SmartReadChannelTest {
 
     smartChannel.readVectored(ranges, ByteBuffer::allocate);
 
-    verify(mockOptimizer1).readVectored(eq(ranges), any());
-    verify(mockOptimizer2).readVectored(eq(ranges), any());
+    verify(mockOptimizer1).readVectored(eq(ranges), any(), eq(mockDelegate));
+    verify(mockOptimizer2).readVectored(eq(ranges), any(), eq(mockDelegate));
     verify(mockDelegate, org.mockito.Mockito.never()).readVectored(any(), any());
   }
 
@@ -574,7 +651,7 @@ class SmartReadChannelTest {
     List<GcsObjectRange> ranges = List.of(range);
     FormatOptimizer mockOptimizer = mock(FormatOptimizer.class);
     when(mockOptimizer.isApplicable(any(GcsItemId.class))).thenReturn(true);
-    when(mockOptimizer.readVectored(any(), any())).thenReturn(ranges);
+    when(mockOptimizer.readVectored(any(), any(), any())).thenReturn(ranges);
     SmartReadChannel smartChannel =
         SmartReadChannel.builder()
             .setDelegate(mockDelegate)
@@ -585,7 +662,7 @@ class SmartReadChannelTest {
 
     smartChannel.readVectored(ranges, ByteBuffer::allocate);
 
-    verify(mockOptimizer).readVectored(eq(ranges), any());
+    verify(mockOptimizer).readVectored(eq(ranges), any(), eq(mockDelegate));
     verify(mockDelegate).readVectored(eq(ranges), any());
   }
 
@@ -20,7 +20,9 @@ import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -35,6 +37,7 @@ import com.google.cloud.gcs.analyticscore.client.GcsFileInfo;
 import com.google.cloud.gcs.analyticscore.client.GcsFileSystemOptions;
 import com.google.cloud.gcs.analyticscore.client.GcsItemId;
 import com.google.cloud.gcs.analyticscore.client.GcsItemInfo;
+import com.google.cloud.gcs.analyticscore.client.GcsObjectRange;
 import com.google.cloud.gcs.analyticscore.client.GcsReadOptions;
 import com.google.cloud.gcs.analyticscore.client.VectoredSeekableByteChannel;
 import com.google.cloud.gcs.analyticscore.common.GcsAnalyticsCoreTelemetryConstants.Metric;
@@ -45,6 +48,11 @@ import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -172,6 +180,28 @@ class GcsFooterOptimizerTest {
     verify(mockCacheManager).getFooter(eq(ITEM_ID), any());
   }
 
+  @Test
+  void read_openedByItemId_keysFooterByResolvedGeneration() throws IOException {
+    GcsItemId resolvedItemId =
+        GcsItemId.builder()
+            .setBucketName("b")
+            .setObjectName("test.parquet")
+            .setContentGeneration(1L)
+            .build();
+    VectoredSeekableByteChannel source = mock(VectoredSeekableByteChannel.class);
+    when(source.size()).thenReturn(1000L);
+    when(source.getItemId()).thenReturn(Optional.of(resolvedItemId));
+    when(mockCacheManager.getFooter(eq(resolvedItemId), any()))
+        .thenReturn(ByteBuffer.allocate(100));
+    optimizer.onOpen(ITEM_ID, mockCacheManager);
+
+    int bytesRead = optimizer.read(990, ByteBuffer.allocate(10), source);
+
+    assertThat(bytesRead).isEqualTo(10);
+    verify(mockCacheManager).getFooter(eq(resolvedItemId), any());
+    verify(mockCacheManager, never()).getFooter(eq(ITEM_ID), any());
+  }
+
   @Test
   void read_footerHit_servesFromCache() throws IOException {
     optimizer.onOpen(FILE_INFO, mockCacheManager);
@@ -332,4 +362,164 @@ class GcsFooterOptimizerTest {
     verify(telemetry, times(1)).recordMetric(eq(Metric.FOOTER_CACHE_MISS), eq(1L), any());
     verify(telemetry, times(1)).recordMetric(eq(Metric.FOOTER_PREFETCH_HIT), eq(1L), any());
   }
+
+  @Test
+  void readVectored_rangesInsideFooter_loadsFooterOnceAndServesThem() throws Exception {
+    optimizer.onOpen(FILE_INFO, mockCacheManager);
+    when(mockCacheManager.getFooter(eq(ITEM_ID), any()))
+        .thenAnswer(
+            invocation -> {
+              AnalyticsCacheManager.FooterLoader loader = invocation.getArgument(1);
+              return loader.load(ITEM_ID);
+            });
+    GcsObjectRange outsideRange = createRange(100, 10);
+    GcsObjectRange firstFooterRange = createRange(900, 20);
+    GcsObjectRange secondFooterRange = createRange(980, 20);
+
+    List<GcsObjectRange> remaining =
+        optimizer.readVectored(
+            List.of(outsideRange, firstFooterRange, secondFooterRange),
+            ByteBuffer::allocate,
+            realSource);
+
+    assertThat(remaining).containsExactly(outsideRange);
+    assertThat(firstFooterRange.getByteBufferFuture().get())
+        .isEqualTo(ByteBuffer.wrap(testData, 900, 20));
+    assertThat(secondFooterRange.getByteBufferFuture().get())
+        .isEqualTo(ByteBuffer.wrap(testData, 980, 20));
+    verify(mockCacheManager, times(1)).getFooter(eq(ITEM_ID), any());
+  }
+
+  @Test
+  void readVectored_rangeStartingBeforeFooter_forwardsOnlyPrecedingBytes() throws Exception {
+    optimizer.onOpen(FILE_INFO, mockCacheManager);
+    when(mockCacheManager.getFooter(eq(ITEM_ID), any()))
+        .thenReturn(ByteBuffer.wrap(testData, 900, 100).slice());
+    GcsObjectRange range = createRange(850, 100);
+
+    List<GcsObjectRange> remaining =
+        optimizer.readVectored(List.of(range), ByteBuffer::allocate, realSource);
+
+    assertThat(remaining).hasSize(1);
+    GcsObjectRange gapRange = remaining.get(0);
+    assertThat(gapRange.getOffset()).isEqualTo(850);
+    assertThat(gapRange.getLength()).isEqualTo(50);
+    assertThat(range.getByteBufferFuture().isDone()).isFalse();
+    gapRange.getByteBufferFuture().complete(ByteBuffer.wrap(testData, 850, 50).slice());
+    assertThat(range.getByteBufferFuture().get()).isEqualTo(ByteBuffer.wrap(testData, 850, 100));
+  }
+
+  @Test
+  void readVectored_noRangeInFooter_doesNotLoadFooter() throws IOException {
+    optimizer.onOpen(FILE_INFO, mockCacheManager);
+    List<GcsObjectRange> ranges = List.of(createRange(0, 10), createRange(990, 20));
+
+    List<GcsObjectRange> remaining =
+        optimizer.readVectored(ranges, ByteBuffer::allocate, realSource);
+
+    assertThat(remaining).isSameInstanceAs(ranges);
+    verify(mockCacheManager, never()).getFooter(any(), any());
+  }
+
+  @Test
+  void readVectored_withoutSource_servesOnlyFromLoadedFooter() throws Exception {
+    optimizer.onOpen(FILE_INFO, mockCacheManager);
+    when(mockCacheManager.getFooter(eq(ITEM_ID), any()))
+        .thenReturn(ByteBuffer.wrap(testData, 900, 100).slice());
+    GcsObjectRange range = createRange(950, 10);
+    List<GcsObjectRange> ranges = List.of(range);
+
+    assertThat(optimizer.readVectored(ranges, ByteBuffer::allocate)).isSameInstanceAs(ranges);
+    optimizer.read(990, ByteBuffer.allocate(10), realSource);
+    List<GcsObjectRange> remaining = optimizer.readVectored(ranges, ByteBuffer::allocate);
+
+    assertThat(remaining).isEmpty();
+    assertThat(range.getByteBufferFuture().get()).isEqualTo(ByteBuffer.wrap(testData, 950, 10));
+    verify(telemetry).recordMetric(eq(Metric.FOOTER_PREFETCH_HIT), eq(1L), any());
+  }
+
+  @Test
+  void readVectored_footerNotLoaded_returnsBeforeFooterIsRead() throws Exception {
+    optimizer.onOpen(FILE_INFO, mockCacheManager);
+    when(mockCacheManager.getFooter(eq(ITEM_ID), any()))
+        .thenAnswer(
+            invocation -> {
+              AnalyticsCacheManager.FooterLoader loader = invocation.getArgument(1);
+              return loader.load(ITEM_ID);
+            });
+    List<GcsObjectRange> sourceRanges = new ArrayList<>();
+    VectoredSeekableByteChannel source = createPendingSource(sourceRanges);
+    GcsObjectRange range = createRange(950, 10);
+
+    List<GcsObjectRange> remaining =
+        optimizer.readVectored(List.of(range), ByteBuffer::allocate, source);
+
+    assertThat(remaining).isEmpty();
+    assertThat(range.getByteBufferFuture().isDone()).isFalse();
+    assertThat(sourceRanges).hasSize(1);
+    GcsObjectRange footerRange = sourceRanges.get(0);
+    assertThat(footerRange.getOffset()).isEqualTo(900);
+    assertThat(footerRange.getLength()).isEqualTo(100);
+    footerRange.getByteBufferFuture().complete(ByteBuffer.wrap(testData, 900, 100).slice());
+    assertThat(range.getByteBufferFuture().get()).isEqualTo(ByteBuffer.wrap(testData, 950, 10));
+    verify(telemetry).recordMetric(eq(Metric.FOOTER_CACHE_MISS), eq(1L), any());
+    verify(mockCacheManager).getFooter(eq(ITEM_ID), any());
+  }
+
+  @Test
+  void readVectored_footerReadFails_failsOverlappingRangesAndRetriesLater() throws Exception {
+    optimizer.onOpen(FILE_INFO, mockCacheManager);
+    List<GcsObjectRange> sourceRanges = new ArrayList<>();
+    VectoredSeekableByteChannel source = createPendingSource(sourceRanges);
+    GcsObjectRange range = createRange(950, 10);
+    optimizer.readVectored(List.of(range), ByteBuffer::allocate, source);
+
+    sourceRanges.get(0).getByteBufferFuture().completeExceptionally(new IOException("read failed"));
+
+    ExecutionException e =
+        assertThrows(ExecutionException.class, () -> range.getByteBufferFuture().get());
+    assertThat(e).hasCauseThat().hasMessageThat().isEqualTo("read failed");
+    optimizer.readVectored(List.of(createRange(950, 10)), ByteBuffer::allocate, source);
+    assertThat(sourceRanges).hasSize(2);
+  }
+
+  @Test
+  void readVectored_footerCachedByAnotherStream_servesWithoutReading() throws Exception {
+    optimizer.onOpen(FILE_INFO, mockCacheManager);
+    when(mockCacheManager.getFooter(ITEM_ID))
+        .thenReturn(Optional.of(ByteBuffer.wrap(testData, 900, 100).slice()));
+    List<GcsObjectRange> sourceRanges = new ArrayList<>();
+    VectoredSeekableByteChannel source = createPendingSource(sourceRanges);
+    GcsObjectRange range = createRange(950, 10);
+
+    optimizer.readVectored(List.of(range), ByteBuffer::allocate, source);
+
+    assertThat(range.getByteBufferFuture().get()).isEqualTo(ByteBuffer.wrap(testData, 950, 10));
+    assertThat(sourceRanges).isEmpty();
+    verify(telemetry).recordMetric(eq(Metric.FOOTER_CACHE_HIT), eq(1L), any());
+  }
+
+  // Returns a source of the test object that records the ranges of its vectored reads.
+  private static VectoredSeekableByteChannel createPendingSource(List<GcsObjectRange> readRanges)
+      throws IOException {
+    VectoredSeekableByteChannel source = mock(VectoredSeekableByteChannel.class);
+    when(source.size()).thenReturn(1000L);
+    doAnswer(
+            invocation -> {
+              List<GcsObjectRange> ranges = invocation.getArgument(0);
+              readRanges.addAll(ranges);
+              return null;
+            })
+        .when(source)
+        .readVectored(any(), any());
+    return source;
+  }
+
+  private static GcsObjectRange createRange(long offset, int length) {
+    return GcsObjectRange.builder()
+        .setOffset(offset)
+        .setLength(length)
+        .setByteBufferFuture(new CompletableFuture<>())
+        .build();
+  }
 }
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 Google LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.google.cloud.gcs.analyticscore.core.optimizer;
+
+import static com.google.common.truth.Truth.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class LocalBufferTest {
+
+  private static final ByteBuffer BUFFER = ByteBuffer.wrap(new byte[] {1, 2, 3});
+
+  private final LocalBuffer localBuffer = new LocalBuffer();
+
+  @Test
+  void getIfLoaded_notLoaded_returnsNull() {
+    assertThat(localBuffer.getIfLoaded()).isNull();
+  }
+
+  @Test
+  void get_loadsOnceAndKeepsBuffer() throws IOException {
+    AtomicInteger loadCount = new AtomicInteger(0);
+    LocalBuffer.Loader loader =
+        () -> {
+          loadCount.incrementAndGet();
+          return BUFFER;
+        };
+
+    assertThat(localBuffer.get(loader)).isSameInstanceAs(BUFFER);
+    assertThat(localBuffer.get(loader)).isSameInstanceAs(BUFFER);
+    assertThat(localBuffer.getIfLoaded()).isSameInstanceAs(BUFFER);
+    assertThat(loadCount.get()).isEqualTo(1);
+  }
+
+  @Test
+  void get_loadFails_retriesOnNextCall() throws IOException {
+    assertThrows(
+        IOException.class,
+        () ->
+            localBuffer.get(
+                () -> {
+                  throw new IOException("load failed");
+                }));
+
+    assertThat(localBuffer.getIfLoaded()).isNull();
+    assertThat(localBuffer.get(() -> BUFFER)).isSameInstanceAs(BUFFER);
+  }
+
+  @Test
+  void getAsync_returnsWithoutWaitingAndSharesLoad() {
+    CompletableFuture<ByteBuffer> pendingLoad = new CompletableFuture<>();
+    AtomicInteger loadCount = new AtomicInteger(0);
+
+    CompletableFuture<ByteBuffer> first =
+        localBuffer.getAsync(
+            () -> {
+              loadCount.incrementAndGet();
+              return pendingLoad;
+            });
+    CompletableFuture<ByteBuffer> second =
+        localBuffer.getAsync(
+            () -> {
+              loadCount.incrementAndGet();
+              return CompletableFuture.completedFuture(BUFFER);
+            });
+
+    assertThat(first.isDone()).isFalse();
+    assertThat(second).isSameInstanceAs(first);
+    pendingLoad.complete(BUFFER);
+    assertThat(first.join()).isSameInstanceAs(BUFFER);
+    assertThat(localBuffer.getIfLoaded()).isSameInstanceAs(BUFFER);
+    assertThat(loadCount.get()).isEqualTo(1);
+  }
+
+  @Test
+  void getAsync_loadFails_failsFutureAndRetriesOnNextCall() {
+    CompletableFuture<ByteBuffer> failedLoad =
+        localBuffer.getAsync(
+            () -> CompletableFuture.failedFuture(new IOException("load failed")));
+
+    assertThat(failedLoad.isCompletedExceptionally()).isTrue();
+    assertThat(localBuffer.getAsync(() -> CompletableFuture.completedFuture(BUFFER)).join())
+        .isSameInstanceAs(BUFFER);
+  }
+
+  @Test
+  void get_asyncLoadInProgress_waitsForIt() throws Exception {
+    CompletableFuture<ByteBuffer> pendingLoad = new CompletableFuture<>();
+    var unused = localBuffer.getAsync(() -> pendingLoad);
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    CountDownLatch started = new CountDownLatch(1);
+    try {
+      Future<ByteBuffer> blockingGet =
+          executor.submit(
+              () -> {
+                started.countDown();
+                return localBuffer.get(
+                    () -> {
+                      throw new AssertionError("the load in progress must be reused");
+                    });
+              });
+      assertThat(started.await(10, TimeUnit.SECONDS)).isTrue();
+
+      pendingLoad.complete(BUFFER);
+
+      assertThat(blockingGet.get(10, TimeUnit.SECONDS)).isSameInstanceAs(BUFFER);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+}
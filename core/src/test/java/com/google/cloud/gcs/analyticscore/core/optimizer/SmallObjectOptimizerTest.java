@@ -19,7 +19,11 @@ package com.google.cloud.gcs.analyticscore.core.optimizer;
 import static com.google.common.truth.Truth.assertThat;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.cloud.gcs.analyticscore.client.AnalyticsCacheManager;
@@ -34,6 +38,7 @@ import com.google.cloud.gcs.analyticscore.client.GcsItemInfo;
 import com.google.cloud.gcs.analyticscore.client.GcsObjectRange;
 import com.google.cloud.gcs.analyticscore.client.GcsReadOptions;
 import com.google.cloud.gcs.analyticscore.client.VectoredSeekableByteChannel;
+import com.google.cloud.gcs.analyticscore.common.GcsAnalyticsCoreTelemetryConstants.Metric;
 import com.google.cloud.gcs.analyticscore.common.telemetry.Telemetry;
 import com.google.cloud.storage.BlobInfo;
 import com.google.common.collect.ImmutableList;
@@ -41,6 +46,7 @@ import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
 import java.net.URI;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -190,6 +196,38 @@ class SmallObjectOptimizerTest {
     assertThat(dst.array()).isEqualTo(new byte[] {20, 21, 22, 23, 24, 25, 26, 27, 28, 29});
   }
 
+  @Test
+  void read_directBuffersEnabled_cachesInDirectBuffer() throws IOException {
+    GcsCacheOptions cacheOptions =
+        GcsCacheOptions.builder()
+            .setSmallObjectCacheEnabled(true)
+            .setSmallObjectCacheMaxSizeBytes(200)
+            .build();
+    optimizer =
+        new SmallObjectOptimizer(
+            cacheOptions,
+            GcsReadOptions.builder()
+                .setSmallObjectCacheThresholdBytes(200)
+                .setDirectBuffersEnabled(true)
+                .build(),
+            telemetry);
+    optimizer.onOpen(FILE_INFO, cacheManager);
+    ByteBuffer dst = ByteBuffer.allocateDirect(10);
+
+    int bytesRead = optimizer.read(10, dst, realSource);
+
+    assertThat(bytesRead).isEqualTo(10);
+    dst.flip();
+    assertThat(dst.get()).isEqualTo((byte) 10);
+    ByteBuffer cached =
+        cacheManager.getSmallObject(
+            ITEM_ID,
+            id -> {
+              throw new IOException("Expected cached small object");
+            });
+    assertThat(cached.isDirect()).isTrue();
+  }
+
   @Test
   void read_largeFile_returnsZero() throws IOException {
     GcsCacheOptions cacheOptions50 =
@@ -410,4 +448,100 @@ class SmallObjectOptimizerTest {
     assertThat(result.get()).isEqualTo((byte) 10);
     assertThat(result.get(19)).isEqualTo((byte) 29);
   }
+
+  @Test
+  void readVectored_withSource_notYetCached_loadsObjectAndServesAllRanges() throws Exception {
+    optimizer.onOpen(ITEM_ID, cacheManager);
+    optimizer.onOpen(FILE_INFO, cacheManager);
+    GcsObjectRange firstRange =
+        GcsObjectRange.builder()
+            .setOffset(0)
+            .setLength(10)
+            .setByteBufferFuture(new CompletableFuture<>())
+            .build();
+    GcsObjectRange secondRange =
+        GcsObjectRange.builder()
+            .setOffset(90)
+            .setLength(10)
+            .setByteBufferFuture(new CompletableFuture<>())
+            .build();
+
+    List<GcsObjectRange> remaining =
+        optimizer.readVectored(List.of(firstRange, secondRange), ByteBuffer::allocate, realSource);
+
+    assertThat(remaining).isEmpty();
+    assertThat(firstRange.getByteBufferFuture().get().get(0)).isEqualTo((byte) 0);
+    assertThat(secondRange.getByteBufferFuture().get().get(9)).isEqualTo((byte) 99);
+    assertThat(cacheManager.getSmallObject(ITEM_ID, itemId -> null)).isNotNull();
+  }
+
+  @Test
+  void readVectored_withSource_notYetCached_returnsBeforeObjectIsRead() throws Exception {
+    optimizer.onOpen(FILE_INFO, cacheManager);
+    List<GcsObjectRange> sourceRanges = new ArrayList<>();
+    VectoredSeekableByteChannel source = mock(VectoredSeekableByteChannel.class);
+    doAnswer(
+            invocation -> {
+              List<GcsObjectRange> ranges = invocation.getArgument(0);
+              sourceRanges.addAll(ranges);
+              return null;
+            })
+        .when(source)
+        .readVectored(any(), any());
+    GcsObjectRange range =
+        GcsObjectRange.builder()
+            .setOffset(10)
+            .setLength(10)
+            .setByteBufferFuture(new CompletableFuture<>())
+            .build();
+
+    List<GcsObjectRange> remaining =
+        optimizer.readVectored(List.of(range), ByteBuffer::allocate, source);
+
+    assertThat(remaining).isEmpty();
+    assertThat(range.getByteBufferFuture().isDone()).isFalse();
+    assertThat(sourceRanges).hasSize(1);
+    assertThat(sourceRanges.get(0).getOffset()).isEqualTo(0);
+    assertThat(sourceRanges.get(0).getLength()).isEqualTo(100);
+    byte[] objectData = new byte[100];
+    for (int i = 0; i < 100; i++) {
+      objectData[i] = (byte) i;
+    }
+    sourceRanges.get(0).getByteBufferFuture().complete(ByteBuffer.wrap(objectData));
+    assertThat(range.getByteBufferFuture().get()).isEqualTo(ByteBuffer.wrap(objectData, 10, 10));
+    assertThat(cacheManager.getSmallObject(ITEM_ID)).hasValue(ByteBuffer.wrap(objectData));
+  }
+
+  @Test
+  void readVectored_withSource_cached_recordsHitPerRange() throws IOException {
+    telemetry = spy(new Telemetry(ImmutableList.of()));
+    optimizer =
+        new SmallObjectOptimizer(
+            GcsCacheOptions.builder()
+                .setSmallObjectCacheEnabled(true)
+                .setSmallObjectCacheMaxSizeBytes(200)
+                .build(),
+            GcsReadOptions.builder().setSmallObjectCacheThresholdBytes(200).build(),
+            telemetry);
+    optimizer.onOpen(FILE_INFO, cacheManager);
+    optimizer.read(0, ByteBuffer.allocate(10), realSource); // Trigger caching
+    GcsObjectRange firstRange =
+        GcsObjectRange.builder()
+            .setOffset(0)
+            .setLength(10)
+            .setByteBufferFuture(new CompletableFuture<>())
+            .build();
+    GcsObjectRange secondRange =
+        GcsObjectRange.builder()
+            .setOffset(50)
+            .setLength(10)
+            .setByteBufferFuture(new CompletableFuture<>())
+            .build();
+
+    optimizer.readVectored(List.of(firstRange, secondRange), ByteBuffer::allocate, realSource);
+
+    assertThat(firstRange.getByteBufferFuture().isDone()).isTrue();
+    assertThat(secondRange.getByteBufferFuture().isDone()).isTrue();
+    verify(telemetry).recordMetric(eq(Metric.SMALL_OBJECT_CACHE_HIT), eq(2L), any());
+  }
 }
@@ -62,6 +62,11 @@ public class TrackingReadStrategy implements ReadStrategy {
     return delegate.isEof(position);
   }
 
+  @Override
+  public void setLookBehindBuffer(LookBehindBuffer lookBehindBuffer) {
+    delegate.setLookBehindBuffer(lookBehindBuffer);
+  }
+
   @Override
   public void close() throws IOException {
     closeCalls++;